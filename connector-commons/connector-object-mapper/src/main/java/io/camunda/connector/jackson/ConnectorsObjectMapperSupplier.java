@@ -19,10 +19,14 @@ package io.camunda.connector.jackson;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.MapperFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /** Default ObjectMapper supplier to be used by OOTB connectors and the Connector runtime. */
 public class ConnectorsObjectMapperSupplier {
@@ -40,9 +44,35 @@ public class ConnectorsObjectMapperSupplier {
           .enable(DeserializationFeature.READ_UNKNOWN_ENUM_VALUES_USING_DEFAULT_VALUE)
           .build();
 
+  private static final ObjectWriter DEFAULT_WRITER = DEFAULT_MAPPER.writer();
+
+  private static final Map<Class<?>, ObjectReader> READERS = new ConcurrentHashMap<>();
+
   private ConnectorsObjectMapperSupplier() {}
 
+  /**
+   * Returns a fresh copy of the default mapper. Copies start with empty serializer and deserializer
+   * caches, so prefer {@link #getReader(Class)} and {@link #getWriter()} on hot paths and only copy
+   * the mapper when its configuration needs to be changed.
+   */
   public static ObjectMapper getCopy() {
     return DEFAULT_MAPPER.copy();
   }
+
+  /**
+   * Returns a shared, immutable reader for the given type. Readers are created once per type and
+   * reuse the deserializers resolved by the default mapper, so they are safe and cheap to use
+   * concurrently from request paths.
+   */
+  public static ObjectReader getReader(Class<?> type) {
+    return READERS.computeIfAbsent(type, DEFAULT_MAPPER::readerFor);
+  }
+
+  /**
+   * Returns the shared, immutable writer of the default mapper. Use {@link ObjectWriter#with} to
+   * derive a variant with a different configuration.
+   */
+  public static ObjectWriter getWriter() {
+    return DEFAULT_WRITER;
+  }
 }
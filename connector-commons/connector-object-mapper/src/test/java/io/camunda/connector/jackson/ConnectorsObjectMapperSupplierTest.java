@@ -22,6 +22,7 @@ import com.fasterxml.jackson.annotation.JsonEnumDefaultValue;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import java.io.IOException;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
@@ -66,6 +67,25 @@ class ConnectorsObjectMapperSupplierTest {
 
   private record TestRecordWithString(String value) {}
 
+  @Test
+  void readerShouldBeSharedPerType() {
+    assertThat(ConnectorsObjectMapperSupplier.getReader(TestRecordWithString.class))
+        .isSameAs(ConnectorsObjectMapperSupplier.getReader(TestRecordWithString.class))
+        .isNotSameAs(ConnectorsObjectMapperSupplier.getReader(Object.class));
+  }
+
+  @Test
+  void readerAndWriterShouldUseDefaultConfiguration() throws IOException {
+    final var json = "{\"value\":[\"hey\"],\"unknown\":1}";
+    TestRecordWithString actual =
+        ConnectorsObjectMapperSupplier.getReader(TestRecordWithString.class).readValue(json);
+    assertThat(actual.value).isEqualTo("hey");
+    assertThat(
+            ConnectorsObjectMapperSupplier.getWriter()
+                .writeValueAsString(Map.of("data", LocalDate.of(2024, 1, 1))))
+        .isEqualTo("{\"data\":\"2024-01-01\"}");
+  }
+
   @Test
   void unknownEnumValueShouldBeDeserializedUsingDefaultValue() throws JsonProcessingException {
     final var objectMapper = ConnectorsObjectMapperSupplier.getCopy();
@@ -0,0 +1,125 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.util.cache;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalListener;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bounded cache for thread-safe clients that are expensive to build, e.g. because they set up an
+ * HTTP pipeline or obtain an access token. Connectors share such clients between jobs with the same
+ * configuration instead of building one per job.
+ *
+ * <p>A client is built at most once per key, concurrent callers wait for it. If building fails, the
+ * exception of the factory is rethrown as is and nothing is cached.
+ *
+ * @param <K> the client configuration, must implement {@code equals} and {@code hashCode}
+ * @param <V> the client
+ */
+public final class ClientCache<K, V> {
+
+  public static final long DEFAULT_MAXIMUM_SIZE = 100;
+  public static final Duration DEFAULT_EXPIRE_AFTER_ACCESS = Duration.ofHours(1);
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ClientCache.class);
+
+  private final Cache<K, V> cache;
+
+  private ClientCache(
+      long maximumSize, Duration expireAfterAccess, RemovalListener<K, V> removalListener) {
+    var builder =
+        CacheBuilder.newBuilder().maximumSize(maximumSize).expireAfterAccess(expireAfterAccess);
+    this.cache =
+        removalListener != null
+            ? builder.removalListener(removalListener).build()
+            : builder.build();
+  }
+
+  /** Creates a cache of up to 100 clients that are dropped after one hour without access. */
+  public static <K, V> ClientCache<K, V> create() {
+    return create(DEFAULT_MAXIMUM_SIZE, DEFAULT_EXPIRE_AFTER_ACCESS);
+  }
+
+  public static <K, V> ClientCache<K, V> create(long maximumSize, Duration expireAfterAccess) {
+    return new ClientCache<>(maximumSize, expireAfterAccess, null);
+  }
+
+  /**
+   * Creates a cache that closes clients once they are removed, e.g. because they expired. Only use
+   * it for clients that are not kept beyond a job, as a client may otherwise be closed in use.
+   */
+  public static <K, V extends AutoCloseable> ClientCache<K, V> closing(
+      long maximumSize, Duration expireAfterAccess) {
+    return new ClientCache<>(
+        maximumSize,
+        expireAfterAccess,
+        notification -> {
+          if (notification.getValue() != null) {
+            close(notification.getValue());
+          }
+        });
+  }
+
+  /**
+   * Returns the client for the given key, building it with the factory if it is not cached.
+   *
+   * @throws E if the factory failed to build the client
+   */
+  public <E extends Exception> V get(K key, Factory<? extends V, E> factory) throws E {
+    try {
+      return cache.get(key, factory::create);
+    } catch (UncheckedExecutionException e) {
+      throw (RuntimeException) e.getCause();
+    } catch (ExecutionError e) {
+      throw (Error) e.getCause();
+    } catch (ExecutionException e) {
+      // only the factory throws checked exceptions
+      @SuppressWarnings("unchecked")
+      E cause = (E) e.getCause();
+      throw cause;
+    }
+  }
+
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+  public long size() {
+    return cache.size();
+  }
+
+  private static void close(AutoCloseable client) {
+    try {
+      client.close();
+    } catch (Exception e) {
+      LOGGER.debug("Failed to close evicted client {}", client, e);
+    }
+  }
+
+  /** Builds a client, may throw a checked exception of type {@code E}. */
+  @FunctionalInterface
+  public interface Factory<V, E extends Exception> {
+    V create() throws E;
+  }
+}
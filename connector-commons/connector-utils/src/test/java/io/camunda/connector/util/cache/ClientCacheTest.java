@@ -0,0 +1,93 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.util.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class ClientCacheTest {
+
+  @Test
+  void clientIsBuiltOncePerKey() {
+    // given
+    ClientCache<String, Object> cache = ClientCache.create();
+    var builds = new AtomicInteger();
+
+    // when
+    var first = cache.get("a", () -> builds.incrementAndGet());
+    var second = cache.get("a", () -> builds.incrementAndGet());
+    var other = cache.get("b", () -> builds.incrementAndGet());
+
+    // then
+    assertThat(first).isSameAs(second).isNotEqualTo(other);
+    assertThat(builds).hasValue(2);
+  }
+
+  @Test
+  void exceptionOfTheFactoryIsRethrown_andNothingIsCached() {
+    // given
+    ClientCache<String, Object> cache = ClientCache.create();
+    var failure = new IOException("invalid credentials");
+
+    // when
+    assertThatThrownBy(() -> cache.get("a", () -> throwing(failure))).isSameAs(failure);
+    assertThatThrownBy(
+            () ->
+                cache.get(
+                    "a",
+                    () -> {
+                      throw new IllegalArgumentException("invalid url");
+                    }))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("invalid url");
+
+    // then
+    assertThat(cache.size()).isZero();
+  }
+
+  @Test
+  void closingCache_closesEvictedClients() {
+    // given
+    ClientCache<String, TestClient> cache = ClientCache.closing(1, Duration.ofHours(1));
+    var first = cache.get("a", TestClient::new);
+
+    // when
+    var second = cache.get("b", TestClient::new);
+
+    // then
+    assertThat(first.closed).isTrue();
+    assertThat(second.closed).isFalse();
+  }
+
+  private static Object throwing(IOException e) throws IOException {
+    throw e;
+  }
+
+  private static class TestClient implements AutoCloseable {
+    private volatile boolean closed;
+
+    @Override
+    public void close() {
+      closed = true;
+    }
+  }
+}
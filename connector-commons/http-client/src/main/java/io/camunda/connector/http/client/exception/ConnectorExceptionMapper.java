@@ -16,6 +16,7 @@
  */
 package io.camunda.connector.http.client.exception;
 
+import com.fasterxml.jackson.databind.ObjectReader;
 import io.camunda.connector.api.error.ConnectorException;
 import io.camunda.connector.api.error.ConnectorExceptionBuilder;
 import io.camunda.connector.http.client.HttpClientObjectMapperSupplier;
@@ -34,6 +35,8 @@ import org.slf4j.LoggerFactory;
 public class ConnectorExceptionMapper {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(ConnectorExceptionMapper.class);
+  private static final ObjectReader MAP_READER =
+      HttpClientObjectMapperSupplier.getCopy().readerFor(Map.class);
 
   public static ConnectorException from(StreamingHttpResponse result) {
     String status = String.valueOf(result.status());
@@ -45,7 +48,7 @@ public class ConnectorExceptionMapper {
       if (bodyStream != null) {
         var bodyString = new String(bodyStream.readAllBytes());
         if (JsonHelper.isJsonStringValid(bodyString)) {
-          body = HttpClientObjectMapperSupplier.getCopy().readValue(bodyString, Map.class);
+          body = MAP_READER.readValue(bodyString);
         } else {
           body = bodyString;
         }
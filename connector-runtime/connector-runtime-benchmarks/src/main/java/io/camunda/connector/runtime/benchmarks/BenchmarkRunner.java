@@ -0,0 +1,137 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.benchmarks;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks and compares the scores against a stored baseline.
+ *
+ * <pre>
+ * java -jar benchmarks.jar [--include regex] [--baseline file] [--update-baseline]
+ *     [--tolerance percent]
+ * </pre>
+ *
+ * <p>All benchmarks report the average time per operation, so a score above the baseline score plus
+ * the tolerance is a regression. The process exits with status 1 if a regression is found. With
+ * {@code --update-baseline}, the scores of the run are written to the baseline file instead.
+ * Baselines are only comparable when recorded on the same machine and JVM.
+ */
+public final class BenchmarkRunner {
+
+  private static final TypeReference<Map<String, Double>> BASELINE_TYPE = new TypeReference<>() {};
+
+  private BenchmarkRunner() {}
+
+  public static void main(String[] args) throws RunnerException, IOException {
+    String include = ".*Benchmark.*";
+    Path baseline = Path.of("benchmark-baseline.json");
+    Path result = Path.of("target", "jmh-result.json");
+    boolean updateBaseline = false;
+    double tolerance = 10;
+    for (int i = 0; i < args.length; i++) {
+      switch (args[i]) {
+        case "--include" -> include = args[++i];
+        case "--baseline" -> baseline = Path.of(args[++i]);
+        case "--result" -> result = Path.of(args[++i]);
+        case "--update-baseline" -> updateBaseline = true;
+        case "--tolerance" -> tolerance = Double.parseDouble(args[++i]);
+        default -> throw new IllegalArgumentException("Unknown argument: " + args[i]);
+      }
+    }
+    if (result.getParent() != null) {
+      Files.createDirectories(result.getParent());
+    }
+
+    var options =
+        new OptionsBuilder()
+            .include(include)
+            .resultFormat(ResultFormatType.JSON)
+            .result(result.toString())
+            .build();
+    var scores = scores(new Runner(options).run());
+
+    if (updateBaseline) {
+      Payloads.OBJECT_MAPPER
+          .writer()
+          .with(SerializationFeature.INDENT_OUTPUT)
+          .writeValue(baseline.toFile(), scores);
+      System.out.printf("Stored %d scores as baseline in %s%n", scores.size(), baseline);
+      return;
+    }
+    if (!Files.exists(baseline)) {
+      System.out.printf("No baseline found at %s, skipping the comparison%n", baseline);
+      return;
+    }
+    var regressions =
+        compare(
+            Payloads.OBJECT_MAPPER.readValue(baseline.toFile(), BASELINE_TYPE), scores, tolerance);
+    if (!regressions.isEmpty()) {
+      System.out.printf(
+          "%d benchmark(s) regressed by more than %.1f%%:%n", regressions.size(), tolerance);
+      regressions.forEach(System.out::println);
+      System.exit(1);
+    }
+    System.out.printf("No regressions above %.1f%% compared to %s%n", tolerance, baseline);
+  }
+
+  /** Maps each benchmark, including its parameters, to its average time per operation. */
+  static Map<String, Double> scores(Collection<RunResult> results) {
+    var scores = new TreeMap<String, Double>();
+    for (var result : results) {
+      var params = result.getParams();
+      var key =
+          params.getBenchmark()
+              + params.getParamsKeys().stream()
+                  .map(name -> name + "=" + params.getParam(name))
+                  .collect(Collectors.joining(",", "(", ")"));
+      scores.put(key, result.getPrimaryResult().getScore());
+    }
+    return scores;
+  }
+
+  static List<String> compare(
+      Map<String, Double> baseline, Map<String, Double> scores, double tolerancePercent) {
+    var regressions = new ArrayList<String>();
+    scores.forEach(
+        (benchmark, score) -> {
+          var baselineScore = baseline.get(benchmark);
+          if (baselineScore != null && score > baselineScore * (1 + tolerancePercent / 100)) {
+            regressions.add(
+                String.format(
+                    "  %s: %.3f -> %.3f (%+.1f%%)",
+                    benchmark, baselineScore, score, (score / baselineScore - 1) * 100));
+          }
+        });
+    return regressions;
+  }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.benchmarks;
+
+import io.camunda.connector.runtime.core.ConnectorResultHandler;
+import io.camunda.connector.runtime.core.Keywords;
+import io.camunda.connector.runtime.core.error.ConnectorError;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Result and error expression handling, executed after every outbound connector invocation. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConnectorResultHandlerBenchmark {
+
+  private static final String ERROR_EXPRESSION =
+      "=if status >= 400 then bpmnError(string(status), \"request failed\") else null";
+
+  @Param({"10", "100", "1000"})
+  private int items;
+
+  /** {@code NONE} only stores the response in the result variable. */
+  @Param({"NONE", "PATH", "CONTEXT", "FILTER"})
+  private String complexity;
+
+  private ConnectorResultHandler resultHandler;
+  private Map<String, Object> response;
+  private String resultExpression;
+  private Map<String, String> headers;
+
+  @Setup
+  public void setup() {
+    resultHandler = new ConnectorResultHandler(Payloads.OBJECT_MAPPER);
+    response = Payloads.response(items, 0);
+    resultExpression = FeelExpressionEvaluatorBenchmark.EXPRESSIONS.get(complexity);
+    headers = Map.of(Keywords.ERROR_EXPRESSION_KEYWORD, ERROR_EXPRESSION);
+  }
+
+  @Benchmark
+  public Map<String, Object> createOutputVariables() {
+    return resultHandler.createOutputVariables(response, "result", resultExpression);
+  }
+
+  @Benchmark
+  public Optional<ConnectorError> examineErrorExpression() {
+    return resultHandler.examineErrorExpression(response, headers, null);
+  }
+}
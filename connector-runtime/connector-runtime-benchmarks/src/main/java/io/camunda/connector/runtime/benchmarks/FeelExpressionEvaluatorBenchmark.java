@@ -0,0 +1,79 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.benchmarks;
+
+import io.camunda.connector.feel.LocalFeelExpressionEvaluator;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** FEEL evaluation against a connector response, the building block of all expression mappings. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FeelExpressionEvaluatorBenchmark {
+
+  /** Expressions of increasing complexity, all returning a context. */
+  static final Map<String, String> EXPRESSIONS =
+      Map.of(
+          "PATH", "={status: status}",
+          "CONTEXT",
+              "={status: status, first: items[1].name, count: count(items), url: upper case(url)}",
+          "FILTER",
+              "={names: for item in items[item.attributes.available] return item.name,"
+                  + " total: sum(items.attributes.price)}");
+
+  @Param({"10", "100", "1000"})
+  private int items;
+
+  @Param({"PATH", "CONTEXT", "FILTER"})
+  private String complexity;
+
+  private LocalFeelExpressionEvaluator evaluator;
+  private String expression;
+  private Map<String, Object> response;
+
+  @Setup
+  public void setup() {
+    evaluator = new LocalFeelExpressionEvaluator();
+    expression = EXPRESSIONS.get(complexity);
+    response = Payloads.response(items, 0);
+  }
+
+  @Benchmark
+  public Object evaluate() {
+    return evaluator.evaluate(expression, response);
+  }
+
+  @Benchmark
+  public String evaluateToJson() {
+    return evaluator.evaluateToJson(expression, response);
+  }
+}
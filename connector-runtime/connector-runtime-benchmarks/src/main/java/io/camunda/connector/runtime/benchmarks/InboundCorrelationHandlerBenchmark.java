@@ -0,0 +1,111 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.benchmarks;
+
+import io.camunda.connector.api.inbound.ActivationCheckResult;
+import io.camunda.connector.runtime.core.Keywords;
+import io.camunda.connector.runtime.core.inbound.InboundConnectorElement;
+import io.camunda.connector.runtime.core.inbound.ProcessElementWithRuntimeData;
+import io.camunda.connector.runtime.core.inbound.correlation.InboundCorrelationHandler;
+import io.camunda.connector.runtime.core.inbound.correlation.MessageCorrelationPoint.StandaloneMessageCorrelationPoint;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Activation condition and correlation key evaluation of an inbound request. Message publishing is
+ * not part of the measurement, the Zeebe client is a stub.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InboundCorrelationHandlerBenchmark {
+
+  private static final String CORRELATION_KEY_EXPRESSION = "=request.body.orderId";
+
+  @Param({"10", "100", "1000"})
+  private int items;
+
+  /** Number of elements sharing the inbound connector, only the last one can be activated. */
+  @Param({"1", "10"})
+  private int elements;
+
+  private BenchmarkCorrelationHandler correlationHandler;
+  private List<InboundConnectorElement> connectorElements;
+  private Map<String, Object> request;
+
+  @Setup
+  public void setup() {
+    correlationHandler = new BenchmarkCorrelationHandler();
+    connectorElements = new ArrayList<>();
+    for (int i = 0; i < elements; i++) {
+      var orderType = i == elements - 1 ? "order" : "refund-" + i;
+      connectorElements.add(
+          new InboundConnectorElement(
+              Map.of(
+                  Keywords.INBOUND_TYPE_KEYWORD,
+                  "io.camunda:webhook:1",
+                  Keywords.ACTIVATION_CONDITION_KEYWORD,
+                  "=request.body.type = \"" + orderType + "\"",
+                  Keywords.CORRELATION_KEY_EXPRESSION_KEYWORD,
+                  CORRELATION_KEY_EXPRESSION),
+              new StandaloneMessageCorrelationPoint(
+                  "order-received", CORRELATION_KEY_EXPRESSION, null, Duration.ofHours(1)),
+              new ProcessElementWithRuntimeData(
+                  "benchmark-process", 1, 1L, "start-" + i, "<default>")));
+    }
+    request = Payloads.webhookRequest(items);
+  }
+
+  @Benchmark
+  public ActivationCheckResult canActivate() {
+    return correlationHandler.canActivate(connectorElements, request);
+  }
+
+  @Benchmark
+  public Optional<String> extractCorrelationKey() {
+    return correlationHandler.correlationKey(CORRELATION_KEY_EXPRESSION, request);
+  }
+
+  private static class BenchmarkCorrelationHandler extends InboundCorrelationHandler {
+
+    BenchmarkCorrelationHandler() {
+      super(Stubs.unusedCamundaClient(), Payloads.OBJECT_MAPPER, Duration.ofHours(1));
+    }
+
+    Optional<String> correlationKey(String expression, Object context) {
+      return extractCorrelationKey(expression, context);
+    }
+  }
+}
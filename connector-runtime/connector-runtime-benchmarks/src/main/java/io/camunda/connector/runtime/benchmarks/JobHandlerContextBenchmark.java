@@ -0,0 +1,78 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.camunda.client.api.response.ActivatedJob;
+import io.camunda.connector.api.document.DocumentFactory;
+import io.camunda.connector.api.secret.SecretProvider;
+import io.camunda.connector.api.validation.ValidationProvider;
+import io.camunda.connector.runtime.core.document.DocumentFactoryImpl;
+import io.camunda.connector.runtime.core.document.store.InMemoryDocumentStore;
+import io.camunda.connector.runtime.core.outbound.JobHandlerContext;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Binding the job variables to the connector input, including secret replacement. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JobHandlerContextBenchmark {
+
+  @Param({"10", "100", "1000"})
+  private int items;
+
+  @Param({"0", "10"})
+  private int secrets;
+
+  private ActivatedJob job;
+  private SecretProvider secretProvider;
+  private ValidationProvider validationProvider;
+  private DocumentFactory documentFactory;
+  private ObjectMapper objectMapper;
+
+  @Setup
+  public void setup() {
+    job = Stubs.activatedJob(Payloads.json(items, secrets), Map.of());
+    secretProvider = Stubs.secretProvider();
+    validationProvider = objectToValidate -> {};
+    documentFactory = new DocumentFactoryImpl(InMemoryDocumentStore.INSTANCE);
+    objectMapper = Payloads.OBJECT_MAPPER;
+  }
+
+  /** A new context is created per job, so its creation is part of the measurement. */
+  @Benchmark
+  public Payloads.Request bindVariables() {
+    return new JobHandlerContext(
+            job, secretProvider, validationProvider, documentFactory, objectMapper)
+        .bindVariables(Payloads.Request.class);
+  }
+}
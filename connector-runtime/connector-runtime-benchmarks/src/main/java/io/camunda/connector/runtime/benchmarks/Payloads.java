@@ -0,0 +1,76 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.camunda.connector.jackson.ConnectorsObjectMapperSupplier;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/** Deterministic payloads of a configurable size, shared by all benchmarks. */
+final class Payloads {
+
+  static final ObjectMapper OBJECT_MAPPER = ConnectorsObjectMapperSupplier.getCopy();
+
+  record Item(int id, String name, List<String> tags, Map<String, Object> attributes) {}
+
+  record Request(String url, String token, List<Item> items) {}
+
+  private Payloads() {}
+
+  /**
+   * @param items number of items in the payload
+   * @param secrets number of items that reference a secret in their name
+   * @return a connector response or job variables with the given number of items
+   */
+  static Map<String, Object> response(int items, int secrets) {
+    var itemList = new ArrayList<Map<String, Object>>(items);
+    for (int i = 0; i < items; i++) {
+      var item = new LinkedHashMap<String, Object>();
+      item.put("id", i);
+      item.put("name", i < secrets ? "{{secrets.ITEM_" + i + "}}" : "item-" + i);
+      item.put("tags", List.of(i % 2 == 0 ? "even" : "odd", "tag-" + (i % 10)));
+      item.put("attributes", Map.of("price", i * 1.5, "available", i % 3 != 0));
+      itemList.add(item);
+    }
+    var response = new LinkedHashMap<String, Object>();
+    response.put("url", "https://example.com/orders");
+    response.put("token", secrets > 0 ? "secrets.TOKEN" : "token");
+    response.put("status", 200);
+    response.put("items", itemList);
+    return response;
+  }
+
+  static String json(int items, int secrets) {
+    try {
+      return OBJECT_MAPPER.writeValueAsString(response(items, secrets));
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /** Wraps the payload the way the webhook connector passes it to the correlation handler. */
+  static Map<String, Object> webhookRequest(int items) {
+    var body = new LinkedHashMap<>(response(items, 0));
+    body.put("type", "order");
+    body.put("orderId", "order-4711");
+    return Map.of("request", Map.of("body", body, "headers", Map.of("x-tenant", "acme")));
+  }
+}
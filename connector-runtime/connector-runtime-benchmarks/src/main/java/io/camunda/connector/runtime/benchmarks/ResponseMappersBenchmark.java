@@ -0,0 +1,86 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.camunda.connector.http.client.mapper.ResponseMapper;
+import io.camunda.connector.http.client.mapper.ResponseMappers;
+import io.camunda.connector.http.client.mapper.StreamingHttpResponse;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Mapping of HTTP response bodies, as done by the HTTP based connectors. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseMappersBenchmark {
+
+  private static final Map<String, List<String>> HEADERS =
+      Map.of("Content-Type", List.of("application/json"));
+
+  @Param({"10", "100", "1000"})
+  private int items;
+
+  private byte[] body;
+  private ResponseMapper<String> stringMapper;
+  private ResponseMapper<byte[]> byteArrayMapper;
+  private ResponseMapper<JsonNode> jsonNodeMapper;
+
+  @Setup
+  public void setup() {
+    body = Payloads.json(items, 0).getBytes(StandardCharsets.UTF_8);
+    stringMapper = ResponseMappers.asString();
+    byteArrayMapper = ResponseMappers.asByteArray();
+    jsonNodeMapper = ResponseMappers.asJsonNode(() -> Payloads.OBJECT_MAPPER);
+  }
+
+  @Benchmark
+  public String asString() {
+    return stringMapper.apply(response());
+  }
+
+  @Benchmark
+  public byte[] asByteArray() {
+    return byteArrayMapper.apply(response());
+  }
+
+  @Benchmark
+  public JsonNode asJsonNode() {
+    return jsonNodeMapper.apply(response());
+  }
+
+  private StreamingHttpResponse response() {
+    return new StreamingHttpResponse(200, "OK", HEADERS, new ByteArrayInputStream(body));
+  }
+}
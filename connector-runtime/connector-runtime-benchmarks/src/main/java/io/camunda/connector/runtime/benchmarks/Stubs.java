@@ -0,0 +1,87 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.benchmarks;
+
+import io.camunda.client.CamundaClient;
+import io.camunda.client.api.response.ActivatedJob;
+import io.camunda.connector.api.secret.SecretContext;
+import io.camunda.connector.api.secret.SecretProvider;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+
+/**
+ * In-process stand-ins for Zeebe and secret providers, so that benchmarks measure the runtime code
+ * and not the network or a mocking framework.
+ */
+final class Stubs {
+
+  private Stubs() {}
+
+  /** Resolves every secret to a value derived from its name. */
+  static SecretProvider secretProvider() {
+    return new SecretProvider() {
+      @Override
+      public String getSecret(String name, SecretContext context) {
+        return "secret-value-" + name;
+      }
+    };
+  }
+
+  static ActivatedJob activatedJob(String variables, Map<String, String> customHeaders) {
+    return (ActivatedJob)
+        Proxy.newProxyInstance(
+            Stubs.class.getClassLoader(),
+            new Class<?>[] {ActivatedJob.class},
+            (proxy, method, args) ->
+                switch (method.getName()) {
+                  case "getVariables" -> variables;
+                  case "getCustomHeaders" -> customHeaders;
+                  case "getTenantId" -> "<default>";
+                  case "getBpmnProcessId" -> "benchmark-process";
+                  case "getType" -> "io.camunda:benchmark:1";
+                  case "getElementId" -> "benchmark-task";
+                  case "getRetries" -> 3;
+                  case "hashCode" -> System.identityHashCode(proxy);
+                  case "equals" -> proxy == args[0];
+                  case "toString" -> "ActivatedJobStub";
+                  default -> defaultValue(method.getReturnType());
+                });
+  }
+
+  /** A client that must never be called, e.g. for code paths that only evaluate expressions. */
+  static CamundaClient unusedCamundaClient() {
+    return (CamundaClient)
+        Proxy.newProxyInstance(
+            Stubs.class.getClassLoader(),
+            new Class<?>[] {CamundaClient.class},
+            (proxy, method, args) -> {
+              throw new UnsupportedOperationException(
+                  "CamundaClient." + method.getName() + " is not available in benchmarks");
+            });
+  }
+
+  private static Object defaultValue(Class<?> type) {
+    if (type == long.class) {
+      return 0L;
+    } else if (type == int.class) {
+      return 0;
+    } else if (type == boolean.class) {
+      return false;
+    }
+    return null;
+  }
+}
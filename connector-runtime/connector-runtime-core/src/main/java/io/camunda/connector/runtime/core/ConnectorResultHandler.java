@@ -66,17 +66,15 @@ public class ConnectorResultHandler {
     }
 
     if (isNotBlank(resultExpression)) {
-      var mappedResponseJson =
-          feelExpressionEvaluator.evaluateToJson(
-              resultExpression, responseContent, wrapResponse(responseContent));
-      if (mappedResponseJson != null) {
-        verifyNoForbiddenLiterals(mappedResponseJson);
-        var mappedResponse =
-            parseJsonVarsAsTypeOrThrow(
-                mappedResponseJson, Map.class, resultExpression, "Result expression");
-        if (mappedResponse != null) {
-          outputVariables.putAll(mappedResponse);
-        }
+      var mappedResponse =
+          readTreeOrThrow(
+              feelExpressionEvaluator.evaluateToJson(
+                  resultExpression, responseContent, wrapResponse(responseContent)),
+              resultExpression);
+      if (mappedResponse != null) {
+        verifyNoForbiddenLiterals(mappedResponse);
+        outputVariables.putAll(
+            convertOrThrow(mappedResponse, Map.class, resultExpression, "Result expression"));
       }
     }
     return outputVariables;
@@ -87,74 +85,122 @@ public class ConnectorResultHandler {
       final Map<String, String> jobHeaders,
       ErrorExpressionJobContext jobContext) {
     final var errorExpression = jobHeaders.get(Keywords.ERROR_EXPRESSION_KEYWORD);
-    return Optional.ofNullable(errorExpression)
-        .filter(s -> !s.isBlank())
-        .map(
-            expression ->
-                feelExpressionEvaluator.evaluateToJson(
-                    expression, responseContent, wrapResponse(responseContent), jobContext))
-        .filter(
-            json ->
-                !parseJsonVarsAsTypeOrThrow(json, Map.class, errorExpression, "Error expression")
-                    .isEmpty())
-        .map(
-            json ->
-                parseJsonVarsAsTypeOrThrow(
-                    json, ConnectorError.class, errorExpression, "Error expression"))
-        .filter(
-            error -> {
-              if (error instanceof BpmnError bpmnError) {
-                return bpmnError.hasCode();
-              }
-              return true;
-            });
+    if (errorExpression == null || errorExpression.isBlank()) {
+      return Optional.empty();
+    }
+    var result =
+        readTreeOrThrow(
+            feelExpressionEvaluator.evaluateToJson(
+                errorExpression, responseContent, wrapResponse(responseContent), jobContext),
+            errorExpression);
+    if (result == null) {
+      return Optional.empty();
+    }
+    requireObject(result, errorExpression, "Error expression");
+    if (result.isEmpty()) {
+      return Optional.empty();
+    }
+    var error = convertOrThrow(result, ConnectorError.class, errorExpression, "Error expression");
+    if (error instanceof BpmnError bpmnError && !bpmnError.hasCode()) {
+      return Optional.empty();
+    }
+    return Optional.of(error);
   }
 
-  private <T> T parseJsonVarsAsTypeOrThrow(
-      final String jsonVars,
-      Class<T> type,
+  /**
+   * Parses the evaluated expression result once, all further checks work on the tree. Returns
+   * {@code null} if the expression evaluated to {@code null}. A JSON {@code null} value is parsed
+   * and later rejected like any other result that is not an object.
+   */
+  private JsonNode readTreeOrThrow(final String json, final String expression) {
+    if (json == null) {
+      return null;
+    }
+    try {
+      return objectMapper.readTree(json);
+    } catch (JsonProcessingException e) {
+      throw new ConnectorInputException(
+          new FeelEngineWrapperException(
+              String.format(ERROR_CANNOT_PARSE_VARIABLES, json, JsonNode.class.getName()),
+              expression,
+              json,
+              e));
+    }
+  }
+
+  /**
+   * Converts the already parsed expression result to the given type. The tree is converted
+   * directly, the JSON string is not parsed again.
+   */
+  private <T> T convertOrThrow(
+      final JsonNode result,
+      final Class<T> type,
       final String expression,
       final String expressionNameForError) {
+    if (type.equals(Map.class)) {
+      requireObject(result, expression, expressionNameForError);
+    }
     try {
-      // When expecting a Map (from a FEEL evaluation), check if it's actually a JSON object
-      if (type.equals(Map.class)) {
-        JsonNode node = objectMapper.readTree(jsonVars);
-        if (!node.isObject()) {
-          throw new ConnectorInputException(
-              new FeelEngineWrapperException(
-                  String.format(
-                      "%s must return a JSON object, but got %s. Evaluated value: %s",
-                      expressionNameForError, node.getNodeType().name().toLowerCase(), jsonVars),
-                  expression,
-                  jsonVars));
-        }
-      }
-      return objectMapper.readValue(jsonVars, type);
-    } catch (ConnectorInputException e) {
-      // Re-throw our custom exception
-      throw e;
-    } catch (JsonProcessingException e) {
-      // For other types (like ConnectorError), keep the original message
+      return objectMapper.treeToValue(result, type);
+    } catch (JsonProcessingException | IllegalArgumentException e) {
+      var json = result.toString();
       throw new ConnectorInputException(
           new FeelEngineWrapperException(
-              String.format(ERROR_CANNOT_PARSE_VARIABLES, jsonVars, type.getName()),
+              String.format(ERROR_CANNOT_PARSE_VARIABLES, json, type.getName()),
               expression,
-              jsonVars,
+              json,
               e));
     }
   }
 
-  private void verifyNoForbiddenLiterals(String json) {
+  private void requireObject(
+      final JsonNode result, final String expression, final String expressionNameForError) {
+    if (!result.isObject()) {
+      var json = result.toString();
+      throw new ConnectorInputException(
+          new FeelEngineWrapperException(
+              String.format(
+                  "%s must return a JSON object, but got %s. Evaluated value: %s",
+                  expressionNameForError, result.getNodeType().name().toLowerCase(), json),
+              expression,
+              json));
+    }
+  }
+
+  private void verifyNoForbiddenLiterals(JsonNode result) {
     FORBIDDEN_LITERALS.forEach(
         literal -> {
-          if (json.contains(literal)) {
+          if (containsLiteral(result, literal)) {
             throw new ConnectorInputException(
                 new FeelEngineWrapperException(
                     String.format(
                         "The connector result contains a forbidden literal '%s'.", literal),
                     literal,
-                    json));
+                    result.toString()));
           }
         });
   }
+
+  /** Walks the result tree instead of searching its serialized form. */
+  private static boolean containsLiteral(JsonNode node, String literal) {
+    if (node.isTextual()) {
+      return node.textValue().contains(literal);
+    }
+    if (node.isObject()) {
+      for (var field : node.properties()) {
+        if (field.getKey().contains(literal) || containsLiteral(field.getValue(), literal)) {
+          return true;
+        }
+      }
+      return false;
+    }
+    if (node.isArray()) {
+      for (var element : node) {
+        if (containsLiteral(element, literal)) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
 }
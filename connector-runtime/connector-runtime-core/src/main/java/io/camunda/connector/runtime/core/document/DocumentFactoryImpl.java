@@ -26,19 +26,37 @@ import io.camunda.connector.api.document.DocumentReference.InlineDocumentReferen
 import io.camunda.connector.http.client.client.HttpClient;
 import io.camunda.connector.http.client.client.apache.CustomApacheHttpClient;
 import io.camunda.connector.http.client.mapper.HttpResponse;
-import io.camunda.connector.http.client.mapper.ResponseMappers;
+import io.camunda.connector.http.client.mapper.StreamingHttpResponse;
 import io.camunda.connector.http.client.model.HttpClientRequest;
 import io.camunda.connector.http.client.model.HttpMethod;
+import io.camunda.connector.http.client.utils.EnvVarHelper;
+import io.camunda.connector.http.client.utils.HeadersHelper;
 import io.camunda.connector.runtime.core.document.store.CamundaDocumentStore;
+import io.camunda.connector.runtime.core.document.store.StoredContent;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.function.Function;
+import org.apache.hc.core5.http.HttpHeaders;
 
 public class DocumentFactoryImpl implements DocumentFactory {
 
+  /** External documents larger than this are kept in a temporary file instead of on the heap. */
+  static final long EXTERNAL_DOCUMENT_SPILL_THRESHOLD_BYTES = 1024 * 1024;
+
   private final CamundaDocumentStore documentStore;
   private final HttpClient httpClient;
-  private final Function<String, HttpResponse<byte[]>> downloadDocument;
+  private final Function<String, HttpResponse<StoredContent>> downloadDocument;
 
   public DocumentFactoryImpl(CamundaDocumentStore documentStore) {
+    this(documentStore, EnvVarHelper.getMaxInMemoryBodySize());
+  }
+
+  /**
+   * @param maxExternalDocumentSizeBytes downloads of external documents larger than this are
+   *     aborted
+   */
+  public DocumentFactoryImpl(
+      CamundaDocumentStore documentStore, long maxExternalDocumentSizeBytes) {
     this.documentStore = documentStore;
     this.httpClient = new CustomApacheHttpClient();
     this.downloadDocument =
@@ -46,7 +64,8 @@ public class DocumentFactoryImpl implements DocumentFactory {
           HttpClientRequest req = new HttpClientRequest();
           req.setMethod(HttpMethod.GET);
           req.setUrl(url);
-          return this.httpClient.execute(req, ResponseMappers.asByteArray());
+          return this.httpClient.execute(
+              req, response -> readExternalContent(response, maxExternalDocumentSizeBytes));
         };
   }
 
@@ -57,7 +76,8 @@ public class DocumentFactoryImpl implements DocumentFactory {
     }
     return switch (reference) {
       case CamundaDocumentReference r -> new CamundaDocument(r.getMetadata(), r, documentStore);
-      case ExternalDocumentReference r -> new ExternalDocument(r.url(), r.name(), downloadDocument);
+      case ExternalDocumentReference r ->
+          ExternalDocument.streaming(r.url(), r.name(), downloadDocument);
       case InlineDocumentReference r -> new InlineDocument(r.content(), r.name(), r.contentType());
       default ->
           throw new IllegalArgumentException(
@@ -65,6 +85,39 @@ public class DocumentFactoryImpl implements DocumentFactory {
     };
   }
 
+  private static StoredContent readExternalContent(
+      StreamingHttpResponse response, long maxSizeBytes) {
+    if (response.body() == null) {
+      return StoredContent.of(new byte[0]);
+    }
+    try {
+      // a declared length above the limit is rejected before anything is read
+      if (contentLength(response) > maxSizeBytes) {
+        throw new StoredContent.SizeLimitExceededException(maxSizeBytes);
+      }
+      return StoredContent.read(
+          response.body(), EXTERNAL_DOCUMENT_SPILL_THRESHOLD_BYTES, maxSizeBytes);
+    } catch (StoredContent.SizeLimitExceededException e) {
+      throw new UncheckedIOException(
+          "External document exceeds the maximum size of " + maxSizeBytes + " bytes", e);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to read external document content", e);
+    }
+  }
+
+  private static long contentLength(StreamingHttpResponse response) {
+    if (response.headers() == null) {
+      return -1;
+    }
+    String contentLength =
+        HeadersHelper.getHeaderIgnoreCase(response.headers(), HttpHeaders.CONTENT_LENGTH);
+    try {
+      return contentLength != null ? Long.parseLong(contentLength.trim()) : -1;
+    } catch (NumberFormatException e) {
+      return -1;
+    }
+  }
+
   @Override
   public Document create(DocumentCreationRequest request) {
     var reference = documentStore.createDocument(request);
@@ -22,39 +22,81 @@ import io.camunda.connector.api.document.DocumentMetadata;
 import io.camunda.connector.api.document.DocumentReference;
 import io.camunda.connector.http.client.mapper.HttpResponse;
 import io.camunda.connector.http.client.utils.HeadersHelper;
-import java.io.ByteArrayInputStream;
+import io.camunda.connector.runtime.core.document.store.StoredContent;
 import java.io.IOException;
 import java.io.InputStream;
 import java.time.OffsetDateTime;
 import java.util.Base64;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import org.apache.hc.core5.http.HttpHeaders;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * A document hosted at an external URL. The content is downloaded lazily on first access and then
+ * kept for the lifetime of the document, so it can be read repeatedly. With {@link
+ * #streaming(String, String, Function)}, large content is kept in a temporary file instead of on
+ * the heap.
+ */
 public class ExternalDocument implements Document {
 
+  public static final String CUSTOM_PROPERTY_ETAG = "etag";
+  public static final String CUSTOM_PROPERTY_LAST_MODIFIED = "lastModified";
+
   private final String url;
   private final String name;
   private transient DocumentMetadata metadata;
-  Function<String, HttpResponse<byte[]>> downloadDocument;
-  private HttpResponse<byte[]> result = null;
+  private final Supplier<HttpResponse<StoredContent>> downloadDocument;
+  private volatile HttpResponse<StoredContent> result = null;
 
   private static final Logger LOGGER = LoggerFactory.getLogger(ExternalDocument.class);
 
   public ExternalDocument(
       String url, String name, Function<String, HttpResponse<byte[]>> downloadDocument) {
+    this(
+        url,
+        name,
+        () -> {
+          var response = downloadDocument.apply(url);
+          return new HttpResponse<>(
+              response.status(),
+              response.reason(),
+              response.headers(),
+              response.entity() != null ? StoredContent.of(response.entity()) : null);
+        });
+  }
+
+  private ExternalDocument(
+      String url, String name, Supplier<HttpResponse<StoredContent>> downloadDocument) {
     this.url = url;
     this.name = name;
     this.downloadDocument = downloadDocument;
   }
 
-  private HttpResponse<byte[]> getResult() {
+  /**
+   * Creates an external document whose content is downloaded as {@link StoredContent}, usually
+   * spilled to a temporary file when it is large (see {@link StoredContent#read}).
+   */
+  public static ExternalDocument streaming(
+      String url, String name, Function<String, HttpResponse<StoredContent>> downloadDocument) {
+    return new ExternalDocument(url, name, () -> downloadDocument.apply(url));
+  }
+
+  private HttpResponse<StoredContent> getResult() {
+    var result = this.result;
     if (result == null) {
-      this.result = downloadDocument.apply(url);
-      LOGGER.debug(
-          "Downloading external document completed with status code: {}", this.result.status());
+      synchronized (this) {
+        result = this.result;
+        if (result == null) {
+          result = downloadDocument.get();
+          this.result = result;
+          LOGGER.debug(
+              "Downloading external document completed with status code: {}", result.status());
+        }
+      }
     }
     return result;
   }
@@ -108,9 +150,23 @@ public class ExternalDocument implements Document {
             return 0L;
           }
 
+          /** HTTP validators of the downloaded content, e.g. for conditional re-fetching. */
           @Override
           public Map<String, Object> getCustomProperties() {
-            return Map.of();
+            var headers = getResult().headers();
+            if (headers == null) {
+              return Map.of();
+            }
+            var properties = new HashMap<String, Object>();
+            if (HeadersHelper.getHeaderIgnoreCase(headers, HttpHeaders.ETAG)
+                instanceof String etag) {
+              properties.put(CUSTOM_PROPERTY_ETAG, etag);
+            }
+            if (HeadersHelper.getHeaderIgnoreCase(headers, HttpHeaders.LAST_MODIFIED)
+                instanceof String lastModified) {
+              properties.put(CUSTOM_PROPERTY_LAST_MODIFIED, lastModified);
+            }
+            return properties;
           }
         };
     this.metadata = metadata;
@@ -124,8 +180,8 @@ public class ExternalDocument implements Document {
 
   @Override
   public InputStream asInputStream() {
-    byte[] resultBody = getResult().entity();
-    return new ByteArrayInputStream(resultBody);
+    var content = getResult().entity();
+    return content != null ? content.open() : InputStream.nullInputStream();
   }
 
   @Override
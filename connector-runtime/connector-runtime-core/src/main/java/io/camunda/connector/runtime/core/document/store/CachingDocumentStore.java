@@ -0,0 +1,169 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.core.document.store;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalNotification;
+import com.google.common.io.ByteStreams;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import io.camunda.connector.api.document.DocumentCreationRequest;
+import io.camunda.connector.api.document.DocumentLinkParameters;
+import io.camunda.connector.api.document.DocumentReference.CamundaDocumentReference;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Read-through cache for the content of Camunda documents. A document reference carries the hash of
+ * its content, so cached content can never be stale and is shared across jobs: when the connector,
+ * FEEL and intrinsic functions read the same document during one job, it is downloaded only once.
+ *
+ * <p>Content of up to {@code spillThresholdBytes} is kept on the heap, larger content in temporary
+ * files. The cache holds at most {@code maxTotalBytes} and drops entries that were not read for
+ * {@code expireAfterAccess}, which keeps the cache close to the lifetime of a job. Content larger
+ * than {@code maxTotalBytes} is streamed to the reader without being cached. A cached temporary
+ * file is kept until the streams reading it are closed, even if the entry is evicted meanwhile.
+ */
+public class CachingDocumentStore implements CamundaDocumentStore {
+
+  private final CamundaDocumentStore delegate;
+  private final long maxTotalBytes;
+  private final long spillThresholdBytes;
+  private final Cache<ContentKey, StoredContent> contents;
+
+  public CachingDocumentStore(
+      CamundaDocumentStore delegate,
+      long maxTotalBytes,
+      long spillThresholdBytes,
+      Duration expireAfterAccess) {
+    this.delegate = delegate;
+    this.maxTotalBytes = maxTotalBytes;
+    this.spillThresholdBytes = spillThresholdBytes;
+    this.contents =
+        CacheBuilder.newBuilder()
+            // a single segment, so that the whole weight is available to large documents
+            .concurrencyLevel(1)
+            .maximumWeight(maxTotalBytes)
+            .<ContentKey, StoredContent>weigher(
+                (key, content) -> (int) Math.min(content.size(), Integer.MAX_VALUE))
+            .expireAfterAccess(expireAfterAccess)
+            .removalListener(
+                (RemovalNotification<ContentKey, StoredContent> notification) ->
+                    notification.getValue().discard())
+            .build();
+  }
+
+  @Override
+  public CamundaDocumentReference createDocument(DocumentCreationRequest request) {
+    return delegate.createDocument(request);
+  }
+
+  @Override
+  public InputStream getDocumentContent(CamundaDocumentReference reference) {
+    if (reference.getContentHash() == null || reference.getContentHash().isEmpty()) {
+      return delegate.getDocumentContent(reference);
+    }
+    var size = reference.getMetadata() != null ? reference.getMetadata().getSize() : null;
+    if (size != null && size > maxTotalBytes) {
+      return delegate.getDocumentContent(reference);
+    }
+    var key =
+        new ContentKey(
+            reference.getStoreId(), reference.getDocumentId(), reference.getContentHash());
+    while (true) {
+      StoredContent content;
+      try {
+        // concurrent readers of the same document wait for a single download
+        content = contents.get(key, () -> download(reference));
+      } catch (ExecutionException | UncheckedExecutionException e) {
+        if (e.getCause() instanceof UncacheableContentException uncacheable) {
+          return uncacheable.claim().orElseGet(() -> delegate.getDocumentContent(reference));
+        }
+        if (e.getCause() instanceof RuntimeException runtimeException) {
+          throw runtimeException;
+        }
+        throw new RuntimeException(e.getCause());
+      }
+      var stream = content.openRetained();
+      if (stream != null) {
+        return stream;
+      }
+      // evicted between the lookup and opening it, the next lookup misses the cache
+    }
+  }
+
+  @Override
+  public void deleteDocument(CamundaDocumentReference reference) {
+    delegate.deleteDocument(reference);
+    contents.asMap().keySet().removeIf(key -> key.documentId().equals(reference.getDocumentId()));
+  }
+
+  @Override
+  public String generateLink(
+      CamundaDocumentReference reference, DocumentLinkParameters parameters) {
+    return delegate.generateLink(reference, parameters);
+  }
+
+  /**
+   * Reads up to {@code maxTotalBytes} of the content. If there is more, the content is not cached
+   * but handed to the reader through an {@link UncacheableContentException}, so that it is still
+   * downloaded only once.
+   */
+  private StoredContent download(CamundaDocumentReference reference) throws Exception {
+    InputStream content = delegate.getDocumentContent(reference);
+    boolean handedOver = false;
+    try {
+      long limit = maxTotalBytes < Long.MAX_VALUE ? maxTotalBytes + 1 : maxTotalBytes;
+      var head = StoredContent.read(ByteStreams.limit(content, limit), spillThresholdBytes);
+      if (head.size() <= maxTotalBytes) {
+        return head;
+      }
+      // a spilled file is deleted once the reader closes the stream
+      var headStream = head.openRetained();
+      head.discard();
+      handedOver = true;
+      throw new UncacheableContentException(new SequenceInputStream(headStream, content));
+    } finally {
+      if (!handedOver) {
+        content.close();
+      }
+    }
+  }
+
+  /** Carries the stream of content that is too large to be cached to the first reader. */
+  private static class UncacheableContentException extends RuntimeException {
+
+    private final transient InputStream content;
+    private final AtomicBoolean claimed = new AtomicBoolean();
+
+    private UncacheableContentException(InputStream content) {
+      super(null, null, false, false);
+      this.content = content;
+    }
+
+    /** Readers that waited for the same download read the content again themselves. */
+    private Optional<InputStream> claim() {
+      return claimed.compareAndSet(false, true) ? Optional.of(content) : Optional.empty();
+    }
+  }
+
+  private record ContentKey(String storeId, String documentId, String contentHash) {}
+}
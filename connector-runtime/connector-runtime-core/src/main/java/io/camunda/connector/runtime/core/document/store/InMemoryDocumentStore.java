@@ -22,25 +22,72 @@ import io.camunda.connector.api.document.DocumentMetadata;
 import io.camunda.connector.api.document.DocumentReference.CamundaDocumentReference;
 import io.camunda.connector.runtime.core.document.CamundaDocumentReferenceImpl;
 import io.camunda.connector.runtime.core.document.DocumentMetadataImpl;
-import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.time.Clock;
+import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.logging.Logger;
 
-/** Use this document store to store documents in memory. This is useful for testing purposes. */
+/**
+ * Use this document store to store documents in memory. This is useful for testing purposes.
+ *
+ * <p>The store is safe for concurrent use. Documents expire after the time to live of their
+ * creation request, and the least recently used documents are evicted once the total size of all
+ * documents would exceed {@code maxTotalBytes}. Documents larger than {@code spillThresholdBytes}
+ * are written to a temporary file instead of being kept on the heap; they still count towards the
+ * total size.
+ */
 public class InMemoryDocumentStore implements CamundaDocumentStore {
 
   private static final Logger LOGGER = Logger.getLogger(InMemoryDocumentStore.class.getName());
   public static final String STORE_ID = "in-memory";
 
+  public static final long DEFAULT_MAX_TOTAL_BYTES = 256L * 1024 * 1024;
+  public static final long DEFAULT_SPILL_THRESHOLD_BYTES = 8L * 1024 * 1024;
+
   public static InMemoryDocumentStore INSTANCE = new InMemoryDocumentStore();
 
-  private final Map<String, byte[]> documents = new HashMap<>();
+  /** Access-ordered, the first entry is the least recently used one. Guarded by {@code this}. */
+  private final Map<String, StoredDocument> documents = new LinkedHashMap<>(16, 0.75f, true);
+
+  private final long maxTotalBytes;
+  private final long spillThresholdBytes;
+  private final Clock clock;
+  private final AtomicBoolean warningLogged = new AtomicBoolean();
+
+  private long totalBytes;
+  private long evictionCount;
 
-  private InMemoryDocumentStore() {}
+  private InMemoryDocumentStore() {
+    this(DEFAULT_MAX_TOTAL_BYTES, DEFAULT_SPILL_THRESHOLD_BYTES);
+  }
+
+  /**
+   * @param maxTotalBytes maximum number of bytes held by the store, including spilled documents
+   * @param spillThresholdBytes documents larger than this are written to a temporary file, use
+   *     {@link Long#MAX_VALUE} to keep all documents on the heap
+   */
+  public InMemoryDocumentStore(long maxTotalBytes, long spillThresholdBytes) {
+    this(maxTotalBytes, spillThresholdBytes, Clock.systemDefaultZone());
+  }
+
+  InMemoryDocumentStore(long maxTotalBytes, long spillThresholdBytes, Clock clock) {
+    if (maxTotalBytes <= 0) {
+      throw new IllegalArgumentException("maxTotalBytes must be positive");
+    }
+    if (spillThresholdBytes < 0) {
+      throw new IllegalArgumentException("spillThresholdBytes must not be negative");
+    }
+    this.maxTotalBytes = maxTotalBytes;
+    this.spillThresholdBytes = spillThresholdBytes;
+    this.clock = clock;
+  }
 
   @Override
   public CamundaDocumentReference createDocument(DocumentCreationRequest request) {
@@ -48,24 +95,38 @@ public class InMemoryDocumentStore implements CamundaDocumentStore {
     final String id =
         request.documentId() != null ? request.documentId() : UUID.randomUUID().toString();
 
+    final OffsetDateTime expiresAt =
+        request.timeToLive() != null ? OffsetDateTime.now(clock).plus(request.timeToLive()) : null;
     final DocumentMetadata metadata =
         new DocumentMetadataImpl(
             request.contentType(),
-            request.timeToLive() != null ? OffsetDateTime.now().plus(request.timeToLive()) : null,
+            expiresAt,
             null, // size is unknown until content is read, we ignore it in this implementation
             request.fileName(),
             request.processDefinitionId(),
             request.processInstanceKey(),
             request.customProperties());
 
-    final byte[] content;
+    final StoredDocument document;
+    // the read is aborted as soon as the content exceeds the capacity of the store
     try (InputStream contentStream = request.content()) {
-      content = contentStream.readAllBytes();
+      document =
+          new StoredDocument(
+              StoredContent.read(contentStream, spillThresholdBytes, maxTotalBytes),
+              expiresAt != null ? expiresAt.toInstant() : null);
+    } catch (StoredContent.SizeLimitExceededException e) {
+      throw new RuntimeException(
+          "Document exceeds the capacity of the in-memory document store ("
+              + maxTotalBytes
+              + " bytes): "
+              + id,
+          e);
     } catch (Exception e) {
       throw new RuntimeException("Failed to read document content", e);
     }
-    documents.put(id, content);
-    return new CamundaDocumentReferenceImpl(STORE_ID, id, String.valueOf(content.length), metadata);
+    store(id, document);
+    return new CamundaDocumentReferenceImpl(
+        STORE_ID, id, String.valueOf(document.size()), metadata);
   }
 
   @Override
@@ -75,20 +136,27 @@ public class InMemoryDocumentStore implements CamundaDocumentStore {
       throw new RuntimeException("Content hash is missing: " + reference.getDocumentId());
     }
     var hash = reference.getContentHash();
-    var content = documents.get(reference.getDocumentId());
-    if (content == null) {
-      throw new RuntimeException("Document not found: " + reference.getDocumentId());
-    }
-    if (!hash.equals(String.valueOf(content.length))) {
-      throw new RuntimeException("Content hash mismatch: " + reference.getDocumentId());
+    synchronized (this) {
+      var document = documents.get(reference.getDocumentId());
+      if (document != null && document.isExpired(clock.instant())) {
+        remove(reference.getDocumentId());
+        document = null;
+      }
+      if (document == null) {
+        throw new RuntimeException("Document not found: " + reference.getDocumentId());
+      }
+      if (!hash.equals(String.valueOf(document.size()))) {
+        throw new RuntimeException("Content hash mismatch: " + reference.getDocumentId());
+      }
+      // a spilled file is opened while holding the lock, so eviction cannot delete it before
+      return document.open();
     }
-    return new ByteArrayInputStream(content);
   }
 
   @Override
-  public void deleteDocument(CamundaDocumentReference reference) {
+  public synchronized void deleteDocument(CamundaDocumentReference reference) {
     logWarning();
-    documents.remove(reference.getDocumentId());
+    remove(reference.getDocumentId());
   }
 
   @Override
@@ -98,16 +166,98 @@ public class InMemoryDocumentStore implements CamundaDocumentStore {
     throw new UnsupportedOperationException("Not implemented");
   }
 
-  public void clear() {
+  public synchronized void clear() {
+    documents.values().forEach(StoredDocument::discard);
     documents.clear();
+    totalBytes = 0;
+  }
+
+  /**
+   * @return a snapshot of the content of all documents that are currently held by the store
+   */
+  public synchronized Map<String, byte[]> getDocuments() {
+    var snapshot = new HashMap<String, byte[]>();
+    documents.forEach((id, document) -> snapshot.put(id, document.readAllBytes()));
+    return snapshot;
   }
 
-  public Map<String, byte[]> getDocuments() {
-    return documents;
+  /**
+   * @return the number of bytes currently held by the store, including spilled documents
+   */
+  public synchronized long getTotalBytes() {
+    return totalBytes;
+  }
+
+  /**
+   * @return the number of documents evicted so far to stay within the size limit
+   */
+  public synchronized long getEvictionCount() {
+    return evictionCount;
   }
 
   public void logWarning() {
-    LOGGER.warning(
-        "In-memory document store is used. This store is not suitable for production use.");
+    if (warningLogged.compareAndSet(false, true)) {
+      LOGGER.warning(
+          "In-memory document store is used. This store is not suitable for production use.");
+    }
+  }
+
+  private synchronized void store(String id, StoredDocument document) {
+    removeExpired();
+    remove(id);
+    Iterator<StoredDocument> leastRecentlyUsed = documents.values().iterator();
+    while (totalBytes + document.size() > maxTotalBytes && leastRecentlyUsed.hasNext()) {
+      var evicted = leastRecentlyUsed.next();
+      leastRecentlyUsed.remove();
+      evicted.discard();
+      totalBytes -= evicted.size();
+      evictionCount++;
+    }
+    documents.put(id, document);
+    totalBytes += document.size();
+  }
+
+  private void removeExpired() {
+    var now = clock.instant();
+    var iterator = documents.values().iterator();
+    while (iterator.hasNext()) {
+      var document = iterator.next();
+      if (document.isExpired(now)) {
+        iterator.remove();
+        document.discard();
+        totalBytes -= document.size();
+      }
+    }
+  }
+
+  private void remove(String id) {
+    var removed = documents.remove(id);
+    if (removed != null) {
+      removed.discard();
+      totalBytes -= removed.size();
+    }
+  }
+
+  private record StoredDocument(StoredContent content, Instant expiresAt) {
+
+    long size() {
+      return content.size();
+    }
+
+    boolean isExpired(Instant now) {
+      return expiresAt != null && !now.isBefore(expiresAt);
+    }
+
+    InputStream open() {
+      return content.open();
+    }
+
+    byte[] readAllBytes() {
+      return content.readAllBytes();
+    }
+
+    void discard() {
+      content.discard();
+    }
   }
 }
@@ -0,0 +1,230 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.core.document.store;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.ref.Cleaner;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Document content that is either kept on the heap or spilled to a temporary file. The temporary
+ * file is deleted on {@link #discard()}, or at the latest once the content is no longer reachable.
+ */
+public final class StoredContent {
+
+  private static final Logger LOGGER = Logger.getLogger(StoredContent.class.getName());
+  private static final Cleaner CLEANER = Cleaner.create();
+
+  private final byte[] content;
+  private final Path file;
+  private final long size;
+  private final Cleaner.Cleanable cleanable;
+  private int retainedStreams;
+  private boolean discarded;
+
+  private StoredContent(byte[] content, Path file, long size) {
+    this.content = content;
+    this.file = file;
+    this.size = size;
+    this.cleanable = file != null ? CLEANER.register(this, () -> deleteFile(file)) : null;
+  }
+
+  public static StoredContent of(byte[] content) {
+    return new StoredContent(content, null, content.length);
+  }
+
+  /**
+   * Keeps up to {@code spillThresholdBytes} on the heap; if the content turns out to be larger, the
+   * bytes read so far and the rest of the stream are written to a temporary file.
+   *
+   * @param spillThresholdBytes use {@link Long#MAX_VALUE} to keep all content on the heap
+   */
+  public static StoredContent read(InputStream content, long spillThresholdBytes)
+      throws IOException {
+    return read(content, spillThresholdBytes, Long.MAX_VALUE);
+  }
+
+  /**
+   * Like {@link #read(InputStream, long)}, but stops reading as soon as the content exceeds {@code
+   * maxSizeBytes}. A temporary file written so far is deleted in that case.
+   *
+   * @throws SizeLimitExceededException if the content is larger than {@code maxSizeBytes}
+   */
+  public static StoredContent read(InputStream content, long spillThresholdBytes, long maxSizeBytes)
+      throws IOException {
+    long heapLimit = Math.min(spillThresholdBytes, maxSizeBytes);
+    if (heapLimit >= Integer.MAX_VALUE) {
+      byte[] bytes = content.readAllBytes();
+      return new StoredContent(bytes, null, bytes.length);
+    }
+    byte[] head = content.readNBytes((int) heapLimit + 1);
+    if (head.length <= heapLimit) {
+      return new StoredContent(head, null, head.length);
+    }
+    if (head.length > maxSizeBytes) {
+      throw new SizeLimitExceededException(maxSizeBytes);
+    }
+    Path file = Files.createTempFile("camunda-document-", ".tmp");
+    try (OutputStream out = Files.newOutputStream(file)) {
+      out.write(head);
+      long size = transfer(content, out, head.length, maxSizeBytes);
+      return new StoredContent(null, file, size);
+    } catch (IOException | RuntimeException e) {
+      Files.deleteIfExists(file);
+      throw e;
+    }
+  }
+
+  private static long transfer(InputStream in, OutputStream out, long size, long maxSizeBytes)
+      throws IOException {
+    if (maxSizeBytes == Long.MAX_VALUE) {
+      return size + in.transferTo(out);
+    }
+    byte[] buffer = new byte[8192];
+    int read;
+    while ((read = in.read(buffer)) != -1) {
+      size += read;
+      if (size > maxSizeBytes) {
+        throw new SizeLimitExceededException(maxSizeBytes);
+      }
+      out.write(buffer, 0, read);
+    }
+    return size;
+  }
+
+  public long size() {
+    return size;
+  }
+
+  public InputStream open() {
+    if (content != null) {
+      return new ByteArrayInputStream(content);
+    }
+    try {
+      return Files.newInputStream(file);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to read spilled document content", e);
+    }
+  }
+
+  /**
+   * Opens the content and keeps a spilled file until the returned stream is closed, even if the
+   * content is discarded in the meantime.
+   *
+   * @return the content, or {@code null} if the content was already discarded
+   */
+  public InputStream openRetained() {
+    synchronized (this) {
+      if (discarded) {
+        return null;
+      }
+      retainedStreams++;
+    }
+    try {
+      return new FilterInputStream(open()) {
+        private boolean closed;
+
+        @Override
+        public void close() throws IOException {
+          try {
+            super.close();
+          } finally {
+            if (!closed) {
+              closed = true;
+              release();
+            }
+          }
+        }
+      };
+    } catch (RuntimeException e) {
+      release();
+      throw e;
+    }
+  }
+
+  public byte[] readAllBytes() {
+    if (content != null) {
+      return content;
+    }
+    try {
+      return Files.readAllBytes(file);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to read spilled document content", e);
+    }
+  }
+
+  /**
+   * Deletes the temporary file of spilled content, streams opened before remain readable. If
+   * streams opened by {@link #openRetained()} are still open, the file is deleted once the last of
+   * them is closed.
+   */
+  public void discard() {
+    synchronized (this) {
+      discarded = true;
+      if (retainedStreams > 0) {
+        return;
+      }
+    }
+    clean();
+  }
+
+  private void release() {
+    synchronized (this) {
+      if (--retainedStreams > 0 || !discarded) {
+        return;
+      }
+    }
+    clean();
+  }
+
+  private void clean() {
+    if (cleanable != null) {
+      cleanable.clean();
+    }
+  }
+
+  private static void deleteFile(Path file) {
+    try {
+      Files.deleteIfExists(file);
+    } catch (IOException e) {
+      LOGGER.log(Level.FINE, "Failed to delete spilled document content " + file, e);
+    }
+  }
+
+  /** Thrown by {@link #read(InputStream, long, long)} if the content exceeds the maximum size. */
+  public static class SizeLimitExceededException extends IOException {
+
+    private final long maxSizeBytes;
+
+    public SizeLimitExceededException(long maxSizeBytes) {
+      super("Content exceeds the maximum size of " + maxSizeBytes + " bytes");
+      this.maxSizeBytes = maxSizeBytes;
+    }
+
+    public long getMaxSizeBytes() {
+      return maxSizeBytes;
+    }
+  }
+}
@@ -23,28 +23,72 @@ import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BinaryOperator;
 import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+/**
+ * Forwards a request to all Connectors runtime instances. The requests are sent concurrently, each
+ * of them is bounded by the request timeout. Instances that fail or do not respond in time are
+ * reported to the caller as failed {@link InstanceResponse}s instead of failing the whole request.
+ * Instances responding with 404 do not have the requested resource, they are neither successful nor
+ * failed.
+ */
 public class InstanceForwardingHttpClient {
-  private final ObjectMapper objectMapper;
+  private static final Logger LOGGER = LoggerFactory.getLogger(InstanceForwardingHttpClient.class);
+
   public static final String X_CAMUNDA_FORWARDED_FOR = "X-Camunda-Forwarded-For";
+  public static final Duration DEFAULT_REQUEST_TIMEOUT = Duration.ofSeconds(5);
+
+  private final ObjectMapper objectMapper;
   private final HttpClient httpClient;
   private final InstancesUrlBuilder urlBuilder;
+  private final Duration requestTimeout;
 
   public InstanceForwardingHttpClient(InstancesUrlBuilder urlBuilder, ObjectMapper objectMapper) {
-    this(HttpClient.newHttpClient(), urlBuilder, objectMapper);
+    this(urlBuilder, objectMapper, DEFAULT_REQUEST_TIMEOUT);
+  }
+
+  public InstanceForwardingHttpClient(
+      InstancesUrlBuilder urlBuilder, ObjectMapper objectMapper, Duration requestTimeout) {
+    this(
+        HttpClient.newBuilder().connectTimeout(requestTimeout).build(),
+        urlBuilder,
+        objectMapper,
+        requestTimeout);
   }
 
   public InstanceForwardingHttpClient(
       HttpClient httpClient, InstancesUrlBuilder urlBuilder, ObjectMapper objectMapper) {
+    this(httpClient, urlBuilder, objectMapper, DEFAULT_REQUEST_TIMEOUT);
+  }
+
+  /**
+   * @param requestTimeout maximum time to wait for the complete response of a single instance
+   */
+  public InstanceForwardingHttpClient(
+      HttpClient httpClient,
+      InstancesUrlBuilder urlBuilder,
+      ObjectMapper objectMapper,
+      Duration requestTimeout) {
     this.httpClient = httpClient;
     this.urlBuilder = urlBuilder;
     this.objectMapper = objectMapper;
+    this.requestTimeout = requestTimeout;
   }
 
+  /**
+   * Returns the responses of all instances that have the requested resource, failed instances are
+   * skipped. Use {@link #executeOnInstances} to find out which instances failed.
+   */
   public <T> List<T> execute(
       String method,
       String path,
@@ -52,34 +96,163 @@ public class InstanceForwardingHttpClient {
       Map<String, String> headers,
       TypeReference<T> responseType,
       String hostname)
-      throws IOException, InterruptedException {
-    List<T> responses = new ArrayList<>();
-    var urls = urlBuilder.buildUrls(path);
-
-    for (String urlPath : urls) {
-      var requestBuilder = HttpRequest.newBuilder(URI.create(urlPath));
-      if (StringUtils.isNotBlank(body)) {
-        requestBuilder.method(
-            method, HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)));
-      } else {
-        requestBuilder.method(method, HttpRequest.BodyPublishers.noBody());
+      throws IOException {
+    return executeOnInstances(method, path, body, headers, responseType, hostname).stream()
+        .filter(response -> response.isSuccessful() && !response.isNotFound())
+        .map(InstanceResponse::body)
+        .toList();
+  }
+
+  /**
+   * Merges the successful responses of all instances with the given reducer. Responses are merged
+   * in the order of the instances as soon as they arrive, so that only the merged result and
+   * responses that arrived out of order are kept in memory.
+   *
+   * @return the merged response and the instances that failed or did not respond in time
+   */
+  public <T> ReducedResponse<T> executeAndReduce(
+      String method,
+      String path,
+      String body,
+      Map<String, String> headers,
+      TypeReference<T> responseType,
+      String hostname,
+      BinaryOperator<T> reducer)
+      throws IOException {
+    T result = null;
+    List<InstanceResponse<T>> failures = new ArrayList<>();
+    for (var future : sendToInstances(method, path, body, headers, responseType, hostname)) {
+      var response = future.join();
+      if (!response.isSuccessful()) {
+        failures.add(response);
+      } else if (!response.isNotFound()) {
+        result = reducer.apply(result, response.body());
       }
-      if (headers != null) {
-        for (Map.Entry<String, String> entry : headers.entrySet()) {
-          try {
-            requestBuilder.header(entry.getKey(), entry.getValue());
-          } catch (IllegalArgumentException e) {
-            // Ignore invalid headers
-          }
+    }
+    return new ReducedResponse<>(result, failures);
+  }
+
+  /** Returns the responses of all instances, including the failed ones. */
+  public <T> List<InstanceResponse<T>> executeOnInstances(
+      String method,
+      String path,
+      String body,
+      Map<String, String> headers,
+      TypeReference<T> responseType,
+      String hostname)
+      throws IOException {
+    return sendToInstances(method, path, body, headers, responseType, hostname).stream()
+        .map(CompletableFuture::join)
+        .toList();
+  }
+
+  private <T> List<CompletableFuture<InstanceResponse<T>>> sendToInstances(
+      String method,
+      String path,
+      String body,
+      Map<String, String> headers,
+      TypeReference<T> responseType,
+      String hostname)
+      throws IOException {
+    var bodyPublisher =
+        StringUtils.isNotBlank(body)
+            ? HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body))
+            : HttpRequest.BodyPublishers.noBody();
+    return urlBuilder.buildUrls(path).stream()
+        .map(
+            url ->
+                send(buildRequest(url, method, bodyPublisher, headers, hostname), responseType)
+                    .handle((response, error) -> toInstanceResponse(url, response, error)))
+        .toList();
+  }
+
+  private static <T> InstanceResponse<T> toInstanceResponse(
+      String url, T response, Throwable error) {
+    if (error == null) {
+      return new InstanceResponse<>(url, response, null);
+    }
+    var cause = error instanceof CompletionException ? error.getCause() : error;
+    LOGGER.debug("Failed to forward request to instance {}", url, cause);
+    return new InstanceResponse<>(url, null, cause);
+  }
+
+  private HttpRequest buildRequest(
+      String url,
+      String method,
+      HttpRequest.BodyPublisher bodyPublisher,
+      Map<String, String> headers,
+      String hostname) {
+    var requestBuilder =
+        HttpRequest.newBuilder(URI.create(url))
+            .timeout(requestTimeout)
+            .method(method, bodyPublisher);
+    if (headers != null) {
+      for (Map.Entry<String, String> entry : headers.entrySet()) {
+        try {
+          requestBuilder.header(entry.getKey(), entry.getValue());
+        } catch (IllegalArgumentException e) {
+          // Ignore invalid headers
         }
       }
-      requestBuilder.header(X_CAMUNDA_FORWARDED_FOR, hostname);
-      HttpResponse<String> response =
-          httpClient.send(requestBuilder.build(), HttpResponse.BodyHandlers.ofString());
-      if (response.statusCode() < 400 && response.body() != null) {
-        responses.add(objectMapper.readValue(response.body(), responseType));
-      }
     }
-    return responses;
+    requestBuilder.header(X_CAMUNDA_FORWARDED_FOR, hostname);
+    return requestBuilder.build();
+  }
+
+  private <T> CompletableFuture<T> send(HttpRequest request, TypeReference<T> responseType) {
+    return httpClient
+        .sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+        // the request timeout only covers the response headers, bound the body as well
+        .orTimeout(requestTimeout.toMillis(), TimeUnit.MILLISECONDS)
+        .thenApply(response -> readResponse(response, responseType));
+  }
+
+  private <T> T readResponse(HttpResponse<byte[]> response, TypeReference<T> responseType) {
+    if (response.statusCode() == 404) {
+      // the resource lives on another instance, e.g. an executable that is not active here
+      return null;
+    }
+    if (response.statusCode() >= 400) {
+      throw new IllegalStateException("Instance responded with status " + response.statusCode());
+    }
+    if (response.body() == null || response.body().length == 0) {
+      throw new IllegalStateException("Instance responded without a body");
+    }
+    try {
+      return objectMapper.readValue(response.body(), responseType);
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to read response: " + e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Response of a single instance, tagged with the URL the request was sent to.
+   *
+   * @param body the response, {@code null} if the request failed or the instance responded with 404
+   * @param failure the reason the request failed, {@code null} if it was successful
+   */
+  public record InstanceResponse<T>(String instanceUrl, T body, Throwable failure) {
+
+    public boolean isSuccessful() {
+      return failure == null;
+    }
+
+    /** Whether the instance responded with 404, i.e. does not have the requested resource. */
+    public boolean isNotFound() {
+      return failure == null && body == null;
+    }
+  }
+
+  /**
+   * Merged response of all instances.
+   *
+   * @param result the merged response, {@code null} if no instance had the requested resource
+   * @param failures the responses of the instances that failed or did not respond in time
+   */
+  public record ReducedResponse<T>(T result, List<InstanceResponse<T>> failures) {
+
+    public boolean isComplete() {
+      return failures.isEmpty();
+    }
   }
 }
@@ -0,0 +1,54 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.core.inbound.correlation;
+
+import io.camunda.connector.runtime.core.inbound.InboundConnectorElement;
+
+/**
+ * Receives the time spent in the individual phases of correlating an inbound event. Implementations
+ * are called on the hot path of every event and must not block.
+ */
+@FunctionalInterface
+public interface CorrelationPhaseRecorder {
+
+  CorrelationPhaseRecorder NOOP = (element, phase, durationNanos) -> {};
+
+  /**
+   * @param element the element the event is correlated to, or the first candidate element if no
+   *     element has been selected yet
+   */
+  void record(InboundConnectorElement element, Phase phase, long durationNanos);
+
+  enum Phase {
+    /** Evaluating the activation conditions of the candidate elements. */
+    ACTIVATION_CHECK("activation-check"),
+    /** A single evaluation of the correlation key, message ID or result expression. */
+    FEEL("feel"),
+    /** Sending the correlation command until the gateway acknowledged it. */
+    CORRELATION("correlation");
+
+    private final String tagValue;
+
+    Phase(String tagValue) {
+      this.tagValue = tagValue;
+    }
+
+    public String tagValue() {
+      return tagValue;
+    }
+  }
+}
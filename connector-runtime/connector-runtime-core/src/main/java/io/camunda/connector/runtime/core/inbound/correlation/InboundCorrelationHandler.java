@@ -19,6 +19,7 @@ package io.camunda.connector.runtime.core.inbound.correlation;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.camunda.client.CamundaClient;
 import io.camunda.client.api.command.ClientStatusException;
+import io.camunda.client.api.command.FinalCommandStep;
 import io.camunda.client.api.response.CorrelateMessageResponse;
 import io.camunda.client.api.response.ProcessInstanceEvent;
 import io.camunda.client.api.response.ProcessInstanceResult;
@@ -36,6 +37,7 @@ import io.camunda.connector.feel.FeelExpressionEvaluator;
 import io.camunda.connector.feel.LocalFeelExpressionEvaluator;
 import io.camunda.connector.runtime.core.ConnectorResultHandler;
 import io.camunda.connector.runtime.core.inbound.InboundConnectorElement;
+import io.camunda.connector.runtime.core.inbound.correlation.CorrelationPhaseRecorder.Phase;
 import io.grpc.Status;
 import java.time.Duration;
 import java.util.List;
@@ -58,12 +60,27 @@ public class InboundCorrelationHandler {
 
   private final ConnectorResultHandler connectorResultHandler;
 
+  private final CorrelationPhaseRecorder phaseRecorder;
+
   public InboundCorrelationHandler(
       CamundaClient camundaClient, ObjectMapper objectMapper, Duration defaultMessageTtl) {
+    this(camundaClient, objectMapper, defaultMessageTtl, CorrelationPhaseRecorder.NOOP);
+  }
+
+  /**
+   * @param phaseRecorder receives the time spent checking activation conditions, evaluating FEEL
+   *     expressions and sending correlation commands
+   */
+  public InboundCorrelationHandler(
+      CamundaClient camundaClient,
+      ObjectMapper objectMapper,
+      Duration defaultMessageTtl,
+      CorrelationPhaseRecorder phaseRecorder) {
     this.camundaClient = camundaClient;
     this.activationConditionEvaluator = new ActivationConditionEvaluator(feelExpressionEvaluator);
     this.defaultMessageTtl = defaultMessageTtl;
     this.connectorResultHandler = new ConnectorResultHandler(objectMapper);
+    this.phaseRecorder = phaseRecorder;
   }
 
   public CorrelationResult correlate(List<InboundConnectorElement> elements, Object variables) {
@@ -73,9 +90,11 @@ public class InboundCorrelationHandler {
   public CorrelationResult correlate(
       List<InboundConnectorElement> elements, CorrelationRequest correlationRequest) {
 
-    final ActivationCheckResult activationCheckResult;
+    ActivationCheckResult activationCheckResult = correlationRequest.getActivationCheckResult();
     try {
-      activationCheckResult = canActivate(elements, correlationRequest.getVariables());
+      if (activationCheckResult == null) {
+        activationCheckResult = canActivate(elements, correlationRequest.getVariables());
+      }
     } catch (ConnectorInputException e) {
       LOG.info("Failed to evaluate activation condition", e);
       return new CorrelationResult.Failure.InvalidInput(
@@ -108,13 +127,15 @@ public class InboundCorrelationHandler {
               activatedElement,
               corPoint,
               variables,
-              resolveMessageId(corPoint.messageIdExpression(), messageId, variables));
+              resolveMessageId(
+                  activatedElement, corPoint.messageIdExpression(), messageId, variables));
       case MessageStartEventCorrelationPoint corPoint ->
           triggerMessageStartEvent(
               activatedElement,
               corPoint,
               variables,
-              resolveMessageId(corPoint.messageIdExpression(), messageId, variables));
+              resolveMessageId(
+                  activatedElement, corPoint.messageIdExpression(), messageId, variables));
     };
   }
 
@@ -122,7 +143,7 @@ public class InboundCorrelationHandler {
       InboundConnectorElement activatedElement,
       StartEventCorrelationPoint correlationPoint,
       Object variables) {
-    Object extractedVariables = extractVariables(variables, activatedElement);
+    Object extractedVariables = evaluateVariables(variables, activatedElement);
     if (activatedElement.synchronousResponse()) {
       return triggerStartEventWithResult(activatedElement, correlationPoint, extractedVariables);
     } else {
@@ -136,14 +157,14 @@ public class InboundCorrelationHandler {
       Object extractedVariables) {
     try {
       ProcessInstanceEvent result =
-          camundaClient
-              .newCreateInstanceCommand()
-              .bpmnProcessId(correlationPoint.bpmnProcessId())
-              .version(correlationPoint.version())
-              .tenantId(activatedElement.tenantId())
-              .variables(extractedVariables)
-              .send()
-              .join();
+          send(
+              activatedElement,
+              camundaClient
+                  .newCreateInstanceCommand()
+                  .bpmnProcessId(correlationPoint.bpmnProcessId())
+                  .version(correlationPoint.version())
+                  .tenantId(activatedElement.tenantId())
+                  .variables(extractedVariables));
 
       LOG.info("Created a process instance with key {}", result.getProcessInstanceKey());
       return new CorrelationResult.Success.ProcessInstanceCreated(
@@ -164,15 +185,15 @@ public class InboundCorrelationHandler {
       Object extractedVariables) {
     try {
       ProcessInstanceResult result =
-          camundaClient
-              .newCreateInstanceCommand()
-              .bpmnProcessId(correlationPoint.bpmnProcessId())
-              .version(correlationPoint.version())
-              .tenantId(activatedElement.tenantId())
-              .variables(extractedVariables)
-              .withResult()
-              .send()
-              .join();
+          send(
+              activatedElement,
+              camundaClient
+                  .newCreateInstanceCommand()
+                  .bpmnProcessId(correlationPoint.bpmnProcessId())
+                  .version(correlationPoint.version())
+                  .tenantId(activatedElement.tenantId())
+                  .variables(extractedVariables)
+                  .withResult());
 
       LOG.info(
           "Created a process instance with key {} synchronously, received result variables",
@@ -199,7 +220,8 @@ public class InboundCorrelationHandler {
       String messageId) {
 
     var correlationKey =
-        extractCorrelationKey(correlationPoint.correlationKeyExpression(), variables);
+        evaluateCorrelationKey(
+            activatedElement, correlationPoint.correlationKeyExpression(), variables);
 
     if (activatedElement.synchronousResponse()) {
       return correlateMessageSynchronously(
@@ -222,7 +244,8 @@ public class InboundCorrelationHandler {
       String messageId) {
 
     var correlationKeyExpression = correlationPoint.correlationKeyExpression();
-    var correlationKey = extractCorrelationKey(correlationKeyExpression, variables);
+    var correlationKey =
+        evaluateCorrelationKey(activatedElement, correlationKeyExpression, variables);
     if (correlationKey.isEmpty()) {
       return new CorrelationResult.Failure.InvalidInput(
           "Wasn't able to obtain correlation key for expression " + correlationKeyExpression, null);
@@ -252,7 +275,7 @@ public class InboundCorrelationHandler {
       String messageName,
       Object variables,
       String correlationKey) {
-    Object extractedVariables = extractVariables(variables, activatedElement);
+    Object extractedVariables = evaluateVariables(variables, activatedElement);
     try {
       var step2 = camundaClient.newCorrelateMessageCommand().messageName(messageName);
       var step3 =
@@ -260,7 +283,7 @@ public class InboundCorrelationHandler {
               ? step2.withoutCorrelationKey()
               : step2.correlationKey(correlationKey);
       step3.variables(extractedVariables).tenantId(activatedElement.tenantId());
-      CorrelateMessageResponse response = step3.send().join();
+      CorrelateMessageResponse response = send(activatedElement, step3);
 
       LOG.info(
           "Correlated message synchronously, process instance key: {}",
@@ -287,7 +310,7 @@ public class InboundCorrelationHandler {
       String messageId,
       Duration timeToLive,
       String correlationKey) {
-    Object extractedVariables = extractVariables(variables, activatedElement);
+    Object extractedVariables = evaluateVariables(variables, activatedElement);
     CorrelationResult result;
     try {
       var command =
@@ -303,7 +326,7 @@ public class InboundCorrelationHandler {
       } else {
         command.timeToLive(defaultMessageTtl);
       }
-      PublishMessageResponse response = command.send().join();
+      PublishMessageResponse response = send(activatedElement, command);
 
       LOG.info("Published message with key: {}", response.getMessageKey());
       result =
@@ -325,6 +348,15 @@ public class InboundCorrelationHandler {
     return result;
   }
 
+  private <T> T send(InboundConnectorElement element, FinalCommandStep<T> command) {
+    long start = System.nanoTime();
+    try {
+      return command.send().join();
+    } finally {
+      phaseRecorder.record(element, Phase.CORRELATION, System.nanoTime() - start);
+    }
+  }
+
   private InboundConnectorElement findMatchingElement(
       List<InboundConnectorElement> elements, ProcessElement contentElement) {
     return elements.stream()
@@ -334,7 +366,15 @@ public class InboundCorrelationHandler {
   }
 
   public ActivationCheckResult canActivate(List<InboundConnectorElement> elements, Object context) {
-    return activationConditionEvaluator.checkActivation(elements, context);
+    long start = System.nanoTime();
+    try {
+      return activationConditionEvaluator.checkActivation(elements, context);
+    } finally {
+      if (!elements.isEmpty()) {
+        phaseRecorder.record(
+            elements.getFirst(), Phase.ACTIVATION_CHECK, System.nanoTime() - start);
+      }
+    }
   }
 
   protected boolean isActivationConditionMet(InboundConnectorElement definition, Object context) {
@@ -363,13 +403,39 @@ public class InboundCorrelationHandler {
         rawVariables, definition.resultVariable(), definition.resultExpression());
   }
 
-  private String resolveMessageId(String messageIdExpression, String messageId, Object context) {
+  private Optional<String> evaluateCorrelationKey(
+      InboundConnectorElement element, String correlationKeyExpression, Object context) {
+    long start = System.nanoTime();
+    try {
+      return extractCorrelationKey(correlationKeyExpression, context);
+    } finally {
+      phaseRecorder.record(element, Phase.FEEL, System.nanoTime() - start);
+    }
+  }
+
+  private Object evaluateVariables(Object rawVariables, InboundConnectorElement element) {
+    long start = System.nanoTime();
+    try {
+      return extractVariables(rawVariables, element);
+    } finally {
+      phaseRecorder.record(element, Phase.FEEL, System.nanoTime() - start);
+    }
+  }
+
+  private String resolveMessageId(
+      InboundConnectorElement element,
+      String messageIdExpression,
+      String messageId,
+      Object context) {
     if (!Objects.isNull(messageIdExpression) && !messageIdExpression.isBlank()) {
+      long start = System.nanoTime();
       try {
         return feelExpressionEvaluator.evaluate(messageIdExpression, String.class, context);
       } catch (Exception e) {
         throw new ConnectorInputException(
             "Message expression could not be evaluated: " + messageIdExpression, e);
+      } finally {
+        phaseRecorder.record(element, Phase.FEEL, System.nanoTime() - start);
       }
     } else if (!Objects.isNull(messageId)) {
       return messageId;
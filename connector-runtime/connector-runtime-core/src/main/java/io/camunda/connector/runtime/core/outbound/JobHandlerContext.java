@@ -51,6 +51,7 @@ public class JobHandlerContext extends AbstractConnectorContext
   private final ObjectMapper objectMapper;
   private final JobContext jobContext;
   private final DocumentFactory documentFactory;
+  private final JobPhaseRecorder phaseRecorder;
   private String jsonWithSecrets = null;
 
   public JobHandlerContext(
@@ -59,32 +60,63 @@ public class JobHandlerContext extends AbstractConnectorContext
       final ValidationProvider validationProvider,
       final DocumentFactory documentFactory,
       final ObjectMapper objectMapper) {
+    this(
+        job,
+        secretProvider,
+        validationProvider,
+        documentFactory,
+        objectMapper,
+        JobPhaseRecorder.NOOP);
+  }
+
+  /**
+   * @param phaseRecorder receives the time spent replacing secrets and binding variables
+   */
+  public JobHandlerContext(
+      final ActivatedJob job,
+      final SecretProvider secretProvider,
+      final ValidationProvider validationProvider,
+      final DocumentFactory documentFactory,
+      final ObjectMapper objectMapper,
+      final JobPhaseRecorder phaseRecorder) {
     super(secretProvider, validationProvider);
     this.documentFactory = documentFactory;
     this.job = job;
     this.objectMapper = objectMapper;
+    this.phaseRecorder = phaseRecorder;
     this.jobContext = new ActivatedJobContext(job, this::getJsonReplacedWithSecrets);
   }
 
   @Override
   public <T> T bindVariables(Class<T> cls) {
-    var mappedObject = mapJson(cls);
-    getValidationProvider().validate(mappedObject);
-    return mappedObject;
+    var jsonWithSecrets = getJsonReplacedWithSecrets();
+    long start = System.nanoTime();
+    try {
+      var mappedObject = mapJson(jsonWithSecrets, cls);
+      getValidationProvider().validate(mappedObject);
+      return mappedObject;
+    } finally {
+      phaseRecorder.record(JobPhaseRecorder.Phase.BINDING, System.nanoTime() - start);
+    }
   }
 
   private String getJsonReplacedWithSecrets() {
     if (jsonWithSecrets == null) {
-      jsonWithSecrets =
-          getSecretHandler()
-              .replaceSecrets(
-                  job.getVariables(), new SecretContext(job.getTenantId(), job.getBpmnProcessId()));
+      long start = System.nanoTime();
+      try {
+        jsonWithSecrets =
+            getSecretHandler()
+                .replaceSecrets(
+                    job.getVariables(),
+                    new SecretContext(job.getTenantId(), job.getBpmnProcessId()));
+      } finally {
+        phaseRecorder.record(JobPhaseRecorder.Phase.SECRETS, System.nanoTime() - start);
+      }
     }
     return jsonWithSecrets;
   }
 
-  private <T> T mapJson(Class<T> cls) {
-    var jsonWithSecrets = getJsonReplacedWithSecrets();
+  private <T> T mapJson(String jsonWithSecrets, Class<T> cls) {
     try {
       return objectMapper.readValue(jsonWithSecrets, cls);
     } catch (JsonParseException e) {
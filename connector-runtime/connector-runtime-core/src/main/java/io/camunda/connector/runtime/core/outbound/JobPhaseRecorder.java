@@ -0,0 +1,54 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.core.outbound;
+
+/**
+ * Receives the time spent in the individual phases of handling an outbound job. Implementations are
+ * called on the hot path of every job and must not block.
+ */
+@FunctionalInterface
+public interface JobPhaseRecorder {
+
+  JobPhaseRecorder NOOP = (phase, durationNanos) -> {};
+
+  void record(Phase phase, long durationNanos);
+
+  enum Phase {
+    /** Reading the job variables and replacing the secret references in them. */
+    SECRETS("secrets"),
+    /** Mapping the variables with replaced secrets to the connector input and validating it. */
+    BINDING("binding"),
+    /** The connector function, including the secrets and binding phases it triggers. */
+    EXECUTION("execution"),
+    /** Evaluating the result variable and result expression. */
+    RESULT_EXPRESSION("result-expression"),
+    /** Evaluating the error expression. */
+    ERROR_EXPRESSION("error-expression"),
+    /** Sending the complete, fail or throw error command until the gateway responded. */
+    COMPLETION("completion");
+
+    private final String tagValue;
+
+    Phase(String tagValue) {
+      this.tagValue = tagValue;
+    }
+
+    public String tagValue() {
+      return tagValue;
+    }
+  }
+}
@@ -16,26 +16,70 @@
  */
 package io.camunda.connector.runtime.core.outbound.operation;
 
-import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.core.JsonPointer;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import io.camunda.connector.api.error.ConnectorInputException;
 import io.camunda.connector.api.outbound.OutboundConnectorContext;
 import io.camunda.connector.api.validation.ValidationProvider;
 import java.io.IOException;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
 import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Invokes a single {@link io.camunda.connector.api.annotation.Operation} method. Everything that
+ * does not depend on the job is prepared once: the method is bound to a {@link MethodHandle}, a
+ * reader is created for every variable parameter, and converted header values are cached per raw
+ * value, as headers only change with the process definition. Only values of immutable types, such
+ * as numbers, enums and FEEL functions, are cached, so no job sees changes made by another job.
+ */
 public class OperationInvoker {
   private static final Logger log = LoggerFactory.getLogger(OperationInvoker.class);
+  // upper bound of distinct raw values per header, e.g. one per element using the operation
+  private static final int MAX_CACHED_HEADER_VALUES = 256;
+  private static final Set<Class<?>> IMMUTABLE_HEADER_TYPES =
+      Set.of(
+          Boolean.class,
+          Character.class,
+          Byte.class,
+          Short.class,
+          Integer.class,
+          Long.class,
+          Float.class,
+          Double.class,
+          BigInteger.class,
+          BigDecimal.class,
+          UUID.class,
+          Duration.class,
+          Instant.class,
+          LocalDate.class,
+          LocalDateTime.class,
+          OffsetDateTime.class,
+          ZonedDateTime.class);
   private final ObjectMapper objectMapper;
   private final ValidationProvider validationProvider;
   private final OperationDescriptor descriptor;
+  private final MethodHandle methodHandle;
+  private final ObjectReader[] variableReaders;
+  private final Map<String, Object>[] headerValues;
 
+  @SuppressWarnings("unchecked")
   public OperationInvoker(
       ObjectMapper objectMapper,
       ValidationProvider validationProvider,
@@ -43,6 +87,40 @@ public class OperationInvoker {
     this.objectMapper = objectMapper;
     this.validationProvider = validationProvider;
     this.descriptor = descriptor;
+    this.methodHandle = createMethodHandle(descriptor);
+    int parameterCount = descriptor.params().size();
+    this.variableReaders = new ObjectReader[parameterCount];
+    this.headerValues = new Map[parameterCount];
+    for (int i = 0; i < parameterCount; i++) {
+      switch (descriptor.params().get(i)) {
+        case ParameterDescriptor.Variable<?> variable ->
+            variableReaders[i] = objectMapper.readerFor(variable.getType());
+        case ParameterDescriptor.Header<?> header when hasImmutableValues(header.type()) ->
+            headerValues[i] = new ConcurrentHashMap<>();
+        default -> {}
+      }
+    }
+  }
+
+  private static boolean hasImmutableValues(Class<?> type) {
+    return type.isPrimitive()
+        || type.isEnum()
+        || IMMUTABLE_HEADER_TYPES.contains(type)
+        || type.isAnnotationPresent(FunctionalInterface.class);
+  }
+
+  private static MethodHandle createMethodHandle(OperationDescriptor descriptor) {
+    var method = descriptor.method();
+    method.trySetAccessible();
+    try {
+      return MethodHandles.lookup()
+          .unreflect(method)
+          .asSpreader(Object[].class, descriptor.params().size())
+          .asType(MethodType.methodType(Object.class, Object.class, Object[].class));
+    } catch (IllegalAccessException e) {
+      throw new IllegalArgumentException(
+          "Operation method " + method.getName() + " is not accessible", e);
+    }
   }
 
   public Object invoke(Object connectorInstance, OutboundConnectorContext context) {
@@ -57,19 +135,21 @@ public class OperationInvoker {
               if (jobVariables == null) {
                 jobVariables = readJsonAsTree(context.getJobContext().getVariables());
               }
-              yield resolveVariableValue(variable, jobVariables);
+              yield resolveVariableValue(variable, variableReaders[i], jobVariables);
             }
             case ParameterDescriptor.Header<?> header ->
-                resolveHeaderValue(header, context.getJobContext().getCustomHeaders());
+                resolveHeaderValue(
+                    header, headerValues[i], context.getJobContext().getCustomHeaders());
           };
     }
     return invokeMethod(connectorInstance, args);
   }
 
   private Object resolveVariableValue(
-      ParameterDescriptor.Variable<?> variableDescriptor, JsonNode jobVariables) {
-    JsonPointer jsonPointer = variableDescriptor.getJsonPointer();
-    Object value = readValueAs(jobVariables, jsonPointer, variableDescriptor.getType());
+      ParameterDescriptor.Variable<?> variableDescriptor,
+      ObjectReader reader,
+      JsonNode jobVariables) {
+    Object value = readValue(reader, jobVariables.at(variableDescriptor.getJsonPointer()));
     if (variableDescriptor.isRequired() && value == null) {
       throw new ConnectorInputException(
           "Required variable '"
@@ -83,8 +163,16 @@ public class OperationInvoker {
   }
 
   private Object resolveHeaderValue(
-      ParameterDescriptor.Header<?> headerDescriptor, Map<String, String> headers) {
+      ParameterDescriptor.Header<?> headerDescriptor,
+      Map<String, Object> cachedValues,
+      Map<String, String> headers) {
     String rawValue = headers.get(headerDescriptor.name());
+    if (rawValue != null && cachedValues != null) {
+      Object cached = cachedValues.get(rawValue);
+      if (cached != null) {
+        return cached;
+      }
+    }
     Object value;
     try {
       value = objectMapper.convertValue(rawValue, headerDescriptor.type());
@@ -97,14 +185,19 @@ public class OperationInvoker {
     }
     if (value != null) {
       validationProvider.validate(value);
+      if (rawValue != null && cachedValues != null) {
+        if (cachedValues.size() >= MAX_CACHED_HEADER_VALUES) {
+          cachedValues.clear();
+        }
+        cachedValues.put(rawValue, value);
+      }
     }
     return value;
   }
 
-  private Object readValueAs(JsonNode jsonNode, JsonPointer jsonPointer, Class<?> type) {
-    JsonNode node = jsonNode.at(jsonPointer);
-    try (JsonParser parser = node.traverse(objectMapper)) {
-      return parser.readValueAs(type);
+  private static Object readValue(ObjectReader reader, JsonNode node) {
+    try {
+      return reader.readValue(node);
     } catch (IOException ex) {
       throw new RuntimeException(ex);
     }
@@ -120,26 +213,17 @@ public class OperationInvoker {
 
   private Object invokeMethod(Object connectorInstance, Object[] args) {
     try {
-      return descriptor.method().invoke(connectorInstance, args);
-    } catch (Exception e) {
+      return (Object) methodHandle.invokeExact(connectorInstance, args);
+    } catch (Throwable e) {
       log.debug("Failed to invoke operation: {}", descriptor.id(), e);
-      if (e instanceof InvocationTargetException invocationTargetException) {
-        throw runtimeExceptionFrom(invocationTargetException);
+      if (e instanceof RuntimeException runtimeException) {
+        throw runtimeException;
       } else {
         throw new RuntimeException(e);
       }
     }
   }
 
-  private static RuntimeException runtimeExceptionFrom(InvocationTargetException e) {
-    Throwable targetException = e.getTargetException();
-    if (targetException instanceof RuntimeException runtimeException) {
-      return runtimeException;
-    } else {
-      return new RuntimeException(targetException);
-    }
-  }
-
   public OperationDescriptor getDescriptor() {
     return descriptor;
   }
@@ -19,12 +19,23 @@ package io.camunda.connector.runtime.core.secret;
 import io.camunda.connector.api.error.ConnectorInputException;
 import io.camunda.connector.api.secret.SecretContext;
 import io.camunda.connector.api.secret.SecretProvider;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Replaces secret placeholders using a {@link SecretProvider}.
+ *
+ * <p>A handler belongs to a single connector context. Resolved secrets are remembered for the
+ * lifetime of the handler, so a secret referenced several times by the same job is only resolved
+ * once.
+ */
 public class SecretHandler {
 
   protected final SecretProvider secretProvider;
 
+  private final Map<ResolvedSecretKey, String> resolvedSecrets = new ConcurrentHashMap<>();
+
   protected SecretReplacer secretReplacer;
 
   public SecretHandler(final SecretProvider secretProvider) {
@@ -39,6 +50,13 @@ public class SecretHandler {
   }
 
   public String replaceSecrets(String input, SecretContext context) {
-    return SecretUtil.replaceSecrets(input, context, secretReplacer);
+    return SecretUtil.replaceSecrets(input, context, this::resolveSecret);
   }
+
+  private String resolveSecret(String name, SecretContext context) {
+    return resolvedSecrets.computeIfAbsent(
+        new ResolvedSecretKey(name, context), key -> secretReplacer.replaceSecrets(name, context));
+  }
+
+  private record ResolvedSecretKey(String name, SecretContext context) {}
 }
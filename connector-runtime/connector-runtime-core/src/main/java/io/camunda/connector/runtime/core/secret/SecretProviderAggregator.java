@@ -18,7 +18,6 @@ package io.camunda.connector.runtime.core.secret;
 
 import io.camunda.connector.api.secret.SecretContext;
 import io.camunda.connector.api.secret.SecretProvider;
-import java.util.Collections;
 import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -26,6 +25,9 @@ import org.slf4j.LoggerFactory;
 /**
  * A wrapping secret provider that encapsulates a strategy for selecting a {@link SecretProvider}
  * from a list of available providers.
+ *
+ * <p>The list of providers is fixed on creation, so a single aggregator can be built at startup and
+ * shared by all connector contexts of the runtime.
  */
 public class SecretProviderAggregator implements SecretProvider {
 
@@ -35,7 +37,7 @@ public class SecretProviderAggregator implements SecretProvider {
 
   public SecretProviderAggregator(List<SecretProvider> secretProviders) {
     LOG.debug("Aggregating secret providers: {}", secretProviders);
-    this.secretProviders = secretProviders;
+    this.secretProviders = List.copyOf(secretProviders);
   }
 
   /**
@@ -60,6 +62,6 @@ public class SecretProviderAggregator implements SecretProvider {
   }
 
   public List<SecretProvider> getSecretProviders() {
-    return Collections.unmodifiableList(secretProviders);
+    return secretProviders;
   }
 }
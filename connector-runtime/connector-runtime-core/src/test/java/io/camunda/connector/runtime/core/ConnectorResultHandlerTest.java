@@ -21,6 +21,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.camunda.connector.api.error.ConnectorInputException;
+import io.camunda.connector.runtime.core.error.BpmnError;
 import io.camunda.connector.runtime.core.outbound.ErrorExpressionJobContext;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
@@ -211,4 +212,94 @@ class ConnectorResultHandlerTest {
         .contains("array")
         .contains("[1,2,3]");
   }
+
+  @Test
+  void ensureCanNotProduceIntrinsicFunction_WhenNestedInResult() {
+    // given - result expression with the forbidden literal as key of a nested context
+    final String resultExpression = "= {result: {\"camunda.function.type\": \"myfun\"}}";
+
+    // when
+    final var exception =
+        assertThrows(
+            ConnectorInputException.class,
+            () -> connectorResultHandler.createOutputVariables(Map.of(), null, resultExpression));
+
+    // then
+    assertThat(exception)
+        .hasMessageContaining(
+            "The connector result contains a forbidden literal 'camunda.function.type'");
+  }
+
+  @Test
+  void shouldReturnNoVariables_WhenResultExpressionReturnsNull() {
+    // given
+    final String resultExpression = "= null";
+
+    // when
+    final var actual =
+        connectorResultHandler.createOutputVariables(Map.of(), null, resultExpression);
+
+    // then
+    assertThat(actual).isEmpty();
+  }
+
+  @Test
+  void shouldReturnBpmnError_WhenErrorExpressionMatches() {
+    // given
+    final Object responseContent = Map.of("status", "error");
+    final ErrorExpressionJobContext jobContext =
+        new ErrorExpressionJobContext(new ErrorExpressionJobContext.ErrorExpressionJob(3));
+
+    // when
+    final var error =
+        connectorResultHandler.examineErrorExpression(
+            responseContent, errorExpressionHeaders(), jobContext);
+
+    // then
+    assertThat(error)
+        .get()
+        .isInstanceOfSatisfying(
+            BpmnError.class,
+            bpmnError -> {
+              assertThat(bpmnError.errorCode()).isEqualTo("FAILED");
+              assertThat(bpmnError.errorMessage()).isEqualTo("Request failed");
+            });
+  }
+
+  @Test
+  void shouldReturnNoError_WhenErrorExpressionReturnsNull() {
+    // given
+    final Object responseContent = Map.of("status", "ok");
+    final ErrorExpressionJobContext jobContext =
+        new ErrorExpressionJobContext(new ErrorExpressionJobContext.ErrorExpressionJob(3));
+
+    // when
+    final var error =
+        connectorResultHandler.examineErrorExpression(
+            responseContent, errorExpressionHeaders(), jobContext);
+
+    // then
+    assertThat(error).isEmpty();
+  }
+
+  @Test
+  void shouldReturnNoError_WhenErrorExpressionReturnsEmptyContext() {
+    // given
+    final Map<String, String> jobHeaders = Map.of(Keywords.ERROR_EXPRESSION_KEYWORD, "= {}");
+    final ErrorExpressionJobContext jobContext =
+        new ErrorExpressionJobContext(new ErrorExpressionJobContext.ErrorExpressionJob(3));
+
+    // when
+    final var error =
+        connectorResultHandler.examineErrorExpression(Map.of(), jobHeaders, jobContext);
+
+    // then
+    assertThat(error).isEmpty();
+  }
+
+  private static Map<String, String> errorExpressionHeaders() {
+    return Map.of(
+        Keywords.ERROR_EXPRESSION_KEYWORD,
+        "= if status = \"error\" then bpmnError(\"FAILED\", \"Request failed\") else null");
+  }
 }
@@ -0,0 +1,104 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.core.document;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.github.tomakehurst.wiremock.junit5.WireMockRuntimeInfo;
+import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+import io.camunda.connector.document.jackson.DocumentReferenceModel.ExternalDocumentReferenceModel;
+import io.camunda.connector.runtime.core.document.store.InMemoryDocumentStore;
+import io.camunda.connector.runtime.core.document.store.StoredContent;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+@WireMockTest
+class DocumentFactoryImplTest {
+
+  private static final int MAX_SIZE = 2 * 1024 * 1024;
+
+  private final DocumentFactoryImpl factory =
+      new DocumentFactoryImpl(InMemoryDocumentStore.INSTANCE, MAX_SIZE);
+
+  @Test
+  void externalDocumentWithinMaxSize_isDownloaded(WireMockRuntimeInfo wmRuntimeInfo) {
+    // given
+    var body = new byte[MAX_SIZE];
+    stubFor(get("/file.bin").willReturn(ok().withBody(body)));
+
+    // when
+    var document =
+        factory.resolve(
+            new ExternalDocumentReferenceModel(wmRuntimeInfo.getHttpBaseUrl() + "/file.bin", null));
+
+    // then
+    assertThat(document.asByteArray()).isEqualTo(body);
+  }
+
+  @Test
+  void externalDocumentAboveMaxSize_abortsDownload_andDeletesTemporaryFile(
+      WireMockRuntimeInfo wmRuntimeInfo) throws IOException {
+    // given
+    stubFor(get("/file.bin").willReturn(ok().withBody(new byte[MAX_SIZE + 1])));
+    var document =
+        factory.resolve(
+            new ExternalDocumentReferenceModel(wmRuntimeInfo.getHttpBaseUrl() + "/file.bin", null));
+    var temporaryFilesBefore = temporaryFiles();
+
+    // when
+    assertThatThrownBy(document::asByteArray)
+        .hasMessageContaining("exceeds the maximum size of " + MAX_SIZE + " bytes")
+        .hasRootCauseInstanceOf(StoredContent.SizeLimitExceededException.class);
+
+    // then
+    assertThat(temporaryFiles()).isSubsetOf(temporaryFilesBefore);
+  }
+
+  @Test
+  void externalDocumentWithContentLengthAboveMaxSize_isRejectedBeforeReading(
+      WireMockRuntimeInfo wmRuntimeInfo) {
+    // given
+    stubFor(
+        get("/file.bin")
+            .willReturn(
+                ok().withHeader("Content-Length", String.valueOf(MAX_SIZE + 1))
+                    .withBody(new byte[MAX_SIZE + 1])));
+    var document =
+        factory.resolve(
+            new ExternalDocumentReferenceModel(wmRuntimeInfo.getHttpBaseUrl() + "/file.bin", null));
+
+    // when & then
+    assertThatThrownBy(document::asByteArray)
+        .hasMessageContaining("exceeds the maximum size of " + MAX_SIZE + " bytes")
+        .hasRootCauseInstanceOf(StoredContent.SizeLimitExceededException.class);
+  }
+
+  private static Set<Path> temporaryFiles() throws IOException {
+    try (Stream<Path> files = Files.list(Path.of(System.getProperty("java.io.tmpdir")))) {
+      return files
+          .filter(file -> file.getFileName().toString().startsWith("camunda-document-"))
+          .collect(Collectors.toSet());
+    }
+  }
+}
@@ -28,12 +28,17 @@ import io.camunda.connector.http.client.mapper.ResponseMapper;
 import io.camunda.connector.http.client.mapper.ResponseMappers;
 import io.camunda.connector.http.client.model.HttpClientRequest;
 import io.camunda.connector.http.client.model.HttpMethod;
+import io.camunda.connector.runtime.core.document.store.StoredContent;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
@@ -113,7 +118,8 @@ class ExternalDocumentTest {
   @Test
   void asInputStream_shouldReturnStreamOfStringBody() throws Exception {
     String svg =
-        "<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"1\" height=\"1\"><rect width=\"1\" height=\"1\"/></svg>\n";
+        "<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"1\" height=\"1\"><rect width=\"1\""
+            + " height=\"1\"/></svg>\n";
     when(httpClientService.execute(any(HttpClientRequest.class), any(ResponseMapper.class)))
         .thenReturn(httpClientResult);
     when(httpClientResult.entity()).thenReturn(svg.getBytes());
@@ -164,6 +170,52 @@ class ExternalDocumentTest {
     assertThat(meta.getFileName()).isEqualTo("test.json");
   }
 
+  @Test
+  void streaming_shouldReadSpilledContentRepeatedly_andDownloadOnce() throws Exception {
+    var pdf =
+        Objects.requireNonNull(getClass().getClassLoader().getResourceAsStream("testpdf.pdf"))
+            .readAllBytes();
+    var downloads = new AtomicInteger();
+    Document document =
+        ExternalDocument.streaming(
+            URL,
+            NAME,
+            url -> {
+              downloads.incrementAndGet();
+              try {
+                return new HttpResponse<>(
+                    200, null, Map.of(), StoredContent.read(new ByteArrayInputStream(pdf), 16));
+              } catch (IOException e) {
+                throw new UncheckedIOException(e);
+              }
+            });
+
+    try (InputStream is = document.asInputStream()) {
+      assertThat(is.readAllBytes()).isEqualTo(pdf);
+    }
+    assertThat(document.asByteArray()).isEqualTo(pdf);
+    assertThat(downloads).hasValue(1);
+  }
+
+  @Test
+  void metadata_shouldExposeHttpValidators() {
+    when(httpClientService.execute(any(HttpClientRequest.class), any(ResponseMapper.class)))
+        .thenReturn(httpClientResult);
+    when(httpClientResult.entity()).thenReturn("abc".getBytes());
+    when(httpClientResult.headers())
+        .thenReturn(
+            Map.of(
+                "ETag", List.of("\"abc\""),
+                "Last-Modified", List.of("Wed, 21 Oct 2015 07:28:00 GMT")));
+
+    DocumentMetadata meta = document.metadata();
+
+    assertThat(meta.getCustomProperties())
+        .containsEntry(ExternalDocument.CUSTOM_PROPERTY_ETAG, "\"abc\"")
+        .containsEntry(
+            ExternalDocument.CUSTOM_PROPERTY_LAST_MODIFIED, "Wed, 21 Oct 2015 07:28:00 GMT");
+  }
+
   @Test
   void generateLink_shouldReturnUrl() {
     assertThat(document.generateLink(null)).isEqualTo(URL);
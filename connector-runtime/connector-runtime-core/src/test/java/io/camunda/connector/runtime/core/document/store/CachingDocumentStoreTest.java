@@ -0,0 +1,177 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.core.document.store;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.camunda.connector.api.document.DocumentReference.CamundaDocumentReference;
+import io.camunda.connector.runtime.core.document.CamundaDocumentReferenceImpl;
+import io.camunda.connector.runtime.core.document.DocumentMetadataImpl;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class CachingDocumentStoreTest {
+
+  private static final byte[] CONTENT = "document content".getBytes();
+
+  private final CamundaDocumentStore delegate = mock(CamundaDocumentStore.class);
+
+  @Test
+  void shouldDownloadContentOnce_whenReadRepeatedly() throws IOException {
+    // given
+    when(delegate.getDocumentContent(any())).thenAnswer(i -> new ByteArrayInputStream(CONTENT));
+    var store = new CachingDocumentStore(delegate, 1024, 1024, Duration.ofMinutes(5));
+    var reference = reference("doc", "hash");
+
+    // when
+    var first = readAll(store.getDocumentContent(reference));
+    var second = readAll(store.getDocumentContent(reference("doc", "hash")));
+
+    // then
+    assertThat(first).isEqualTo(CONTENT);
+    assertThat(second).isEqualTo(CONTENT);
+    verify(delegate, times(1)).getDocumentContent(any());
+  }
+
+  @Test
+  void shouldNotShareContent_ofDifferentContentHash() {
+    // given
+    when(delegate.getDocumentContent(any())).thenAnswer(i -> new ByteArrayInputStream(CONTENT));
+    var store = new CachingDocumentStore(delegate, 1024, 1024, Duration.ofMinutes(5));
+
+    // when
+    store.getDocumentContent(reference("doc", "hash-1"));
+    store.getDocumentContent(reference("doc", "hash-2"));
+
+    // then
+    verify(delegate, times(2)).getDocumentContent(any());
+  }
+
+  @Test
+  void shouldServeSpilledContent_fromTemporaryFile() throws IOException {
+    // given
+    when(delegate.getDocumentContent(any())).thenAnswer(i -> new ByteArrayInputStream(CONTENT));
+    var store = new CachingDocumentStore(delegate, 1024, 4, Duration.ofMinutes(5));
+    var reference = reference("doc", "hash");
+
+    // when
+    store.getDocumentContent(reference).close();
+    var content = readAll(store.getDocumentContent(reference));
+
+    // then
+    assertThat(content).isEqualTo(CONTENT);
+    verify(delegate, times(1)).getDocumentContent(any());
+  }
+
+  @Test
+  void shouldDropCachedContent_whenDocumentDeleted() {
+    // given
+    when(delegate.getDocumentContent(any())).thenAnswer(i -> new ByteArrayInputStream(CONTENT));
+    var store = new CachingDocumentStore(delegate, 1024, 1024, Duration.ofMinutes(5));
+    var reference = reference("doc", "hash");
+    store.getDocumentContent(reference);
+
+    // when
+    store.deleteDocument(reference);
+    store.getDocumentContent(reference);
+
+    // then
+    verify(delegate).deleteDocument(reference);
+    verify(delegate, times(2)).getDocumentContent(any());
+  }
+
+  @Test
+  void shouldDownloadContentOnce_whenItExceedsCacheSize() throws IOException {
+    // given
+    when(delegate.getDocumentContent(any())).thenAnswer(i -> new ByteArrayInputStream(CONTENT));
+    var store = new CachingDocumentStore(delegate, 8, 4, Duration.ofMinutes(5));
+
+    // when
+    var content = readAll(store.getDocumentContent(reference("doc", "hash")));
+
+    // then
+    assertThat(content).isEqualTo(CONTENT);
+    verify(delegate, times(1)).getDocumentContent(any());
+  }
+
+  @Test
+  void shouldNotCacheContent_whenItExceedsCacheSize() throws IOException {
+    // given
+    when(delegate.getDocumentContent(any())).thenAnswer(i -> new ByteArrayInputStream(CONTENT));
+    var store = new CachingDocumentStore(delegate, 8, 4, Duration.ofMinutes(5));
+    var reference = reference("doc", "hash");
+
+    // when
+    readAll(store.getDocumentContent(reference));
+    var content = readAll(store.getDocumentContent(reference));
+
+    // then
+    assertThat(content).isEqualTo(CONTENT);
+    verify(delegate, times(2)).getDocumentContent(any());
+  }
+
+  @Test
+  void shouldBypassCache_whenKnownSizeExceedsCacheSize() throws IOException {
+    // given
+    var stream = new ByteArrayInputStream(CONTENT);
+    when(delegate.getDocumentContent(any())).thenReturn(stream);
+    var store = new CachingDocumentStore(delegate, 8, 4, Duration.ofMinutes(5));
+    var metadata =
+        new DocumentMetadataImpl(null, null, (long) CONTENT.length, null, null, null, null);
+
+    // when
+    var content =
+        store.getDocumentContent(
+            new CamundaDocumentReferenceImpl("store", "doc", "hash", metadata));
+
+    // then
+    assertThat(content).isSameAs(stream);
+  }
+
+  @Test
+  void shouldKeepSpilledContentReadable_whenEvictedWhileOpen() throws IOException {
+    // given
+    when(delegate.getDocumentContent(any())).thenAnswer(i -> new ByteArrayInputStream(CONTENT));
+    var store = new CachingDocumentStore(delegate, 1024, 4, Duration.ofMinutes(5));
+    var reference = reference("doc", "hash");
+    var stream = store.getDocumentContent(reference);
+
+    // when
+    store.deleteDocument(reference);
+
+    // then
+    assertThat(readAll(stream)).isEqualTo(CONTENT);
+  }
+
+  private static CamundaDocumentReference reference(String documentId, String contentHash) {
+    return new CamundaDocumentReferenceImpl("store", documentId, contentHash, null);
+  }
+
+  private static byte[] readAll(InputStream stream) throws IOException {
+    try (stream) {
+      return stream.readAllBytes();
+    }
+  }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.core.document.store;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.common.io.CountingInputStream;
+import io.camunda.connector.api.document.DocumentCreationRequest;
+import io.camunda.connector.api.document.DocumentReference.CamundaDocumentReference;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class InMemoryDocumentStoreTest {
+
+  private final MutableClock clock = new MutableClock();
+
+  @Test
+  void shouldExpireDocument_afterTimeToLive() {
+    // given
+    var store = new InMemoryDocumentStore(1024, Long.MAX_VALUE, clock);
+    var reference =
+        store.createDocument(
+            DocumentCreationRequest.from(new byte[10]).timeToLive(Duration.ofMinutes(1)).build());
+
+    // when
+    clock.advance(Duration.ofMinutes(1));
+
+    // then
+    assertThatThrownBy(() -> store.getDocumentContent(reference))
+        .hasMessageStartingWith("Document not found");
+    assertThat(store.getTotalBytes()).isZero();
+  }
+
+  @Test
+  void shouldEvictLeastRecentlyUsedDocument_whenSizeLimitExceeded() throws IOException {
+    // given
+    var store = new InMemoryDocumentStore(100, Long.MAX_VALUE, clock);
+    var first = create(store, 40);
+    var second = create(store, 40);
+    store.getDocumentContent(first).close();
+
+    // when
+    var third = create(store, 40);
+
+    // then
+    assertThat(store.getDocuments()).containsOnlyKeys(first.getDocumentId(), third.getDocumentId());
+    assertThatThrownBy(() -> store.getDocumentContent(second))
+        .hasMessageStartingWith("Document not found");
+    assertThat(store.getTotalBytes()).isEqualTo(80);
+    assertThat(store.getEvictionCount()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldRejectDocument_largerThanSizeLimit() {
+    // given
+    var store = new InMemoryDocumentStore(100, Long.MAX_VALUE, clock);
+
+    // when & then
+    assertThatThrownBy(() -> create(store, 101))
+        .hasMessageStartingWith("Document exceeds the capacity");
+    assertThat(store.getTotalBytes()).isZero();
+  }
+
+  @Test
+  void shouldStopReading_whenContentExceedsSizeLimit() {
+    // given
+    var store = new InMemoryDocumentStore(1024, 16, clock);
+    var content =
+        new CountingInputStream(
+            new InputStream() {
+              @Override
+              public int read() {
+                return 0;
+              }
+            });
+
+    // when & then
+    assertThatThrownBy(() -> store.createDocument(DocumentCreationRequest.from(content).build()))
+        .hasMessageStartingWith("Document exceeds the capacity");
+    assertThat(content.getCount()).isLessThan(64 * 1024);
+    assertThat(store.getTotalBytes()).isZero();
+  }
+
+  @Test
+  void shouldSpillLargeDocumentToFile_andReadItBack() throws IOException {
+    // given
+    var store = new InMemoryDocumentStore(1024, 16, clock);
+    var content = new byte[100];
+    for (int i = 0; i < content.length; i++) {
+      content[i] = (byte) i;
+    }
+
+    // when
+    var reference = store.createDocument(DocumentCreationRequest.from(content).build());
+
+    // then
+    try (var stream = store.getDocumentContent(reference)) {
+      assertThat(stream.readAllBytes()).isEqualTo(content);
+    }
+    assertThat(store.getTotalBytes()).isEqualTo(100);
+    store.deleteDocument(reference);
+    assertThat(store.getTotalBytes()).isZero();
+  }
+
+  @Test
+  void shouldKeepTotalBytesConsistent_underConcurrentAccess() throws InterruptedException {
+    // given
+    var store = new InMemoryDocumentStore(10_000, 64, clock);
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    // when
+    for (int i = 0; i < 1_000; i++) {
+      int size = i % 128;
+      executor.submit(
+          () -> {
+            var reference = create(store, size);
+            if (size % 2 == 0) {
+              store.deleteDocument(reference);
+            }
+          });
+    }
+    executor.shutdown();
+    assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+    // then
+    long expected =
+        store.getDocuments().values().stream().mapToLong(content -> content.length).sum();
+    assertThat(store.getTotalBytes()).isEqualTo(expected).isLessThanOrEqualTo(10_000);
+    store.clear();
+    assertThat(store.getTotalBytes()).isZero();
+  }
+
+  private static CamundaDocumentReference create(InMemoryDocumentStore store, int size) {
+    return store.createDocument(DocumentCreationRequest.from(new byte[size]).build());
+  }
+
+  private static class MutableClock extends Clock {
+
+    private Instant now = Instant.parse("2025-01-01T00:00:00Z");
+
+    void advance(Duration duration) {
+      now = now.plus(duration);
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return now;
+    }
+  }
+}
@@ -16,15 +16,24 @@
  */
 package io.camunda.connector.runtime.core.http;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.IOException;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
 
 public class InstanceForwardingHttpClientTest {
@@ -37,11 +46,11 @@ public class InstanceForwardingHttpClientTest {
           8080, "headless-service-url:8080", (host -> new String[] {IP_1, IP_2}));
 
   @Test
-  public void shouldReturnMultipleResponses_whenMultipleRuntimesAndGetRequest()
-      throws IOException, InterruptedException {
+  public void shouldReturnMultipleResponses_whenMultipleRuntimesAndGetRequest() throws IOException {
     // given
     var mockedHttpClient = mock(HttpClient.class);
-    when(mockedHttpClient.send(any(), any())).thenReturn(mock(HttpResponse.class));
+    when(mockedHttpClient.sendAsync(any(), any()))
+        .thenReturn(CompletableFuture.completedFuture(mock(HttpResponse.class)));
     InstanceForwardingHttpClient instanceForwardingHttpClient =
         new InstanceForwardingHttpClient(mockedHttpClient, urlBuilder, new ObjectMapper());
 
@@ -56,9 +65,9 @@ public class InstanceForwardingHttpClientTest {
 
     // then
     verify(mockedHttpClient, times(2))
-        .send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class));
+        .sendAsync(any(HttpRequest.class), any(HttpResponse.BodyHandler.class));
     verify(mockedHttpClient)
-        .send(
+        .sendAsync(
             argThat(
                 request ->
                     request
@@ -78,7 +87,7 @@ public class InstanceForwardingHttpClientTest {
                             .equals("Bearer exyz")),
             any());
     verify(mockedHttpClient)
-        .send(
+        .sendAsync(
             argThat(
                 request ->
                     request
@@ -98,4 +107,167 @@ public class InstanceForwardingHttpClientTest {
                             .equals("Bearer exyz")),
             any());
   }
+
+  @Test
+  public void shouldReturnPartialResults_whenInstanceDoesNotRespondInTime() throws IOException {
+    // given
+    var mockedHttpClient = mock(HttpClient.class);
+    var response = response(200, "[\"a\"]");
+    when(mockedHttpClient.sendAsync(hostIs(IP_1), any()))
+        .thenReturn(CompletableFuture.completedFuture(response));
+    when(mockedHttpClient.sendAsync(hostIs(IP_2), any())).thenReturn(new CompletableFuture<>());
+    InstanceForwardingHttpClient instanceForwardingHttpClient =
+        new InstanceForwardingHttpClient(
+            mockedHttpClient, urlBuilder, new ObjectMapper(), Duration.ofMillis(100));
+
+    // when
+    var responses =
+        instanceForwardingHttpClient.executeOnInstances(
+            "GET", "test/path", null, Map.of(), new TypeReference<List<String>>() {}, "localhost");
+
+    // then
+    assertThat(responses).hasSize(2);
+    assertThat(responses.get(0).instanceUrl()).isEqualTo("http://" + IP_1 + ":8080/test/path");
+    assertThat(responses.get(0).body()).containsExactly("a");
+    assertThat(responses.get(1).instanceUrl()).isEqualTo("http://" + IP_2 + ":8080/test/path");
+    assertThat(responses.get(1).isSuccessful()).isFalse();
+    assertThat(responses.get(1).failure()).isInstanceOf(TimeoutException.class);
+  }
+
+  @Test
+  public void shouldReduceSuccessfulResponsesInInstanceOrder() throws IOException {
+    // given
+    var mockedHttpClient = mock(HttpClient.class);
+    var slowResponse = new CompletableFuture<HttpResponse<Object>>();
+    var responseA = response(200, "[\"a\"]");
+    var responseB = response(200, "[\"b\"]");
+    when(mockedHttpClient.sendAsync(hostIs(IP_1), any())).thenReturn(slowResponse);
+    when(mockedHttpClient.sendAsync(hostIs(IP_2), any()))
+        .thenReturn(CompletableFuture.completedFuture(responseB));
+    InstanceForwardingHttpClient instanceForwardingHttpClient =
+        new InstanceForwardingHttpClient(mockedHttpClient, urlBuilder, new ObjectMapper());
+    CompletableFuture.runAsync(
+        () -> slowResponse.complete(responseA),
+        CompletableFuture.delayedExecutor(50, TimeUnit.MILLISECONDS));
+
+    // when
+    var result =
+        instanceForwardingHttpClient.executeAndReduce(
+            "GET",
+            "test/path",
+            null,
+            Map.of(),
+            new TypeReference<List<String>>() {},
+            "localhost",
+            (a, b) -> a == null ? b : Stream.concat(a.stream(), b.stream()).toList());
+
+    // then
+    assertThat(result.result()).containsExactly("a", "b");
+    assertThat(result.isComplete()).isTrue();
+  }
+
+  @Test
+  public void shouldReportFailedInstancesWhenReducing() throws IOException {
+    // given
+    var mockedHttpClient = mock(HttpClient.class);
+    var failedResponse = response(500, "{}");
+    var response = response(200, "[\"b\"]");
+    when(mockedHttpClient.sendAsync(hostIs(IP_1), any()))
+        .thenReturn(CompletableFuture.completedFuture(failedResponse));
+    when(mockedHttpClient.sendAsync(hostIs(IP_2), any()))
+        .thenReturn(CompletableFuture.completedFuture(response));
+    InstanceForwardingHttpClient instanceForwardingHttpClient =
+        new InstanceForwardingHttpClient(mockedHttpClient, urlBuilder, new ObjectMapper());
+
+    // when
+    var result =
+        instanceForwardingHttpClient.executeAndReduce(
+            "GET",
+            "test/path",
+            null,
+            Map.of(),
+            new TypeReference<List<String>>() {},
+            "localhost",
+            (a, b) -> a == null ? b : Stream.concat(a.stream(), b.stream()).toList());
+
+    // then
+    assertThat(result.result()).containsExactly("b");
+    assertThat(result.isComplete()).isFalse();
+    assertThat(result.failures())
+        .singleElement()
+        .satisfies(
+            failure -> {
+              assertThat(failure.instanceUrl()).isEqualTo("http://" + IP_1 + ":8080/test/path");
+              assertThat(failure.failure()).hasMessageContaining("status 500");
+            });
+  }
+
+  @Test
+  public void shouldNotReportInstancesWithoutResourceAsFailed() throws IOException {
+    // given
+    var mockedHttpClient = mock(HttpClient.class);
+    var notFoundResponse = response(404, "Not found");
+    var response = response(200, "[\"b\"]");
+    when(mockedHttpClient.sendAsync(hostIs(IP_1), any()))
+        .thenReturn(CompletableFuture.completedFuture(notFoundResponse));
+    when(mockedHttpClient.sendAsync(hostIs(IP_2), any()))
+        .thenReturn(CompletableFuture.completedFuture(response));
+    InstanceForwardingHttpClient instanceForwardingHttpClient =
+        new InstanceForwardingHttpClient(mockedHttpClient, urlBuilder, new ObjectMapper());
+
+    // when
+    var result =
+        instanceForwardingHttpClient.executeAndReduce(
+            "GET",
+            "test/path",
+            null,
+            Map.of(),
+            new TypeReference<List<String>>() {},
+            "localhost",
+            (a, b) -> a == null ? b : Stream.concat(a.stream(), b.stream()).toList());
+    var responses =
+        instanceForwardingHttpClient.executeOnInstances(
+            "GET", "test/path", null, Map.of(), new TypeReference<List<String>>() {}, "localhost");
+
+    // then
+    assertThat(result.result()).containsExactly("b");
+    assertThat(result.isComplete()).isTrue();
+    assertThat(responses.get(0).isSuccessful()).isTrue();
+    assertThat(responses.get(0).isNotFound()).isTrue();
+    assertThat(responses.get(1).isNotFound()).isFalse();
+  }
+
+  @Test
+  public void shouldSkipFailedResponses() throws IOException {
+    // given
+    var mockedHttpClient = mock(HttpClient.class);
+    var failedResponse = response(500, "{}");
+    var response = response(200, "[\"b\"]");
+    when(mockedHttpClient.sendAsync(hostIs(IP_1), any()))
+        .thenReturn(CompletableFuture.completedFuture(failedResponse));
+    when(mockedHttpClient.sendAsync(hostIs(IP_2), any()))
+        .thenReturn(CompletableFuture.completedFuture(response));
+    InstanceForwardingHttpClient instanceForwardingHttpClient =
+        new InstanceForwardingHttpClient(mockedHttpClient, urlBuilder, new ObjectMapper());
+
+    // when
+    var responses =
+        instanceForwardingHttpClient.execute(
+            "GET", "test/path", null, Map.of(), new TypeReference<List<String>>() {}, "localhost");
+
+    // then
+    assertThat(responses).containsExactly(List.of("b"));
+  }
+
+  private static HttpRequest hostIs(String host) {
+    return argThat(request -> request != null && request.uri().getHost().equals(host));
+  }
+
+  @SuppressWarnings("unchecked")
+  private static HttpResponse<Object> response(int status, String body) {
+    HttpResponse<Object> response = mock(HttpResponse.class);
+    when(response.statusCode()).thenReturn(status);
+    lenient().when(response.body()).thenReturn(body.getBytes(StandardCharsets.UTF_8));
+    return response;
+  }
 }
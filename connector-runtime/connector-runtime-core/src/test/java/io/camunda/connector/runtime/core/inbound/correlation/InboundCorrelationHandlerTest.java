@@ -22,6 +22,7 @@ import static org.mockito.Mockito.*;
 
 import io.camunda.client.CamundaClient;
 import io.camunda.client.api.command.ClientStatusException;
+import io.camunda.connector.api.inbound.ActivationCheckResult;
 import io.camunda.connector.api.inbound.CorrelationFailureHandlingStrategy;
 import io.camunda.connector.api.inbound.CorrelationRequest;
 import io.camunda.connector.api.inbound.CorrelationResult.Failure;
@@ -36,6 +37,7 @@ import io.camunda.connector.runtime.core.testutil.command.CreateCommandDummy;
 import io.camunda.connector.runtime.core.testutil.command.PublishMessageCommandDummy;
 import io.grpc.Status;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -104,6 +106,43 @@ public class InboundCorrelationHandlerTest {
     verify(dummyCommand).send();
   }
 
+  @Test
+  void correlate_shouldRecordPhases() {
+    // given
+    List<CorrelationPhaseRecorder.Phase> phases = new ArrayList<>();
+    handler =
+        new InboundCorrelationHandler(
+            camundaClient,
+            TestObjectMapperSupplier.INSTANCE,
+            DEFAULT_TTL,
+            (element, phase, durationNanos) -> phases.add(phase));
+    var point =
+        new BoundaryEventCorrelationPoint(
+            "test-boundary",
+            "=\"test\"",
+            "=\"123\"",
+            null,
+            new BoundaryEventCorrelationPoint.Activity("123", "test"));
+    var element = mock(InboundConnectorElement.class);
+    when(element.correlationPoint()).thenReturn(point);
+    when(element.element())
+        .thenReturn(new ProcessElementWithRuntimeData("process1", 0, 0, "element", "default"));
+    when(camundaClient.newPublishMessageCommand())
+        .thenReturn(Mockito.spy(new PublishMessageCommandDummy()));
+
+    // when
+    handler.correlate(List.of(element), Collections.emptyMap());
+
+    // then
+    assertThat(phases)
+        .containsExactly(
+            CorrelationPhaseRecorder.Phase.ACTIVATION_CHECK,
+            CorrelationPhaseRecorder.Phase.FEEL,
+            CorrelationPhaseRecorder.Phase.FEEL,
+            CorrelationPhaseRecorder.Phase.FEEL,
+            CorrelationPhaseRecorder.Phase.CORRELATION);
+  }
+
   @ParameterizedTest
   @MethodSource("durationsProvider")
   void upstreamZeebeError_shouldThrow(Duration duration) {
@@ -410,6 +449,27 @@ public class InboundCorrelationHandlerTest {
       assertThat(result).isInstanceOf(Success.ProcessInstanceCreated.class);
     }
 
+    @Test
+    void precomputedActivationCheck_conditionNotEvaluatedAgain() {
+      // given
+      var element = mock(InboundConnectorElement.class);
+      var request =
+          CorrelationRequest.builder()
+              .variables(Map.of("testKey", "testValue"))
+              .activationCheckResult(new ActivationCheckResult.Failure.NoMatchingElement(true))
+              .build();
+
+      // when
+      var result = handler.correlate(List.of(element), request);
+
+      // then
+      verify(element, never()).activationCondition();
+      verifyNoMoreInteractions(camundaClient);
+      assertThat(result).isInstanceOf(Failure.ActivationConditionNotMet.class);
+      assertThat(((Failure) result).handlingStrategy())
+          .isInstanceOf(CorrelationFailureHandlingStrategy.Ignore.class);
+    }
+
     @Test
     void activationConditionNull_shouldCorrelate() {
       // given
@@ -16,6 +16,7 @@
  */
 package io.camunda.connector.runtime.core.outbound;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
 import io.camunda.connector.api.annotation.Header;
 import io.camunda.connector.api.annotation.Operation;
 import io.camunda.connector.api.annotation.OutboundConnector;
@@ -24,6 +25,8 @@ import io.camunda.connector.api.error.ConnectorRetryExceptionBuilder;
 import io.camunda.connector.api.outbound.OutboundConnectorContext;
 import io.camunda.connector.api.outbound.OutboundConnectorProvider;
 import jakarta.validation.constraints.NotNull;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 
@@ -72,6 +75,21 @@ public class AnnotatedOperationConnector implements OutboundConnectorProvider {
     return feelFunctionFromHeader.apply(vars);
   }
 
+  static class MyMutableHeader {
+    final List<String> values = new ArrayList<>();
+
+    @JsonCreator
+    MyMutableHeader(String value) {
+      values.add(value);
+    }
+  }
+
+  @Operation(id = "myOperation7")
+  public Object modifiesHeader(@Header("myMutableHeader") MyMutableHeader header) {
+    header.values.add("modified");
+    return List.copyOf(header.values);
+  }
+
   @Operation(id = "myOperation6")
   public Object throwsRetry() {
     throw new ConnectorRetryExceptionBuilder()
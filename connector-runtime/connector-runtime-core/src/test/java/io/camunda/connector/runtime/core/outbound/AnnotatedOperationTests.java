@@ -34,6 +34,7 @@ import io.camunda.connector.runtime.core.outbound.operation.OutboundConnectorOpe
 import io.camunda.connector.validation.impl.DefaultValidationProvider;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -99,6 +100,24 @@ public class AnnotatedOperationTests {
     assertEquals(12L, result);
   }
 
+  @Test
+  public void testHeaderVariableResolutionWithComplexType_reusedAcrossJobs() {
+    var headers = Map.of("myFeelFunction", "=x+2");
+    var first = invoker.execute(createMockContext("{\"x\": 10}", "myOperation5", headers));
+    var second = invoker.execute(createMockContext("{\"x\": 5}", "myOperation5", headers));
+    assertEquals(12L, first);
+    assertEquals(7L, second);
+  }
+
+  @Test
+  public void testHeaderVariableResolutionWithMutableType_notSharedAcrossJobs() {
+    var headers = Map.of("myMutableHeader", "value");
+    var first = invoker.execute(createMockContext("{}", "myOperation7", headers));
+    var second = invoker.execute(createMockContext("{}", "myOperation7", headers));
+    assertEquals(List.of("value", "modified"), first);
+    assertEquals(List.of("value", "modified"), second);
+  }
+
   @Test
   public void shouldThrowExceptionForMissingRequiredHeader() {
     assertThrows(
@@ -19,6 +19,7 @@ package io.camunda.connector.runtime.core.outbound;
 import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -43,6 +44,7 @@ class JobHandlerContextTest {
   @Mock private SecretProvider secretProvider;
   @Spy private ObjectMapper objectMapper = new ObjectMapper();
   @Mock private ValidationProvider validationProvider;
+  @Mock private JobPhaseRecorder phaseRecorder;
 
   @InjectMocks private JobHandlerContext jobHandlerContext;
 
@@ -60,6 +62,20 @@ class JobHandlerContextTest {
     assertThat(jobHandlerContext.bindVariables(TestClass.class).integer).isEqualTo(3);
   }
 
+  @Test
+  void bindVariables_recordsSecretsAndBindingPhases() {
+    // given
+    when(activatedJob.getVariables()).thenReturn("{ \"integer\": 3}");
+
+    // when
+    jobHandlerContext.bindVariables(TestClass.class);
+    jobHandlerContext.bindVariables(TestClass.class);
+
+    // then secrets are only replaced once, binding is recorded per call
+    verify(phaseRecorder).record(eq(JobPhaseRecorder.Phase.SECRETS), anyLong());
+    verify(phaseRecorder, times(2)).record(eq(JobPhaseRecorder.Phase.BINDING), anyLong());
+  }
+
   @Test
   void bindVariables_failedSecretAreBounded() {
     String json = "{ \"integer\": \"{{secrets.FOO}}\"";
@@ -0,0 +1,69 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.core.secret;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.camunda.connector.api.secret.SecretContext;
+import io.camunda.connector.api.secret.SecretProvider;
+import org.junit.jupiter.api.Test;
+
+public class SecretHandlerTest {
+
+  @Test
+  public void shouldResolveRepeatedSecretOnce() {
+    // given
+    SecretProvider secretProvider = mock(SecretProvider.class);
+    when(secretProvider.getSecret(eq("TOKEN"), any())).thenReturn("value");
+    SecretHandler secretHandler = new SecretHandler(secretProvider);
+    SecretContext context = new SecretContext("tenant", "process");
+
+    // when
+    var first = secretHandler.replaceSecrets("{{secrets.TOKEN}} {{secrets.TOKEN}}", context);
+    var second = secretHandler.replaceSecrets("{{secrets.TOKEN}}", context);
+
+    // then
+    assertThat(first).isEqualTo("value value");
+    assertThat(second).isEqualTo("value");
+    verify(secretProvider, times(1)).getSecret("TOKEN", context);
+  }
+
+  @Test
+  public void shouldResolveSecretPerContext() {
+    // given
+    SecretProvider secretProvider = mock(SecretProvider.class);
+    when(secretProvider.getSecret(eq("TOKEN"), any()))
+        .thenAnswer(invocation -> invocation.<SecretContext>getArgument(1).tenantId());
+    SecretHandler secretHandler = new SecretHandler(secretProvider);
+
+    // when
+    var first =
+        secretHandler.replaceSecrets("{{secrets.TOKEN}}", new SecretContext("tenant1", null));
+    var second =
+        secretHandler.replaceSecrets("{{secrets.TOKEN}}", new SecretContext("tenant2", null));
+
+    // then
+    assertThat(first).isEqualTo("tenant1");
+    assertThat(second).isEqualTo("tenant2");
+  }
+}
@@ -33,6 +33,8 @@ import io.camunda.connector.runtime.core.secret.SecretProviderAggregator;
 import io.camunda.connector.runtime.inbound.controller.InboundConnectorRestController;
 import io.camunda.connector.runtime.inbound.controller.InboundInstancesRestController;
 import io.camunda.connector.runtime.inbound.controller.exception.GlobalExceptionHandler;
+import io.camunda.connector.runtime.inbound.executable.BatchActivationSettings;
+import io.camunda.connector.runtime.inbound.executable.BatchActivationSettings.ActivationFailurePolicy;
 import io.camunda.connector.runtime.inbound.executable.BatchExecutableProcessor;
 import io.camunda.connector.runtime.inbound.executable.InboundExecutableRegistry;
 import io.camunda.connector.runtime.inbound.executable.InboundExecutableRegistryImpl;
@@ -48,6 +50,7 @@ import io.camunda.connector.runtime.inbound.state.ProcessStateManagerImpl;
 import io.camunda.connector.runtime.inbound.webhook.WebhookConnectorRegistry;
 import io.camunda.connector.runtime.instances.service.InboundInstancesService;
 import io.camunda.connector.runtime.metrics.ConnectorsInboundMetrics;
+import io.camunda.connector.runtime.metrics.InboundPhaseTimers;
 import io.micrometer.core.instrument.MeterRegistry;
 import java.time.Duration;
 import java.util.Objects;
@@ -77,6 +80,24 @@ public class InboundConnectorRuntimeConfiguration {
   @Value("${camunda.connector.inbound.log.size:100}")
   private int activityLogSize;
 
+  @Value("${camunda.connector.inbound.registry.event-parallelism:1}")
+  private int registryEventParallelism;
+
+  @Value("${camunda.connector.inbound.activation.parallelism:1}")
+  private int activationParallelism;
+
+  @Value("${camunda.connector.inbound.activation.timeout:PT0S}")
+  private Duration activationTimeout;
+
+  @Value("${camunda.connector.inbound.activation.failure-policy:ALL_OR_NOTHING}")
+  private ActivationFailurePolicy activationFailurePolicy;
+
+  @Value("${camunda.connector.inbound.activation.retry.max-attempts:3}")
+  private int activationMaxRetries;
+
+  @Value("${camunda.connector.inbound.activation.retry.backoff:PT10S}")
+  private Duration activationRetryBackoff;
+
   @Bean
   public static InboundConnectorBeanDefinitionProcessor inboundConnectorBeanDefinitionProcessor(
       Environment environment) {
@@ -87,9 +108,10 @@ public class InboundConnectorRuntimeConfiguration {
   public InboundCorrelationHandler inboundCorrelationHandler(
       final CamundaClient camundaClient,
       @ConnectorsObjectMapper final ObjectMapper objectMapper,
-      final ConnectorsInboundMetrics connectorsInboundMetrics) {
+      final ConnectorsInboundMetrics connectorsInboundMetrics,
+      final InboundPhaseTimers inboundPhaseTimers) {
     return new MeteredInboundCorrelationHandler(
-        camundaClient, objectMapper, messageTtl, connectorsInboundMetrics);
+        camundaClient, objectMapper, messageTtl, connectorsInboundMetrics, inboundPhaseTimers);
   }
 
   @Bean
@@ -131,7 +153,13 @@ public class InboundConnectorRuntimeConfiguration {
         connectorContextFactory,
         connectorsInboundMetrics,
         webhookConnectorRegistry,
-        activityLogRegistry);
+        activityLogRegistry,
+        new BatchActivationSettings(
+            activationParallelism,
+            activationTimeout,
+            activationFailurePolicy,
+            activationMaxRetries,
+            activationRetryBackoff));
   }
 
   @Bean
@@ -139,6 +167,11 @@ public class InboundConnectorRuntimeConfiguration {
     return new ConnectorsInboundMetrics(meterRegistry);
   }
 
+  @Bean
+  public InboundPhaseTimers inboundPhaseTimers(MeterRegistry meterRegistry) {
+    return new InboundPhaseTimers(meterRegistry);
+  }
+
   @Bean
   @ConditionalOnMissingBean
   public InboundExecutableRegistry inboundExecutableRegistry(
@@ -146,7 +179,10 @@ public class InboundConnectorRuntimeConfiguration {
       BatchExecutableProcessor batchExecutableProcessor,
       ActivityLogRegistry activityLogRegistry) {
     return new InboundExecutableRegistryImpl(
-        inboundConnectorFactory, batchExecutableProcessor, activityLogRegistry);
+        inboundConnectorFactory,
+        batchExecutableProcessor,
+        activityLogRegistry,
+        registryEventParallelism);
   }
 
   @Bean
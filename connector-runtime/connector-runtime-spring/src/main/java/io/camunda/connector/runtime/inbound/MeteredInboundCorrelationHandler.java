@@ -23,6 +23,7 @@ import io.camunda.connector.api.inbound.CorrelationResult;
 import io.camunda.connector.runtime.core.inbound.InboundConnectorElement;
 import io.camunda.connector.runtime.core.inbound.correlation.InboundCorrelationHandler;
 import io.camunda.connector.runtime.metrics.ConnectorsInboundMetrics;
+import io.camunda.connector.runtime.metrics.InboundPhaseTimers;
 import java.time.Duration;
 import java.util.List;
 
@@ -34,8 +35,9 @@ public class MeteredInboundCorrelationHandler extends InboundCorrelationHandler
       CamundaClient camundaClient,
       ObjectMapper objectMapper,
       Duration messageTtl,
-      ConnectorsInboundMetrics connectorsInboundMetrics) {
-    super(camundaClient, objectMapper, messageTtl);
+      ConnectorsInboundMetrics connectorsInboundMetrics,
+      InboundPhaseTimers inboundPhaseTimers) {
+    super(camundaClient, objectMapper, messageTtl, inboundPhaseTimers);
     this.connectorsInboundMetrics = connectorsInboundMetrics;
   }
 
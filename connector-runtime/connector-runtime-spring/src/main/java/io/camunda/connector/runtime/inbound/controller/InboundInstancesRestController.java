@@ -119,6 +119,10 @@ public class InboundInstancesRestController {
         new TypeReference<>() {});
   }
 
+  /**
+   * Resets the executable on every instance hosting it. If the reset fails on any instance, the
+   * request fails with 502 and the response names the instances that did not reset.
+   */
   @PostMapping("/executables/{executableId}/reset")
   public ActiveInboundConnectorResponse resetConnectorInstanceExecutable(
       HttpServletRequest request,
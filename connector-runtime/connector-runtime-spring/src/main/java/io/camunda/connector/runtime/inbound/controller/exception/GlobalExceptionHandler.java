@@ -16,6 +16,7 @@
  */
 package io.camunda.connector.runtime.inbound.controller.exception;
 
+import io.camunda.connector.runtime.instances.service.InstanceForwardingException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -28,6 +29,11 @@ public class GlobalExceptionHandler {
     return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ex.getMessage());
   }
 
+  @ExceptionHandler(InstanceForwardingException.class)
+  public ResponseEntity<String> handleInstanceForwarding(InstanceForwardingException ex) {
+    return ResponseEntity.status(HttpStatus.BAD_GATEWAY).body(ex.getMessage());
+  }
+
   @ExceptionHandler(Exception.class)
   public ResponseEntity<String> handleGenericException(Exception ex) {
     return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
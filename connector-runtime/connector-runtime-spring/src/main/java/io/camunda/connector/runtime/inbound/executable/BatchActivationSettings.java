@@ -0,0 +1,68 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.inbound.executable;
+
+import java.time.Duration;
+
+/**
+ * Settings controlling how {@link BatchExecutableProcessor} activates the inbound executables of a
+ * process.
+ *
+ * @param parallelism maximum number of executables activated concurrently
+ * @param timeout maximum time a single activation may take, {@link Duration#ZERO} for no limit
+ * @param failurePolicy what happens to the other executables of a batch if one fails to activate
+ * @param maxRetries number of activation retries for failed executables, only used with {@link
+ *     ActivationFailurePolicy#KEEP_INDEPENDENT}
+ * @param retryBackoff delay before each activation retry
+ */
+public record BatchActivationSettings(
+    int parallelism,
+    Duration timeout,
+    ActivationFailurePolicy failurePolicy,
+    int maxRetries,
+    Duration retryBackoff) {
+
+  /** Sequential, all-or-nothing activation without timeouts. */
+  public static final BatchActivationSettings DEFAULT =
+      new BatchActivationSettings(
+          1, Duration.ZERO, ActivationFailurePolicy.ALL_OR_NOTHING, 0, Duration.ZERO);
+
+  public BatchActivationSettings {
+    parallelism = Math.max(1, parallelism);
+    timeout = timeout == null || timeout.isNegative() ? Duration.ZERO : timeout;
+    failurePolicy = failurePolicy == null ? ActivationFailurePolicy.ALL_OR_NOTHING : failurePolicy;
+    maxRetries = Math.max(0, maxRetries);
+    retryBackoff = retryBackoff == null || retryBackoff.isNegative() ? Duration.ZERO : retryBackoff;
+  }
+
+  boolean hasTimeout() {
+    return !timeout.isZero();
+  }
+
+  public enum ActivationFailurePolicy {
+    /**
+     * If one executable fails to activate, all executables of the batch are deactivated and marked
+     * as failed.
+     */
+    ALL_OR_NOTHING,
+    /**
+     * Executables that were activated successfully stay active. Failed executables are retried in
+     * the background.
+     */
+    KEEP_INDEPENDENT
+  }
+}
@@ -37,6 +37,7 @@ import io.camunda.connector.runtime.core.inbound.activitylog.ActivitySource;
 import io.camunda.connector.runtime.core.inbound.details.InboundConnectorDetails;
 import io.camunda.connector.runtime.core.inbound.details.InboundConnectorDetails.InvalidInboundConnectorDetails;
 import io.camunda.connector.runtime.core.inbound.details.InboundConnectorDetails.ValidInboundConnectorDetails;
+import io.camunda.connector.runtime.inbound.executable.BatchActivationSettings.ActivationFailurePolicy;
 import io.camunda.connector.runtime.inbound.executable.RegisteredExecutable.Activated;
 import io.camunda.connector.runtime.inbound.executable.RegisteredExecutable.ConnectorNotRegistered;
 import io.camunda.connector.runtime.inbound.executable.RegisteredExecutable.FailedToActivate;
@@ -46,12 +47,13 @@ import io.camunda.connector.runtime.metrics.ConnectorsInboundMetrics;
 import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 
-public class BatchExecutableProcessor {
+public class BatchExecutableProcessor implements AutoCloseable {
 
   private static final Logger LOG = LoggerFactory.getLogger(BatchExecutableProcessor.class);
   private final InboundConnectorFactory connectorFactory;
@@ -61,88 +63,254 @@ public class BatchExecutableProcessor {
 
   private final ActivityLogWriter activityLogWriter;
 
+  private final BatchActivationSettings activationSettings;
+  private final ExecutorService activationExecutor;
+
   public BatchExecutableProcessor(
       InboundConnectorFactory connectorFactory,
       InboundConnectorContextFactory connectorContextFactory,
       ConnectorsInboundMetrics connectorsInboundMetrics,
       @Autowired(required = false) WebhookConnectorRegistry webhookConnectorRegistry,
       ActivityLogWriter activityLogWriter) {
+    this(
+        connectorFactory,
+        connectorContextFactory,
+        connectorsInboundMetrics,
+        webhookConnectorRegistry,
+        activityLogWriter,
+        BatchActivationSettings.DEFAULT);
+  }
+
+  public BatchExecutableProcessor(
+      InboundConnectorFactory connectorFactory,
+      InboundConnectorContextFactory connectorContextFactory,
+      ConnectorsInboundMetrics connectorsInboundMetrics,
+      WebhookConnectorRegistry webhookConnectorRegistry,
+      ActivityLogWriter activityLogWriter,
+      BatchActivationSettings activationSettings) {
     this.connectorFactory = connectorFactory;
     this.connectorContextFactory = connectorContextFactory;
     this.connectorsInboundMetrics = connectorsInboundMetrics;
     this.webhookConnectorRegistry = webhookConnectorRegistry;
     this.activityLogWriter = activityLogWriter;
+    this.activationSettings = activationSettings;
+    // Without parallelism and timeouts, executables are activated on the calling thread
+    this.activationExecutor =
+        activationSettings.parallelism() > 1 || activationSettings.hasTimeout()
+            ? createActivationExecutor(activationSettings.parallelism())
+            : null;
   }
 
   /**
-   * Activates a batch of inbound connectors. Guarantees that all connectors are activated or none
-   * (except non-registered connectors, which can be activated by a different runtime - those are
-   * considered valid).
+   * Activates a batch of inbound connectors. Executables are activated concurrently (up to the
+   * configured parallelism), each within the configured timeout.
+   *
+   * <p>With {@link ActivationFailurePolicy#ALL_OR_NOTHING}, guarantees that all connectors are
+   * activated or none (except non-registered connectors, which can be activated by a different
+   * runtime - those are considered valid). With {@link ActivationFailurePolicy#KEEP_INDEPENDENT},
+   * successfully activated connectors stay active and the failed ones are returned as {@link
+   * FailedToActivate}, to be retried via {@link #retryActivation}.
    */
   public Map<ExecutableId, RegisteredExecutable> activateBatch(
       Map<ExecutableId, InboundConnectorDetails> request,
       Consumer<InboundExecutableEvent.Cancelled> cancellationCallback) {
 
-    final Map<ExecutableId, RegisteredExecutable> alreadyActivated = new HashMap<>();
+    final Map<ExecutableId, RegisteredExecutable> results =
+        activationExecutor == null
+            ? activateSequentially(request, cancellationCallback)
+            : activateConcurrently(request, cancellationCallback);
+
+    var failures =
+        results.values().stream()
+            .filter(FailedToActivate.class::isInstance)
+            .map(FailedToActivate.class::cast)
+            .toList();
+    if (failures.isEmpty()) {
+      return results;
+    }
+
+    if (activationSettings.failurePolicy() == ActivationFailurePolicy.KEEP_INDEPENDENT) {
+      failures.forEach(
+          failed ->
+              LOG.error(
+                  "Failed to activate connector of type '{}' with deduplication ID '{}', reason:"
+                      + " {}. Other executables from this batch stay active.",
+                  failed.data().type(),
+                  failed.data().deduplicationId(),
+                  failed.reason()));
+      return results;
+    }
+
+    final FailedToActivate failed = failures.getFirst();
+    final ExecutableId id = failed.id();
+    LOG.error(
+        "Failed to activate connector of type '{}' with deduplication ID '{}', reason: {}. "
+            + "All previously activated executables from this batch will be discarded.",
+        failed.data().type(),
+        failed.data().deduplicationId(),
+        failed.reason());
+
+    // deactivate all previously activated connectors
+    deactivateBatch(new ArrayList<>(results.values()));
+
+    var failureReasonForOthers =
+        "Process contains invalid connector(s): "
+            + String.join(
+                ", ",
+                failed.data().connectorElements().stream()
+                    .map(e -> e.element().elementId())
+                    .toList())
+            + ". Reason: "
+            + failed.reason();
+
+    Map<ExecutableId, RegisteredExecutable> notActivated = new HashMap<>();
+    for (var failedEntry : request.entrySet()) {
+      if (!failedEntry.getKey().equals(id)) {
+        notActivated.put(
+            failedEntry.getKey(),
+            new FailedToActivate(failedEntry.getValue(), failureReasonForOthers, id));
+      }
+    }
+    notActivated.put(id, failed);
+    return notActivated;
+  }
+
+  /**
+   * Activates the executables one after another on the calling thread. With {@link
+   * ActivationFailurePolicy#ALL_OR_NOTHING}, stops at the first failure.
+   */
+  private Map<ExecutableId, RegisteredExecutable> activateSequentially(
+      Map<ExecutableId, InboundConnectorDetails> request,
+      Consumer<InboundExecutableEvent.Cancelled> cancellationCallback) {
 
+    final Map<ExecutableId, RegisteredExecutable> results = new HashMap<>();
     for (var entry : request.entrySet()) {
-      final ExecutableId id = entry.getKey();
-      final InboundConnectorDetails maybeValidData = entry.getValue();
-      final ValidInboundConnectorDetails data;
-
-      if (maybeValidData instanceof InvalidInboundConnectorDetails invalid) {
-        alreadyActivated.put(
-            id,
-            new RegisteredExecutable.InvalidDefinition(invalid, invalid.error().getMessage(), id));
-        continue;
-      } else {
-        data = (ValidInboundConnectorDetails) maybeValidData;
+      var result = activateEntry(entry.getKey(), entry.getValue(), cancellationCallback);
+      results.put(entry.getKey(), result);
+      if (result instanceof FailedToActivate
+          && activationSettings.failurePolicy() == ActivationFailurePolicy.ALL_OR_NOTHING) {
+        break;
       }
+    }
+    return results;
+  }
+
+  private Map<ExecutableId, RegisteredExecutable> activateConcurrently(
+      Map<ExecutableId, InboundConnectorDetails> request,
+      Consumer<InboundExecutableEvent.Cancelled> cancellationCallback) {
 
-      final RegisteredExecutable result =
-          activateSingle(
-              data, t -> cancellationCallback.accept(new InboundExecutableEvent.Cancelled(id, t)));
-
-      switch (result) {
-        case Activated activated -> alreadyActivated.put(id, activated);
-        case ConnectorNotRegistered notRegistered -> alreadyActivated.put(id, notRegistered);
-        case InvalidDefinition invalid -> alreadyActivated.put(id, invalid);
-        case RegisteredExecutable.Cancelled cancelled -> alreadyActivated.put(id, cancelled);
-        case FailedToActivate failed -> {
-          LOG.error(
-              "Failed to activate connector of type '{}' with deduplication ID '{}', reason: {}. "
-                  + "All previously activated executables from this batch will be discarded.",
-              failed.data().type(),
-              failed.data().deduplicationId(),
-              failed.reason());
-
-          // deactivate all previously activated connectors
-          deactivateBatch(new ArrayList<>(alreadyActivated.values()));
-
-          var failureReasonForOthers =
-              "Process contains invalid connector(s): "
-                  + String.join(
-                      ", ",
-                      failed.data().connectorElements().stream()
-                          .map(e -> e.element().elementId())
-                          .toList())
-                  + ". Reason: "
-                  + failed.reason();
-
-          Map<ExecutableId, RegisteredExecutable> notActivated = new HashMap<>();
-          for (var failedEntry : request.entrySet()) {
-            if (!failedEntry.getKey().equals(id)) {
-              notActivated.put(
-                  failedEntry.getKey(),
-                  new FailedToActivate(failedEntry.getValue(), failureReasonForOthers, id));
-            }
+    final Map<ExecutableId, CompletableFuture<RegisteredExecutable>> pending = new HashMap<>();
+    for (var entry : request.entrySet()) {
+      pending.put(
+          entry.getKey(), activateAsync(entry.getKey(), entry.getValue(), cancellationCallback));
+    }
+    final Map<ExecutableId, RegisteredExecutable> results = new HashMap<>();
+    pending.forEach((id, future) -> results.put(id, future.join()));
+    return results;
+  }
+
+  /**
+   * Submits the activation to the activation pool. The timeout starts when the activation actually
+   * starts, not when it is queued. An activation that completes after its timeout has expired is
+   * rolled back, since the batch has already reported it as failed.
+   */
+  private CompletableFuture<RegisteredExecutable> activateAsync(
+      ExecutableId id,
+      InboundConnectorDetails data,
+      Consumer<InboundExecutableEvent.Cancelled> cancellationCallback) {
+
+    final CompletableFuture<RegisteredExecutable> result = new CompletableFuture<>();
+    activationExecutor.execute(
+        () -> {
+          if (activationSettings.hasTimeout()) {
+            CompletableFuture.delayedExecutor(
+                    activationSettings.timeout().toMillis(), TimeUnit.MILLISECONDS)
+                .execute(() -> completeWithTimeout(result, id, data));
           }
-          notActivated.put(id, failed);
-          return notActivated;
-        }
-      }
+          RegisteredExecutable activated;
+          try {
+            activated = activateEntry(id, data, cancellationCallback);
+          } catch (Exception e) {
+            LOG.error("Failed to activate connector", e);
+            activated = new FailedToActivate(data, e.getMessage(), id);
+          }
+          if (!result.complete(activated)) {
+            LOG.warn(
+                "Activation of connector of type '{}' with deduplication ID '{}' completed after "
+                    + "its timeout, deactivating it",
+                data.type(),
+                data.deduplicationId());
+            deactivateSingle(activated);
+          }
+        });
+    return result;
+  }
+
+  private void completeWithTimeout(
+      CompletableFuture<RegisteredExecutable> result,
+      ExecutableId id,
+      InboundConnectorDetails data) {
+    var reason = "Activation timed out after " + activationSettings.timeout();
+    if (result.complete(new FailedToActivate(data, reason, id))) {
+      LOG.error(
+          "Activation of connector of type '{}' with deduplication ID '{}' timed out",
+          data.type(),
+          data.deduplicationId());
+      connectorsInboundMetrics.increaseActivationFailure(data.connectorElements().getFirst());
     }
-    return alreadyActivated;
+  }
+
+  private RegisteredExecutable activateEntry(
+      ExecutableId id,
+      InboundConnectorDetails maybeValidData,
+      Consumer<InboundExecutableEvent.Cancelled> cancellationCallback) {
+    if (maybeValidData instanceof InvalidInboundConnectorDetails invalid) {
+      return new RegisteredExecutable.InvalidDefinition(invalid, invalid.error().getMessage(), id);
+    }
+    return activateSingle(
+        maybeValidData,
+        t -> cancellationCallback.accept(new InboundExecutableEvent.Cancelled(id, t)));
+  }
+
+  /**
+   * Whether executables that failed to activate should be retried in the background via {@link
+   * #retryActivation}.
+   */
+  public boolean retriesFailedActivations() {
+    return activationSettings.failurePolicy() == ActivationFailurePolicy.KEEP_INDEPENDENT
+        && activationSettings.maxRetries() > 0;
+  }
+
+  /**
+   * Retries the activation of an executable that failed to activate, waiting for the configured
+   * backoff before each attempt.
+   *
+   * @return a {@link CompletableFuture} that resolves to the registered executable after the last
+   *     attempt, which is still a {@link FailedToActivate} if all retries have failed
+   */
+  public CompletableFuture<RegisteredExecutable> retryActivation(
+      FailedToActivate failed, Consumer<InboundExecutableEvent.Cancelled> cancellationCallback) {
+    RetryPolicy<RegisteredExecutable> retryPolicy =
+        RetryPolicy.<RegisteredExecutable>builder()
+            .handleResultIf(FailedToActivate.class::isInstance)
+            .withDelay(activationSettings.retryBackoff())
+            .onRetry(
+                event ->
+                    LOG.warn(
+                        "Failure #{} to activate connector: {}. Retrying.",
+                        event.getAttemptCount(),
+                        failed.data().type()))
+            .withMaxRetries(activationSettings.maxRetries() - 1)
+            .build();
+    var backoff =
+        CompletableFuture.delayedExecutor(
+            activationSettings.retryBackoff().toMillis(), TimeUnit.MILLISECONDS);
+    return CompletableFuture.runAsync(() -> {}, backoff)
+        .thenCompose(
+            ignored ->
+                Failsafe.with(retryPolicy)
+                    .getAsync(
+                        () -> activateEntry(failed.id(), failed.data(), cancellationCallback)));
   }
 
   private RegisteredExecutable activateSingle(
@@ -354,4 +522,23 @@ public class BatchExecutableProcessor {
         new ActivityLogEntry(id, ActivitySource.RUNTIME, activityBuilder.build());
     activityLogWriter.log(activityLogEntry);
   }
+
+  private static ExecutorService createActivationExecutor(int parallelism) {
+    var threadCounter = new AtomicInteger();
+    return Executors.newFixedThreadPool(
+        parallelism,
+        runnable -> {
+          var thread =
+              new Thread(runnable, "inbound-activation-" + threadCounter.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        });
+  }
+
+  @Override
+  public void close() {
+    if (activationExecutor != null) {
+      activationExecutor.shutdownNow();
+    }
+  }
 }
@@ -0,0 +1,181 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.inbound.executable;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Dedicated event loop for {@link InboundExecutableEvent}s. Events are picked up as soon as they
+ * are published. Everything that piled up while the previous batch was being handled is drained at
+ * once, grouped by process and coalesced before it is handed to the event handler.
+ *
+ * <p>Coalescing relies on {@link InboundExecutableEvent.ProcessStateChanged} always carrying the
+ * complete set of active versions of a process: only the latest state change per process needs to
+ * be applied, earlier ones (e.g. an activation immediately followed by a deactivation) are dropped.
+ * {@link InboundExecutableEvent.Cancelled} events are never coalesced.
+ *
+ * <p>Groups of different processes are independent of each other and can be handled in parallel if
+ * a parallelism greater than one is configured. Events of the same process are always handled in
+ * order, and the next batch is only picked up once the current one is completed.
+ */
+class InboundExecutableEventLoop implements AutoCloseable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(InboundExecutableEventLoop.class);
+
+  private final BlockingQueue<InboundExecutableEvent> eventQueue = new LinkedBlockingQueue<>();
+  private final Function<InboundExecutableEvent, String> groupKeyResolver;
+  private final Consumer<InboundExecutableEvent> eventHandler;
+  private final ExecutorService groupExecutor;
+  private final Thread loopThread;
+  private volatile boolean running = true;
+
+  /**
+   * @param groupKeyResolver resolves the process an event belongs to
+   * @param eventHandler handles a single event, must not throw
+   * @param parallelism maximum number of processes handled concurrently
+   */
+  InboundExecutableEventLoop(
+      Function<InboundExecutableEvent, String> groupKeyResolver,
+      Consumer<InboundExecutableEvent> eventHandler,
+      int parallelism) {
+    this.groupKeyResolver = groupKeyResolver;
+    this.eventHandler = eventHandler;
+    this.groupExecutor = parallelism > 1 ? createGroupExecutor(parallelism) : null;
+    this.loopThread = new Thread(this::run, "inbound-executable-event-loop");
+    this.loopThread.setDaemon(true);
+  }
+
+  void start() {
+    loopThread.start();
+  }
+
+  void publish(InboundExecutableEvent event) {
+    eventQueue.add(event);
+  }
+
+  private void run() {
+    while (running) {
+      final List<InboundExecutableEvent> batch = new ArrayList<>();
+      try {
+        batch.add(eventQueue.take());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+      eventQueue.drainTo(batch);
+      try {
+        dispatch(coalesce(batch, groupKeyResolver));
+      } catch (Exception e) {
+        LOG.error("Failed to process batch of {} inbound executable event(s)", batch.size(), e);
+      }
+    }
+  }
+
+  private void dispatch(Map<String, List<InboundExecutableEvent>> groups) {
+    if (groupExecutor == null || groups.size() == 1) {
+      groups.values().forEach(this::handleGroup);
+      return;
+    }
+    CompletableFuture.allOf(
+            groups.values().stream()
+                .map(group -> CompletableFuture.runAsync(() -> handleGroup(group), groupExecutor))
+                .toArray(CompletableFuture[]::new))
+        .join();
+  }
+
+  private void handleGroup(List<InboundExecutableEvent> events) {
+    for (var event : events) {
+      try {
+        eventHandler.accept(event);
+      } catch (Exception e) {
+        LOG.error("Failed to handle inbound executable event: {}", event, e);
+      }
+    }
+  }
+
+  /**
+   * Groups the events by process (preserving arrival order) and keeps only the latest {@link
+   * InboundExecutableEvent.ProcessStateChanged} event of each group.
+   */
+  static Map<String, List<InboundExecutableEvent>> coalesce(
+      List<InboundExecutableEvent> batch,
+      Function<InboundExecutableEvent, String> groupKeyResolver) {
+    final Map<String, List<InboundExecutableEvent>> groups = new LinkedHashMap<>();
+    int dropped = 0;
+    for (var event : batch) {
+      var group = groups.computeIfAbsent(groupKeyResolver.apply(event), k -> new ArrayList<>());
+      if (event instanceof InboundExecutableEvent.ProcessStateChanged
+          && group.removeIf(e -> e instanceof InboundExecutableEvent.ProcessStateChanged)) {
+        dropped++;
+      }
+      group.add(event);
+    }
+    if (dropped > 0) {
+      LOG.debug(
+          "Coalesced {} inbound executable event(s) into {} process group(s), "
+              + "dropped {} superseded state change(s)",
+          batch.size(),
+          groups.size(),
+          dropped);
+    }
+    return groups;
+  }
+
+  private static ExecutorService createGroupExecutor(int parallelism) {
+    var threadCounter = new AtomicInteger();
+    return Executors.newFixedThreadPool(
+        parallelism,
+        runnable -> {
+          var thread =
+              new Thread(
+                  runnable, "inbound-executable-event-worker-" + threadCounter.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        });
+  }
+
+  @Override
+  public void close() {
+    running = false;
+    loopThread.interrupt();
+    if (groupExecutor != null) {
+      groupExecutor.shutdown();
+      try {
+        if (!groupExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
+          groupExecutor.shutdownNow();
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        groupExecutor.shutdownNow();
+      }
+    }
+  }
+}
@@ -16,6 +16,7 @@
  */
 package io.camunda.connector.runtime.inbound.executable;
 
+import com.google.common.util.concurrent.Striped;
 import io.camunda.connector.api.error.ConnectorRetryException;
 import io.camunda.connector.api.inbound.Health;
 import io.camunda.connector.runtime.core.inbound.ExecutableId;
@@ -30,9 +31,9 @@ import io.camunda.connector.runtime.inbound.executable.InboundExecutableStateTra
 import io.camunda.connector.runtime.inbound.executable.InboundExecutableStateTransitionService.TargetState;
 import io.camunda.connector.runtime.inbound.executable.RegisteredExecutable.Activated;
 import io.camunda.connector.runtime.inbound.executable.RegisteredExecutable.Cancelled;
+import io.camunda.connector.runtime.inbound.executable.RegisteredExecutable.FailedToActivate;
 import java.util.*;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.locks.Lock;
 import java.util.function.Consumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -40,22 +41,40 @@ import org.springframework.scheduling.annotation.Scheduled;
 
 /**
  * Registry for inbound executables. Orchestrates event handling, state transitions, and queries.
+ *
+ * <p>Published events are handled by a dedicated {@link InboundExecutableEventLoop} as soon as they
+ * arrive. State transitions of the same process are serialized using striped locks keyed by tenant
+ * and BPMN process ID.
  */
-public class InboundExecutableRegistryImpl implements InboundExecutableRegistry {
+public class InboundExecutableRegistryImpl implements InboundExecutableRegistry, AutoCloseable {
 
   private static final Logger LOG = LoggerFactory.getLogger(InboundExecutableRegistryImpl.class);
 
+  private static final int PROCESS_LOCK_STRIPES = 64;
+
   private final InboundExecutableStateStore stateStore;
   private final InboundExecutableStateTransitionService stateTransitionService;
   private final InboundExecutableQueryService queryService;
   private final BatchExecutableProcessor batchExecutableProcessor;
 
-  private final BlockingQueue<InboundExecutableEvent> eventQueue = new LinkedBlockingQueue<>();
+  private final Striped<Lock> processLocks = Striped.lock(PROCESS_LOCK_STRIPES);
+  private final InboundExecutableEventLoop eventLoop;
 
   public InboundExecutableRegistryImpl(
       InboundConnectorFactory connectorFactory,
       BatchExecutableProcessor batchExecutableProcessor,
       ActivityLogRegistry activityLogRegistry) {
+    this(connectorFactory, batchExecutableProcessor, activityLogRegistry, 1);
+  }
+
+  /**
+   * @param eventParallelism maximum number of processes whose events are handled concurrently
+   */
+  public InboundExecutableRegistryImpl(
+      InboundConnectorFactory connectorFactory,
+      BatchExecutableProcessor batchExecutableProcessor,
+      ActivityLogRegistry activityLogRegistry,
+      int eventParallelism) {
 
     this.stateStore = new InMemoryInboundExecutableStateStore();
     var deduplicationScopesByType =
@@ -70,6 +89,9 @@ public class InboundExecutableRegistryImpl implements InboundExecutableRegistry
     this.queryService =
         new InboundExecutableQueryService(stateStore, connectorFactory, activityLogRegistry);
     this.batchExecutableProcessor = batchExecutableProcessor;
+    this.eventLoop =
+        new InboundExecutableEventLoop(this::eventGroupKey, this::handleEvent, eventParallelism);
+    this.eventLoop.start();
   }
 
   // Constructor for testing with injected dependencies
@@ -82,22 +104,31 @@ public class InboundExecutableRegistryImpl implements InboundExecutableRegistry
     this.stateTransitionService = stateTransitionService;
     this.queryService = queryService;
     this.batchExecutableProcessor = batchExecutableProcessor;
+    this.eventLoop = new InboundExecutableEventLoop(this::eventGroupKey, this::handleEvent, 1);
+    this.eventLoop.start();
   }
 
   @Override
   public void publishEvent(InboundExecutableEvent event) {
-    eventQueue.add(event);
+    eventLoop.publish(event);
     LOG.debug("Event added to the queue: {}", event);
   }
 
-  @Scheduled(fixedDelay = 1000)
-  void processEventQueue() {
-    while (!eventQueue.isEmpty()) {
-      var event = eventQueue.poll();
-      if (event != null) {
-        handleEvent(event);
+  /**
+   * Resolves the process an event belongs to, so that the event loop can coalesce events per
+   * process. Cancellations of executables that are no longer known are grouped by executable ID.
+   */
+  private String eventGroupKey(InboundExecutableEvent event) {
+    return switch (event) {
+      case InboundExecutableEvent.ProcessStateChanged stateChanged ->
+          processLockKey(stateChanged.tenantId(), stateChanged.bpmnProcessId());
+      case InboundExecutableEvent.Cancelled cancelled -> {
+        var executable = stateStore.get(cancelled.id());
+        yield executable instanceof Activated
+            ? extractProcessLockKey(executable)
+            : cancelled.id().toString();
       }
-    }
+    };
   }
 
   void handleEvent(InboundExecutableEvent event) {
@@ -116,25 +147,26 @@ public class InboundExecutableRegistryImpl implements InboundExecutableRegistry
         event.elementsByProcessDefinitionKey().size());
     LOG.debug("Received target elements: {}", event.elementsByProcessDefinitionKey());
 
-    var processLockKey = processLockKey(event.tenantId(), event.bpmnProcessId());
-
-    synchronized (processLockKey.intern()) {
-      try {
-        List<InboundConnectorElement> allElements =
-            event.elementsByProcessDefinitionKey().values().stream().flatMap(List::stream).toList();
+    var processLock = processLocks.get(processLockKey(event.tenantId(), event.bpmnProcessId()));
 
-        var targetState = stateTransitionService.computeTargetState(allElements);
-        var currentState =
-            stateTransitionService.computeCurrentState(event.bpmnProcessId(), event.tenantId());
-        var plan = stateTransitionService.determineActions(targetState, currentState);
+    processLock.lock();
+    try {
+      List<InboundConnectorElement> allElements =
+          event.elementsByProcessDefinitionKey().values().stream().flatMap(List::stream).toList();
 
-        if (!plan.isEmpty()) {
-          executeStateTransition(plan, targetState);
-        }
+      var targetState = stateTransitionService.computeTargetState(allElements);
+      var currentState =
+          stateTransitionService.computeCurrentState(event.bpmnProcessId(), event.tenantId());
+      var plan = stateTransitionService.determineActions(targetState, currentState);
 
-      } catch (Exception e) {
-        LOG.error("Failed to handle state change for process '{}'", event.bpmnProcessId(), e);
+      if (!plan.isEmpty()) {
+        executeStateTransition(plan, targetState);
       }
+
+    } catch (Exception e) {
+      LOG.error("Failed to handle state change for process '{}'", event.bpmnProcessId(), e);
+    } finally {
+      processLock.unlock();
     }
   }
 
@@ -229,6 +261,50 @@ public class InboundExecutableRegistryImpl implements InboundExecutableRegistry
     var activationResult =
         batchExecutableProcessor.activateBatch(connectorsToActivate, this::createCancellation);
     stateStore.putAll(activationResult);
+
+    if (batchExecutableProcessor.retriesFailedActivations()) {
+      activationResult.values().stream()
+          .filter(FailedToActivate.class::isInstance)
+          .map(FailedToActivate.class::cast)
+          .forEach(this::scheduleActivationRetry);
+    }
+  }
+
+  private void scheduleActivationRetry(FailedToActivate failed) {
+    batchExecutableProcessor
+        .retryActivation(failed, this::createCancellation)
+        .thenAccept(result -> applyActivationRetry(failed, result))
+        .exceptionally(
+            throwable -> {
+              LOG.error(
+                  "Failed to retry the activation of executable '{}'", failed.id(), throwable);
+              return null;
+            });
+  }
+
+  /**
+   * Stores the result of an activation retry, unless the failed executable has been replaced by a
+   * state transition in the meantime. In that case, the retried executable is discarded.
+   */
+  private void applyActivationRetry(FailedToActivate failed, RegisteredExecutable result) {
+    var element = failed.data().connectorElements().getFirst();
+    var processLock =
+        processLocks.get(processLockKey(element.tenantId(), element.element().bpmnProcessId()));
+    processLock.lock();
+    try {
+      if (stateStore.get(failed.id()) == failed) {
+        stateStore.replace(failed.id(), result);
+        LOG.info(
+            "Activation retry for executable '{}' finished, new state: {}",
+            failed.id(),
+            result.getClass().getSimpleName());
+      } else {
+        LOG.debug("Executable '{}' was replaced while its activation was retried", failed.id());
+        batchExecutableProcessor.deactivateSingle(result);
+      }
+    } finally {
+      processLock.unlock();
+    }
   }
 
   private void updateExecutableContext(
@@ -257,17 +333,30 @@ public class InboundExecutableRegistryImpl implements InboundExecutableRegistry
 
   private void handleCancelled(InboundExecutableEvent.Cancelled cancelled) {
     RegisteredExecutable executable = stateStore.get(cancelled.id());
-    if (executable instanceof Activated activated) {
-      Cancelled cancelledExecutable =
-          batchExecutableProcessor.cancelExecutable(activated, cancelled.throwable());
-      stateStore.replace(cancelled.id(), cancelledExecutable);
-
-      if (cancelled.throwable() instanceof ConnectorRetryException retryException) {
-        scheduleRetry(cancelled.id(), cancelledExecutable, retryException);
-      }
-    } else {
+    if (!(executable instanceof Activated)) {
       LOG.error(
           "Attempted to cancel an inbound connector executable that is not in the active state");
+      return;
+    }
+    var processLock = processLocks.get(extractProcessLockKey(executable));
+    processLock.lock();
+    try {
+      // Re-read inside the lock; a concurrent state transition may have replaced the executable
+      if (stateStore.get(cancelled.id()) instanceof Activated activated) {
+        Cancelled cancelledExecutable =
+            batchExecutableProcessor.cancelExecutable(activated, cancelled.throwable());
+        stateStore.replace(cancelled.id(), cancelledExecutable);
+
+        if (cancelled.throwable() instanceof ConnectorRetryException retryException) {
+          scheduleRetry(cancelled.id(), cancelledExecutable, retryException);
+        }
+      } else {
+        LOG.debug(
+            "Inbound connector executable '{}' was replaced before its cancellation was handled",
+            cancelled.id());
+      }
+    } finally {
+      processLock.unlock();
     }
   }
 
@@ -301,12 +390,13 @@ public class InboundExecutableRegistryImpl implements InboundExecutableRegistry
 
   @Override
   public RegisteredExecutable reset(ExecutableId id) {
-    // Peek at the current state to determine the process lock key before entering the synchronized
-    // block. This prevents a race condition where a concurrent redeploy (handleProcessStateChanged)
-    // could run during restart, leaving the newly-activated executable invisible to the state
-    // machine (zombie connector).
-    var processLockKey = extractProcessLockKey(validateResettable(id));
-    synchronized (processLockKey.intern()) {
+    // Peek at the current state to determine the process lock before locking. This prevents a
+    // race condition where a concurrent redeploy (handleProcessStateChanged) could run during
+    // restart, leaving the newly-activated executable invisible to the state machine (zombie
+    // connector).
+    var processLock = processLocks.get(extractProcessLockKey(validateResettable(id)));
+    processLock.lock();
+    try {
       // Re-validate inside the lock; state may have changed since the peek
       var current = validateResettable(id);
 
@@ -324,6 +414,8 @@ public class InboundExecutableRegistryImpl implements InboundExecutableRegistry
           id,
           result == null ? "absent" : result.getClass().getSimpleName());
       return result;
+    } finally {
+      processLock.unlock();
     }
   }
 
@@ -344,10 +436,15 @@ public class InboundExecutableRegistryImpl implements InboundExecutableRegistry
 
   /**
    * Derives the process-level lock key from a registered executable, matching the key used by
-   * {@link #handleProcessStateChanged} to synchronize state transitions.
+   * {@link #handleProcessStateChanged} to synchronize state transitions. Falls back to the
+   * executable ID if the context has no elements.
    */
   private String extractProcessLockKey(RegisteredExecutable executable) {
-    var element = extractContext(executable).connectorElements().getFirst();
+    var elements = extractContext(executable).connectorElements();
+    if (elements == null || elements.isEmpty()) {
+      return executable.id().toString();
+    }
+    var element = elements.getFirst();
     return processLockKey(element.tenantId(), element.element().bpmnProcessId());
   }
 
@@ -374,4 +471,9 @@ public class InboundExecutableRegistryImpl implements InboundExecutableRegistry
       LOG.debug("Inbound connector health: {}", health);
     }
   }
+
+  @Override
+  public void close() {
+    eventLoop.close();
+  }
 }
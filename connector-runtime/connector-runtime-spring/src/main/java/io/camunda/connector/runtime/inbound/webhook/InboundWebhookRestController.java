@@ -17,7 +17,6 @@
 package io.camunda.connector.runtime.inbound.webhook;
 
 import static java.util.Collections.emptyMap;
-import static java.util.stream.Collectors.toMap;
 import static org.springframework.web.bind.annotation.RequestMethod.DELETE;
 import static org.springframework.web.bind.annotation.RequestMethod.GET;
 import static org.springframework.web.bind.annotation.RequestMethod.HEAD;
@@ -145,29 +144,32 @@ public class InboundWebhookRestController {
       HttpServletRequest httpServletRequest)
       throws IOException {
     LOG.trace("Received inbound hook on {}", context);
+    var connector = webhookConnectorRegistry.getActiveWebhook(context);
+    if (connector.isEmpty()) {
+      // the body is not needed for unknown webhooks, leave it to the container to discard it
+      return ResponseEntity.notFound().build();
+    }
     byte[] bodyAsByteArray = httpServletRequest.getInputStream().readAllBytes();
+    WebhookProcessingPayload payload =
+        new HttpServletRequestWebhookProcessingPayload(
+            httpServletRequest,
+            params,
+            toLowercaseHeaders(headers),
+            bodyAsByteArray,
+            getParts(httpServletRequest));
+    return processWebhook(connector.get(), payload);
+  }
 
-    return webhookConnectorRegistry
-        .getActiveWebhook(context)
-        .map(
-            connector -> {
-              // In Tomcat 11.0.12 (2025-10-07), the Coyote HTTP stack was updated to
-              // “store HTTP request headers using the original case for the header name rather
-              // than forcing it to lower case.”
-              // This breaks some webhook connectors that expect lowercase headers in expressions.
-              var lowercaseHeaders =
-                  headers.entrySet().stream()
-                      .collect(toMap(e -> e.getKey().toLowerCase(), Map.Entry::getValue));
-              WebhookProcessingPayload payload =
-                  new HttpServletRequestWebhookProcessingPayload(
-                      httpServletRequest,
-                      params,
-                      lowercaseHeaders,
-                      bodyAsByteArray,
-                      getParts(httpServletRequest));
-              return processWebhook(connector, payload);
-            })
-        .orElseGet(() -> ResponseEntity.notFound().build());
+  // In Tomcat 11.0.12 (2025-10-07), the Coyote HTTP stack was updated to
+  // “store HTTP request headers using the original case for the header name rather
+  // than forcing it to lower case.”
+  // This breaks some webhook connectors that expect lowercase headers in expressions.
+  private static Map<String, String> toLowercaseHeaders(Map<String, String> headers) {
+    Map<String, String> lowercaseHeaders = HashMap.newHashMap(headers.size());
+    for (var header : headers.entrySet()) {
+      lowercaseHeaders.put(header.getKey().toLowerCase(), header.getValue());
+    }
+    return lowercaseHeaders;
   }
 
   private ResponseEntity<?> processWebhook(
@@ -194,12 +196,25 @@ public class InboundWebhookRestController {
                         .withMessage("URL: " + payload.requestURL()));
 
         var webhookResult = connectorHook.triggerWebhook(payload);
+        // evaluate the activation condition once, it decides about document creation and is
+        // reused for the correlation unless documents were added to the variables
+        var activationCheckResult =
+            connector
+                .context()
+                .canActivate(toWebhookTriggerResultContext(webhookResult, List.of()));
         // create documents if the connector is activable
-        var documents = createDocuments(connector.context(), webhookResult, payload.parts());
+        var documents =
+            createDocuments(connector.context(), activationCheckResult, payload.parts());
         var ctxData = toWebhookTriggerResultContext(webhookResult, documents);
         // correlate
         var correlationResult =
-            connector.context().correlate(CorrelationRequest.builder().variables(ctxData).build());
+            connector
+                .context()
+                .correlate(
+                    CorrelationRequest.builder()
+                        .variables(ctxData)
+                        .activationCheckResult(documents.isEmpty() ? activationCheckResult : null)
+                        .build());
         response = buildResponse(webhookResult, documents, correlationResult);
       }
     } catch (Exception e) {
@@ -218,9 +233,9 @@ public class InboundWebhookRestController {
 
   private List<Document> createDocuments(
       InboundConnectorContext context,
-      WebhookResult webhookResult,
+      ActivationCheckResult activationCheckResult,
       Collection<io.camunda.connector.api.inbound.webhook.Part> parts) {
-    if (!(context.canActivate(webhookResult) instanceof ActivationCheckResult.Success)) {
+    if (!(activationCheckResult instanceof ActivationCheckResult.Success)) {
       return List.of();
     }
 
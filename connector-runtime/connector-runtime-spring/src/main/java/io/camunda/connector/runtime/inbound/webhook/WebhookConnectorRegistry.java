@@ -16,40 +16,60 @@
  */
 package io.camunda.connector.runtime.inbound.webhook;
 
+import io.camunda.connector.api.inbound.InboundConnectorDefinition;
 import io.camunda.connector.runtime.inbound.executable.RegisteredExecutable;
 import io.camunda.connector.runtime.inbound.webhook.model.CommonWebhookProperties;
 import java.util.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Routes webhook paths to the active executable. Registrations are serialized, while request
+ * threads only read an immutable routing table that is replaced atomically on every change, so
+ * lookups never block and never observe a partially applied registration.
+ */
 public class WebhookConnectorRegistry {
 
   private final Logger LOG = LoggerFactory.getLogger(WebhookConnectorRegistry.class);
 
   private final Map<String, WebhookExecutables> executablesByContext = new HashMap<>();
 
+  /** Webhook path of each registered definition, bound once on registration. */
+  private final Map<InboundConnectorDefinition, String> contextByDefinition = new HashMap<>();
+
+  private volatile Map<String, RegisteredExecutable.Activated> activeWebhooks = Map.of();
+
   public Optional<RegisteredExecutable.Activated> getActiveWebhook(String context) {
-    return Optional.ofNullable(executablesByContext.get(context))
-        .map(WebhookExecutables::getActiveWebhook);
+    return Optional.ofNullable(activeWebhooks.get(context));
   }
 
-  public Map<String, WebhookExecutables> getExecutablesByContext() {
-    return executablesByContext;
+  /**
+   * @return a snapshot of the executables of each webhook path, changing it does not affect the
+   *     registry
+   */
+  public synchronized Map<String, WebhookExecutables> getExecutablesByContext() {
+    Map<String, WebhookExecutables> snapshot = new HashMap<>();
+    executablesByContext.forEach(
+        (context, executables) -> snapshot.put(context, executables.copy()));
+    return Collections.unmodifiableMap(snapshot);
   }
 
-  public boolean register(RegisteredExecutable.Activated connector) {
+  public synchronized boolean register(RegisteredExecutable.Activated connector) {
     var context = getContext(connector);
+    contextByDefinition.put(connector.context().getDefinition(), context);
 
     WebhookConnectorValidationUtil.logIfWebhookPathDeprecated(connector, context);
     createExecutablesOrGetExisting(context, connector)
-        .ifPresent(existingExecutables -> existingExecutables.markAsDownAndAdd(connector));
+        .ifPresentOrElse(
+            existingExecutables -> existingExecutables.markAsDownAndAdd(connector),
+            () -> updateRoute(context));
 
     return registeredAsActiveConnector(connector, context);
   }
 
   private boolean registeredAsActiveConnector(
       RegisteredExecutable.Activated connector, String context) {
-    return getActiveWebhook(context).map(c -> c.equals(connector)).orElse(false);
+    return connector.equals(activeWebhooks.get(context));
   }
 
   /**
@@ -62,8 +82,10 @@ public class WebhookConnectorRegistry {
         executablesByContext.putIfAbsent(context, new WebhookExecutables(connector, context)));
   }
 
-  public void deregister(RegisteredExecutable.Activated connector) {
-    var context = getContext(connector);
+  public synchronized void deregister(RegisteredExecutable.Activated connector) {
+    var definition = connector.context().getDefinition();
+    var cachedContext = contextByDefinition.get(definition);
+    var context = cachedContext != null ? cachedContext : getContext(connector);
     var executables = executablesByContext.get(context);
     if (executables == null) {
       var logMessage = "Context: " + context + " is not registered. Cannot deregister.";
@@ -71,14 +93,36 @@ public class WebhookConnectorRegistry {
       throw new RuntimeException(logMessage);
     }
 
-    var hasActiveConnector = executables.deregister(connector);
-    if (!hasActiveConnector) {
-      executablesByContext.remove(context);
+    try {
+      var hasActiveConnector = executables.deregister(connector);
+      if (!hasActiveConnector) {
+        executablesByContext.remove(context);
+      }
+      // an identical definition still queued falls back to binding its properties
+      contextByDefinition.remove(definition);
+    } finally {
+      updateRoute(context);
     }
   }
 
-  public void reset() {
+  public synchronized void reset() {
     executablesByContext.clear();
+    contextByDefinition.clear();
+    activeWebhooks = Map.of();
+  }
+
+  /** Publishes a new routing table reflecting the current active executable of the given path. */
+  private void updateRoute(String context) {
+    var active =
+        Optional.ofNullable(executablesByContext.get(context))
+            .flatMap(WebhookExecutables::findActiveWebhook);
+    if (Objects.equals(active.orElse(null), activeWebhooks.get(context))) {
+      return;
+    }
+    Map<String, RegisteredExecutable.Activated> routes = new HashMap<>(activeWebhooks);
+    active.ifPresentOrElse(
+        executable -> routes.put(context, executable), () -> routes.remove(context));
+    activeWebhooks = Map.copyOf(routes);
   }
 
   private String getContext(RegisteredExecutable.Activated connector) {
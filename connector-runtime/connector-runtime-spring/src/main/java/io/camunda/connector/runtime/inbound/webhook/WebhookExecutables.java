@@ -18,13 +18,22 @@ package io.camunda.connector.runtime.inbound.webhook;
 
 import io.camunda.connector.api.inbound.ActivityLogTag;
 import io.camunda.connector.api.inbound.Health;
+import io.camunda.connector.api.inbound.InboundConnectorDefinition;
 import io.camunda.connector.api.inbound.Severity;
 import io.camunda.connector.runtime.inbound.executable.RegisteredExecutable;
 import java.util.*;
 
+/**
+ * Executables registered for the same webhook path. Only one of them is active at a time, the
+ * others are queued in registration order and grouped by definition, so that deregistration does
+ * not need to scan the queue.
+ *
+ * <p>Not thread safe, access is guarded by the {@link WebhookConnectorRegistry}.
+ */
 public class WebhookExecutables {
 
-  private final List<RegisteredExecutable.Activated> inactiveExecutables = new ArrayList<>();
+  private final Map<InboundConnectorDefinition, Deque<RegisteredExecutable.Activated>>
+      inactiveExecutables = new LinkedHashMap<>();
   private RegisteredExecutable.Activated activeExecutable;
   private final String context;
 
@@ -33,8 +42,16 @@ public class WebhookExecutables {
     this.context = context;
   }
 
+  /** Returns a copy whose queue can be changed without affecting this instance. */
+  WebhookExecutables copy() {
+    var copy = new WebhookExecutables(activeExecutable, context);
+    inactiveExecutables.forEach(
+        (definition, queued) -> copy.inactiveExecutables.put(definition, new ArrayDeque<>(queued)));
+    return copy;
+  }
+
   public List<RegisteredExecutable.Activated> getAllExecutables() {
-    List<RegisteredExecutable.Activated> allExecutables = new ArrayList<>(inactiveExecutables);
+    List<RegisteredExecutable.Activated> allExecutables = getInactiveExecutables();
     if (activeExecutable != null) {
       allExecutables.addFirst(activeExecutable);
     }
@@ -42,7 +59,9 @@ public class WebhookExecutables {
   }
 
   public List<RegisteredExecutable.Activated> getInactiveExecutables() {
-    return inactiveExecutables;
+    List<RegisteredExecutable.Activated> executables = new ArrayList<>();
+    inactiveExecutables.values().forEach(executables::addAll);
+    return executables;
   }
 
   /**
@@ -65,18 +84,19 @@ public class WebhookExecutables {
       return tryActivateNext();
     }
 
-    var foundExecutable =
-        inactiveExecutables.stream()
-            .filter(e -> sameDefinitions(e, executable))
-            .findFirst()
-            .orElseThrow(
-                () ->
-                    new RuntimeException(
-                        "Cannot deregister executable with definition: "
-                            + executable.context().getDefinition()
-                            + " as it is not registered for context: "
-                            + context));
-    inactiveExecutables.remove(foundExecutable);
+    var definition = executable.context().getDefinition();
+    var queued = inactiveExecutables.get(definition);
+    if (queued == null) {
+      throw new RuntimeException(
+          "Cannot deregister executable with definition: "
+              + definition
+              + " as it is not registered for context: "
+              + context);
+    }
+    queued.removeFirst();
+    if (queued.isEmpty()) {
+      inactiveExecutables.remove(definition);
+    }
     return true;
   }
 
@@ -98,7 +118,11 @@ public class WebhookExecutables {
       return false;
     }
 
-    activeExecutable = inactiveExecutables.removeFirst();
+    var first = inactiveExecutables.entrySet().iterator().next();
+    activeExecutable = first.getValue().removeFirst();
+    if (first.getValue().isEmpty()) {
+      inactiveExecutables.remove(first.getKey());
+    }
     markActiveExecutableAsUpAndActivate();
     updateInactiveExecutablesErrorMessage();
 
@@ -113,9 +137,15 @@ public class WebhookExecutables {
     return activeExecutable;
   }
 
+  Optional<RegisteredExecutable.Activated> findActiveWebhook() {
+    return Optional.ofNullable(activeExecutable);
+  }
+
   public void markAsDownAndAdd(RegisteredExecutable.Activated executable) {
     markAsDownAndLogActivity(context, executable);
-    inactiveExecutables.add(executable);
+    inactiveExecutables
+        .computeIfAbsent(executable.context().getDefinition(), d -> new ArrayDeque<>())
+        .add(executable);
   }
 
   /**
@@ -135,7 +165,8 @@ public class WebhookExecutables {
                     .withMessage(
                         "Webhook path \""
                             + context
-                            + "\" is already in use. Executable registered in standby and will be activated when the path becomes available."));
+                            + "\" is already in use. Executable registered in standby and will be"
+                            + " activated when the path becomes available."));
     executable.context().reportHealth(Health.down(new IllegalStateException(createErrorMessage())));
   }
 
@@ -169,11 +200,16 @@ public class WebhookExecutables {
       return;
     }
 
-    inactiveExecutables.forEach(
-        executable ->
-            executable
-                .context()
-                .reportHealth(Health.down(new IllegalStateException(createErrorMessage()))));
+    inactiveExecutables
+        .values()
+        .forEach(
+            queued ->
+                queued.forEach(
+                    executable ->
+                        executable
+                            .context()
+                            .reportHealth(
+                                Health.down(new IllegalStateException(createErrorMessage())))));
   }
 
   private String createErrorMessage() {
@@ -20,6 +20,7 @@ import io.camunda.connector.api.inbound.webhook.Part;
 import io.camunda.connector.api.inbound.webhook.WebhookProcessingPayload;
 import jakarta.servlet.http.HttpServletRequest;
 import java.util.*;
+import java.util.function.Function;
 
 public class HttpServletRequestWebhookProcessingPayload implements WebhookProcessingPayload {
 
@@ -29,6 +30,7 @@ public class HttpServletRequestWebhookProcessingPayload implements WebhookProces
   private final Map<String, String> params;
   private final byte[] rawBody;
   private final Collection<Part> parts;
+  private final Map<Function<WebhookProcessingPayload, ?>, Object> parsedBodies = new HashMap<>(2);
 
   public HttpServletRequestWebhookProcessingPayload(
       final HttpServletRequest httpServletRequest,
@@ -69,6 +71,21 @@ public class HttpServletRequestWebhookProcessingPayload implements WebhookProces
     return rawBody != null ? Arrays.copyOf(rawBody, rawBody.length) : null;
   }
 
+  /**
+   * Caches the parsed body per parser, so that verification, authorization and request mapping of
+   * the same request do not parse the body repeatedly. Parsing failures are not cached.
+   */
+  @Override
+  @SuppressWarnings("unchecked")
+  public synchronized <T> T parsedBody(Function<WebhookProcessingPayload, T> parser) {
+    if (parsedBodies.containsKey(parser)) {
+      return (T) parsedBodies.get(parser);
+    }
+    T parsed = parser.apply(this);
+    parsedBodies.put(parser, parsed);
+    return parsed;
+  }
+
   @Override
   public Collection<Part> parts() {
     return List.copyOf(Optional.ofNullable(parts).orElse(Collections.emptyList()));
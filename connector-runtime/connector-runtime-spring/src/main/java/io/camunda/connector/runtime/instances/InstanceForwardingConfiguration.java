@@ -22,6 +22,7 @@ import io.camunda.connector.runtime.instances.service.ForwardingInstanceForwardi
 import io.camunda.connector.runtime.instances.service.InstanceForwardingRouter;
 import io.camunda.connector.runtime.instances.service.InstanceForwardingService;
 import io.camunda.connector.runtime.instances.service.LocalInstanceForwardingRouter;
+import java.time.Duration;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -41,12 +42,15 @@ public class InstanceForwardingConfiguration {
   @Value("${camunda.connector.hostname:${HOSTNAME:localhost}}")
   private String hostname;
 
+  @Value("${camunda.connector.headless.request-timeout:PT5S}")
+  private Duration requestTimeout;
+
   @Bean
   @ConditionalOnProperty(name = "camunda.connector.headless.serviceurl")
   @ConditionalOnMissingBean
   public InstanceForwardingService instanceForwardingService(ObjectMapper objectMapper) {
     return new DefaultInstanceForwardingService(
-        appPort, headlessServiceUrl, hostname, objectMapper);
+        appPort, headlessServiceUrl, hostname, objectMapper, requestTimeout);
   }
 
   @Bean
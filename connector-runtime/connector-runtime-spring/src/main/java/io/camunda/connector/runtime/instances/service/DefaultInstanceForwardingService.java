@@ -20,8 +20,13 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.camunda.connector.runtime.core.http.DefaultInstancesUrlBuilder;
 import io.camunda.connector.runtime.core.http.InstanceForwardingHttpClient;
+import io.camunda.connector.runtime.core.http.InstanceForwardingHttpClient.InstanceResponse;
+import io.camunda.connector.runtime.core.http.InstanceForwardingHttpClient.ReducedResponse;
+import io.camunda.connector.runtime.instances.reducer.Reducer;
 import io.camunda.connector.runtime.instances.reducer.ReducerRegistry;
 import jakarta.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -42,9 +47,28 @@ public class DefaultInstanceForwardingService implements InstanceForwardingServi
 
   public DefaultInstanceForwardingService(
       int appPort, String headlessServiceUrl, String hostname, ObjectMapper objectMapper) {
+    this(
+        appPort,
+        headlessServiceUrl,
+        hostname,
+        objectMapper,
+        InstanceForwardingHttpClient.DEFAULT_REQUEST_TIMEOUT);
+  }
+
+  /**
+   * @param requestTimeout maximum time to wait for the response of a single instance
+   */
+  public DefaultInstanceForwardingService(
+      int appPort,
+      String headlessServiceUrl,
+      String hostname,
+      ObjectMapper objectMapper,
+      Duration requestTimeout) {
     this(
         new InstanceForwardingHttpClient(
-            new DefaultInstancesUrlBuilder(appPort, headlessServiceUrl), objectMapper),
+            new DefaultInstancesUrlBuilder(appPort, headlessServiceUrl),
+            objectMapper,
+            requestTimeout),
         hostname);
   }
 
@@ -54,33 +78,65 @@ public class DefaultInstanceForwardingService implements InstanceForwardingServi
     this.hostname = hostname;
   }
 
+  /**
+   * Returns the responses of the instances that have the requested resource.
+   *
+   * @throws InstanceForwardingException if the request failed on any instance
+   */
   @Override
   public <T> List<T> forward(HttpServletRequest request, TypeReference<T> responseType) {
-    String method = request.getMethod();
-    String path = request.getRequestURI();
-    if (request.getQueryString() != null) {
-      path += "?" + request.getQueryString();
+    final ForwardedRequest forwarded;
+    final List<InstanceResponse<T>> responses;
+    try {
+      forwarded = ForwardedRequest.from(request, hostname);
+      responses =
+          instanceForwardingHttpClient.executeOnInstances(
+              forwarded.method(),
+              forwarded.path(),
+              forwarded.body(),
+              forwarded.headers(),
+              responseType,
+              hostname);
+    } catch (Exception e) {
+      LOGGER.error("Error forwarding request to instances: {}", e.getMessage(), e);
+      throw new RuntimeException("Error forwarding request to instances: " + e.getMessage(), e);
     }
-    try (var reader = request.getReader()) {
-      String body = reader.lines().collect(Collectors.joining(System.lineSeparator()));
-
-      Map<String, String> headers =
-          Collections.list(request.getHeaderNames()).stream()
-              .collect(Collectors.toMap(headerName -> headerName, request::getHeader));
-
-      if (hostname == null) {
-        LOGGER.error(
-            "HOSTNAME environment variable (or 'camunda.connector.hostname' property) is not set. Cannot use instances forwarding.");
-        throw new RuntimeException(
-            "HOSTNAME environment variable (or 'camunda.connector.hostname' property) is not set. Cannot use instances forwarding.");
-      }
+    failIfIncomplete(
+        forwarded, responses.stream().filter(response -> !response.isSuccessful()).toList());
+    return responses.stream()
+        .filter(response -> !response.isNotFound())
+        .map(InstanceResponse::body)
+        .toList();
+  }
 
-      return instanceForwardingHttpClient.execute(
-          method, path, body, headers, responseType, hostname);
+  /**
+   * Merges the responses of the instances while they arrive instead of collecting all of them
+   * first.
+   *
+   * @throws InstanceForwardingException if the request failed on any instance
+   */
+  @Override
+  public <T> T forwardAndReduce(HttpServletRequest request, TypeReference<T> responseType) {
+    var reducer = getReducer(responseType);
+    final ForwardedRequest forwarded;
+    final ReducedResponse<T> response;
+    try {
+      forwarded = ForwardedRequest.from(request, hostname);
+      response =
+          instanceForwardingHttpClient.executeAndReduce(
+              forwarded.method(),
+              forwarded.path(),
+              forwarded.body(),
+              forwarded.headers(),
+              responseType,
+              hostname,
+              reducer::reduce);
     } catch (Exception e) {
       LOGGER.error("Error forwarding request to instances: {}", e.getMessage(), e);
       throw new RuntimeException("Error forwarding request to instances: " + e.getMessage(), e);
     }
+    failIfIncomplete(forwarded, response.failures());
+    return response.result();
   }
 
   @Override
@@ -88,13 +144,68 @@ public class DefaultInstanceForwardingService implements InstanceForwardingServi
     if (responses == null || responses.isEmpty()) {
       return null;
     }
-    var reducer = reducerRegistry.getReducer(responseType);
+    return responses.stream().reduce(null, getReducer(responseType)::reduce);
+  }
 
+  private <T> Reducer<T> getReducer(TypeReference<T> responseType) {
+    var reducer = reducerRegistry.getReducer(responseType);
     if (reducer == null) {
       LOGGER.error("No reducer found for response type {}.", responseType.getType());
       throw new RuntimeException("No reducer found for response type: " + responseType.getType());
     }
+    return reducer;
+  }
+
+  /**
+   * A response missing the instances that failed would look complete to the caller, e.g. a reset
+   * that was not applied everywhere, so the request fails as a whole instead.
+   */
+  private static void failIfIncomplete(
+      ForwardedRequest forwarded, List<? extends InstanceResponse<?>> failures) {
+    if (failures.isEmpty()) {
+      return;
+    }
+    var failedInstances = failures.stream().map(InstanceResponse::instanceUrl).toList();
+    var message =
+        String.format(
+            "Request %s %s failed on %d instance(s): %s",
+            forwarded.method(),
+            forwarded.path(),
+            failures.size(),
+            failures.stream()
+                .map(failure -> failure.instanceUrl() + " (" + failure.failure() + ")")
+                .collect(Collectors.joining(", ")));
+    LOGGER.warn(message);
+    throw new InstanceForwardingException(message, failedInstances);
+  }
+
+  private record ForwardedRequest(
+      String method, String path, String body, Map<String, String> headers) {
+
+    static ForwardedRequest from(HttpServletRequest request, String hostname) throws IOException {
+      String path = request.getRequestURI();
+      if (request.getQueryString() != null) {
+        path += "?" + request.getQueryString();
+      }
+      // the body is sent to every instance, so it has to be read once up front
+      String body;
+      try (var reader = request.getReader()) {
+        body = reader.lines().collect(Collectors.joining(System.lineSeparator()));
+      }
 
-    return responses.stream().reduce(null, reducer::reduce);
+      Map<String, String> headers =
+          Collections.list(request.getHeaderNames()).stream()
+              .collect(Collectors.toMap(headerName -> headerName, request::getHeader));
+
+      if (hostname == null) {
+        LOGGER.error(
+            "HOSTNAME environment variable (or 'camunda.connector.hostname' property) is not set."
+                + " Cannot use instances forwarding.");
+        throw new RuntimeException(
+            "HOSTNAME environment variable (or 'camunda.connector.hostname' property) is not set."
+                + " Cannot use instances forwarding.");
+      }
+      return new ForwardedRequest(request.getMethod(), path, body, headers);
+    }
   }
 }
@@ -0,0 +1,38 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.instances.service;
+
+import java.util.List;
+
+/**
+ * Thrown if a request forwarded to the runtime instances failed on at least one of them, so that
+ * the merged response would be incomplete.
+ */
+public class InstanceForwardingException extends RuntimeException {
+
+  private final List<String> failedInstances;
+
+  public InstanceForwardingException(String message, List<String> failedInstances) {
+    super(message);
+    this.failedInstances = List.copyOf(failedInstances);
+  }
+
+  /** URLs of the instances the request failed on. */
+  public List<String> getFailedInstances() {
+    return failedInstances;
+  }
+}
@@ -29,17 +29,26 @@ public class ConnectorMetrics {
     public static final String TYPE = "type";
     public static final String ACTION = "action";
     public static final String ELEMENT_TEMPLATE_VERSION = "elementTemplateVersion";
+    public static final String PHASE = "phase";
   }
 
   public static class Outbound {
 
     public static final String METRIC_NAME_INVOCATIONS = "camunda.connector.outbound.invocations";
     public static final String METRIC_NAME_TIME = "camunda.connector.outbound.execution-time";
+    public static final String METRIC_NAME_PHASE_TIME = "camunda.connector.outbound.phase-time";
+    public static final String METRIC_NAME_BULKHEAD_RUNNING =
+        "camunda.connector.outbound.bulkhead.running";
+    public static final String METRIC_NAME_BULKHEAD_QUEUED =
+        "camunda.connector.outbound.bulkhead.queued";
+    public static final String METRIC_NAME_BULKHEAD_SATURATIONS =
+        "camunda.connector.outbound.bulkhead.saturations";
   }
 
   public static class Inbound {
     public static final String METRIC_NAME_ACTIVATIONS = "camunda.connector.inbound.activations";
     public static final String METRIC_NAME_TRIGGERS = "camunda.connector.inbound.triggers";
+    public static final String METRIC_NAME_PHASE_TIME = "camunda.connector.inbound.phase-time";
     public static final String METRIC_NAME_INBOUND_PROCESS_DEFINITIONS_CHECKED =
         "camunda.connector.inbound.process-definitions-checked";
 
@@ -53,6 +62,13 @@ public class ConnectorMetrics {
     public static final String ACTION_CORRELATION_FAILED = "correlation-failed";
   }
 
+  public static class DocumentStore {
+    public static final String METRIC_NAME_IN_MEMORY_BYTES =
+        "camunda.connector.document-store.in-memory.bytes";
+    public static final String METRIC_NAME_IN_MEMORY_EVICTIONS =
+        "camunda.connector.document-store.in-memory.evictions";
+  }
+
   public static CounterMetricsContext counter(ActivatedJob job) {
     Result result = Result.getResult(job);
     return new CounterMetricsContext(
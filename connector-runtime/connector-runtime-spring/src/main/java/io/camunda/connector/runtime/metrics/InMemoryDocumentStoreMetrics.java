@@ -0,0 +1,51 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.metrics;
+
+import io.camunda.connector.runtime.core.document.store.InMemoryDocumentStore;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/** Exposes the size and the evictions of an {@link InMemoryDocumentStore}. */
+public class InMemoryDocumentStoreMetrics implements MeterBinder {
+
+  private final InMemoryDocumentStore store;
+
+  public InMemoryDocumentStoreMetrics(InMemoryDocumentStore store) {
+    this.store = store;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    Gauge.builder(
+            ConnectorMetrics.DocumentStore.METRIC_NAME_IN_MEMORY_BYTES,
+            store,
+            InMemoryDocumentStore::getTotalBytes)
+        .description("Bytes held by the in-memory document store, including spilled documents")
+        .baseUnit(BaseUnits.BYTES)
+        .register(registry);
+    FunctionCounter.builder(
+            ConnectorMetrics.DocumentStore.METRIC_NAME_IN_MEMORY_EVICTIONS,
+            store,
+            InMemoryDocumentStore::getEvictionCount)
+        .description("Documents evicted from the in-memory document store to stay within its limit")
+        .register(registry);
+  }
+}
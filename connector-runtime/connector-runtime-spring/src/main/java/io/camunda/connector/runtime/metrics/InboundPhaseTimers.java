@@ -0,0 +1,67 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.metrics;
+
+import io.camunda.connector.runtime.core.Keywords;
+import io.camunda.connector.runtime.core.inbound.InboundConnectorElement;
+import io.camunda.connector.runtime.core.inbound.correlation.CorrelationPhaseRecorder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records the time spent in the phases of correlating inbound events (see {@link
+ * CorrelationPhaseRecorder.Phase}) as {@value ConnectorMetrics.Inbound#METRIC_NAME_PHASE_TIME},
+ * tagged with the connector type and the phase.
+ *
+ * <p>The timers of a connector type are registered once, recording a phase afterwards is a lookup
+ * in an array and does not allocate.
+ */
+public class InboundPhaseTimers implements CorrelationPhaseRecorder {
+
+  private final MeterRegistry meterRegistry;
+  private final Map<String, Timer[]> timersByType = new ConcurrentHashMap<>();
+
+  public InboundPhaseTimers(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  public void record(InboundConnectorElement element, Phase phase, long durationNanos) {
+    var type = element.rawProperties().getOrDefault(Keywords.INBOUND_TYPE_KEYWORD, "unknown");
+    var timers = timersByType.get(type);
+    if (timers == null) {
+      timers = timersByType.computeIfAbsent(type, this::createTimers);
+    }
+    timers[phase.ordinal()].record(durationNanos, TimeUnit.NANOSECONDS);
+  }
+
+  private Timer[] createTimers(String type) {
+    var phases = Phase.values();
+    var timers = new Timer[phases.length];
+    for (var phase : phases) {
+      timers[phase.ordinal()] =
+          Timer.builder(ConnectorMetrics.Inbound.METRIC_NAME_PHASE_TIME)
+              .tag(ConnectorMetrics.Tag.TYPE, type)
+              .tag(ConnectorMetrics.Tag.PHASE, phase.tagValue())
+              .register(meterRegistry);
+    }
+    return timers;
+  }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.metrics;
+
+import io.camunda.connector.runtime.core.outbound.JobPhaseRecorder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records the time spent in the phases of outbound jobs (see {@link JobPhaseRecorder.Phase}) as
+ * {@value ConnectorMetrics.Outbound#METRIC_NAME_PHASE_TIME}, tagged with the job type and the
+ * phase.
+ *
+ * <p>The timers of a job type are registered once, recording a phase afterwards is a lookup in an
+ * array and does not allocate.
+ */
+public class OutboundPhaseTimers {
+
+  private final MeterRegistry meterRegistry;
+  private final Map<String, JobPhaseRecorder> recorders = new ConcurrentHashMap<>();
+
+  /**
+   * @param meterRegistry registry for the phase timers, may be {@code null} to disable them
+   */
+  public OutboundPhaseTimers(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+  }
+
+  public JobPhaseRecorder forJobType(String type) {
+    if (meterRegistry == null) {
+      return JobPhaseRecorder.NOOP;
+    }
+    var recorder = recorders.get(type);
+    if (recorder == null) {
+      recorder = recorders.computeIfAbsent(type, this::createRecorder);
+    }
+    return recorder;
+  }
+
+  private JobPhaseRecorder createRecorder(String type) {
+    var phases = JobPhaseRecorder.Phase.values();
+    var timers = new Timer[phases.length];
+    for (var phase : phases) {
+      timers[phase.ordinal()] =
+          Timer.builder(ConnectorMetrics.Outbound.METRIC_NAME_PHASE_TIME)
+              .tag(ConnectorMetrics.Tag.TYPE, type)
+              .tag(ConnectorMetrics.Tag.PHASE, phase.tagValue())
+              .register(meterRegistry);
+    }
+    return (phase, durationNanos) ->
+        timers[phase.ordinal()].record(durationNanos, TimeUnit.NANOSECONDS);
+  }
+}
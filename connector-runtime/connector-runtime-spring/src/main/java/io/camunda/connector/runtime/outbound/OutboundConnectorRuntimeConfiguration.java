@@ -28,6 +28,7 @@ import io.camunda.connector.api.validation.ValidationProvider;
 import io.camunda.connector.runtime.annotation.ConnectorsObjectMapper;
 import io.camunda.connector.runtime.annotation.OutboundConnectorObjectMapper;
 import io.camunda.connector.runtime.core.document.DocumentFactoryImpl;
+import io.camunda.connector.runtime.core.document.store.CachingDocumentStore;
 import io.camunda.connector.runtime.core.document.store.CamundaDocumentStore;
 import io.camunda.connector.runtime.core.document.store.CamundaDocumentStoreImpl;
 import io.camunda.connector.runtime.core.outbound.DefaultOutboundConnectorFactory;
@@ -36,9 +37,13 @@ import io.camunda.connector.runtime.core.secret.SecretProviderAggregator;
 import io.camunda.connector.runtime.core.validation.ValidationUtil;
 import io.camunda.connector.runtime.instances.InstanceForwardingConfiguration;
 import io.camunda.connector.runtime.instances.service.OutboundConnectorsService;
+import io.camunda.connector.runtime.metrics.OutboundPhaseTimers;
 import io.camunda.connector.runtime.outbound.controller.OutboundConnectorsRestController;
+import io.camunda.connector.runtime.outbound.job.JobBulkheads;
 import io.camunda.connector.runtime.outbound.jobstream.GatewayJobStreamClient;
 import io.camunda.connector.runtime.outbound.lifecycle.OutboundConnectorManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
 import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -48,6 +53,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 import org.springframework.core.env.Environment;
+import org.springframework.util.unit.DataSize;
 
 @Configuration
 @Import({OutboundConnectorsRestController.class, InstanceForwardingConfiguration.class})
@@ -67,13 +73,32 @@ public class OutboundConnectorRuntimeConfiguration {
   }
 
   @Bean
-  public CamundaDocumentStore documentStore(CamundaClient camundaClient) {
-    return new CamundaDocumentStoreImpl(camundaClient);
+  public CamundaDocumentStore documentStore(
+      CamundaClient camundaClient,
+      @Value("${camunda.connector.document.content-cache.enabled:false}") boolean cacheEnabled,
+      @Value("${camunda.connector.document.content-cache.max-size:256MB}") DataSize cacheMaxSize,
+      @Value("${camunda.connector.document.content-cache.spill-threshold:1MB}")
+          DataSize cacheSpillThreshold,
+      @Value("${camunda.connector.document.content-cache.expire-after-access:PT5M}")
+          Duration cacheExpireAfterAccess) {
+    var documentStore = new CamundaDocumentStoreImpl(camundaClient);
+    if (!cacheEnabled) {
+      return documentStore;
+    }
+    return new CachingDocumentStore(
+        documentStore,
+        cacheMaxSize.toBytes(),
+        cacheSpillThreshold.toBytes(),
+        cacheExpireAfterAccess);
   }
 
   @Bean
-  public DocumentFactory documentFactory(CamundaDocumentStore documentStore) {
-    return new DocumentFactoryImpl(documentStore);
+  public DocumentFactory documentFactory(
+      CamundaDocumentStore documentStore,
+      @Value(
+              "${camunda.connector.document.external.max-size:${CONNECTOR_HTTP_CLIENT_MAX_BODY_SIZE:50MB}}")
+          DataSize externalDocumentMaxSize) {
+    return new DocumentFactoryImpl(documentStore, externalDocumentMaxSize.toBytes());
   }
 
   @Bean
@@ -100,6 +125,28 @@ public class OutboundConnectorRuntimeConfiguration {
         outboundConnectorConfigurationRegistry, gatewayJobStreamClient);
   }
 
+  @Bean
+  @ConditionalOnProperty(
+      name = "camunda.connector.outbound.execution.bulkhead.enabled",
+      havingValue = "true")
+  public JobBulkheads jobBulkheads(
+      @Value("${camunda.connector.outbound.execution.bulkhead.max-concurrency:64}")
+          int maxConcurrency,
+      @Value("${camunda.connector.outbound.execution.bulkhead.max-concurrency-by-type:}")
+          String maxConcurrencyByType,
+      @Autowired(required = false) MeterRegistry meterRegistry) {
+    return new JobBulkheads(
+        maxConcurrency,
+        JobBulkheads.parseMaxConcurrencyByType(maxConcurrencyByType),
+        meterRegistry);
+  }
+
+  @Bean
+  public OutboundPhaseTimers outboundPhaseTimers(
+      @Autowired(required = false) MeterRegistry meterRegistry) {
+    return new OutboundPhaseTimers(meterRegistry);
+  }
+
   @Bean
   public OutboundConnectorManager outboundConnectorManager(
       JobWorkerManager jobWorkerManager,
@@ -109,7 +156,9 @@ public class OutboundConnectorRuntimeConfiguration {
       ValidationProvider validationProvider,
       MetricsRecorder metricsRecorder,
       DocumentFactory documentFactory,
-      @OutboundConnectorObjectMapper ObjectMapper objectMapper) {
+      @OutboundConnectorObjectMapper ObjectMapper objectMapper,
+      @Autowired(required = false) JobBulkheads jobBulkheads,
+      OutboundPhaseTimers outboundPhaseTimers) {
     return new OutboundConnectorManager(
         jobWorkerManager,
         connectorFactory,
@@ -118,6 +167,8 @@ public class OutboundConnectorRuntimeConfiguration {
         validationProvider,
         documentFactory,
         objectMapper,
-        metricsRecorder);
+        metricsRecorder,
+        jobBulkheads,
+        outboundPhaseTimers);
   }
 }
@@ -0,0 +1,69 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.outbound.job;
+
+import io.camunda.client.api.response.ActivatedJob;
+import io.camunda.client.api.worker.JobClient;
+import io.camunda.client.api.worker.JobHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link JobHandler} that runs jobs through {@link JobBulkheads} on the job worker's thread.
+ *
+ * <p>If the bulkhead of the job's type is saturated, {@link #handle} blocks until the bulkhead has
+ * capacity again. The job worker only gets its activation credit back once the handler returns, so
+ * a saturated worker stops activating further jobs instead of cycling them through the broker.
+ */
+public class BulkheadJobHandler implements JobHandler {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(BulkheadJobHandler.class);
+
+  private final JobHandler delegate;
+  private final JobBulkheads bulkheads;
+
+  public BulkheadJobHandler(JobHandler delegate, JobBulkheads bulkheads) {
+    this.delegate = delegate;
+    this.bulkheads = bulkheads;
+  }
+
+  @Override
+  public void handle(JobClient client, ActivatedJob job) throws Exception {
+    final JobBulkheads.Slot slot;
+    try {
+      slot = bulkheads.acquire(job.getType());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      // the worker is shutting down, make the job available again right away
+      LOGGER.debug("Interrupted while waiting for capacity, handing back job: {}", job.getKey());
+      client
+          .newFailCommand(job)
+          .retries(job.getRetries())
+          .errorMessage("Job worker was stopped before the job was started")
+          .send()
+          .exceptionally(
+              t -> {
+                LOGGER.warn("Failed to hand back job: {}", job.getKey(), t);
+                return null;
+              });
+      return;
+    }
+    try (slot) {
+      delegate.handle(client, job);
+    }
+  }
+}
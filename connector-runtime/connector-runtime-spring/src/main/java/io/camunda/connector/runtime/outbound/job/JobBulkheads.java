@@ -0,0 +1,155 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.outbound.job;
+
+import io.camunda.connector.runtime.metrics.ConnectorMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Limits the number of concurrently running outbound jobs per job type.
+ *
+ * <p>Jobs run on the calling job worker thread. Each job type may run at most {@code
+ * maxConcurrency} jobs at once, further jobs of that type block their thread until a job of the
+ * same type completes, while other job types are not affected.
+ */
+public class JobBulkheads {
+
+  private static final Logger LOG = LoggerFactory.getLogger(JobBulkheads.class);
+
+  private final int maxConcurrency;
+  private final Map<String, Integer> maxConcurrencyByType;
+  private final MeterRegistry meterRegistry;
+  private final Map<String, Bulkhead> bulkheads = new ConcurrentHashMap<>();
+
+  /**
+   * @param maxConcurrency maximum number of concurrently running jobs per job type
+   * @param maxConcurrencyByType overrides of {@code maxConcurrency} for specific job types
+   * @param meterRegistry registry for bulkhead saturation metrics, may be {@code null}
+   */
+  public JobBulkheads(
+      int maxConcurrency, Map<String, Integer> maxConcurrencyByType, MeterRegistry meterRegistry) {
+    this.maxConcurrency = Math.max(1, maxConcurrency);
+    this.maxConcurrencyByType = Map.copyOf(maxConcurrencyByType);
+    this.meterRegistry = meterRegistry;
+  }
+
+  /**
+   * Parses per job type limits in the form {@code type=limit}, separated by commas, e.g. {@code
+   * io.camunda:http-json:1=16,io.camunda:soap=4}.
+   */
+  public static Map<String, Integer> parseMaxConcurrencyByType(String value) {
+    Map<String, Integer> limits = new HashMap<>();
+    if (value == null || value.isBlank()) {
+      return limits;
+    }
+    for (String entry : value.split(",")) {
+      int separator = entry.lastIndexOf('=');
+      if (separator <= 0) {
+        throw new IllegalArgumentException(
+            "Invalid bulkhead limit '" + entry.trim() + "', expected format: type=limit");
+      }
+      limits.put(
+          entry.substring(0, separator).trim(),
+          Integer.parseInt(entry.substring(separator + 1).trim()));
+    }
+    return limits;
+  }
+
+  /**
+   * Takes a slot in the bulkhead of the job type, waiting for one if the bulkhead is saturated. The
+   * job runs on the calling thread while it holds the slot, the slot must be closed afterwards.
+   *
+   * @throws InterruptedException if interrupted while waiting, no slot is taken then
+   */
+  public Slot acquire(String jobType) throws InterruptedException {
+    return bulkheads.computeIfAbsent(jobType, this::createBulkhead).acquire();
+  }
+
+  private Bulkhead createBulkhead(String jobType) {
+    return new Bulkhead(
+        jobType, Math.max(1, maxConcurrencyByType.getOrDefault(jobType, maxConcurrency)));
+  }
+
+  /** A slot of a bulkhead held by a running job. */
+  public interface Slot extends AutoCloseable {
+
+    /** Releases the slot, so the next waiting job of the same type can run. */
+    @Override
+    void close();
+  }
+
+  private class Bulkhead {
+
+    private final String jobType;
+    private final Semaphore slots;
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger running = new AtomicInteger();
+    private final Counter saturations;
+
+    Bulkhead(String jobType, int concurrency) {
+      this.jobType = jobType;
+      this.slots = new Semaphore(concurrency, true);
+      if (meterRegistry != null) {
+        Gauge.builder(ConnectorMetrics.Outbound.METRIC_NAME_BULKHEAD_RUNNING, running::get)
+            .tag(ConnectorMetrics.Tag.TYPE, jobType)
+            .register(meterRegistry);
+        Gauge.builder(ConnectorMetrics.Outbound.METRIC_NAME_BULKHEAD_QUEUED, queued::get)
+            .tag(ConnectorMetrics.Tag.TYPE, jobType)
+            .register(meterRegistry);
+        this.saturations =
+            Counter.builder(ConnectorMetrics.Outbound.METRIC_NAME_BULKHEAD_SATURATIONS)
+                .tag(ConnectorMetrics.Tag.TYPE, jobType)
+                .register(meterRegistry);
+      } else {
+        this.saturations = null;
+      }
+    }
+
+    Slot acquire() throws InterruptedException {
+      if (!slots.tryAcquire()) {
+        saturated();
+        queued.incrementAndGet();
+        try {
+          slots.acquire();
+        } finally {
+          queued.decrementAndGet();
+        }
+      }
+      running.incrementAndGet();
+      return () -> {
+        running.decrementAndGet();
+        slots.release();
+      };
+    }
+
+    void saturated() {
+      LOG.debug("Bulkhead for job type {} is saturated, waiting for a free slot", jobType);
+      if (saturations != null) {
+        saturations.increment();
+      }
+    }
+  }
+}
@@ -56,9 +56,12 @@ import io.camunda.connector.runtime.core.error.JobError;
 import io.camunda.connector.runtime.core.outbound.ConnectorResult;
 import io.camunda.connector.runtime.core.outbound.ErrorExpressionJobContext;
 import io.camunda.connector.runtime.core.outbound.JobHandlerContext;
+import io.camunda.connector.runtime.core.outbound.JobPhaseRecorder;
+import io.camunda.connector.runtime.core.outbound.JobPhaseRecorder.Phase;
 import io.camunda.connector.runtime.core.secret.SecretProviderAggregator;
 import io.camunda.connector.runtime.core.secret.SecretProviderDiscovery;
 import io.camunda.connector.runtime.metrics.ConnectorMetrics;
+import io.camunda.connector.runtime.metrics.OutboundPhaseTimers;
 import java.time.Duration;
 import java.time.format.DateTimeParseException;
 import java.util.List;
@@ -88,6 +91,7 @@ public class SpringConnectorJobHandler implements JobHandler {
   private final ValidationProvider validationProvider;
   private final DocumentFactory documentFactory;
   private final ObjectMapper objectMapper;
+  private final OutboundPhaseTimers phaseTimers;
 
   public SpringConnectorJobHandler(
       MetricsRecorder outboundMetrics,
@@ -97,25 +101,48 @@ public class SpringConnectorJobHandler implements JobHandler {
       DocumentFactory documentFactory,
       ObjectMapper objectMapper,
       OutboundConnectorFunction connectorFunction) {
+    this(
+        outboundMetrics,
+        jobCallbackCommandWrapperFactory,
+        secretProviderAggregator,
+        validationProvider,
+        documentFactory,
+        objectMapper,
+        connectorFunction,
+        null);
+  }
+
+  /**
+   * @param phaseTimers records the time spent in the phases of a job, may be {@code null}
+   */
+  public SpringConnectorJobHandler(
+      MetricsRecorder outboundMetrics,
+      JobCallbackCommandWrapperFactory jobCallbackCommandWrapperFactory,
+      SecretProviderAggregator secretProviderAggregator,
+      ValidationProvider validationProvider,
+      DocumentFactory documentFactory,
+      ObjectMapper objectMapper,
+      OutboundConnectorFunction connectorFunction,
+      OutboundPhaseTimers phaseTimers) {
     this.call = connectorFunction;
-    this.secretProvider = secretProviderAggregator;
+    // if custom provider / aggregator is provided by the runtime, use it; otherwise fall back to
+    // the default implementation (SPI discovery), which is shared by all handlers
+    this.secretProvider =
+        secretProviderAggregator != null
+            ? secretProviderAggregator
+            : DiscoveredSecretProvider.INSTANCE;
     this.validationProvider = validationProvider;
     this.documentFactory = documentFactory;
     this.objectMapper = objectMapper;
-    this.outboundConnectorExceptionHandler =
-        new OutboundConnectorExceptionHandler(getSecretProvider());
+    this.outboundConnectorExceptionHandler = new OutboundConnectorExceptionHandler(secretProvider);
     this.connectorResultHandler = new ConnectorResultHandler(objectMapper);
     this.jobCallbackCommandWrapperFactory = jobCallbackCommandWrapperFactory;
     this.connectorsOutboundMetrics = outboundMetrics;
+    this.phaseTimers = phaseTimers;
   }
 
-  private SecretProvider getSecretProvider() {
-    // if custom provider / aggregator is provided by the runtime, use it
-    if (secretProvider != null) {
-      return secretProvider;
-    }
-    // otherwise fall back to default implementation (SPI discovery)
-    return new SecretProviderAggregator(SecretProviderDiscovery.discoverSecretProviders());
+  private JobPhaseRecorder getPhaseRecorder(ActivatedJob job) {
+    return phaseTimers != null ? phaseTimers.forJobType(job.getType()) : JobPhaseRecorder.NOOP;
   }
 
   @Override
@@ -150,30 +177,44 @@ public class SpringConnectorJobHandler implements JobHandler {
         job.getKey(),
         job.getType(),
         job.getTenantId());
+    var phaseRecorder = getPhaseRecorder(job);
     var context =
         new JobHandlerContext(
-            job, getSecretProvider(), validationProvider, documentFactory, objectMapper);
-    ConnectorResult result = getConnectorResult(job, context);
-    processFinalResult(client, job, context, result, counterMetricsContext);
+            job, secretProvider, validationProvider, documentFactory, objectMapper, phaseRecorder);
+    ConnectorResult result = getConnectorResult(job, context, phaseRecorder);
+    processFinalResult(client, job, context, result, counterMetricsContext, phaseRecorder);
   }
 
-  private ConnectorResult getConnectorResult(ActivatedJob job, OutboundConnectorContext context) {
+  private ConnectorResult getConnectorResult(
+      ActivatedJob job, OutboundConnectorContext context, JobPhaseRecorder phaseRecorder) {
     Duration retryBackoff = null;
     try {
       retryBackoff = getBackoffDuration(job);
 
-      var connectorResponse = getConnectorResponse(context);
+      long start = System.nanoTime();
+      ConnectorResponse connectorResponse;
+      try {
+        connectorResponse = getConnectorResponse(context);
+      } finally {
+        phaseRecorder.record(Phase.EXECUTION, System.nanoTime() - start);
+      }
 
       if (connectorResponse instanceof AdHocSubProcessConnectorResponse) {
         // AHSP responses provide their own variables; skip result expression evaluation
         return new ConnectorResult.SuccessResult(connectorResponse, Map.of());
       }
 
-      var responseVariables =
-          connectorResultHandler.createOutputVariables(
-              connectorResponse.responseValue(),
-              job.getCustomHeaders().get(Keywords.RESULT_VARIABLE_KEYWORD),
-              job.getCustomHeaders().get(Keywords.RESULT_EXPRESSION_KEYWORD));
+      start = System.nanoTime();
+      Map<String, Object> responseVariables;
+      try {
+        responseVariables =
+            connectorResultHandler.createOutputVariables(
+                connectorResponse.responseValue(),
+                job.getCustomHeaders().get(Keywords.RESULT_VARIABLE_KEYWORD),
+                job.getCustomHeaders().get(Keywords.RESULT_EXPRESSION_KEYWORD));
+      } finally {
+        phaseRecorder.record(Phase.RESULT_EXPRESSION, System.nanoTime() - start);
+      }
       return new ConnectorResult.SuccessResult(connectorResponse, responseVariables);
     } catch (Exception e) {
       return outboundConnectorExceptionHandler.manageConnectorJobHandlerException(
@@ -196,25 +237,26 @@ public class SpringConnectorJobHandler implements JobHandler {
       ActivatedJob job,
       OutboundConnectorContext context,
       ConnectorResult finalResult,
-      CounterMetricsContext counterMetricsContext) {
+      CounterMetricsContext counterMetricsContext,
+      JobPhaseRecorder phaseRecorder) {
     try {
       Optional<ConnectorError> optionalConnectorError =
-          connectorResultHandler.examineErrorExpression(
-              finalResult.responseValue(),
-              job.getCustomHeaders(),
-              new ErrorExpressionJobContext(
-                  new ErrorExpressionJobContext.ErrorExpressionJob(job.getRetries())));
+          examineErrorExpression(job, finalResult, phaseRecorder);
       optionalConnectorError.ifPresentOrElse(
           error ->
-              handleConnectorError(client, job, context, finalResult, error, counterMetricsContext),
-          () -> handleFinalResult(client, job, context, finalResult, counterMetricsContext));
+              handleConnectorError(
+                  client, job, context, finalResult, error, counterMetricsContext, phaseRecorder),
+          () ->
+              handleFinalResult(
+                  client, job, context, finalResult, counterMetricsContext, phaseRecorder));
     } catch (Exception ex) {
       CompletableFuture<CommandOutcome> failJobRequest =
           failJob(
               client,
               job,
               this.outboundConnectorExceptionHandler.handleFinalResultException(ex, job),
-              counterMetricsContext);
+              counterMetricsContext,
+              phaseRecorder);
       notifyFailureOnCommandOutcome(
           failJobRequest,
           context,
@@ -223,15 +265,30 @@ public class SpringConnectorJobHandler implements JobHandler {
     }
   }
 
+  private Optional<ConnectorError> examineErrorExpression(
+      ActivatedJob job, ConnectorResult finalResult, JobPhaseRecorder phaseRecorder) {
+    long start = System.nanoTime();
+    try {
+      return connectorResultHandler.examineErrorExpression(
+          finalResult.responseValue(),
+          job.getCustomHeaders(),
+          new ErrorExpressionJobContext(
+              new ErrorExpressionJobContext.ErrorExpressionJob(job.getRetries())));
+    } finally {
+      phaseRecorder.record(Phase.ERROR_EXPRESSION, System.nanoTime() - start);
+    }
+  }
+
   private void handleFinalResult(
       JobClient jobClient,
       ActivatedJob job,
       OutboundConnectorContext context,
       ConnectorResult finalResult,
-      CounterMetricsContext counterMetricsContext) {
+      CounterMetricsContext counterMetricsContext,
+      JobPhaseRecorder phaseRecorder) {
     if (finalResult instanceof ConnectorResult.SuccessResult successResult) {
       LOGGER.info("Completing job: {} for tenant: {}", job.getKey(), job.getTenantId());
-      completeJob(jobClient, job, context, successResult, counterMetricsContext);
+      completeJob(jobClient, job, context, successResult, counterMetricsContext, phaseRecorder);
     } else if (finalResult instanceof ConnectorResult.ErrorResult errorResult) {
       // Handle Java error, e.g. ConnectorException
       // these errors won't be handled ConnectorHelper.examineErrorExpression
@@ -244,7 +301,7 @@ public class SpringConnectorJobHandler implements JobHandler {
       // pre-response failure path: function threw before returning a response, so notify with a
       // null response (subscribers to JobCompletionListener can still react)
       CompletableFuture<CommandOutcome> failJobRequest =
-          failJob(jobClient, job, errorResult, counterMetricsContext);
+          failJob(jobClient, job, errorResult, counterMetricsContext, phaseRecorder);
       notifyFailureOnCommandOutcome(
           failJobRequest,
           context,
@@ -259,7 +316,8 @@ public class SpringConnectorJobHandler implements JobHandler {
       OutboundConnectorContext context,
       ConnectorResult finalResult,
       ConnectorError error,
-      CounterMetricsContext counterMetricsContext) {
+      CounterMetricsContext counterMetricsContext,
+      JobPhaseRecorder phaseRecorder) {
     var response = connectorResponseOrNull(finalResult);
 
     switch (error) {
@@ -267,7 +325,7 @@ public class SpringConnectorJobHandler implements JobHandler {
         LOGGER.debug(
             "Throwing BPMN error for job {} with code {}", job.getKey(), bpmnError.errorCode());
         CompletableFuture<CommandOutcome> throwBpmnErrorRequest =
-            throwBpmnError(client, job, bpmnError, counterMetricsContext);
+            throwBpmnError(client, job, bpmnError, counterMetricsContext, phaseRecorder);
         notifyFailureOnCommandOutcome(
             throwBpmnErrorRequest,
             context,
@@ -290,7 +348,8 @@ public class SpringConnectorJobHandler implements JobHandler {
                     new RuntimeException(jobError.errorMessage()),
                     jobError.retries(),
                     jobError.retryBackoff()),
-                counterMetricsContext);
+                counterMetricsContext,
+                phaseRecorder);
         notifyFailureOnCommandOutcome(
             failJobRequest,
             context,
@@ -303,7 +362,14 @@ public class SpringConnectorJobHandler implements JobHandler {
       }
       case IgnoreError ignoreError ->
           handleIgnoreError(
-              client, job, context, finalResult, response, ignoreError, counterMetricsContext);
+              client,
+              job,
+              context,
+              finalResult,
+              response,
+              ignoreError,
+              counterMetricsContext,
+              phaseRecorder);
     }
   }
 
@@ -314,7 +380,8 @@ public class SpringConnectorJobHandler implements JobHandler {
       ConnectorResult finalResult,
       ConnectorResponse response,
       IgnoreError ignoreError,
-      CounterMetricsContext counterMetricsContext) {
+      CounterMetricsContext counterMetricsContext,
+      JobPhaseRecorder phaseRecorder) {
     if (finalResult instanceof ConnectorResult.SuccessResult successResult
         && successResult.connectorResponse() instanceof AdHocSubProcessConnectorResponse) {
       LOGGER.debug(
@@ -326,7 +393,8 @@ public class SpringConnectorJobHandler implements JobHandler {
               client,
               job,
               new ConnectorResult.ErrorResult(ignoreError.variables(), cause, 0, null),
-              counterMetricsContext);
+              counterMetricsContext,
+              phaseRecorder);
 
       notifyFailureOnCommandOutcome(
           failJobRequest,
@@ -341,7 +409,8 @@ public class SpringConnectorJobHandler implements JobHandler {
           context,
           new ConnectorResult.SuccessResult(
               StandardConnectorResponse.of(null), ignoreError.variables()),
-          counterMetricsContext);
+          counterMetricsContext,
+          phaseRecorder);
     }
   }
 
@@ -365,11 +434,10 @@ public class SpringConnectorJobHandler implements JobHandler {
       JobClient client,
       ActivatedJob job,
       ConnectorResult.ErrorResult result,
-      CounterMetricsContext counterMetricsContext) {
+      CounterMetricsContext counterMetricsContext,
+      JobPhaseRecorder phaseRecorder) {
     final var command = prepareFailJobCommand(client, job, result);
-    return jobCallbackCommandWrapperFactory
-        .create(command, job.getDeadline(), counterMetricsContext, MAX_ZEEBE_COMMAND_RETRIES)
-        .executeAsync();
+    return executeCommand(command, job, counterMetricsContext, phaseRecorder);
   }
 
   private static JobCallbackFinalCommandStep<FailJobResponse> prepareFailJobCommand(
@@ -398,11 +466,10 @@ public class SpringConnectorJobHandler implements JobHandler {
       JobClient client,
       ActivatedJob job,
       BpmnError value,
-      CounterMetricsContext counterMetricsContext) {
+      CounterMetricsContext counterMetricsContext,
+      JobPhaseRecorder phaseRecorder) {
     final var command = prepareThrowBpmnErrorCommand(client, job, value);
-    return jobCallbackCommandWrapperFactory
-        .create(command, job.getDeadline(), counterMetricsContext, MAX_ZEEBE_COMMAND_RETRIES)
-        .executeAsync();
+    return executeCommand(command, job, counterMetricsContext, phaseRecorder);
   }
 
   private static JobCallbackFinalCommandStep<ThrowErrorResponse> prepareThrowBpmnErrorCommand(
@@ -421,7 +488,8 @@ public class SpringConnectorJobHandler implements JobHandler {
       ActivatedJob job,
       OutboundConnectorContext context,
       ConnectorResult.SuccessResult result,
-      CounterMetricsContext counterMetricsContext) {
+      CounterMetricsContext counterMetricsContext,
+      JobPhaseRecorder phaseRecorder) {
     ConnectorResponse connectorResponse = result.connectorResponse();
 
     final var command =
@@ -432,9 +500,7 @@ public class SpringConnectorJobHandler implements JobHandler {
         };
 
     CompletableFuture<CommandOutcome> completeJobRequest =
-        jobCallbackCommandWrapperFactory
-            .create(command, job.getDeadline(), counterMetricsContext, MAX_ZEEBE_COMMAND_RETRIES)
-            .executeAsync();
+        executeCommand(command, job, counterMetricsContext, phaseRecorder);
 
     completeJobRequest.whenComplete(
         (outcome, throwable) -> {
@@ -449,6 +515,21 @@ public class SpringConnectorJobHandler implements JobHandler {
     return completeJobRequest;
   }
 
+  private CompletableFuture<CommandOutcome> executeCommand(
+      JobCallbackFinalCommandStep<?> command,
+      ActivatedJob job,
+      CounterMetricsContext counterMetricsContext,
+      JobPhaseRecorder phaseRecorder) {
+    long start = System.nanoTime();
+    var request =
+        jobCallbackCommandWrapperFactory
+            .create(command, job.getDeadline(), counterMetricsContext, MAX_ZEEBE_COMMAND_RETRIES)
+            .executeAsync();
+    request.whenComplete(
+        (outcome, throwable) -> phaseRecorder.record(Phase.COMPLETION, System.nanoTime() - start));
+    return request;
+  }
+
   private static JobCallbackFinalCommandStep<CompleteJobResponse> prepareCompleteJobCommand(
       JobClient client, ActivatedJob job, ConnectorResult.SuccessResult result) {
     return client.newCompleteCommand(job).variables(result.variables());
@@ -557,4 +638,10 @@ public class SpringConnectorJobHandler implements JobHandler {
       case CommandOutcome.Ignored i -> new CommandFailure.CommandIgnored(i.cause());
     };
   }
+
+  /** Secret providers discovered via SPI, initialized once on first use. */
+  private static final class DiscoveredSecretProvider {
+    private static final SecretProvider INSTANCE =
+        new SecretProviderAggregator(SecretProviderDiscovery.discoverSecretProviders());
+  }
 }
@@ -33,6 +33,9 @@ import io.camunda.connector.api.validation.ValidationProvider;
 import io.camunda.connector.runtime.core.config.OutboundConnectorConfiguration;
 import io.camunda.connector.runtime.core.outbound.OutboundConnectorFactory;
 import io.camunda.connector.runtime.core.secret.SecretProviderAggregator;
+import io.camunda.connector.runtime.metrics.OutboundPhaseTimers;
+import io.camunda.connector.runtime.outbound.job.BulkheadJobHandler;
+import io.camunda.connector.runtime.outbound.job.JobBulkheads;
 import io.camunda.connector.runtime.outbound.job.SpringConnectorJobHandler;
 import java.time.Duration;
 import java.util.Arrays;
@@ -52,6 +55,8 @@ public class OutboundConnectorManager implements CamundaClientLifecycleAware {
   private final ObjectMapper objectMapper;
   private final DocumentFactory documentFactory;
   private final MetricsRecorder metricsRecorder;
+  private final JobBulkheads jobBulkheads;
+  private final OutboundPhaseTimers phaseTimers;
 
   public OutboundConnectorManager(
       JobWorkerManager jobWorkerManager,
@@ -62,6 +67,34 @@ public class OutboundConnectorManager implements CamundaClientLifecycleAware {
       DocumentFactory documentFactory,
       ObjectMapper objectMapper,
       MetricsRecorder metricsRecorder) {
+    this(
+        jobWorkerManager,
+        connectorFactory,
+        jobCallbackCommandWrapperFactory,
+        secretProviderAggregator,
+        validationProvider,
+        documentFactory,
+        objectMapper,
+        metricsRecorder,
+        null,
+        null);
+  }
+
+  /**
+   * @param jobBulkheads if present, the number of concurrently running jobs is limited per job type
+   * @param phaseTimers if present, the time spent in the phases of each job is recorded
+   */
+  public OutboundConnectorManager(
+      JobWorkerManager jobWorkerManager,
+      OutboundConnectorFactory connectorFactory,
+      JobCallbackCommandWrapperFactory jobCallbackCommandWrapperFactory,
+      SecretProviderAggregator secretProviderAggregator,
+      ValidationProvider validationProvider,
+      DocumentFactory documentFactory,
+      ObjectMapper objectMapper,
+      MetricsRecorder metricsRecorder,
+      JobBulkheads jobBulkheads,
+      OutboundPhaseTimers phaseTimers) {
     this.jobWorkerManager = jobWorkerManager;
     this.connectorFactory = connectorFactory;
     this.jobCallbackCommandWrapperFactory = jobCallbackCommandWrapperFactory;
@@ -70,6 +103,8 @@ public class OutboundConnectorManager implements CamundaClientLifecycleAware {
     this.documentFactory = documentFactory;
     this.objectMapper = objectMapper;
     this.metricsRecorder = metricsRecorder;
+    this.jobBulkheads = jobBulkheads;
+    this.phaseTimers = phaseTimers;
   }
 
   @Override
@@ -107,15 +142,22 @@ public class OutboundConnectorManager implements CamundaClientLifecycleAware {
     LOG.trace("Opening worker for connector {}", connector.name());
 
     JobHandlerFactory jobHandlerFactory =
-        ctx ->
-            new SpringConnectorJobHandler(
-                metricsRecorder,
-                jobCallbackCommandWrapperFactory,
-                secretProviderAggregator,
-                validationProvider,
-                documentFactory,
-                objectMapper,
-                connectorFunction);
+        ctx -> {
+          var jobHandler =
+              new SpringConnectorJobHandler(
+                  metricsRecorder,
+                  jobCallbackCommandWrapperFactory,
+                  secretProviderAggregator,
+                  validationProvider,
+                  documentFactory,
+                  objectMapper,
+                  connectorFunction,
+                  phaseTimers);
+          if (jobBulkheads == null) {
+            return jobHandler;
+          }
+          return new BulkheadJobHandler(jobHandler, jobBulkheads);
+        };
     jobWorkerManager.createJobWorker(
         client, new ManagedJobWorker(jobWorkerValue, jobHandlerFactory), this);
   }
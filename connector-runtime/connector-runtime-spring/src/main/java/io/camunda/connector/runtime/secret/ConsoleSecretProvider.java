@@ -19,17 +19,24 @@ package io.camunda.connector.runtime.secret;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.camunda.connector.api.secret.SecretContext;
 import io.camunda.connector.api.secret.SecretProvider;
 import io.camunda.connector.runtime.secret.console.ConsoleSecretApiClient;
 import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * Secret provider that fetches secrets from the Console Cluster API provided by the Camunda SaaS
  * Platform.
+ *
+ * <p>Secrets are refreshed in the background once they are older than the configured refresh
+ * interval, while the previous secrets keep being served. Only a single load or refresh is in
+ * flight at a time; if a refresh fails, the previous secrets are retained until the next attempt.
  */
 public class ConsoleSecretProvider implements SecretProvider {
 
@@ -37,6 +44,13 @@ public class ConsoleSecretProvider implements SecretProvider {
 
   private static final String CACHE_KEY = "secrets";
 
+  private static final Executor REFRESH_EXECUTOR =
+      Executors.newSingleThreadExecutor(
+          new ThreadFactoryBuilder()
+              .setDaemon(true)
+              .setNameFormat("console-secrets-refresh-%d")
+              .build());
+
   private final LoadingCache<String, Map<String, String>> secretsCache;
 
   public ConsoleSecretProvider(
@@ -46,12 +60,14 @@ public class ConsoleSecretProvider implements SecretProvider {
         CacheBuilder.newBuilder()
             .refreshAfterWrite(cacheRefresh)
             .build(
-                new CacheLoader<>() {
-                  @Override
-                  public Map<String, String> load(String key) {
-                    return consoleSecretApiClient.getSecrets();
-                  }
-                });
+                CacheLoader.asyncReloading(
+                    new CacheLoader<>() {
+                      @Override
+                      public Map<String, String> load(String key) {
+                        return consoleSecretApiClient.getSecrets();
+                      }
+                    },
+                    REFRESH_EXECUTOR));
   }
 
   @Override
@@ -26,10 +26,15 @@ import org.apache.hc.client5.http.classic.methods.HttpGet;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
 import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.util.TimeValue;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-public class ConsoleSecretApiClient {
+/**
+ * Client of the Console secrets API. Requests share a single pooled HTTP client, so connections to
+ * the secrets endpoint are kept alive between refreshes.
+ */
+public class ConsoleSecretApiClient implements AutoCloseable {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(ConsoleSecretApiClient.class);
 
@@ -39,6 +44,12 @@ public class ConsoleSecretApiClient {
 
   private final ObjectMapper objectMapper = ConnectorsObjectMapperSupplier.getCopy();
 
+  private final CloseableHttpClient httpClient =
+      HttpClientBuilder.create()
+          .evictExpiredConnections()
+          .evictIdleConnections(TimeValue.ofMinutes(1))
+          .build();
+
   private static final TypeReference<Map<String, String>> mapTypeReference =
       new TypeReference<>() {};
 
@@ -56,7 +67,7 @@ public class ConsoleSecretApiClient {
 
   public Map<String, String> getSecrets() {
     LOGGER.debug("Loading secrets from {}", secretsEndpoint);
-    try (CloseableHttpClient httpClient = HttpClientBuilder.create().build()) {
+    try {
       var request = new HttpGet(secretsEndpoint);
       var authHeader = authentication.getTokenHeader();
       authHeader.forEach(request::addHeader);
@@ -79,4 +90,9 @@ public class ConsoleSecretApiClient {
               "Unable to handle response from Console secrets: " + response.getCode());
     };
   }
+
+  @Override
+  public void close() throws IOException {
+    httpClient.close();
+  }
 }
@@ -0,0 +1,201 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.inbound.executable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import io.camunda.connector.api.inbound.InboundConnectorExecutable;
+import io.camunda.connector.runtime.core.Keywords;
+import io.camunda.connector.runtime.core.inbound.*;
+import io.camunda.connector.runtime.core.inbound.activitylog.ActivityLogRegistry;
+import io.camunda.connector.runtime.core.inbound.correlation.StartEventCorrelationPoint;
+import io.camunda.connector.runtime.core.inbound.details.InboundConnectorDetails;
+import io.camunda.connector.runtime.core.inbound.details.InboundConnectorDetails.ValidInboundConnectorDetails;
+import io.camunda.connector.runtime.inbound.executable.BatchActivationSettings.ActivationFailurePolicy;
+import io.camunda.connector.runtime.inbound.executable.RegisteredExecutable.Activated;
+import io.camunda.connector.runtime.inbound.executable.RegisteredExecutable.FailedToActivate;
+import io.camunda.connector.runtime.metrics.ConnectorsInboundMetrics;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class BatchExecutableProcessorTest {
+
+  private InboundConnectorFactory factory;
+  private InboundConnectorContextFactory contextFactory;
+  private BatchExecutableProcessor processor;
+
+  @BeforeEach
+  public void prepareMocks() {
+    factory = mock(InboundConnectorFactory.class);
+    contextFactory = mock(InboundConnectorContextFactory.class);
+    when(contextFactory.createContext(any(), any(), any(), any()))
+        .thenAnswer(
+            invocation -> {
+              ValidInboundConnectorDetails details = invocation.getArgument(0);
+              var context = mock(InboundConnectorManagementContext.class);
+              when(context.connectorElements()).thenReturn(details.connectorElements());
+              return context;
+            });
+  }
+
+  @AfterEach
+  public void close() {
+    if (processor != null) {
+      processor.close();
+    }
+  }
+
+  @Test
+  public void activateBatch_shouldActivateExecutablesConcurrently() throws Exception {
+    // given
+    processor = createProcessor(ActivationFailurePolicy.ALL_OR_NOTHING, Duration.ZERO);
+    var bothStarted = new CountDownLatch(2);
+    var executable = mock(InboundConnectorExecutable.class);
+    doAnswer(
+            invocation -> {
+              bothStarted.countDown();
+              // only succeeds if both activations run at the same time
+              if (!bothStarted.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Activations did not run concurrently");
+              }
+              return null;
+            })
+        .when(executable)
+        .activate(any());
+    when(factory.getInstance(any())).thenReturn(executable);
+
+    // when
+    var result = processor.activateBatch(request("type1", "type2"), e -> {});
+
+    // then
+    assertThat(result.values()).allMatch(Activated.class::isInstance);
+  }
+
+  @Test
+  public void activateBatch_allOrNothing_shouldDeactivateOthersOnTimeout() throws Exception {
+    // given
+    processor = createProcessor(ActivationFailurePolicy.ALL_OR_NOTHING, Duration.ofMillis(200));
+    var fast = mock(InboundConnectorExecutable.class);
+    var slow = mock(InboundConnectorExecutable.class);
+    doAnswer(
+            invocation -> {
+              Thread.sleep(2000);
+              return null;
+            })
+        .when(slow)
+        .activate(any());
+    when(factory.getInstance("fast")).thenReturn(fast);
+    when(factory.getInstance("slow")).thenReturn(slow);
+
+    // when
+    var result = processor.activateBatch(request("fast", "slow"), e -> {});
+
+    // then
+    assertThat(result.values()).allMatch(FailedToActivate.class::isInstance);
+    assertThat(result.values())
+        .map(e -> ((FailedToActivate) e).reason())
+        .allMatch(reason -> reason.contains("Activation timed out after PT0.2S"));
+    verify(fast).deactivate();
+    // the late activation is rolled back as well
+    verify(slow, timeout(5000)).deactivate();
+  }
+
+  @Test
+  public void activateBatch_keepIndependent_shouldKeepOthersActive() throws Exception {
+    // given
+    processor = createProcessor(ActivationFailurePolicy.KEEP_INDEPENDENT, Duration.ZERO);
+    var healthy = mock(InboundConnectorExecutable.class);
+    var failing = mock(InboundConnectorExecutable.class);
+    doThrow(new RuntimeException("connection refused")).when(failing).activate(any());
+    when(factory.getInstance("healthy")).thenReturn(healthy);
+    when(factory.getInstance("failing")).thenReturn(failing);
+
+    // when
+    var result = processor.activateBatch(request("healthy", "failing"), e -> {});
+
+    // then
+    assertThat(result.get(idOf("healthy"))).isInstanceOf(Activated.class);
+    assertThat(result.get(idOf("failing")))
+        .isInstanceOfSatisfying(
+            FailedToActivate.class,
+            failed -> assertThat(failed.reason()).isEqualTo("connection refused"));
+    verify(healthy, never()).deactivate();
+    assertThat(processor.retriesFailedActivations()).isTrue();
+  }
+
+  @Test
+  public void retryActivation_shouldActivateOnceConnectorRecovers() throws Exception {
+    // given
+    processor = createProcessor(ActivationFailurePolicy.KEEP_INDEPENDENT, Duration.ZERO);
+    var executable = mock(InboundConnectorExecutable.class);
+    doThrow(new RuntimeException("connection refused"))
+        .doThrow(new RuntimeException("connection refused"))
+        .doNothing()
+        .when(executable)
+        .activate(any());
+    when(factory.getInstance(any())).thenReturn(executable);
+    var failed =
+        (FailedToActivate) processor.activateBatch(request("type1"), e -> {}).get(idOf("type1"));
+
+    // when
+    var result = processor.retryActivation(failed, e -> {}).get(5, TimeUnit.SECONDS);
+
+    // then
+    assertThat(result).isInstanceOf(Activated.class);
+    verify(executable, times(3)).activate(any());
+  }
+
+  private BatchExecutableProcessor createProcessor(
+      ActivationFailurePolicy failurePolicy, Duration timeout) {
+    return new BatchExecutableProcessor(
+        factory,
+        contextFactory,
+        mock(ConnectorsInboundMetrics.class),
+        null,
+        new ActivityLogRegistry(),
+        new BatchActivationSettings(4, timeout, failurePolicy, 3, Duration.ofMillis(10)));
+  }
+
+  private Map<ExecutableId, InboundConnectorDetails> request(String... types) {
+    Map<ExecutableId, InboundConnectorDetails> request = new HashMap<>();
+    for (String type : types) {
+      var element =
+          new InboundConnectorElement(
+              Map.of(Keywords.INBOUND_TYPE_KEYWORD, type),
+              new StartEventCorrelationPoint("processId", 0, 0),
+              new ProcessElementWithRuntimeData("processId", 0, 0, type, "tenant"));
+      request.put(
+          idOf(type),
+          new ValidInboundConnectorDetails(
+              type, "tenant", type, Map.of(), List.of(element), "processId"));
+    }
+    return request;
+  }
+
+  private static ExecutableId idOf(String type) {
+    return ExecutableId.fromDeduplicationId(type);
+  }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.inbound.executable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.connector.runtime.core.inbound.ExecutableId;
+import io.camunda.connector.runtime.inbound.executable.InboundExecutableEvent.Cancelled;
+import io.camunda.connector.runtime.inbound.executable.InboundExecutableEvent.ProcessStateChanged;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+
+public class InboundExecutableEventLoopTest {
+
+  private static final Function<InboundExecutableEvent, String> GROUP_KEY =
+      event ->
+          switch (event) {
+            case ProcessStateChanged stateChanged ->
+                stateChanged.tenantId() + stateChanged.bpmnProcessId();
+            case Cancelled cancelled -> cancelled.id().toString();
+          };
+
+  @Test
+  void coalesce_shouldKeepOnlyLatestStateChangePerProcess() {
+    // given
+    var activate = new ProcessStateChanged("process1", "tenant", Map.of(1L, List.of()));
+    var deactivate = new ProcessStateChanged("process1", "tenant", Map.of());
+    var other = new ProcessStateChanged("process2", "tenant", Map.of(2L, List.of()));
+
+    // when
+    var groups =
+        InboundExecutableEventLoop.coalesce(List.of(activate, other, deactivate), GROUP_KEY);
+
+    // then
+    assertThat(groups).hasSize(2);
+    assertThat(groups.get("tenantprocess1")).containsExactly(deactivate);
+    assertThat(groups.get("tenantprocess2")).containsExactly(other);
+  }
+
+  @Test
+  void coalesce_shouldNotDropCancellations() {
+    // given
+    var id = ExecutableId.fromDeduplicationId("id");
+    var first = new Cancelled(id, new RuntimeException("first"));
+    var second = new Cancelled(id, new RuntimeException("second"));
+
+    // when
+    var groups = InboundExecutableEventLoop.coalesce(List.of(first, second), GROUP_KEY);
+
+    // then
+    assertThat(groups.get(id.toString())).containsExactly(first, second);
+  }
+
+  @Test
+  void publish_shouldHandleEventWithoutWaitingForSchedule() throws InterruptedException {
+    // given
+    var handled = new CopyOnWriteArrayList<InboundExecutableEvent>();
+    var latch = new CountDownLatch(1);
+    var event = new ProcessStateChanged("process", "tenant", Map.of());
+
+    try (var loop =
+        new InboundExecutableEventLoop(
+            GROUP_KEY,
+            e -> {
+              handled.add(e);
+              latch.countDown();
+            },
+            2)) {
+      loop.start();
+
+      // when
+      loop.publish(event);
+
+      // then
+      assertThat(latch.await(500, TimeUnit.MILLISECONDS)).isTrue();
+      assertThat(handled).containsExactly(event);
+    }
+  }
+}
@@ -19,8 +19,11 @@ package io.camunda.connector.runtime.inbound.webhook;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import io.camunda.connector.api.inbound.Health;
+import io.camunda.connector.runtime.inbound.webhook.model.CommonWebhookProperties;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -132,4 +135,63 @@ public class WebhookConnectorRegistryTest extends WebhookTestsBase {
     assertFalse(isRegistered(webhook, processA2));
     assertTrue(isRegistered(webhook, processA1));
   }
+
+  @Test
+  public void webhookPropertiesAreBoundOncePerRegistration() {
+    WebhookConnectorRegistry webhook = new WebhookConnectorRegistry();
+
+    // given
+    var processA1 = buildConnector("processA", 1, "myPath");
+    webhook.register(processA1);
+    assertThat(webhook.getActiveWebhook("myPath")).contains(processA1);
+
+    // when
+    webhook.deregister(processA1);
+
+    // then
+    verify(processA1.context(), times(1)).bindProperties(CommonWebhookProperties.class);
+    assertThat(webhook.getActiveWebhook("myPath")).isEmpty();
+  }
+
+  @Test
+  public void routingTableFollowsQueuedWebhooks() {
+    WebhookConnectorRegistry webhook = new WebhookConnectorRegistry();
+
+    // given
+    var processA1 = buildConnector("processA", 1, "myPath");
+    var processB1 = buildConnector("processB", 1, "myPath");
+    var processC1 = buildConnector("processC", 1, "myPath");
+    webhook.register(processA1);
+    webhook.register(processB1);
+    webhook.register(processC1);
+
+    // when
+    webhook.deregister(processB1);
+    webhook.deregister(processA1);
+
+    // then
+    assertThat(webhook.getActiveWebhook("myPath")).contains(processC1);
+    assertThat(webhook.getExecutablesByContext().get("myPath").getInactiveExecutables()).isEmpty();
+  }
+
+  @Test
+  public void executablesByContextIsASnapshot() {
+    WebhookConnectorRegistry webhook = new WebhookConnectorRegistry();
+
+    // given
+    var processA1 = buildConnector("processA", 1, "myPath");
+    var processB1 = buildConnector("processB", 1, "myPath");
+    webhook.register(processA1);
+    webhook.register(processB1);
+
+    // when
+    var snapshot = webhook.getExecutablesByContext();
+    snapshot.get("myPath").deregister(processB1);
+
+    // then
+    assertThat(snapshot.get("myPath").getInactiveExecutables()).isEmpty();
+    assertThat(webhook.getExecutablesByContext().get("myPath").getInactiveExecutables())
+        .containsExactly(processB1);
+    assertThrows(UnsupportedOperationException.class, () -> snapshot.remove("myPath"));
+  }
 }
@@ -23,6 +23,7 @@ import static io.camunda.connector.runtime.instances.helpers.ActiveInboundConnec
 import static io.camunda.connector.runtime.instances.helpers.ActiveInboundConnectorResponseHelper.createResponse;
 import static io.camunda.connector.runtime.instances.helpers.ConnectorInstancesListResponseHelper.assertResponse;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
@@ -232,4 +233,79 @@ public class DefaultInstanceForwardingServiceIntegrationTest {
       assertThat(reducedResponse).containsAll(activities2);
     }
   }
+
+  @Nested
+  class PartialResponseTests {
+
+    private final List<InstanceAwareModel.InstanceAwareHealth> health =
+        List.of(
+            new InstanceAwareModel.InstanceAwareHealth(Health.Status.UP, null, null, "runtime1"));
+
+    @Test
+    public void shouldIgnoreInstancesWithoutTheResource() throws IOException {
+      // given
+      stubRuntimeWith(runtime1, health);
+      runtime2.stubFor(get(urlPathMatching("/api/forward")).willReturn(notFound()));
+      DefaultInstanceForwardingService service =
+          new DefaultInstanceForwardingService(instanceForwardingHttpClient, "localhost");
+
+      // when
+      var reducedResponse =
+          service.forwardAndReduce(
+              forwardedRequest(),
+              new TypeReference<List<InstanceAwareModel.InstanceAwareHealth>>() {});
+
+      // then
+      assertThat(reducedResponse).containsExactlyElementsOf(health);
+    }
+
+    @Test
+    public void shouldFail_whenAnInstanceFails() throws IOException {
+      // given
+      stubRuntimeWith(runtime1, health);
+      runtime2.stubFor(get(urlPathMatching("/api/forward")).willReturn(serverError()));
+      DefaultInstanceForwardingService service =
+          new DefaultInstanceForwardingService(instanceForwardingHttpClient, "localhost");
+
+      // when
+      assertThatThrownBy(
+              () ->
+                  service.forwardAndReduce(
+                      forwardedRequest(),
+                      new TypeReference<List<InstanceAwareModel.InstanceAwareHealth>>() {}))
+          // then
+          .isInstanceOf(InstanceForwardingException.class)
+          .hasMessageContaining("status 500")
+          .satisfies(
+              e ->
+                  assertThat(((InstanceForwardingException) e).getFailedInstances())
+                      .containsExactly(runtime2.baseUrl() + "/api/forward?param=value"));
+    }
+
+    @Test
+    public void shouldFail_whenEveryInstanceFails() {
+      // given
+      runtime1.stubFor(get(urlPathMatching("/api/forward")).willReturn(serverError()));
+      runtime2.stubFor(get(urlPathMatching("/api/forward")).willReturn(serverError()));
+      DefaultInstanceForwardingService service =
+          new DefaultInstanceForwardingService(instanceForwardingHttpClient, "localhost");
+
+      // when
+      assertThatThrownBy(
+              () ->
+                  service.forwardAndReduce(
+                      forwardedRequest(),
+                      new TypeReference<List<InstanceAwareModel.InstanceAwareHealth>>() {}))
+          // then
+          .isInstanceOf(InstanceForwardingException.class)
+          .hasMessageContaining("failed on 2 instance(s)");
+    }
+
+    private MockHttpServletRequest forwardedRequest() {
+      var request = new MockHttpServletRequest("GET", "/api/forward");
+      request.setQueryString("param=value");
+      request.addHeader("Authorization", "Bearer xyz");
+      return request;
+    }
+  }
 }
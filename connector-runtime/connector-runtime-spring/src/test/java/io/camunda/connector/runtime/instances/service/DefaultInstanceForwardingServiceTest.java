@@ -16,18 +16,23 @@
  */
 package io.camunda.connector.runtime.instances.service;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.*;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import io.camunda.connector.api.inbound.Health;
 import io.camunda.connector.jackson.ConnectorsObjectMapperSupplier;
 import io.camunda.connector.runtime.core.http.InstanceForwardingHttpClient;
+import io.camunda.connector.runtime.core.http.InstanceForwardingHttpClient.InstanceResponse;
+import io.camunda.connector.runtime.core.http.InstanceForwardingHttpClient.ReducedResponse;
 import io.camunda.connector.runtime.core.inbound.ExecutableId;
 import io.camunda.connector.runtime.inbound.controller.ActiveInboundConnectorResponse;
 import io.camunda.connector.runtime.inbound.executable.ConnectorInstances;
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeoutException;
 import org.junit.jupiter.api.Test;
 import org.springframework.mock.web.MockHttpServletRequest;
 
@@ -59,19 +64,52 @@ public class DefaultInstanceForwardingServiceTest {
     mockHttpServletRequest.setContent(
         ConnectorsObjectMapperSupplier.getCopy().writeValueAsBytes(body));
     mockHttpServletRequest.addHeader("Authorization", "Bearer token");
+    when(mockHttpClient.executeAndReduce(any(), any(), any(), any(), any(), any(), any()))
+        .thenReturn(new ReducedResponse<>(body, List.of()));
 
     // When
     TypeReference<ConnectorInstances> responseType = new TypeReference<>() {};
-    service.forwardAndReduce(mockHttpServletRequest, responseType);
+    var result = service.forwardAndReduce(mockHttpServletRequest, responseType);
 
     // Then
     verify(mockHttpClient, times(1))
-        .execute(
-            "POST",
-            "/api/forward?param=value&param2=value2",
-            ConnectorsObjectMapperSupplier.getCopy().writeValueAsString(body),
-            Map.of("Authorization", "Bearer token"),
-            responseType,
-            "localhost");
+        .executeAndReduce(
+            eq("POST"),
+            eq("/api/forward?param=value&param2=value2"),
+            eq(ConnectorsObjectMapperSupplier.getCopy().writeValueAsString(body)),
+            eq(Map.of("Authorization", "Bearer token")),
+            eq(responseType),
+            eq("localhost"),
+            any());
+    assertThat(result).isEqualTo(body);
+  }
+
+  @Test
+  public void shouldFailRequest_whenAnInstanceFailed() throws IOException {
+    // Given
+    InstanceForwardingHttpClient mockHttpClient = mock(InstanceForwardingHttpClient.class);
+    DefaultInstanceForwardingService service =
+        new DefaultInstanceForwardingService(mockHttpClient, "localhost");
+    var mockHttpServletRequest =
+        new MockHttpServletRequest("POST", "/inbound-instances/executables/id/reset");
+    when(mockHttpClient.executeAndReduce(any(), any(), any(), any(), any(), any(), any()))
+        .thenReturn(
+            new ReducedResponse<>(
+                null,
+                List.of(
+                    new InstanceResponse<>(
+                        "http://10.0.0.11:8080", null, new TimeoutException()))));
+
+    // When
+    TypeReference<ActiveInboundConnectorResponse> responseType = new TypeReference<>() {};
+
+    // Then
+    assertThatThrownBy(() -> service.forwardAndReduce(mockHttpServletRequest, responseType))
+        .isInstanceOf(InstanceForwardingException.class)
+        .hasMessageContaining("POST /inbound-instances/executables/id/reset")
+        .satisfies(
+            e ->
+                assertThat(((InstanceForwardingException) e).getFailedInstances())
+                    .containsExactly("http://10.0.0.11:8080"));
   }
 }
@@ -0,0 +1,85 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.connector.runtime.core.outbound.JobPhaseRecorder;
+import io.camunda.connector.runtime.core.outbound.JobPhaseRecorder.Phase;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class OutboundPhaseTimersTest {
+
+  @Test
+  void shouldRecordPhasesPerJobType() {
+    // given
+    var registry = new SimpleMeterRegistry();
+    var timers = new OutboundPhaseTimers(registry);
+
+    // when
+    timers.forJobType("io.camunda:http-json:1").record(Phase.EXECUTION, 2_000_000);
+    timers.forJobType("io.camunda:http-json:1").record(Phase.EXECUTION, 4_000_000);
+    timers.forJobType("io.camunda:soap").record(Phase.SECRETS, 1_000_000);
+
+    // then
+    var execution =
+        registry
+            .get(ConnectorMetrics.Outbound.METRIC_NAME_PHASE_TIME)
+            .tags(
+                ConnectorMetrics.Tag.TYPE,
+                "io.camunda:http-json:1",
+                ConnectorMetrics.Tag.PHASE,
+                "execution")
+            .timer();
+    assertThat(execution.count()).isEqualTo(2);
+    assertThat(execution.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(6);
+    var secrets =
+        registry
+            .get(ConnectorMetrics.Outbound.METRIC_NAME_PHASE_TIME)
+            .tags(
+                ConnectorMetrics.Tag.TYPE, "io.camunda:soap", ConnectorMetrics.Tag.PHASE, "secrets")
+            .timer();
+    assertThat(secrets.count()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldReuseRecorderOfJobType() {
+    // given
+    var timers = new OutboundPhaseTimers(new SimpleMeterRegistry());
+
+    // when
+    var first = timers.forJobType("io.camunda:http-json:1");
+    var second = timers.forJobType("io.camunda:http-json:1");
+
+    // then
+    assertThat(second).isSameAs(first);
+  }
+
+  @Test
+  void shouldNotRecordWithoutMeterRegistry() {
+    // given
+    var timers = new OutboundPhaseTimers(null);
+
+    // when
+    var recorder = timers.forJobType("io.camunda:http-json:1");
+
+    // then
+    assertThat(recorder).isSameAs(JobPhaseRecorder.NOOP);
+  }
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.outbound.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.camunda.client.api.response.ActivatedJob;
+import io.camunda.client.api.worker.JobClient;
+import io.camunda.client.api.worker.JobHandler;
+import io.camunda.connector.runtime.metrics.ConnectorMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+
+public class JobBulkheadsTest {
+
+  @Test
+  void saturatedJobTypeWaitsForCapacity_otherTypesAreNotAffected() throws Exception {
+    // given
+    var meterRegistry = new SimpleMeterRegistry();
+    var bulkheads = new JobBulkheads(1, Map.of(), meterRegistry);
+    var slot = bulkheads.acquire("slow");
+
+    // when
+    var waiting = CompletableFuture.supplyAsync(() -> acquireUninterruptibly(bulkheads, "slow"));
+    var otherType = bulkheads.acquire("fast");
+
+    // then
+    otherType.close();
+    Thread.sleep(200);
+    assertThat(waiting).isNotDone();
+    assertThat(
+            meterRegistry
+                .get(ConnectorMetrics.Outbound.METRIC_NAME_BULKHEAD_SATURATIONS)
+                .tag(ConnectorMetrics.Tag.TYPE, "slow")
+                .counter()
+                .count())
+        .isEqualTo(1);
+    assertThat(
+            meterRegistry
+                .get(ConnectorMetrics.Outbound.METRIC_NAME_BULKHEAD_RUNNING)
+                .tag(ConnectorMetrics.Tag.TYPE, "slow")
+                .gauge()
+                .value())
+        .isEqualTo(1);
+    assertThat(
+            meterRegistry
+                .get(ConnectorMetrics.Outbound.METRIC_NAME_BULKHEAD_QUEUED)
+                .tag(ConnectorMetrics.Tag.TYPE, "slow")
+                .gauge()
+                .value())
+        .isEqualTo(1);
+
+    // and when
+    slot.close();
+
+    // then
+    waiting.get(5, TimeUnit.SECONDS).close();
+  }
+
+  @Test
+  void maxConcurrencyByTypeIsParsed() {
+    assertThat(JobBulkheads.parseMaxConcurrencyByType("io.camunda:http-json:1=16, soap = 4"))
+        .containsExactlyInAnyOrderEntriesOf(Map.of("io.camunda:http-json:1", 16, "soap", 4));
+    assertThat(JobBulkheads.parseMaxConcurrencyByType("")).isEmpty();
+    assertThatThrownBy(() -> JobBulkheads.parseMaxConcurrencyByType("io.camunda:http-json:1"))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void handlerRunsJobOnCallingThread() throws Exception {
+    // given
+    var handlerThread = new AtomicReference<Thread>();
+    JobHandler delegate = (c, j) -> handlerThread.set(Thread.currentThread());
+    var job = mock(ActivatedJob.class);
+    when(job.getType()).thenReturn("type");
+    var handler = new BulkheadJobHandler(delegate, new JobBulkheads(1, Map.of(), null));
+
+    // when
+    handler.handle(mock(JobClient.class), job);
+
+    // then
+    assertThat(handlerThread.get()).isSameAs(Thread.currentThread());
+  }
+
+  @Test
+  void handlerRethrowsJobFailuresAndFreesTheSlot() throws Exception {
+    // given
+    var bulkheads = new JobBulkheads(1, Map.of(), null);
+    JobHandler delegate =
+        (c, j) -> {
+          throw new IllegalStateException("failed");
+        };
+    var job = mock(ActivatedJob.class);
+    when(job.getType()).thenReturn("type");
+    var handler = new BulkheadJobHandler(delegate, bulkheads);
+
+    // when
+    assertThatThrownBy(() -> handler.handle(mock(JobClient.class), job))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("failed");
+
+    // then
+    var next = CompletableFuture.supplyAsync(() -> acquireUninterruptibly(bulkheads, "type"));
+    next.get(5, TimeUnit.SECONDS).close();
+  }
+
+  @Test
+  void saturatedWorkerStopsActivatingJobs() throws Exception {
+    // given a job worker with 2 activation credits, mirroring the client's job worker: a credit
+    // is taken per activated job and only returned once the handler returned
+    var credits = new Semaphore(2);
+    var activated = new AtomicInteger();
+    var release = new CountDownLatch(1);
+    var client = mock(JobClient.class);
+    var job = mock(ActivatedJob.class);
+    when(job.getType()).thenReturn("type");
+    JobHandler delegate = (c, j) -> release.await(5, TimeUnit.SECONDS);
+    ExecutorService workerThreads = Executors.newCachedThreadPool();
+    var handler = new BulkheadJobHandler(delegate, new JobBulkheads(1, Map.of(), null));
+    var activation =
+        Thread.ofPlatform()
+            .daemon()
+            .start(
+                () -> {
+                  while (!Thread.currentThread().isInterrupted()) {
+                    try {
+                      credits.acquire();
+                    } catch (InterruptedException e) {
+                      return;
+                    }
+                    activated.incrementAndGet();
+                    workerThreads.execute(
+                        () -> {
+                          try {
+                            handler.handle(client, job);
+                          } catch (Exception e) {
+                            throw new IllegalStateException(e);
+                          } finally {
+                            credits.release();
+                          }
+                        });
+                  }
+                });
+    try {
+      // when the single slot is taken and the other credit is held by a waiting handler
+      Thread.sleep(300);
+
+      // then the worker stops activating jobs and no job is failed back
+      assertThat(activated.get()).isEqualTo(2);
+      verify(client, never()).newFailCommand(any(ActivatedJob.class));
+
+      // and when the running job completes
+      release.countDown();
+
+      // then the worker activates jobs again
+      Thread.sleep(300);
+      assertThat(activated.get()).isGreaterThan(2);
+    } finally {
+      activation.interrupt();
+      workerThreads.shutdownNow();
+    }
+  }
+
+  @Test
+  void interruptedHandlerHandsBackJobWithoutConsumingRetries() throws Exception {
+    // given
+    var delegate = mock(JobHandler.class);
+    var client = mock(JobClient.class, RETURNS_DEEP_STUBS);
+    var job = mock(ActivatedJob.class);
+    when(job.getType()).thenReturn("type");
+    when(job.getRetries()).thenReturn(3);
+    var failCommand = client.newFailCommand(job).retries(anyInt());
+    when(failCommand.errorMessage(anyString()).send().exceptionally(any())).thenReturn(null);
+    var bulkheads = mock(JobBulkheads.class);
+    when(bulkheads.acquire(any())).thenThrow(new InterruptedException());
+    var handler = new BulkheadJobHandler(delegate, bulkheads);
+
+    // when
+    handler.handle(client, job);
+
+    // then
+    assertThat(Thread.interrupted()).isTrue();
+    verify(client.newFailCommand(job)).retries(3);
+    verify(delegate, never()).handle(any(), any());
+  }
+
+  private static JobBulkheads.Slot acquireUninterruptibly(JobBulkheads bulkheads, String jobType) {
+    try {
+      return bulkheads.acquire(jobType);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -21,6 +21,7 @@ import static com.github.tomakehurst.wiremock.client.WireMock.matching;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlPathMatching;
 import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
 import static org.assertj.core.api.Assertions.*;
+import static org.awaitility.Awaitility.await;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.when;
 
@@ -122,7 +123,43 @@ public class ConsoleSecretProviderTest {
             .withHeader("Authorization", matching("Bearer XXX"))
             .willReturn(ResponseDefinitionBuilder.okForJson(secretsResponse)));
 
-    // New secrets should be resolved
-    assertThat(consoleSecretProvider.getSecret("secretKey", null)).isEqualTo("newSecretValue");
+    // New secrets should be resolved once refreshed in the background
+    await()
+        .atMost(Duration.ofSeconds(5))
+        .untilAsserted(
+            () ->
+                assertThat(consoleSecretProvider.getSecret("secretKey", null))
+                    .isEqualTo("newSecretValue"));
+  }
+
+  @Test
+  void testPreviousSecretsServedWhileRefreshing() throws InterruptedException {
+    // Mock response
+    wm.stubFor(
+        get(urlPathMatching("/secrets"))
+            .withHeader("Authorization", matching("Bearer XXX"))
+            .willReturn(
+                ResponseDefinitionBuilder.okForJson(
+                    Collections.singletonMap("secretKey", "secretValue"))));
+
+    var consoleSecretProvider = new ConsoleSecretProvider(client, Duration.ofMillis(1));
+    assertThat(consoleSecretProvider.getSecret("secretKey", null)).isEqualTo("secretValue");
+
+    // Sleep so cache requires a new refresh
+    Thread.sleep(10);
+
+    // Mock slow response with a new value
+    wm.stubFor(
+        get(urlPathMatching("/secrets"))
+            .withHeader("Authorization", matching("Bearer XXX"))
+            .willReturn(
+                ResponseDefinitionBuilder.okForJson(
+                        Collections.singletonMap("secretKey", "newSecretValue"))
+                    .withFixedDelay(2000)));
+
+    // Previously cached secret should be resolved without waiting for the refresh
+    var start = System.nanoTime();
+    assertThat(consoleSecretProvider.getSecret("secretKey", null)).isEqualTo("secretValue");
+    assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(1));
   }
 }
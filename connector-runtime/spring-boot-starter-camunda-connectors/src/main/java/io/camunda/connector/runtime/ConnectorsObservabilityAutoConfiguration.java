@@ -17,8 +17,10 @@
 package io.camunda.connector.runtime;
 
 import io.camunda.client.CamundaClient;
+import io.camunda.connector.runtime.core.document.store.InMemoryDocumentStore;
 import io.camunda.connector.runtime.inbound.importer.ImportSchedulers;
 import io.camunda.connector.runtime.metrics.ContextAwareLogbackMetrics;
+import io.camunda.connector.runtime.metrics.InMemoryDocumentStoreMetrics;
 import io.micrometer.core.instrument.binder.logging.LogbackMetrics;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
@@ -37,6 +39,11 @@ public class ConnectorsObservabilityAutoConfiguration {
     return new ContextAwareLogbackMetrics();
   }
 
+  @Bean
+  public InMemoryDocumentStoreMetrics inMemoryDocumentStoreMetrics() {
+    return new InMemoryDocumentStoreMetrics(InMemoryDocumentStore.INSTANCE);
+  }
+
   @Bean(name = "zeebeClientHealthIndicator") // overrides the health indicator from Spring Zeebe
   public ZeebeHealthIndicator zeebeClientHealthIndicator(CamundaClient camundaClient) {
     return new ZeebeHealthIndicator(camundaClient);
@@ -280,6 +280,27 @@ class InboundInstancesRestControllerMultiInstancesTest extends BaseMultiInstance
             new InstanceAwareModel.InstanceAwareHealth(Health.Status.UP, null, null, "instance1")));
   }
 
+  @Test
+  public void shouldReturn502_whenResetFailsOnAnInstance() {
+    doThrow(new RuntimeException("Reset failed")).when(executableRegistry2).reset(RANDOM_ID_1);
+
+    ResponseEntity<String> response =
+        restTemplate.exchange(
+            "http://localhost:"
+                + port1
+                + "/inbound-instances/executables/"
+                + RANDOM_ID_1.getId()
+                + "/reset",
+            HttpMethod.POST,
+            null,
+            String.class);
+
+    assertEquals(502, response.getStatusCode().value());
+    assertThat(response.getBody(), containsString("failed on 1 instance(s)"));
+    assertThat(response.getBody(), containsString("localhost:" + port2));
+    verify(executableRegistry1).reset(RANDOM_ID_1);
+  }
+
   @Test
   public void shouldReturnEmptyList_whenNoConnectors() {
     reset(executableRegistry1, executableRegistry2);
@@ -0,0 +1,149 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.inbound;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import io.camunda.connector.api.document.Document;
+import io.camunda.connector.api.inbound.ActivationCheckResult;
+import io.camunda.connector.api.inbound.CorrelationRequest;
+import io.camunda.connector.api.inbound.CorrelationResult;
+import io.camunda.connector.api.inbound.ProcessElement;
+import io.camunda.connector.api.inbound.webhook.MappedHttpRequest;
+import io.camunda.connector.api.inbound.webhook.WebhookConnectorExecutable;
+import io.camunda.connector.api.inbound.webhook.WebhookProcessingPayload;
+import io.camunda.connector.api.inbound.webhook.WebhookResult;
+import io.camunda.connector.runtime.app.TestConnectorRuntimeApplication;
+import io.camunda.connector.runtime.core.inbound.ExecutableId;
+import io.camunda.connector.runtime.core.inbound.InboundConnectorManagementContext;
+import io.camunda.connector.runtime.inbound.executable.RegisteredExecutable;
+import io.camunda.connector.runtime.inbound.webhook.WebhookConnectorRegistry;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockPart;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest(classes = TestConnectorRuntimeApplication.class)
+@AutoConfigureMockMvc
+class InboundWebhookRestControllerTest {
+
+  private static final String CONTEXT = "myPath";
+
+  @Autowired private MockMvc mockMvc;
+
+  @MockitoBean private WebhookConnectorRegistry webhookConnectorRegistry;
+
+  private final WebhookConnectorExecutable executable = mock(WebhookConnectorExecutable.class);
+  private final InboundConnectorManagementContext context =
+      mock(InboundConnectorManagementContext.class);
+  private final ActivationCheckResult activationCheckResult =
+      new ActivationCheckResult.Success.CanActivate(mock(ProcessElement.class));
+
+  @BeforeEach
+  public void init() throws Exception {
+    var webhookResult = mock(WebhookResult.class);
+    when(webhookResult.request()).thenReturn(new MappedHttpRequest(Map.of(), Map.of(), Map.of()));
+    when(executable.triggerWebhook(any(WebhookProcessingPayload.class))).thenReturn(webhookResult);
+    when(context.canActivate(any())).thenReturn(activationCheckResult);
+    when(context.correlate(any()))
+        .thenReturn(
+            new CorrelationResult.Success.MessageAlreadyCorrelated(mock(ProcessElement.class)));
+    when(webhookConnectorRegistry.getActiveWebhook(CONTEXT))
+        .thenReturn(
+            Optional.of(
+                new RegisteredExecutable.Activated(
+                    executable, context, ExecutableId.fromDeduplicationId("webhook"))));
+  }
+
+  @Test
+  public void shouldReturn404_whenNoWebhookIsRegisteredForPath() throws Exception {
+    when(webhookConnectorRegistry.getActiveWebhook("unknownPath")).thenReturn(Optional.empty());
+
+    mockMvc
+        .perform(
+            post("/inbound/unknownPath")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"key\": \"value\"}"))
+        .andExpect(status().isNotFound());
+
+    verify(executable, never()).triggerWebhook(any());
+  }
+
+  @Test
+  public void shouldEvaluateActivationOnce_andReuseItForCorrelation() throws Exception {
+    mockMvc
+        .perform(
+            post("/inbound/" + CONTEXT)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"key\": \"value\"}"))
+        .andExpect(status().isOk());
+
+    verify(context, times(1)).canActivate(any());
+    var correlationRequest = ArgumentCaptor.forClass(CorrelationRequest.class);
+    verify(context).correlate(correlationRequest.capture());
+    assertThat(correlationRequest.getValue().getActivationCheckResult())
+        .isEqualTo(activationCheckResult);
+  }
+
+  @Test
+  public void shouldNotReuseActivation_whenDocumentsWereCreated() throws Exception {
+    when(context.create(any())).thenReturn(mock(Document.class));
+
+    mockMvc
+        .perform(
+            multipart("/inbound/" + CONTEXT)
+                .part(new MockPart("file", "file.txt", "content".getBytes())))
+        .andExpect(status().isOk());
+
+    verify(context).create(any());
+    var correlationRequest = ArgumentCaptor.forClass(CorrelationRequest.class);
+    verify(context).correlate(correlationRequest.capture());
+    assertThat(correlationRequest.getValue().getActivationCheckResult()).isNull();
+  }
+
+  @Test
+  public void shouldPassLowercaseHeadersToConnector() throws Exception {
+    mockMvc
+        .perform(
+            post("/inbound/" + CONTEXT)
+                .header("X-Custom-Header", "value")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{}"))
+        .andExpect(status().isOk());
+
+    var payload = ArgumentCaptor.forClass(WebhookProcessingPayload.class);
+    verify(executable).triggerWebhook(payload.capture());
+    assertThat(payload.getValue().headers()).containsEntry("x-custom-header", "value");
+  }
+}
@@ -36,6 +36,7 @@ import java.util.Objects;
 public class CorrelationRequest {
   private final Object variables;
   private final String messageId;
+  private final ActivationCheckResult activationCheckResult;
 
   /**
    * Constructs a new {@code CorrelationRequest} with the specified variables and message ID.
@@ -45,8 +46,24 @@ public class CorrelationRequest {
    *     if a custom message ID expression is not configured in the connector's element template.
    */
   public CorrelationRequest(Object variables, String messageId) {
+    this(variables, messageId, null);
+  }
+
+  /**
+   * Constructs a new {@code CorrelationRequest} with an already evaluated activation check.
+   *
+   * @param variables the inbound connector variables required for correlation
+   * @param messageId the unique identifier of the message. It will only be used as a fallback value
+   *     if a custom message ID expression is not configured in the connector's element template.
+   * @param activationCheckResult the result of {@link InboundConnectorContext#canActivate(Object)}
+   *     for these variables, or {@code null} to evaluate the activation condition during
+   *     correlation
+   */
+  public CorrelationRequest(
+      Object variables, String messageId, ActivationCheckResult activationCheckResult) {
     this.variables = variables;
     this.messageId = messageId;
+    this.activationCheckResult = activationCheckResult;
   }
 
   /**
@@ -76,22 +93,35 @@ public class CorrelationRequest {
     return variables;
   }
 
+  /**
+   * Returns the activation check that was already evaluated for this request, if any. When present,
+   * the activation condition is not evaluated again during correlation.
+   *
+   * @return the activation check result, or {@code null} if it has not been evaluated yet
+   */
+  public ActivationCheckResult getActivationCheckResult() {
+    return activationCheckResult;
+  }
+
   @Override
   public boolean equals(Object o) {
     if (o == null || getClass() != o.getClass()) return false;
     CorrelationRequest that = (CorrelationRequest) o;
-    return Objects.equals(variables, that.variables) && Objects.equals(messageId, that.messageId);
+    return Objects.equals(variables, that.variables)
+        && Objects.equals(messageId, that.messageId)
+        && Objects.equals(activationCheckResult, that.activationCheckResult);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(variables, messageId);
+    return Objects.hash(variables, messageId, activationCheckResult);
   }
 
   /** A builder for creating instances of {@link CorrelationRequest}. */
   public static class Builder {
     private Object variables;
     private String messageId;
+    private ActivationCheckResult activationCheckResult;
 
     /**
      * Sets the variables for the {@code CorrelationRequest} being built.
@@ -115,13 +145,27 @@ public class CorrelationRequest {
       return this;
     }
 
+    /**
+     * Sets an already evaluated activation check for the {@code CorrelationRequest} being built, so
+     * that the activation condition is not evaluated a second time during correlation. The result
+     * must have been obtained from {@link InboundConnectorContext#canActivate(Object)} for the same
+     * event.
+     *
+     * @param activationCheckResult the activation check result
+     * @return this {@code Builder} instance
+     */
+    public Builder activationCheckResult(ActivationCheckResult activationCheckResult) {
+      this.activationCheckResult = activationCheckResult;
+      return this;
+    }
+
     /**
      * Builds and returns a {@code CorrelationRequest} instance with the specified values.
      *
      * @return a new {@code CorrelationRequest} instance
      */
     public CorrelationRequest build() {
-      return new CorrelationRequest(variables, messageId);
+      return new CorrelationRequest(variables, messageId, activationCheckResult);
     }
   }
 }
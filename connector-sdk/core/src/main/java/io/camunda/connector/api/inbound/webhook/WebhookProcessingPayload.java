@@ -18,6 +18,7 @@ package io.camunda.connector.api.inbound.webhook;
 
 import java.util.Collection;
 import java.util.Map;
+import java.util.function.Function;
 
 /** A wrapper object for the webhook request. */
 public interface WebhookProcessingPayload {
@@ -50,6 +51,20 @@ public interface WebhookProcessingPayload {
    */
   byte[] rawBody();
 
+  /**
+   * Returns the request body converted by the given parser.
+   *
+   * <p>Implementations may cache the result per parser, so that verification, authorization and
+   * request mapping can share one parsed representation of the body instead of parsing it again.
+   * Parsers should therefore be reused (e.g. kept in a constant) and only depend on the payload.
+   *
+   * @param parser converts the payload into a body representation, e.g. a JSON object
+   * @return the parsed body
+   */
+  default <T> T parsedBody(Function<WebhookProcessingPayload, T> parser) {
+    return parser.apply(this);
+  }
+
   /**
    * @return The parts of the request, or an empty collection if there's no Multipart Content-Type
    *     or no parts.
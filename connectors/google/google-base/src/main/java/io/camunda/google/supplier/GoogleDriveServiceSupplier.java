@@ -11,6 +11,7 @@ import static io.camunda.google.supplier.util.GoogleServiceSupplierUtil.getNetHt
 
 import com.google.api.client.json.gson.GsonFactory;
 import com.google.api.services.drive.Drive;
+import io.camunda.connector.util.cache.ClientCache;
 import io.camunda.google.model.Authentication;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -19,9 +20,16 @@ public class GoogleDriveServiceSupplier {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(GoogleDriveServiceSupplier.class);
 
+  // Clients are cached per credential, so refresh token credentials keep their access token
+  private static final ClientCache<Authentication, Drive> CLIENTS = ClientCache.create();
+
   private GoogleDriveServiceSupplier() {}
 
   public static Drive createDriveClientInstance(final Authentication authentication) {
+    return CLIENTS.get(authentication, () -> buildDriveClient(authentication));
+  }
+
+  private static Drive buildDriveClient(final Authentication authentication) {
     Drive drive =
         new Drive.Builder(
                 getNetHttpTransport(),
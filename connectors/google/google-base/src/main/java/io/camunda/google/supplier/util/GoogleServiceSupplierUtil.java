@@ -45,11 +45,23 @@ public final class GoogleServiceSupplierUtil {
         .build();
   }
 
+  /**
+   * Returns the transport shared by all Google API clients. The transport is thread-safe, creating
+   * it loads the trusted certificates and is therefore only done once.
+   */
   public static NetHttpTransport getNetHttpTransport() {
-    try {
-      return GoogleNetHttpTransport.newTrustedTransport();
-    } catch (GeneralSecurityException | IOException e) {
-      throw new RuntimeException("An error occurred while creating the HTTP_TRANSPORT", e);
+    return TransportHolder.TRANSPORT;
+  }
+
+  private static final class TransportHolder {
+    private static final NetHttpTransport TRANSPORT = createNetHttpTransport();
+
+    private static NetHttpTransport createNetHttpTransport() {
+      try {
+        return GoogleNetHttpTransport.newTrustedTransport();
+      } catch (GeneralSecurityException | IOException e) {
+        throw new RuntimeException("An error occurred while creating the HTTP_TRANSPORT", e);
+      }
     }
   }
 }
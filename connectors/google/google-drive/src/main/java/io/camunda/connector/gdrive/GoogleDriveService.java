@@ -6,7 +6,8 @@
  */
 package io.camunda.connector.gdrive;
 
-import com.google.api.client.http.ByteArrayContent;
+import com.google.api.client.googleapis.media.MediaHttpUploader;
+import com.google.api.client.http.InputStreamContent;
 import com.google.api.client.json.JsonParser;
 import com.google.api.client.json.gson.GsonFactory;
 import com.google.api.services.docs.v1.model.BatchUpdateDocumentResponse;
@@ -21,10 +22,11 @@ import io.camunda.connector.gdrive.model.MimeTypeUrl;
 import io.camunda.connector.gdrive.model.request.Resource;
 import io.camunda.connector.gdrive.model.request.Template;
 import io.camunda.connector.gdrive.model.request.Type;
+import io.camunda.connector.gdrive.model.request.UploadData;
 import io.camunda.connector.gdrive.model.request.Variables;
 import io.camunda.google.supplier.GsonComponentSupplier;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -40,6 +42,11 @@ public class GoogleDriveService {
    */
   public static final long MAX_DIRECT_UPLOAD_FILE_SIZE_BYTES = 5_242_880L; // 5MB
 
+  private static final int MIB = 1024 * 1024;
+  private static final int DEFAULT_UPLOAD_CHUNK_SIZE = 8 * MIB;
+  // only the metadata needed to create the document is requested
+  private static final String DOWNLOAD_METADATA_FIELDS = "name,mimeType";
+
   public static final String IO_EXCEPTION_MESSAGE = "IO exception while %s a file";
   private static final Logger LOGGER = LoggerFactory.getLogger(GoogleDriveService.class);
   private final GsonFactory gsonFactory = GsonComponentSupplier.gsonFactoryInstance();
@@ -139,19 +146,28 @@ public class GoogleDriveService {
   }
 
   private GoogleDriveResult uploadFile(final GoogleDriveClient client, final Resource resource) {
-    try {
-      var document = resource.uploadData().document();
-      File fileMetaData = prepareFileMetaData(document, resource.parent());
+    var uploadData = resource.uploadData();
+    var document = uploadData.document();
+    File fileMetaData = prepareFileMetaData(document, resource.parent());
 
+    try (InputStream inputStream = document.asInputStream()) {
       var content =
-          new ByteArrayContent(document.metadata().getContentType(), document.asByteArray());
+          new InputStreamContent(document.metadata().getContentType(), inputStream)
+              .setLength(document.metadata().getSize());
 
       Drive drive = client.getDriveService();
       Drive.Files.Create createRequest =
           drive.files().create(fileMetaData, content).setSupportsAllDrives(true);
 
+      MediaHttpUploader uploader = createRequest.getMediaHttpUploader();
       if (document.metadata().getSize() > MAX_DIRECT_UPLOAD_FILE_SIZE_BYTES) {
-        createRequest.getMediaHttpUploader().setProgressListener(new LoggerProgressListener());
+        // resumable upload, only one chunk of the document is buffered at a time
+        uploader
+            .setDirectUploadEnabled(false)
+            .setChunkSize(getChunkSize(uploadData))
+            .setProgressListener(new LoggerProgressListener());
+      } else {
+        uploader.setDirectUploadEnabled(true);
       }
 
       File file = createRequest.execute();
@@ -163,14 +179,28 @@ public class GoogleDriveService {
     }
   }
 
+  private int getChunkSize(final UploadData uploadData) {
+    // the chunk size has to be a multiple of 256 KiB, which every MiB value is
+    return Optional.ofNullable(uploadData.chunkSize())
+        .map(chunkSize -> chunkSize * MIB)
+        .orElse(DEFAULT_UPLOAD_CHUNK_SIZE);
+  }
+
   private Document downloadFile(final GoogleDriveClient client, final Resource resource) {
     Drive drive = client.getDriveService();
     try {
       String fileId = resource.downloadData().fileId();
-      File fileMetaData = drive.files().get(fileId).setSupportsAllDrives(true).execute();
-      try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
-        drive.files().get(fileId).executeMediaAndDownloadTo(outputStream);
-        return documentMapper.mapToDocument(outputStream.toByteArray(), fileMetaData);
+      File fileMetaData =
+          drive
+              .files()
+              .get(fileId)
+              .setSupportsAllDrives(true)
+              .setFields(DOWNLOAD_METADATA_FIELDS)
+              .execute();
+      // the content is streamed into the document store instead of being buffered in memory
+      try (InputStream content =
+          drive.files().get(fileId).setSupportsAllDrives(true).executeMediaAsInputStream()) {
+        return documentMapper.mapToDocument(content, fileMetaData);
       }
     } catch (IOException e) {
       String msg = String.format(IO_EXCEPTION_MESSAGE, "downloading");
@@ -10,6 +10,7 @@ import com.google.api.services.drive.model.File;
 import io.camunda.connector.api.document.Document;
 import io.camunda.connector.api.document.DocumentCreationRequest;
 import io.camunda.connector.api.outbound.OutboundConnectorContext;
+import java.io.InputStream;
 
 public class DocumentMapper {
 
@@ -19,9 +20,9 @@ public class DocumentMapper {
     this.context = context;
   }
 
-  public Document mapToDocument(byte[] bytes, File fileMetaData) {
+  public Document mapToDocument(InputStream content, File fileMetaData) {
     return context.create(
-        DocumentCreationRequest.from(bytes)
+        DocumentCreationRequest.from(content)
             .contentType(fileMetaData.getMimeType())
             .fileName(fileMetaData.getName())
             .build());
@@ -9,6 +9,8 @@ package io.camunda.connector.gdrive.model.request;
 import io.camunda.connector.api.document.Document;
 import io.camunda.connector.generator.java.annotation.FeelMode;
 import io.camunda.connector.generator.java.annotation.TemplateProperty;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 
 public record UploadData(
     @TemplateProperty(
@@ -20,5 +22,25 @@ public record UploadData(
                 @TemplateProperty.PropertyCondition(property = "resource.type", equals = "upload"),
             constraints = @TemplateProperty.PropertyConstraints(notEmpty = true),
             description =
-                "Upload camunda document, <a href=\"https://docs.camunda.io/docs/apis-tools/camunda-api-rest/specifications/upload-document-alpha/\">see documentation</a>")
-        Document document) {}
+                "Upload camunda document, <a"
+                    + " href=\"https://docs.camunda.io/docs/apis-tools/camunda-api-rest/specifications/upload-document-alpha/\">see"
+                    + " documentation</a>")
+        Document document,
+    @TemplateProperty(
+            group = "operationDetails",
+            label = "Chunk size (in MiB)",
+            type = TemplateProperty.PropertyType.Number,
+            optional = true,
+            condition =
+                @TemplateProperty.PropertyCondition(property = "resource.type", equals = "upload"),
+            description =
+                "Size of the chunks large documents are uploaded in. Larger chunks need fewer"
+                    + " requests but more memory")
+        @Min(1)
+        @Max(1024)
+        Integer chunkSize) {
+
+  public UploadData(Document document) {
+    this(document, null);
+  }
+}
@@ -11,6 +11,7 @@ import static io.camunda.google.supplier.util.GoogleServiceSupplierUtil.getNetHt
 
 import com.google.api.client.json.gson.GsonFactory;
 import com.google.api.services.docs.v1.Docs;
+import io.camunda.connector.util.cache.ClientCache;
 import io.camunda.google.model.Authentication;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -18,9 +19,15 @@ import org.slf4j.LoggerFactory;
 public final class GoogleDocsServiceSupplier {
   private static final Logger LOGGER = LoggerFactory.getLogger(GoogleDocsServiceSupplier.class);
 
+  private static final ClientCache<Authentication, Docs> CLIENTS = ClientCache.create();
+
   private GoogleDocsServiceSupplier() {}
 
   public static Docs createDocsClientInstance(final Authentication auth) {
+    return CLIENTS.get(auth, () -> buildDocsClient(auth));
+  }
+
+  private static Docs buildDocsClient(final Authentication auth) {
     Docs docs =
         new Docs.Builder(
                 getNetHttpTransport(),
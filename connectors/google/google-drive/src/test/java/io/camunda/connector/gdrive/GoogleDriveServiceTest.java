@@ -7,13 +7,15 @@
 package io.camunda.connector.gdrive;
 
 import static io.camunda.connector.gdrive.GoogleDriveService.IO_EXCEPTION_MESSAGE;
+import static io.camunda.connector.gdrive.GoogleDriveService.MAX_DIRECT_UPLOAD_FILE_SIZE_BYTES;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
-import com.google.api.client.http.ByteArrayContent;
+import com.google.api.client.googleapis.media.MediaHttpUploader;
+import com.google.api.client.http.InputStreamContent;
 import com.google.api.services.docs.v1.model.BatchUpdateDocumentResponse;
 import com.google.api.services.docs.v1.model.Request;
 import com.google.api.services.drive.Drive;
@@ -24,8 +26,9 @@ import io.camunda.connector.gdrive.mapper.DocumentMapper;
 import io.camunda.connector.gdrive.model.GoogleDriveResult;
 import io.camunda.connector.gdrive.model.MimeTypeUrl;
 import io.camunda.connector.gdrive.model.request.*;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.io.OutputStream;
+import java.io.InputStream;
 import java.util.List;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
@@ -180,9 +183,10 @@ class GoogleDriveServiceTest extends BaseTest {
     Drive.Files files = mock(Drive.Files.class);
     when(drive.files()).thenReturn(files);
     Drive.Files.Create create = Mockito.mock(Drive.Files.Create.class);
-    when(files.create(any(File.class), any(ByteArrayContent.class))).thenReturn(create);
+    when(files.create(any(File.class), any(InputStreamContent.class))).thenReturn(create);
     when(googleDriveClient.getDriveService()).thenReturn(drive);
     when(create.setSupportsAllDrives(true)).thenReturn(create);
+    when(create.getMediaHttpUploader()).thenReturn(mock(MediaHttpUploader.class, RETURNS_SELF));
     when(create.execute()).thenThrow(IOException.class);
 
     RuntimeException ex =
@@ -201,10 +205,9 @@ class GoogleDriveServiceTest extends BaseTest {
     when(drive.files()).thenReturn(files);
     when(files.get(anyString())).thenReturn(getFile);
     when(getFile.setSupportsAllDrives(true)).thenReturn(getFile);
+    when(getFile.setFields(anyString())).thenReturn(getFile);
     when(getFile.execute()).thenReturn(new File());
-
-    // when(getFile.executeAndDownloadTo(any())).
-    doThrow(IOException.class).when(getFile).executeMediaAndDownloadTo(any(OutputStream.class));
+    when(getFile.executeMediaAsInputStream()).thenThrow(IOException.class);
 
     RuntimeException ex =
         assertThrows(RuntimeException.class, () -> service.execute(googleDriveClient, resource));
@@ -223,8 +226,10 @@ class GoogleDriveServiceTest extends BaseTest {
     when(drive.files()).thenReturn(files);
     Drive.Files.Create create = Mockito.mock(Drive.Files.Create.class);
     when(googleDriveClient.getDriveService()).thenReturn(drive);
-    when(files.create(any(File.class), any(ByteArrayContent.class))).thenReturn(create);
+    when(files.create(any(File.class), any(InputStreamContent.class))).thenReturn(create);
     when(create.setSupportsAllDrives(true)).thenReturn(create);
+    MediaHttpUploader uploader = mock(MediaHttpUploader.class, RETURNS_SELF);
+    when(create.getMediaHttpUploader()).thenReturn(uploader);
     when(create.execute()).thenReturn(new File().setId("1"));
 
     var result = service.execute(googleDriveClient, resource);
@@ -232,22 +237,56 @@ class GoogleDriveServiceTest extends BaseTest {
     assertThat(((GoogleDriveResult) result).getGoogleDriveResourceId()).isEqualTo("1");
     assertThat(((GoogleDriveResult) result).getGoogleDriveResourceUrl())
         .isEqualTo(String.format(MimeTypeUrl.FILE_TEMPLATE_URL, "1"));
+    verify(uploader).setDirectUploadEnabled(true);
   }
 
   @Test
-  void execute_shouldDownloadFile() throws IOException {
-    var resource = new Resource(Type.DOWNLOAD, null, null, null, null, new DownloadData("1"), null);
+  void execute_shouldUploadLargeFileInChunks() throws IOException {
+    var document = prepareMockedDocument(10 * MAX_DIRECT_UPLOAD_FILE_SIZE_BYTES);
+
+    var resource =
+        new Resource(Type.UPLOAD, null, null, null, null, null, new UploadData(document, 16));
 
-    when(documentMapper.mapToDocument(any(), any(File.class))).thenReturn(mock(Document.class));
     Drive drive = mock(Drive.class, Mockito.RETURNS_DEEP_STUBS);
+    Drive.Files files = mock(Drive.Files.class);
+    when(drive.files()).thenReturn(files);
+    Drive.Files.Create create = Mockito.mock(Drive.Files.Create.class);
     when(googleDriveClient.getDriveService()).thenReturn(drive);
-    when(drive.files().get(anyString()).execute()).thenReturn(new File());
+    when(files.create(any(File.class), any(InputStreamContent.class))).thenReturn(create);
+    when(create.setSupportsAllDrives(true)).thenReturn(create);
+    MediaHttpUploader uploader = mock(MediaHttpUploader.class, RETURNS_SELF);
+    when(create.getMediaHttpUploader()).thenReturn(uploader);
+    when(create.execute()).thenReturn(new File().setId("1"));
+
+    service.execute(googleDriveClient, resource);
+
+    verify(uploader).setDirectUploadEnabled(false);
+    verify(uploader).setChunkSize(16 * 1024 * 1024);
+    verify(document, never()).asByteArray();
+  }
+
+  @Test
+  void execute_shouldDownloadFile() throws IOException {
+    var resource = new Resource(Type.DOWNLOAD, null, null, null, null, new DownloadData("1"), null);
+
+    InputStream content = new ByteArrayInputStream(new byte[1]);
+    File metadata = new File().setName("book.txt").setMimeType("text/plain");
+    when(documentMapper.mapToDocument(content, metadata)).thenReturn(mock(Document.class));
+    Drive drive = mock(Drive.class);
+    Drive.Files files = mock(Drive.Files.class);
     Drive.Files.Get getFile = mock(Drive.Files.Get.class);
-    doNothing().when(getFile).executeAndDownloadTo(any());
+    when(googleDriveClient.getDriveService()).thenReturn(drive);
+    when(drive.files()).thenReturn(files);
+    when(files.get("1")).thenReturn(getFile);
+    when(getFile.setSupportsAllDrives(true)).thenReturn(getFile);
+    when(getFile.setFields(anyString())).thenReturn(getFile);
+    when(getFile.execute()).thenReturn(metadata);
+    when(getFile.executeMediaAsInputStream()).thenReturn(content);
 
     var result = service.execute(googleDriveClient, resource);
 
     assertThat(result).isInstanceOf(Document.class);
+    verify(getFile).setFields("name,mimeType");
   }
 
   private static Stream<String> successFolderRequestCases() throws IOException {
@@ -259,13 +298,17 @@ class GoogleDriveServiceTest extends BaseTest {
   }
 
   private Document prepareMockedDocument() {
+    return prepareMockedDocument(66497L);
+  }
+
+  private Document prepareMockedDocument(long size) {
     var docMetadata =
         new DocumentReferenceModel.CamundaDocumentMetadataModel(
-            "image/png", null, 66497L, "picture", null, null, null);
+            "image/png", null, size, "picture", null, null, null);
 
     Document document = Mockito.mock(Document.class);
     when(document.metadata()).thenReturn(docMetadata);
-    when(document.asByteArray()).thenReturn(new byte[1]);
+    when(document.asInputStream()).thenReturn(new ByteArrayInputStream(new byte[1]));
 
     return document;
   }
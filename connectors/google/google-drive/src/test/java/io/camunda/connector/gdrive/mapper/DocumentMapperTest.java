@@ -11,6 +11,7 @@ import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import com.google.api.services.drive.model.File;
 import io.camunda.connector.api.outbound.OutboundConnectorContext;
 import io.camunda.connector.runtime.test.outbound.OutboundConnectorContextBuilder;
+import java.io.ByteArrayInputStream;
 import org.junit.jupiter.api.Test;
 
 class DocumentMapperTest {
@@ -23,7 +24,7 @@ class DocumentMapperTest {
     File file = new File();
     file.setMimeType("text/plain");
     file.setName("book.txt");
-    var document = mapper.mapToDocument(new byte[1], file);
+    var document = mapper.mapToDocument(new ByteArrayInputStream(new byte[1]), file);
 
     assertThat(document.metadata().getFileName()).isEqualTo("book.txt");
     assertThat(document.metadata().getContentType()).isEqualTo("text/plain");
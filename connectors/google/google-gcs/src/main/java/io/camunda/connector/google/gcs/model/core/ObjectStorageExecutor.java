@@ -13,6 +13,7 @@ import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.BlobInfo;
 import com.google.cloud.storage.Storage;
 import com.google.cloud.storage.StorageOptions;
+import com.google.common.hash.Hashing;
 import io.camunda.connector.api.document.Document;
 import io.camunda.connector.api.document.DocumentCreationRequest;
 import io.camunda.connector.api.error.ConnectorException;
@@ -25,12 +26,14 @@ import io.camunda.connector.google.gcs.model.request.UploadObject;
 import io.camunda.connector.google.gcs.model.response.DownloadResponse;
 import io.camunda.connector.google.gcs.model.response.DownloadResponse.DocumentContent;
 import io.camunda.connector.google.gcs.model.response.UploadResponse;
+import io.camunda.connector.util.cache.ClientCache;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.channels.Channels;
 import java.nio.charset.StandardCharsets;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
 import org.slf4j.Logger;
@@ -40,6 +43,17 @@ public class ObjectStorageExecutor {
 
   private static final Logger log = LoggerFactory.getLogger(ObjectStorageExecutor.class);
 
+  // Resumable uploads send the document in chunks of this size, only one chunk is buffered
+  private static final int UPLOAD_CHUNK_SIZE = 8 * 1024 * 1024;
+
+  // Storage services are thread-safe and keep their credentials and access token, they are shared
+  // by all jobs using the same service account and project instead of being built per job. Evicted
+  // services are not closed, as a job may still be using them.
+  private static final ClientCache<StorageKey, Storage> STORAGES = ClientCache.create();
+
+  // The service account key is only kept as a hash
+  private record StorageKey(String jsonKeyFingerprint, String project) {}
+
   private final Function<DocumentCreationRequest, Document> createDocument;
   private final Authentication authentication;
 
@@ -71,14 +85,9 @@ public class ObjectStorageExecutor {
     BlobId blobId = BlobId.of(uploadObject.bucket(), fileName);
     BlobInfo blobInfo = BlobInfo.newBuilder(blobId).build();
 
-    StorageOptions storageOptions =
-        StorageOptions.newBuilder()
-            .setProjectId(uploadObject.project())
-            .setCredentials(getSAC())
-            .build();
-
-    try (Storage storage = storageOptions.getService()) {
-      Blob blob = storage.createFrom(blobInfo, uploadObject.document().asInputStream());
+    Storage storage = getStorage(uploadObject.project());
+    try (InputStream content = uploadObject.document().asInputStream()) {
+      Blob blob = storage.createFrom(blobInfo, content, UPLOAD_CHUNK_SIZE);
       log.info(
           "GCS: Successfully uploaded file '{}' to bucket '{}' in project '{}'",
           fileName,
@@ -97,12 +106,8 @@ public class ObjectStorageExecutor {
   }
 
   private DownloadResponse download(DownloadObject downloadObject) {
-    StorageOptions storageOptions =
-        StorageOptions.newBuilder()
-            .setCredentials(getSAC())
-            .setProjectId(downloadObject.project())
-            .build();
-    try (Storage storage = storageOptions.getService()) {
+    Storage storage = getStorage(downloadObject.project());
+    try {
       BlobId blobId = BlobId.of(downloadObject.bucket(), downloadObject.fileName());
       if (downloadObject.asDocument()) {
         return downloadAsDocument(storage, blobId, downloadObject.fileName());
@@ -138,6 +143,22 @@ public class ObjectStorageExecutor {
     return new DownloadResponse.StringContent(outputStream.toString(StandardCharsets.UTF_8));
   }
 
+  private Storage getStorage(String project) {
+    return STORAGES.get(
+        new StorageKey(
+            Hashing.sha256()
+                .hashString(
+                    Objects.toString(authentication.getJsonKey(), ""), StandardCharsets.UTF_8)
+                .toString(),
+            project),
+        () ->
+            StorageOptions.newBuilder()
+                .setProjectId(project)
+                .setCredentials(getSAC())
+                .build()
+                .getService());
+  }
+
   private ServiceAccountCredentials getSAC() {
     try {
       return ServiceAccountCredentials.fromStream(
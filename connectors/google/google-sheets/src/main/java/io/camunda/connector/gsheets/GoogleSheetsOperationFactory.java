@@ -7,6 +7,7 @@
 package io.camunda.connector.gsheets;
 
 import io.camunda.connector.gsheets.model.request.input.AddValues;
+import io.camunda.connector.gsheets.model.request.input.BatchWrite;
 import io.camunda.connector.gsheets.model.request.input.CreateEmptyColumnOrRow;
 import io.camunda.connector.gsheets.model.request.input.CreateRow;
 import io.camunda.connector.gsheets.model.request.input.CreateSpreadsheet;
@@ -19,6 +20,7 @@ import io.camunda.connector.gsheets.model.request.input.GetWorksheetData;
 import io.camunda.connector.gsheets.model.request.input.Input;
 import io.camunda.connector.gsheets.operation.GoogleSheetOperation;
 import io.camunda.connector.gsheets.operation.impl.AddValuesOperation;
+import io.camunda.connector.gsheets.operation.impl.BatchWriteOperation;
 import io.camunda.connector.gsheets.operation.impl.CreateEmptyColumnOrRowOperation;
 import io.camunda.connector.gsheets.operation.impl.CreateRowOperation;
 import io.camunda.connector.gsheets.operation.impl.CreateSpreadSheetOperation;
@@ -51,6 +53,8 @@ public class GoogleSheetsOperationFactory {
       operation = new DeleteWorksheetOperation(in);
     } else if (input instanceof AddValues in) {
       operation = new AddValuesOperation(in);
+    } else if (input instanceof BatchWrite in) {
+      operation = new BatchWriteOperation(in);
     } else if (input instanceof CreateRow in) {
       operation = new CreateRowOperation(in);
     } else if (input instanceof GetRowByIndex in) {
@@ -0,0 +1,17 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. Licensed under a proprietary license.
+ * See the License.txt file for more information. You may not use this file
+ * except in compliance with the proprietary license.
+ */
+package io.camunda.connector.gsheets.model.request.batch;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import java.util.List;
+
+/**
+ * Values of a single row written by a batch write. The row index is the 1-based row number shown in
+ * the sheet, as used in A1 notation. Rows without an index are appended to the end of the worksheet.
+ */
+public record RowWrite(@Min(1) Integer rowIndex, @NotEmpty List<Object> values) {}
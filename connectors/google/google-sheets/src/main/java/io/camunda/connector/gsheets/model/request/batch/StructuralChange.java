@@ -0,0 +1,50 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. Licensed under a proprietary license.
+ * See the License.txt file for more information. You may not use this file
+ * except in compliance with the proprietary license.
+ */
+package io.camunda.connector.gsheets.model.request.batch;
+
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import io.camunda.connector.gsheets.model.request.Dimension;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * A change of the spreadsheet structure applied by a batch write before any values are written.
+ * Dimension indexes are 0-based and the end index is exclusive, as in the Sheets API, unlike the
+ * 1-based {@link RowWrite#rowIndex()}.
+ */
+@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "type")
+@JsonSubTypes({
+  @JsonSubTypes.Type(value = StructuralChange.AddWorksheet.class, name = "addWorksheet"),
+  @JsonSubTypes.Type(value = StructuralChange.AppendDimension.class, name = "appendDimension"),
+  @JsonSubTypes.Type(value = StructuralChange.DeleteDimension.class, name = "deleteDimension"),
+  @JsonSubTypes.Type(value = StructuralChange.InsertDimension.class, name = "insertDimension")
+})
+public sealed interface StructuralChange {
+
+  record AddWorksheet(@NotBlank String worksheetName, Integer worksheetIndex)
+      implements StructuralChange {}
+
+  record AppendDimension(
+      @NotNull Integer worksheetId, @NotNull Dimension dimension, @Min(1) Integer length)
+      implements StructuralChange {}
+
+  record DeleteDimension(
+      @NotNull Integer worksheetId,
+      @NotNull Dimension dimension,
+      @NotNull Integer startIndex,
+      @NotNull Integer endIndex)
+      implements StructuralChange {}
+
+  record InsertDimension(
+      @NotNull Integer worksheetId,
+      @NotNull Dimension dimension,
+      @NotNull Integer startIndex,
+      @NotNull Integer endIndex)
+      implements StructuralChange {}
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. Licensed under a proprietary license.
+ * See the License.txt file for more information. You may not use this file
+ * except in compliance with the proprietary license.
+ */
+package io.camunda.connector.gsheets.model.request.input;
+
+import io.camunda.connector.generator.java.annotation.FeelMode;
+import io.camunda.connector.generator.java.annotation.TemplateProperty;
+import io.camunda.connector.generator.java.annotation.TemplateProperty.PropertyBinding;
+import io.camunda.connector.generator.java.annotation.TemplateSubType;
+import io.camunda.connector.gsheets.model.request.batch.RowWrite;
+import io.camunda.connector.gsheets.model.request.batch.StructuralChange;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotBlank;
+import java.util.List;
+
+@TemplateSubType(id = "batchWrite", label = "Batch write")
+public record BatchWrite(
+    @TemplateProperty(
+            id = "batchWrite.spreadsheetId",
+            label = "Spreadsheet ID",
+            description = "Enter the ID of the spreadsheet",
+            group = "operationDetails",
+            feel = FeelMode.optional,
+            binding = @PropertyBinding(name = "operation.spreadsheetId"))
+        @NotBlank
+        String spreadsheetId,
+    @TemplateProperty(
+            id = "batchWrite.worksheetName",
+            label = "Worksheet name",
+            description = "Enter name of the worksheet the rows are written to",
+            group = "operationDetails",
+            feel = FeelMode.optional,
+            binding = @PropertyBinding(name = "operation.worksheetName"))
+        @NotBlank
+        String worksheetName,
+    @TemplateProperty(
+            id = "batchWrite.rows",
+            label = "Rows",
+            description =
+                "List of rows to write, e.g. <code>[{rowIndex: 2, values: [1, 2]}, {values: [3,"
+                    + " 4]}]</code>. Row indexes are sheet row numbers starting at 1. Rows without an"
+                    + " index are appended",
+            group = "operationDetails",
+            feel = FeelMode.required,
+            optional = true,
+            binding = @PropertyBinding(name = "operation.rows"))
+        @Valid
+        List<RowWrite> rows,
+    @TemplateProperty(
+            id = "batchWrite.structuralChanges",
+            label = "Structural changes",
+            description =
+                "List of changes applied before the rows are written, e.g. <code>[{type:"
+                    + " \"insertDimension\", worksheetId: 0, dimension: \"ROWS\", startIndex: 1,"
+                    + " endIndex: 3}]</code>. Supported types: addWorksheet, appendDimension,"
+                    + " deleteDimension, insertDimension. Start and end indexes start at 0, the end index"
+                    + " is exclusive",
+            group = "operationDetails",
+            feel = FeelMode.required,
+            optional = true,
+            binding = @PropertyBinding(name = "operation.structuralChanges"))
+        @Valid
+        List<StructuralChange> structuralChanges)
+    implements Input {
+
+  @AssertTrue(message = "At least one row or structural change is required")
+  private boolean isNotEmpty() {
+    return (rows != null && !rows.isEmpty())
+        || (structuralChanges != null && !structuralChanges.isEmpty());
+  }
+}
@@ -17,6 +17,7 @@ import io.camunda.connector.generator.java.annotation.TemplateDiscriminatorPrope
 @JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "type")
 @JsonSubTypes({
   @JsonSubTypes.Type(value = AddValues.class, name = "addValues"),
+  @JsonSubTypes.Type(value = BatchWrite.class, name = "batchWrite"),
   @JsonSubTypes.Type(value = CreateEmptyColumnOrRow.class, name = "createEmptyColumnOrRow"),
   @JsonSubTypes.Type(value = CreateRow.class, name = "createRow"),
   @JsonSubTypes.Type(value = CreateSpreadsheet.class, name = "createSpreadsheet"),
@@ -30,6 +31,7 @@ import io.camunda.connector.generator.java.annotation.TemplateDiscriminatorPrope
 public sealed interface Input
     permits CreateSpreadsheet,
         AddValues,
+        BatchWrite,
         CreateEmptyColumnOrRow,
         CreateRow,
         CreateWorksheet,
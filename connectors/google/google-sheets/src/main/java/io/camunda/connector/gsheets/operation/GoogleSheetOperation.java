@@ -9,6 +9,7 @@ package io.camunda.connector.gsheets.operation;
 import com.google.api.services.sheets.v4.Sheets;
 import com.google.api.services.sheets.v4.model.BatchUpdateSpreadsheetRequest;
 import com.google.api.services.sheets.v4.model.BatchUpdateSpreadsheetResponse;
+import com.google.api.services.sheets.v4.model.BatchUpdateValuesRequest;
 import com.google.api.services.sheets.v4.model.ValueRange;
 import io.camunda.connector.gsheets.supplier.GoogleSheetsServiceSupplier;
 import io.camunda.google.model.Authentication;
@@ -52,6 +53,20 @@ public abstract class GoogleSheetOperation {
         .execute();
   }
 
+  protected final void batchUpdateValues(
+      final Authentication auth, final String spreadsheetId, final List<ValueRange> data)
+      throws IOException {
+    Sheets service = GoogleSheetsServiceSupplier.getGoogleSheetsService(auth);
+
+    service
+        .spreadsheets()
+        .values()
+        .batchUpdate(
+            spreadsheetId,
+            new BatchUpdateValuesRequest().setValueInputOption(VALUE_INPUT_OPTION).setData(data))
+        .execute();
+  }
+
   protected final void append(
       final Authentication auth,
       final String spreadsheetId,
@@ -0,0 +1,231 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. Licensed under a proprietary license.
+ * See the License.txt file for more information. You may not use this file
+ * except in compliance with the proprietary license.
+ */
+package io.camunda.connector.gsheets.operation.impl;
+
+import com.google.api.services.sheets.v4.model.AddSheetRequest;
+import com.google.api.services.sheets.v4.model.AppendDimensionRequest;
+import com.google.api.services.sheets.v4.model.BatchUpdateSpreadsheetRequest;
+import com.google.api.services.sheets.v4.model.DeleteDimensionRequest;
+import com.google.api.services.sheets.v4.model.DimensionRange;
+import com.google.api.services.sheets.v4.model.InsertDimensionRequest;
+import com.google.api.services.sheets.v4.model.Request;
+import com.google.api.services.sheets.v4.model.SheetProperties;
+import com.google.api.services.sheets.v4.model.ValueRange;
+import io.camunda.connector.gsheets.model.request.batch.RowWrite;
+import io.camunda.connector.gsheets.model.request.batch.StructuralChange;
+import io.camunda.connector.gsheets.model.request.batch.StructuralChange.AddWorksheet;
+import io.camunda.connector.gsheets.model.request.batch.StructuralChange.AppendDimension;
+import io.camunda.connector.gsheets.model.request.batch.StructuralChange.DeleteDimension;
+import io.camunda.connector.gsheets.model.request.batch.StructuralChange.InsertDimension;
+import io.camunda.connector.gsheets.model.request.input.BatchWrite;
+import io.camunda.connector.gsheets.model.response.GoogleSheetsResult;
+import io.camunda.connector.gsheets.operation.GoogleSheetOperation;
+import io.camunda.google.model.Authentication;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.ToIntFunction;
+
+/**
+ * Applies a list of structural changes and row writes with as few API calls as possible.
+ *
+ * <p>Structural changes are sent in a single {@code spreadsheets.batchUpdate} request, before any
+ * values are written. Rows with an index are coalesced into contiguous ranges and written with a
+ * single {@code values.batchUpdate} request. Rows without an index are appended with a single
+ * {@code values.append} request. Requests exceeding {@link #MAX_CELLS_PER_REQUEST} cells or {@link
+ * #MAX_CHANGES_PER_REQUEST} structural changes are split into several requests, so large batches
+ * stay below the API payload limits. If one of these requests fails, the error states what the
+ * previous requests already applied, as the API cannot roll them back.
+ */
+public class BatchWriteOperation extends GoogleSheetOperation {
+
+  static final int MAX_CELLS_PER_REQUEST = 50_000;
+  static final int MAX_CHANGES_PER_REQUEST = 500;
+
+  private final BatchWrite model;
+
+  public BatchWriteOperation(BatchWrite model) {
+    this.model = model;
+  }
+
+  @Override
+  public Object execute(Authentication auth) {
+    List<StructuralChange> changes =
+        Optional.ofNullable(model.structuralChanges()).orElse(List.of());
+    List<RowWrite> rows = Optional.ofNullable(model.rows()).orElse(List.of());
+    List<ValueRange> updates = coalesce(rows.stream().filter(r -> r.rowIndex() != null).toList());
+    List<List<Object>> appends =
+        rows.stream().filter(r -> r.rowIndex() == null).map(RowWrite::values).toList();
+
+    int requests = 0;
+    int appliedChanges = 0;
+    int updatedRows = 0;
+    int appendedRows = 0;
+    try {
+      for (List<StructuralChange> batch :
+          partition(changes, change -> 1, MAX_CHANGES_PER_REQUEST)) {
+        List<Request> batchRequests = batch.stream().map(this::toRequest).toList();
+        this.batchUpdate(
+            auth,
+            model.spreadsheetId(),
+            new BatchUpdateSpreadsheetRequest().setRequests(batchRequests));
+        requests++;
+        appliedChanges += batch.size();
+      }
+      for (List<ValueRange> batch :
+          partition(updates, BatchWriteOperation::cellCount, MAX_CELLS_PER_REQUEST)) {
+        this.batchUpdateValues(auth, model.spreadsheetId(), batch);
+        requests++;
+        updatedRows += batch.stream().mapToInt(range -> range.getValues().size()).sum();
+      }
+      for (List<List<Object>> batch :
+          partition(appends, row -> Math.max(row.size(), 1), MAX_CELLS_PER_REQUEST)) {
+        this.append(
+            auth, model.spreadsheetId(), model.worksheetName(), new ValueRange().setValues(batch));
+        requests++;
+        appendedRows += batch.size();
+      }
+    } catch (IOException e) {
+      if (requests == 0) {
+        throw new RuntimeException(e);
+      }
+      throw new RuntimeException(
+          ("Batch write failed after %d successful request(s), %d structural change(s), %d"
+                  + " updated row(s) and %d appended row(s) were already applied")
+              .formatted(requests, appliedChanges, updatedRows, appendedRows),
+          e);
+    }
+
+    return new GoogleSheetsResult(
+        "Batch write",
+        "OK",
+        Map.of(
+            "structuralChanges",
+            appliedChanges,
+            "updatedRows",
+            updatedRows,
+            "appendedRows",
+            appendedRows,
+            "requests",
+            requests));
+  }
+
+  /**
+   * Groups rows with consecutive indexes into a single range. If the same row is written more than
+   * once, the last write wins.
+   */
+  private List<ValueRange> coalesce(List<RowWrite> rows) {
+    TreeMap<Integer, List<Object>> rowsByIndex = new TreeMap<>();
+    rows.forEach(row -> rowsByIndex.put(row.rowIndex(), row.values()));
+
+    List<ValueRange> ranges = new ArrayList<>();
+    List<List<Object>> values = new ArrayList<>();
+    int startIndex = 0;
+    int cells = 0;
+    for (Map.Entry<Integer, List<Object>> row : rowsByIndex.entrySet()) {
+      int rowCells = Math.max(row.getValue().size(), 1);
+      boolean contiguous = !values.isEmpty() && row.getKey() == startIndex + values.size();
+      if (!values.isEmpty() && (!contiguous || cells + rowCells > MAX_CELLS_PER_REQUEST)) {
+        ranges.add(toValueRange(startIndex, values));
+        values = new ArrayList<>();
+      }
+      if (values.isEmpty()) {
+        startIndex = row.getKey();
+        cells = 0;
+      }
+      values.add(row.getValue());
+      cells += rowCells;
+    }
+    if (!values.isEmpty()) {
+      ranges.add(toValueRange(startIndex, values));
+    }
+    return ranges;
+  }
+
+  private ValueRange toValueRange(int startIndex, List<List<Object>> values) {
+    String range = startIndex + ":" + (startIndex + values.size() - 1);
+    return new ValueRange().setRange(buildRange(model.worksheetName(), range)).setValues(values);
+  }
+
+  private Request toRequest(StructuralChange change) {
+    return switch (change) {
+      case AddWorksheet addWorksheet ->
+          new Request()
+              .setAddSheet(
+                  new AddSheetRequest()
+                      .setProperties(
+                          new SheetProperties()
+                              .setTitle(addWorksheet.worksheetName())
+                              .setIndex(addWorksheet.worksheetIndex())));
+      case AppendDimension append ->
+          new Request()
+              .setAppendDimension(
+                  new AppendDimensionRequest()
+                      .setSheetId(append.worksheetId())
+                      .setDimension(append.dimension().getValue())
+                      .setLength(Objects.requireNonNullElse(append.length(), 1)));
+      case DeleteDimension delete ->
+          new Request()
+              .setDeleteDimension(
+                  new DeleteDimensionRequest()
+                      .setRange(
+                          dimensionRange(
+                              delete.worksheetId(),
+                              delete.dimension().getValue(),
+                              delete.startIndex(),
+                              delete.endIndex())));
+      case InsertDimension insert ->
+          new Request()
+              .setInsertDimension(
+                  new InsertDimensionRequest()
+                      .setRange(
+                          dimensionRange(
+                              insert.worksheetId(),
+                              insert.dimension().getValue(),
+                              insert.startIndex(),
+                              insert.endIndex())));
+    };
+  }
+
+  private static DimensionRange dimensionRange(
+      Integer worksheetId, String dimension, Integer startIndex, Integer endIndex) {
+    return new DimensionRange()
+        .setSheetId(worksheetId)
+        .setDimension(dimension)
+        .setStartIndex(startIndex)
+        .setEndIndex(endIndex);
+  }
+
+  private static int cellCount(ValueRange valueRange) {
+    return valueRange.getValues().stream().mapToInt(row -> Math.max(row.size(), 1)).sum();
+  }
+
+  /** Splits the items into consecutive batches whose total weight does not exceed the limit. */
+  static <T> List<List<T>> partition(List<T> items, ToIntFunction<T> weight, int maxWeight) {
+    List<List<T>> batches = new ArrayList<>();
+    List<T> batch = new ArrayList<>();
+    int batchWeight = 0;
+    for (T item : items) {
+      int itemWeight = weight.applyAsInt(item);
+      if (!batch.isEmpty() && batchWeight + itemWeight > maxWeight) {
+        batches.add(batch);
+        batch = new ArrayList<>();
+        batchWeight = 0;
+      }
+      batch.add(item);
+      batchWeight += itemWeight;
+    }
+    if (!batch.isEmpty()) {
+      batches.add(batch);
+    }
+    return batches;
+  }
+}
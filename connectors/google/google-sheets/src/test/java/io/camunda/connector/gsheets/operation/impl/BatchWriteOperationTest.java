@@ -0,0 +1,195 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. Licensed under a proprietary license.
+ * See the License.txt file for more information. You may not use this file
+ * except in compliance with the proprietary license.
+ */
+package io.camunda.connector.gsheets.operation.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.InstanceOfAssertFactories.MAP;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.api.services.sheets.v4.Sheets;
+import com.google.api.services.sheets.v4.model.BatchUpdateSpreadsheetRequest;
+import com.google.api.services.sheets.v4.model.BatchUpdateValuesRequest;
+import com.google.api.services.sheets.v4.model.ValueRange;
+import io.camunda.connector.gsheets.BaseTest;
+import io.camunda.connector.gsheets.model.request.Dimension;
+import io.camunda.connector.gsheets.model.request.batch.RowWrite;
+import io.camunda.connector.gsheets.model.request.batch.StructuralChange;
+import io.camunda.connector.gsheets.model.request.input.BatchWrite;
+import io.camunda.connector.gsheets.model.response.GoogleSheetsResult;
+import io.camunda.connector.gsheets.supplier.GoogleSheetsServiceSupplier;
+import io.camunda.google.model.Authentication;
+import io.camunda.google.model.AuthenticationType;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class BatchWriteOperationTest extends BaseTest {
+
+  private static final Authentication AUTH =
+      new Authentication(AuthenticationType.BEARER, "abc", null, null, null);
+
+  @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+  private Sheets service;
+
+  @DisplayName("Should write indexed rows with one request and coalesce consecutive rows")
+  @Test
+  void batchWrite_shouldCoalesceConsecutiveRows() throws IOException {
+    // Given
+    BatchWrite model =
+        new BatchWrite(
+            SPREADSHEET_ID,
+            WORKSHEET_NAME,
+            List.of(
+                new RowWrite(4, List.of("b")),
+                new RowWrite(3, List.of("a")),
+                new RowWrite(9, List.of("c")),
+                new RowWrite(5, List.of("old")),
+                new RowWrite(5, List.of("new"))),
+            null);
+
+    try (MockedStatic<GoogleSheetsServiceSupplier> mockedServiceSupplier =
+        mockStatic(GoogleSheetsServiceSupplier.class)) {
+      mockedServiceSupplier
+          .when(() -> GoogleSheetsServiceSupplier.getGoogleSheetsService(any()))
+          .thenReturn(service);
+
+      // When
+      var result = (GoogleSheetsResult) new BatchWriteOperation(model).execute(AUTH);
+
+      // Then
+      assertThat(result.getResponse()).asInstanceOf(MAP).containsEntry("updatedRows", 4);
+      ArgumentCaptor<BatchUpdateValuesRequest> captor =
+          ArgumentCaptor.forClass(BatchUpdateValuesRequest.class);
+      verify(service.spreadsheets().values()).batchUpdate(eq(SPREADSHEET_ID), captor.capture());
+      assertThat(captor.getValue().getValueInputOption()).isEqualTo("USER_ENTERED");
+      assertThat(captor.getValue().getData())
+          .extracting(ValueRange::getRange)
+          .containsExactly(WORKSHEET_NAME + "!3:5", WORKSHEET_NAME + "!9:9");
+      assertThat(captor.getValue().getData().getFirst().getValues())
+          .containsExactly(List.of("a"), List.of("b"), List.of("new"));
+      verify(service.spreadsheets().values(), never()).append(anyString(), any(), any());
+    }
+  }
+
+  @DisplayName("Should apply structural changes before appending rows")
+  @Test
+  void batchWrite_shouldApplyStructuralChangesAndAppendRows() throws IOException {
+    // Given
+    BatchWrite model =
+        new BatchWrite(
+            SPREADSHEET_ID,
+            WORKSHEET_NAME,
+            List.of(new RowWrite(null, List.of(1, 2)), new RowWrite(null, List.of(3, 4))),
+            List.of(
+                new StructuralChange.InsertDimension(WORKSHEET_ID, Dimension.ROWS, 0, 2),
+                new StructuralChange.AppendDimension(WORKSHEET_ID, Dimension.COLUMNS, null)));
+
+    try (MockedStatic<GoogleSheetsServiceSupplier> mockedServiceSupplier =
+        mockStatic(GoogleSheetsServiceSupplier.class)) {
+      mockedServiceSupplier
+          .when(() -> GoogleSheetsServiceSupplier.getGoogleSheetsService(any()))
+          .thenReturn(service);
+
+      // When
+      new BatchWriteOperation(model).execute(AUTH);
+
+      // Then
+      ArgumentCaptor<BatchUpdateSpreadsheetRequest> captor =
+          ArgumentCaptor.forClass(BatchUpdateSpreadsheetRequest.class);
+      verify(service.spreadsheets()).batchUpdate(eq(SPREADSHEET_ID), captor.capture());
+      assertThat(captor.getValue().getRequests()).hasSize(2);
+      assertThat(captor.getValue().getRequests().getFirst().getInsertDimension()).isNotNull();
+      assertThat(captor.getValue().getRequests().get(1).getAppendDimension().getLength())
+          .isEqualTo(1);
+      verify(service.spreadsheets().values())
+          .append(
+              SPREADSHEET_ID,
+              WORKSHEET_NAME,
+              new ValueRange().setValues(List.of(List.of(1, 2), List.of(3, 4))));
+      verify(service.spreadsheets().values(), never()).batchUpdate(anyString(), any());
+    }
+  }
+
+  @DisplayName("Should split rows exceeding the payload limit into several requests")
+  @Test
+  void batchWrite_shouldSplitLargeBatches() throws IOException {
+    // Given
+    List<Object> wideRow = Collections.nCopies(1_000, "x");
+    List<RowWrite> rows =
+        IntStream.rangeClosed(1, 120).mapToObj(i -> new RowWrite(i, wideRow)).toList();
+    BatchWrite model = new BatchWrite(SPREADSHEET_ID, WORKSHEET_NAME, rows, null);
+
+    try (MockedStatic<GoogleSheetsServiceSupplier> mockedServiceSupplier =
+        mockStatic(GoogleSheetsServiceSupplier.class)) {
+      mockedServiceSupplier
+          .when(() -> GoogleSheetsServiceSupplier.getGoogleSheetsService(any()))
+          .thenReturn(service);
+
+      // When
+      new BatchWriteOperation(model).execute(AUTH);
+
+      // Then
+      ArgumentCaptor<BatchUpdateValuesRequest> captor =
+          ArgumentCaptor.forClass(BatchUpdateValuesRequest.class);
+      verify(service.spreadsheets().values(), times(3))
+          .batchUpdate(eq(SPREADSHEET_ID), captor.capture());
+      assertThat(captor.getAllValues())
+          .flatExtracting(BatchUpdateValuesRequest::getData)
+          .extracting(ValueRange::getRange)
+          .containsExactly(
+              WORKSHEET_NAME + "!1:50", WORKSHEET_NAME + "!51:100", WORKSHEET_NAME + "!101:120");
+    }
+  }
+
+  @DisplayName("Should report the applied rows when a later request of a split batch fails")
+  @Test
+  void batchWrite_shouldReportPartialFailure() throws IOException {
+    // Given
+    List<Object> wideRow = Collections.nCopies(1_000, "x");
+    List<RowWrite> rows =
+        IntStream.rangeClosed(1, 120).mapToObj(i -> new RowWrite(i, wideRow)).toList();
+    BatchWrite model = new BatchWrite(SPREADSHEET_ID, WORKSHEET_NAME, rows, null);
+    when(service.spreadsheets().values().batchUpdate(anyString(), any()).execute())
+        .thenReturn(null)
+        .thenThrow(new IOException("Quota exceeded"));
+
+    try (MockedStatic<GoogleSheetsServiceSupplier> mockedServiceSupplier =
+        mockStatic(GoogleSheetsServiceSupplier.class)) {
+      mockedServiceSupplier
+          .when(() -> GoogleSheetsServiceSupplier.getGoogleSheetsService(any()))
+          .thenReturn(service);
+
+      // When
+      var operation = new BatchWriteOperation(model);
+
+      // Then
+      assertThatThrownBy(() -> operation.execute(AUTH))
+          .isInstanceOf(RuntimeException.class)
+          .hasMessageContaining("after 1 successful request(s)")
+          .hasMessageContaining("50 updated row(s)")
+          .hasRootCauseMessage("Quota exceeded");
+    }
+  }
+}
@@ -6,21 +6,45 @@
  */
 package io.camunda.connector.http.polling.service;
 
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Executors shared by all HTTP polling connectors. The scheduled executor drives the polling
+ * schedules and only does lightweight work, the HTTP requests themselves are executed on virtual
+ * threads with a bounded number of requests in flight.
+ */
 public class SharedExecutorService {
   private static final Logger LOGGER = LoggerFactory.getLogger(SharedExecutorService.class);
 
   private static final SharedExecutorService INSTANCE = new SharedExecutorService();
   private static final int THREAD_POOL_SIZE = 10;
+  private static final int MAX_CONCURRENT_REQUESTS = 200;
 
   private final ScheduledExecutorService executorService;
+  private final ExecutorService requestExecutorService;
+  private final Executor requestExecutor;
 
   private SharedExecutorService() {
     this.executorService = Executors.newScheduledThreadPool(THREAD_POOL_SIZE);
+    this.requestExecutorService = Executors.newVirtualThreadPerTaskExecutor();
+    Semaphore requestPermits = new Semaphore(MAX_CONCURRENT_REQUESTS);
+    this.requestExecutor =
+        task ->
+            requestExecutorService.execute(
+                () -> {
+                  requestPermits.acquireUninterruptibly();
+                  try {
+                    task.run();
+                  } finally {
+                    requestPermits.release();
+                  }
+                });
     addShutdownHook();
   }
 
@@ -34,6 +58,7 @@ public class SharedExecutorService {
             new Thread(
                 () -> {
                   executorService.shutdownNow();
+                  requestExecutorService.shutdownNow();
                   LOGGER.info("Shutdown hook activated, terminating executor service.");
                   Thread.currentThread().interrupt();
                 }));
@@ -42,4 +67,9 @@ public class SharedExecutorService {
   public ScheduledExecutorService getExecutorService() {
     return executorService;
   }
+
+  /** Executor for the (blocking) HTTP requests, limited to {@value #MAX_CONCURRENT_REQUESTS}. */
+  public Executor getRequestExecutor() {
+    return requestExecutor;
+  }
 }
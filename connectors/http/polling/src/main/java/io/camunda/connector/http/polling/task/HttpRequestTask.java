@@ -12,60 +12,87 @@ import io.camunda.connector.api.inbound.Severity;
 import io.camunda.connector.http.base.HttpService;
 import io.camunda.connector.http.base.model.HttpCommonRequest;
 import io.camunda.connector.http.base.model.HttpCommonResult;
-import io.camunda.connector.http.polling.model.PollingRuntimeProperties;
-import io.camunda.connector.http.polling.utils.PollingRequestMapper;
-import io.camunda.connector.jackson.ConnectorsObjectMapperSupplier;
+import java.util.List;
+import java.util.function.Predicate;
 
+/**
+ * Executes a single HTTP request and correlates the response to all process instances that polled
+ * the identical request.
+ */
 public class HttpRequestTask implements Runnable {
 
   private final HttpService httpService;
-  private final ProcessInstanceContext processInstanceContext;
+  private final HttpCommonRequest httpCommonRequest;
+  private final List<ProcessInstanceContext> processInstanceContexts;
 
   private final InboundIntermediateConnectorContext context;
-  private final PollingRequestMapper pollingRequestMapper =
-      new PollingRequestMapper(ConnectorsObjectMapperSupplier.getCopy());
+  private final Predicate<ProcessInstanceContext> isPolled;
 
   public HttpRequestTask(
       final HttpService httpService,
-      final ProcessInstanceContext processInstanceContext,
+      final HttpCommonRequest httpCommonRequest,
+      final List<ProcessInstanceContext> processInstanceContexts,
       final InboundIntermediateConnectorContext context) {
+    this(httpService, httpCommonRequest, processInstanceContexts, context, instance -> true);
+  }
+
+  /**
+   * @param isPolled checked before the response is correlated to an instance, instances that are no
+   *     longer polled (e.g. the connector was deactivated meanwhile) are skipped
+   */
+  public HttpRequestTask(
+      final HttpService httpService,
+      final HttpCommonRequest httpCommonRequest,
+      final List<ProcessInstanceContext> processInstanceContexts,
+      final InboundIntermediateConnectorContext context,
+      final Predicate<ProcessInstanceContext> isPolled) {
     this.httpService = httpService;
-    this.processInstanceContext = processInstanceContext;
+    this.httpCommonRequest = httpCommonRequest;
+    this.processInstanceContexts = processInstanceContexts;
     this.context = context;
+    this.isPolled = isPolled;
   }
 
   @Override
   public void run() {
+    HttpCommonResult httpResponse;
     try {
-      PollingRuntimeProperties pollingRuntimeProperties =
-          processInstanceContext.bind(PollingRuntimeProperties.class);
+      httpResponse = httpService.executeConnectorRequest(httpCommonRequest);
+    } catch (Exception e) {
+      this.context.log(
+          activity ->
+              activity
+                  .withSeverity(Severity.ERROR)
+                  .withTag(httpCommonRequest.getMethod().toString())
+                  .withMessage("Error executing http request: " + httpCommonRequest.getUrl(), e));
+      return;
+    }
+    for (ProcessInstanceContext processInstanceContext : processInstanceContexts) {
+      if (!isPolled.test(processInstanceContext)) {
+        continue;
+      }
       try {
-        HttpCommonRequest httpCommonRequest =
-            pollingRequestMapper.toHttpCommonRequest(pollingRuntimeProperties);
-        HttpCommonResult httpResponse = httpService.executeConnectorRequest(httpCommonRequest);
         processInstanceContext.correlate(httpResponse);
-        this.context.log(
-            activity ->
-                activity
-                    .withSeverity(Severity.INFO)
-                    .withTag(pollingRuntimeProperties.getMethod().toString())
-                    .withMessage("Polled url: " + pollingRuntimeProperties.getUrl()));
       } catch (Exception e) {
         this.context.log(
             activity ->
                 activity
                     .withSeverity(Severity.ERROR)
-                    .withTag(pollingRuntimeProperties.getMethod().toString())
+                    .withTag(httpCommonRequest.getMethod().toString())
                     .withMessage(
-                        "Error executing http request: " + pollingRuntimeProperties.getUrl(), e));
+                        "Error correlating response of: " + httpCommonRequest.getUrl(), e));
       }
-    } catch (Exception e) {
-      this.context.log(
-          activity ->
-              activity
-                  .withSeverity(Severity.ERROR)
-                  .withTag("http-request")
-                  .withMessage("Error binding properties for HTTP request", e));
     }
+    this.context.log(
+        activity ->
+            activity
+                .withSeverity(Severity.INFO)
+                .withTag(httpCommonRequest.getMethod().toString())
+                .withMessage(
+                    "Polled url: "
+                        + httpCommonRequest.getUrl()
+                        + " for "
+                        + processInstanceContexts.size()
+                        + " process instance(s)"));
   }
 }
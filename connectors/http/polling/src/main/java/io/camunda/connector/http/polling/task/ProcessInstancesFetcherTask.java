@@ -9,13 +9,26 @@ package io.camunda.connector.http.polling.task;
 import io.camunda.connector.api.inbound.Health;
 import io.camunda.connector.api.inbound.InboundIntermediateConnectorContext;
 import io.camunda.connector.api.inbound.ProcessInstanceContext;
+import io.camunda.connector.api.inbound.Severity;
 import io.camunda.connector.http.base.HttpService;
+import io.camunda.connector.http.base.model.HttpCommonRequest;
+import io.camunda.connector.http.base.model.HttpMethod;
+import io.camunda.connector.http.base.model.auth.Authentication;
 import io.camunda.connector.http.polling.model.PollingActivationProperties;
+import io.camunda.connector.http.polling.model.PollingRuntimeProperties;
 import io.camunda.connector.http.polling.service.SharedExecutorService;
+import io.camunda.connector.http.polling.utils.PollingRequestMapper;
+import io.camunda.connector.jackson.ConnectorsObjectMapperSupplier;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -24,15 +37,31 @@ import org.slf4j.LoggerFactory;
  * ProcessInstanceFetcherTask is responsible for handling HTTP polling operations. Each instance of
  * this class is used for one flowNode and manages polling across all its corresponding
  * processInstances.
+ *
+ * <p>Instead of scheduling one task per process instance, a single tick per flowNode picks up the
+ * instances that are due. Due instances whose evaluated GET request is identical share one HTTP
+ * call, whose response is correlated to each of them. Requests with other methods may have side
+ * effects and are executed per instance. The calls are executed on the {@link
+ * SharedExecutorService#getRequestExecutor() request executor} and the next poll of an instance is
+ * scheduled relative to the completion of its call, with a jitter of {@value #JITTER_RATIO} times
+ * the interval to spread the load of many instances.
  */
 public class ProcessInstancesFetcherTask implements Runnable {
   private static final Logger LOGGER = LoggerFactory.getLogger(ProcessInstancesFetcherTask.class);
 
+  private static final long MIN_TICK_MILLIS = 100;
+  private static final long MAX_TICK_MILLIS = 1000;
+  private static final double JITTER_RATIO = 0.1;
+
   private final InboundIntermediateConnectorContext context;
   private final HttpService httpService;
   private final SharedExecutorService executorService;
   private final PollingActivationProperties config;
-  private final ConcurrentHashMap<String, ScheduledFuture<?>> runningHttpRequestTaskIds;
+  private final PollingRequestMapper pollingRequestMapper =
+      new PollingRequestMapper(ConnectorsObjectMapperSupplier.getCopy());
+  private final Map<Long, PolledInstance> polledInstances;
+  private final List<ScheduledFuture<?>> schedules = new ArrayList<>();
+  private volatile boolean stopped;
 
   public ProcessInstancesFetcherTask(
       final InboundIntermediateConnectorContext context,
@@ -42,15 +71,17 @@ public class ProcessInstancesFetcherTask implements Runnable {
     this.context = context;
     this.httpService = httpService;
     this.executorService = executorService;
-    this.runningHttpRequestTaskIds = new ConcurrentHashMap<>();
+    this.polledInstances = new ConcurrentHashMap<>();
   }
 
   @Override
   public void run() {
+    if (stopped) {
+      return;
+    }
     try {
       List<ProcessInstanceContext> processInstanceContexts = context.getProcessInstanceContexts();
-      removeInactiveTasks(processInstanceContexts);
-      processInstanceContexts.forEach(this::scheduleRequest);
+      updateInstances(processInstanceContexts);
       context.reportHealth(Health.up("Process instances", processInstanceContexts.size()));
     } catch (Exception e) {
       LOGGER.error("An error occurred: {}", e.getMessage(), e);
@@ -58,47 +89,156 @@ public class ProcessInstancesFetcherTask implements Runnable {
     }
   }
 
-  private void removeInactiveTasks(final List<ProcessInstanceContext> processInstanceContexts) {
-    List<String> activeTasks =
-        processInstanceContexts.stream().map(this::getRequestTaskKey).toList();
-
-    List<Map.Entry<String, ScheduledFuture<?>>> inactiveTasks =
-        runningHttpRequestTaskIds.entrySet().stream()
-            .filter(entry -> !activeTasks.contains(entry.getKey()))
-            .toList();
+  private void updateInstances(final List<ProcessInstanceContext> processInstanceContexts) {
+    Set<Long> activeKeys = new HashSet<>();
+    long now = System.nanoTime();
+    for (ProcessInstanceContext processInstanceContext : processInstanceContexts) {
+      activeKeys.add(processInstanceContext.getKey());
+      polledInstances.computeIfAbsent(
+          processInstanceContext.getKey(), key -> new PolledInstance(processInstanceContext, now));
+    }
+    polledInstances.keySet().retainAll(activeKeys);
+  }
 
-    inactiveTasks.forEach(
-        entry -> {
-          entry.getValue().cancel(true);
-          runningHttpRequestTaskIds.remove(entry.getKey());
+  /** Executes the requests of all instances that are due, one HTTP call per distinct request. */
+  void poll() {
+    long now = System.nanoTime();
+    Map<RequestKey, List<PolledInstance>> groups = new LinkedHashMap<>();
+    Map<RequestKey, HttpCommonRequest> requests = new LinkedHashMap<>();
+    for (PolledInstance instance : polledInstances.values()) {
+      if (instance.inFlight || instance.nextPollAt - now > 0) {
+        continue;
+      }
+      try {
+        PollingRuntimeProperties pollingRuntimeProperties =
+            instance.processInstanceContext.bind(PollingRuntimeProperties.class);
+        HttpCommonRequest request =
+            pollingRequestMapper.toHttpCommonRequest(pollingRuntimeProperties);
+        RequestKey key = RequestKey.of(request, instance);
+        requests.putIfAbsent(key, request);
+        groups.computeIfAbsent(key, k -> new ArrayList<>()).add(instance);
+        instance.inFlight = true;
+      } catch (Exception e) {
+        instance.nextPollAt = nextPollAt();
+        this.context.log(
+            activity ->
+                activity
+                    .withSeverity(Severity.ERROR)
+                    .withTag("http-request")
+                    .withMessage("Error binding properties for HTTP request", e));
+      }
+    }
+    groups.forEach(
+        (key, instances) -> {
+          var task =
+              new HttpRequestTask(
+                  httpService,
+                  requests.get(key),
+                  instances.stream().map(instance -> instance.processInstanceContext).toList(),
+                  context,
+                  this::isPolled);
+          executorService
+              .getRequestExecutor()
+              .execute(
+                  () -> {
+                    try {
+                      task.run();
+                    } finally {
+                      long nextPollAt = nextPollAt();
+                      instances.forEach(
+                          instance -> {
+                            instance.nextPollAt = nextPollAt;
+                            instance.inFlight = false;
+                          });
+                    }
+                  });
         });
   }
 
-  private void scheduleRequest(ProcessInstanceContext processInstanceContext) {
-    String taskKey = getRequestTaskKey(processInstanceContext);
-    runningHttpRequestTaskIds.computeIfAbsent(
-        taskKey,
-        (key) -> {
-          var task = new HttpRequestTask(httpService, processInstanceContext, context);
-          return this.executorService
-              .getExecutorService()
-              .scheduleWithFixedDelay(
-                  task, 0, config.getHttpRequestInterval().toMillis(), TimeUnit.MILLISECONDS);
-        });
+  private boolean isPolled(ProcessInstanceContext processInstanceContext) {
+    return !stopped && polledInstances.containsKey(processInstanceContext.getKey());
+  }
+
+  private long nextPollAt() {
+    long interval = config.getHttpRequestInterval().toNanos();
+    long jitter = (long) (interval * JITTER_RATIO);
+    return System.nanoTime()
+        + interval
+        + (jitter > 0 ? ThreadLocalRandom.current().nextLong(-jitter, jitter + 1) : 0);
   }
 
-  private String getRequestTaskKey(final ProcessInstanceContext processInstanceContext) {
-    return context.getDefinition().deduplicationId() + processInstanceContext.getKey();
+  private long getTickMillis() {
+    return Math.clamp(
+        config.getHttpRequestInterval().toMillis() / 10, MIN_TICK_MILLIS, MAX_TICK_MILLIS);
   }
 
   public void start() {
-    executorService
-        .getExecutorService()
-        .scheduleWithFixedDelay(
-            this, 0, config.getProcessPollingInterval().toMillis(), TimeUnit.MILLISECONDS);
+    stopped = false;
+    long tickMillis = getTickMillis();
+    schedules.add(
+        executorService
+            .getExecutorService()
+            .scheduleWithFixedDelay(
+                this, 0, config.getProcessPollingInterval().toMillis(), TimeUnit.MILLISECONDS));
+    schedules.add(
+        executorService
+            .getExecutorService()
+            .scheduleWithFixedDelay(
+                this::poll,
+                ThreadLocalRandom.current().nextLong(tickMillis),
+                tickMillis,
+                TimeUnit.MILLISECONDS));
   }
 
   public void stop() {
-    runningHttpRequestTaskIds.values().forEach(task -> task.cancel(true));
+    // requests in flight are not interrupted, their responses are no longer correlated
+    stopped = true;
+    schedules.stream().filter(Objects::nonNull).forEach(schedule -> schedule.cancel(false));
+    schedules.clear();
+    polledInstances.clear();
+  }
+
+  private static final class PolledInstance {
+    private final ProcessInstanceContext processInstanceContext;
+    private volatile long nextPollAt;
+    private volatile boolean inFlight;
+
+    private PolledInstance(ProcessInstanceContext processInstanceContext, long nextPollAt) {
+      this.processInstanceContext = processInstanceContext;
+      this.nextPollAt = nextPollAt;
+    }
+  }
+
+  /**
+   * Identity of an evaluated request, instances with equal keys share one HTTP call. Only GET
+   * requests are shared, for other methods the key includes the process instance.
+   */
+  private record RequestKey(
+      Long processInstanceKey,
+      HttpMethod method,
+      String url,
+      Map<String, String> headers,
+      Map<String, String> queryParameters,
+      Object body,
+      Authentication authentication,
+      Integer connectionTimeoutInSeconds,
+      Integer readTimeoutInSeconds,
+      String skipEncoding,
+      boolean followRedirects) {
+
+    static RequestKey of(HttpCommonRequest request, PolledInstance instance) {
+      return new RequestKey(
+          request.getMethod() == HttpMethod.GET ? null : instance.processInstanceContext.getKey(),
+          request.getMethod(),
+          request.getUrl(),
+          request.getHeaders().orElse(null),
+          request.getQueryParameters(),
+          request.getBody(),
+          request.getAuthentication(),
+          request.getConnectionTimeoutInSeconds(),
+          request.getReadTimeoutInSeconds(),
+          request.getSkipEncoding(),
+          request.isFollowRedirects());
+    }
   }
 }
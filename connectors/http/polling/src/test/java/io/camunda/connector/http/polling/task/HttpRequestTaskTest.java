@@ -14,8 +14,8 @@ import io.camunda.connector.http.base.HttpService;
 import io.camunda.connector.http.base.model.HttpCommonRequest;
 import io.camunda.connector.http.base.model.HttpCommonResult;
 import io.camunda.connector.http.base.model.HttpMethod;
-import io.camunda.connector.http.polling.model.PollingRuntimeProperties;
 import io.camunda.connector.runtime.test.inbound.InboundConnectorContextBuilder;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -29,6 +29,9 @@ public class HttpRequestTaskTest {
   @Mock private HttpService mockHttpService;
   @Mock private HttpCommonResult httpCommonResult;
   @Mock private ProcessInstanceContext mockProcessInstanceContext;
+  @Mock private ProcessInstanceContext otherProcessInstanceContext;
+
+  private HttpCommonRequest httpCommonRequest;
 
   public static InboundConnectorContextBuilder getContextBuilder() {
     return InboundConnectorContextBuilder.create();
@@ -37,20 +40,18 @@ public class HttpRequestTaskTest {
   @BeforeEach
   void init() {
     context = getContextBuilder().buildIntermediateConnectorContext();
+    httpCommonRequest = new HttpCommonRequest();
+    httpCommonRequest.setUrl("http://dummyUrl.com");
+    httpCommonRequest.setMethod(HttpMethod.GET);
   }
 
   @Test
   public void shouldExecuteAndCorrelateHttpRequestOnRun() {
     // Given
-    var pollingRuntimeProperties = new PollingRuntimeProperties();
-    pollingRuntimeProperties.setUrl("http://dummyUrl.com");
-    pollingRuntimeProperties.setMethod(HttpMethod.GET);
-
     HttpRequestTask task =
-        new HttpRequestTask(mockHttpService, mockProcessInstanceContext, context);
-    when(mockHttpService.executeConnectorRequest(any(HttpCommonRequest.class)))
-        .thenReturn(httpCommonResult);
-    when(mockProcessInstanceContext.bind(any())).thenReturn(pollingRuntimeProperties);
+        new HttpRequestTask(
+            mockHttpService, httpCommonRequest, List.of(mockProcessInstanceContext), context);
+    when(mockHttpService.executeConnectorRequest(httpCommonRequest)).thenReturn(httpCommonResult);
 
     // When
     task.run();
@@ -60,37 +61,35 @@ public class HttpRequestTaskTest {
   }
 
   @Test
-  public void shouldBindOnlyRuntimeProperties() {
-    var pollingRuntimeProperties = new PollingRuntimeProperties();
-    pollingRuntimeProperties.setUrl("http://dummyUrl.com");
-    pollingRuntimeProperties.setMethod(HttpMethod.GET);
-
-    context = spy(context);
+  public void shouldCorrelateResponseToAllProcessInstances() {
     // Given
     HttpRequestTask task =
-        new HttpRequestTask(mockHttpService, mockProcessInstanceContext, context);
-    when(mockHttpService.executeConnectorRequest(any(HttpCommonRequest.class)))
-        .thenReturn(httpCommonResult);
-    when(mockProcessInstanceContext.bind(any())).thenReturn(pollingRuntimeProperties);
+        new HttpRequestTask(
+            mockHttpService,
+            httpCommonRequest,
+            List.of(mockProcessInstanceContext, otherProcessInstanceContext),
+            context);
+    when(mockHttpService.executeConnectorRequest(httpCommonRequest)).thenReturn(httpCommonResult);
+    doThrow(new RuntimeException("test exception"))
+        .when(mockProcessInstanceContext)
+        .correlate(httpCommonResult);
+
     // When
     task.run();
 
     // Then
-    verify(mockProcessInstanceContext, times(1)).bind(PollingRuntimeProperties.class);
-    verify(mockProcessInstanceContext).correlate(httpCommonResult);
+    verify(mockHttpService, times(1)).executeConnectorRequest(any(HttpCommonRequest.class));
+    verify(otherProcessInstanceContext).correlate(httpCommonResult);
   }
 
   @Test
   public void shouldHandleExceptionWhileExecutingHttpRequest() {
     // Given
-    var pollingRuntimeProperties = new PollingRuntimeProperties();
-    pollingRuntimeProperties.setUrl("http://dummyUrl.com");
-    pollingRuntimeProperties.setMethod(HttpMethod.GET);
     HttpRequestTask task =
-        new HttpRequestTask(mockHttpService, mockProcessInstanceContext, context);
+        new HttpRequestTask(
+            mockHttpService, httpCommonRequest, List.of(mockProcessInstanceContext), context);
     when(mockHttpService.executeConnectorRequest(any(HttpCommonRequest.class)))
         .thenThrow(new RuntimeException("test exception"));
-    when(mockProcessInstanceContext.bind(any())).thenReturn(pollingRuntimeProperties);
 
     // When
     task.run();
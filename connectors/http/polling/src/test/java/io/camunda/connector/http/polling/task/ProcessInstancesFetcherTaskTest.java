@@ -10,28 +10,29 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import io.camunda.connector.api.inbound.InboundConnectorDefinition;
 import io.camunda.connector.api.inbound.InboundIntermediateConnectorContext;
 import io.camunda.connector.api.inbound.ProcessInstanceContext;
 import io.camunda.connector.http.base.HttpService;
+import io.camunda.connector.http.base.model.HttpCommonRequest;
+import io.camunda.connector.http.base.model.HttpCommonResult;
+import io.camunda.connector.http.base.model.HttpMethod;
 import io.camunda.connector.http.polling.model.PollingActivationProperties;
+import io.camunda.connector.http.polling.model.PollingRuntimeProperties;
 import io.camunda.connector.http.polling.service.SharedExecutorService;
 import java.time.Duration;
-import java.util.Collections;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
-import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -45,9 +46,7 @@ public class ProcessInstancesFetcherTaskTest {
   @Mock private ProcessInstanceContext mockProcessInstanceContext1;
   @Mock private ProcessInstanceContext mockProcessInstanceContext2;
   @Mock private ScheduledFuture<?> mockScheduledFuture;
-  @Mock private InboundConnectorDefinition mockInboundConnectorDefinition;
-
-  @Captor private ArgumentCaptor<Runnable> runnableCaptor;
+  @Mock private HttpCommonResult httpCommonResult;
 
   private ProcessInstancesFetcherTask task;
   private PollingActivationProperties config;
@@ -57,95 +56,176 @@ public class ProcessInstancesFetcherTaskTest {
     config = new PollingActivationProperties();
     config.setProcessPollingInterval(Duration.ofMillis(1000));
     config.setHttpRequestInterval(Duration.ofMillis(1000));
-    when(mockContext.getDefinition()).thenReturn(mockInboundConnectorDefinition);
-    when(mockInboundConnectorDefinition.deduplicationId()).thenReturn("someDeduplicationId");
     when(mockContext.bindProperties(PollingActivationProperties.class)).thenReturn(config);
-    when(mockExecutorService.getExecutorService()).thenReturn(mockScheduledExecutorService);
     task = new ProcessInstancesFetcherTask(mockContext, mockHttpService, mockExecutorService);
   }
 
+  private void givenRequestsAreExecutedDirectly() {
+    when(mockExecutorService.getRequestExecutor()).thenReturn(Runnable::run);
+    when(mockHttpService.executeConnectorRequest(any(HttpCommonRequest.class)))
+        .thenReturn(httpCommonResult);
+  }
+
   @Test
-  public void shouldAddNewTasks() {
+  public void shouldPollNewInstances() {
     // given
+    givenRequestsAreExecutedDirectly();
+    when(mockProcessInstanceContext1.getKey()).thenReturn(1L);
+    when(mockProcessInstanceContext1.bind(PollingRuntimeProperties.class))
+        .thenReturn(runtimeProperties("http://localhost/1"));
     when(mockContext.getProcessInstanceContexts()).thenReturn(List.of(mockProcessInstanceContext1));
-    doReturn((ScheduledFuture<?>) mockScheduledFuture)
-        .when(mockScheduledExecutorService)
-        .scheduleWithFixedDelay(any(), anyLong(), anyLong(), any());
     // when
     task.run();
+    task.poll();
     // then
-    verify(mockScheduledExecutorService, times(1))
-        .scheduleWithFixedDelay(any(Runnable.class), eq(0L), eq(1000L), eq(TimeUnit.MILLISECONDS));
+    verify(mockProcessInstanceContext1, times(1)).bind(PollingRuntimeProperties.class);
+    verify(mockHttpService, times(1)).executeConnectorRequest(any(HttpCommonRequest.class));
+    verify(mockProcessInstanceContext1).correlate(httpCommonResult);
   }
 
   @Test
-  public void shouldSkipExistingTasks() {
+  public void shouldShareRequestOfIdenticalInstances() {
     // given
+    givenRequestsAreExecutedDirectly();
     when(mockProcessInstanceContext1.getKey()).thenReturn(1L);
-    doReturn((ScheduledFuture<?>) mockScheduledFuture)
-        .when(mockScheduledExecutorService)
-        .scheduleWithFixedDelay(any(), anyLong(), anyLong(), any());
+    when(mockProcessInstanceContext2.getKey()).thenReturn(2L);
+    when(mockProcessInstanceContext1.bind(PollingRuntimeProperties.class))
+        .thenReturn(runtimeProperties("http://localhost/1"));
+    when(mockProcessInstanceContext2.bind(PollingRuntimeProperties.class))
+        .thenReturn(runtimeProperties("http://localhost/1"));
     when(mockContext.getProcessInstanceContexts())
-        .thenReturn(Collections.singletonList(mockProcessInstanceContext1));
-    // when run twice
-    task.run();
+        .thenReturn(List.of(mockProcessInstanceContext1, mockProcessInstanceContext2));
+    // when
     task.run();
-
-    // then schedule only once
-    verify(mockScheduledExecutorService, times(1))
-        .scheduleWithFixedDelay(any(Runnable.class), eq(0L), eq(1000L), eq(TimeUnit.MILLISECONDS));
+    task.poll();
+    // then
+    verify(mockHttpService, times(1)).executeConnectorRequest(any(HttpCommonRequest.class));
+    verify(mockProcessInstanceContext1).correlate(httpCommonResult);
+    verify(mockProcessInstanceContext2).correlate(httpCommonResult);
   }
 
   @Test
-  public void shouldRemoveInactiveTasks() {
-    // Given two active tasks initially
+  public void shouldExecuteDistinctRequestsSeparately() {
+    // given
+    givenRequestsAreExecutedDirectly();
     when(mockProcessInstanceContext1.getKey()).thenReturn(1L);
     when(mockProcessInstanceContext2.getKey()).thenReturn(2L);
-
-    doReturn((ScheduledFuture<?>) mockScheduledFuture)
-        .when(mockScheduledExecutorService)
-        .scheduleWithFixedDelay(any(), anyLong(), anyLong(), any());
-
+    when(mockProcessInstanceContext1.bind(PollingRuntimeProperties.class))
+        .thenReturn(runtimeProperties("http://localhost/1"));
+    when(mockProcessInstanceContext2.bind(PollingRuntimeProperties.class))
+        .thenReturn(runtimeProperties("http://localhost/2"));
     when(mockContext.getProcessInstanceContexts())
-        .thenReturn(
-            List.of(
-                mockProcessInstanceContext1,
-                mockProcessInstanceContext2)) // Initially two active tasks
-        .thenReturn(List.of(mockProcessInstanceContext1)); // Then one becomes inactive
-
-    // Create a map of running tasks
-    ConcurrentHashMap<String, ScheduledFuture<?>> runningTasks = new ConcurrentHashMap<>();
-    runningTasks.put("someKey1", mockScheduledFuture);
-    runningTasks.put("someKey2", mockScheduledFuture);
-
-    // Run task to populate the tasks initially
+        .thenReturn(List.of(mockProcessInstanceContext1, mockProcessInstanceContext2));
+    // when
     task.run();
+    task.poll();
+    // then
+    verify(mockHttpService, times(2)).executeConnectorRequest(any(HttpCommonRequest.class));
+  }
 
-    // Run task again to trigger the removal of inactive tasks
+  @Test
+  public void shouldNotPollBeforeIntervalElapsed() {
+    // given
+    givenRequestsAreExecutedDirectly();
+    when(mockProcessInstanceContext1.getKey()).thenReturn(1L);
+    when(mockProcessInstanceContext1.bind(PollingRuntimeProperties.class))
+        .thenReturn(runtimeProperties("http://localhost/1"));
+    when(mockContext.getProcessInstanceContexts()).thenReturn(List.of(mockProcessInstanceContext1));
+    // when run and poll twice
     task.run();
-
-    // Then verify that the task was canceled
-    verify(mockScheduledFuture, times(1)).cancel(true);
+    task.run();
+    task.poll();
+    task.poll();
+    // then poll only once
+    verify(mockHttpService, times(1)).executeConnectorRequest(any(HttpCommonRequest.class));
   }
 
   @Test
-  public void shouldStopAllRunningTasks() {
-    // Given
+  public void shouldRemoveInactiveInstances() {
+    // Given two active instances initially
+    givenRequestsAreExecutedDirectly();
     when(mockProcessInstanceContext1.getKey()).thenReturn(1L);
     when(mockProcessInstanceContext2.getKey()).thenReturn(2L);
+    when(mockProcessInstanceContext1.bind(PollingRuntimeProperties.class))
+        .thenReturn(runtimeProperties("http://localhost/1"));
     when(mockContext.getProcessInstanceContexts())
-        .thenReturn(List.of(mockProcessInstanceContext1, mockProcessInstanceContext2));
+        .thenReturn(List.of(mockProcessInstanceContext1, mockProcessInstanceContext2))
+        .thenReturn(List.of(mockProcessInstanceContext1)); // Then one becomes inactive
+    // When
+    task.run();
+    task.run();
+    task.poll();
+    // Then
+    verify(mockProcessInstanceContext1).correlate(httpCommonResult);
+    verify(mockProcessInstanceContext2, never()).bind(any());
+    verify(mockProcessInstanceContext2, never()).correlate(any());
+  }
+
+  @Test
+  public void shouldStopAllSchedules() {
+    // Given
+    when(mockExecutorService.getExecutorService()).thenReturn(mockScheduledExecutorService);
     doReturn((ScheduledFuture<?>) mockScheduledFuture)
         .when(mockScheduledExecutorService)
         .scheduleWithFixedDelay(any(), anyLong(), anyLong(), any());
+    task.start();
+    // when
+    task.stop();
+    // then
+    verify(mockScheduledExecutorService, times(1))
+        .scheduleWithFixedDelay(eq(task), eq(0L), eq(1000L), eq(TimeUnit.MILLISECONDS));
+    verify(mockScheduledFuture, times(2)).cancel(false);
+  }
 
-    // Run task to add new tasks
+  @Test
+  public void shouldNotShareRequestsWithSideEffects() {
+    // given
+    givenRequestsAreExecutedDirectly();
+    when(mockProcessInstanceContext1.getKey()).thenReturn(1L);
+    when(mockProcessInstanceContext2.getKey()).thenReturn(2L);
+    when(mockProcessInstanceContext1.bind(PollingRuntimeProperties.class))
+        .thenReturn(runtimeProperties("http://localhost/1", HttpMethod.POST));
+    when(mockProcessInstanceContext2.bind(PollingRuntimeProperties.class))
+        .thenReturn(runtimeProperties("http://localhost/1", HttpMethod.POST));
+    when(mockContext.getProcessInstanceContexts())
+        .thenReturn(List.of(mockProcessInstanceContext1, mockProcessInstanceContext2));
+    // when
     task.run();
+    task.poll();
+    // then
+    verify(mockHttpService, times(2)).executeConnectorRequest(any(HttpCommonRequest.class));
+    verify(mockProcessInstanceContext1).correlate(httpCommonResult);
+    verify(mockProcessInstanceContext2).correlate(httpCommonResult);
+  }
 
-    // when: Stop tasks
+  @Test
+  public void shouldNotCorrelateResponsesAfterStop() {
+    // given a request in flight
+    List<Runnable> requestsInFlight = new ArrayList<>();
+    when(mockExecutorService.getRequestExecutor()).thenReturn(requestsInFlight::add);
+    when(mockHttpService.executeConnectorRequest(any(HttpCommonRequest.class)))
+        .thenReturn(httpCommonResult);
+    when(mockProcessInstanceContext1.getKey()).thenReturn(1L);
+    when(mockProcessInstanceContext1.bind(PollingRuntimeProperties.class))
+        .thenReturn(runtimeProperties("http://localhost/1"));
+    when(mockContext.getProcessInstanceContexts()).thenReturn(List.of(mockProcessInstanceContext1));
+    task.run();
+    task.poll();
+    // when
     task.stop();
-
+    requestsInFlight.forEach(Runnable::run);
     // then
-    verify(mockScheduledFuture, times(2)).cancel(true);
+    verify(mockProcessInstanceContext1, never()).correlate(any());
+  }
+
+  private static PollingRuntimeProperties runtimeProperties(String url) {
+    return runtimeProperties(url, HttpMethod.GET);
+  }
+
+  private static PollingRuntimeProperties runtimeProperties(String url, HttpMethod method) {
+    var pollingRuntimeProperties = new PollingRuntimeProperties();
+    pollingRuntimeProperties.setUrl(url);
+    pollingRuntimeProperties.setMethod(method);
+    return pollingRuntimeProperties;
   }
 }
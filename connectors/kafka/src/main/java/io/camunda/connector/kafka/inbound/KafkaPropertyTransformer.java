@@ -146,7 +146,7 @@ public class KafkaPropertyTransformer {
             case GenericRecord record -> GENERIC_RECORD_CONVERTER.toObjectNode(record);
             case JsonNode jsonNode -> {
               kafkaInboundMessage.setRawValue(
-                  ConnectorsObjectMapperSupplier.getCopy().writeValueAsString(jsonNode));
+                  ConnectorsObjectMapperSupplier.getWriter().writeValueAsString(jsonNode));
               yield jsonNode;
             }
             case String string -> {
@@ -16,9 +16,13 @@ import com.azure.storage.blob.BlobContainerClient;
 import com.azure.storage.blob.BlobContainerClientBuilder;
 import com.azure.storage.blob.models.BlobDownloadContentResponse;
 import com.azure.storage.blob.models.BlobHttpHeaders;
+import com.azure.storage.blob.models.BlobProperties;
 import com.azure.storage.blob.models.BlockBlobItem;
 import com.azure.storage.blob.models.DownloadRetryOptions;
+import com.azure.storage.blob.models.ParallelTransferOptions;
+import com.azure.storage.blob.options.BlobDownloadToFileOptions;
 import com.azure.storage.blob.options.BlobParallelUploadOptions;
+import com.google.common.hash.Hashing;
 import io.camunda.connector.api.document.Document;
 import io.camunda.connector.api.document.DocumentCreationRequest;
 import io.camunda.connector.azure.blobstorage.model.request.BlobStorageOperation;
@@ -31,7 +35,18 @@ import io.camunda.connector.azure.blobstorage.model.request.auth.SASAuthenticati
 import io.camunda.connector.azure.blobstorage.model.response.DownloadResponse;
 import io.camunda.connector.azure.blobstorage.model.response.DownloadResponse.DocumentContent;
 import io.camunda.connector.azure.blobstorage.model.response.UploadResponse;
+import io.camunda.connector.util.cache.ClientCache;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -40,12 +55,29 @@ public class BlobStorageExecutor {
 
   private static final Logger log = LoggerFactory.getLogger(BlobStorageExecutor.class);
 
+  private static final long MIB = 1024L * 1024L;
+  // Download ranges are fetched in parallel into a temporary file before the document is created
+  private static final long DOWNLOAD_BLOCK_SIZE = 8 * MIB;
+  private static final int DOWNLOAD_MAX_CONCURRENCY = 4;
+
+  // Clients keep their HTTP pipeline and cache the access token of the credential
+  private static final ClientCache<ClientKey, BlobContainerClient> CLIENTS = ClientCache.create();
+
+  // Secrets are only kept as a hash
+  private record ClientKey(String credentialFingerprint, String container) {}
+
   private final Function<DocumentCreationRequest, Document> createDocument;
-  private final Authentication authentication;
+  private final Function<String, BlobContainerClient> containerClients;
 
   public BlobStorageExecutor(
       Authentication authentication, Function<DocumentCreationRequest, Document> createDocument) {
-    this.authentication = authentication;
+    this(container -> getClient(authentication, container), createDocument);
+  }
+
+  BlobStorageExecutor(
+      Function<String, BlobContainerClient> containerClients,
+      Function<DocumentCreationRequest, Document> createDocument) {
+    this.containerClients = containerClients;
     this.createDocument = createDocument;
   }
 
@@ -63,7 +95,7 @@ public class BlobStorageExecutor {
   }
 
   private UploadResponse upload(UploadBlob uploadBlob) {
-    BlobContainerClient blobContainerClient = getClient(uploadBlob.container());
+    BlobContainerClient blobContainerClient = containerClients.apply(uploadBlob.container());
 
     String fileName =
         uploadBlob.fileName() != null && !uploadBlob.fileName().isEmpty()
@@ -74,8 +106,14 @@ public class BlobStorageExecutor {
 
     BlobHttpHeaders headers =
         new BlobHttpHeaders().setContentType(uploadBlob.document().metadata().getContentType());
+    ParallelTransferOptions transferOptions = new ParallelTransferOptions();
+    Optional.ofNullable(uploadBlob.blockSize())
+        .ifPresent(blockSize -> transferOptions.setBlockSizeLong(blockSize * MIB));
+    Optional.ofNullable(uploadBlob.maxConcurrency()).ifPresent(transferOptions::setMaxConcurrency);
     BlobParallelUploadOptions options =
-        new BlobParallelUploadOptions(uploadBlob.document().asInputStream()).setHeaders(headers);
+        new BlobParallelUploadOptions(uploadBlob.document().asInputStream())
+            .setHeaders(headers)
+            .setParallelTransferOptions(transferOptions);
 
     Response<BlockBlobItem> response =
         blobClient.uploadWithResponse(
@@ -91,10 +129,13 @@ public class BlobStorageExecutor {
   }
 
   private DownloadResponse download(DownloadBlob downloadBlob) {
-    BlobContainerClient blobContainerClient = getClient(downloadBlob.container());
+    BlobContainerClient blobContainerClient = containerClients.apply(downloadBlob.container());
     DownloadRetryOptions options = new DownloadRetryOptions().setMaxRetryRequests(3);
 
     BlobClient blobClient = blobContainerClient.getBlobClient(downloadBlob.fileName());
+    if (downloadBlob.asFile()) {
+      return downloadAsDocument(blobClient, downloadBlob, options);
+    }
     BlobDownloadContentResponse contentResponse =
         blobClient.downloadContentWithResponse(options, null, null, null);
 
@@ -106,20 +147,92 @@ public class BlobStorageExecutor {
         blobClient.getContainerName(),
         contentResponse.getStatusCode());
 
-    if (downloadBlob.asFile()) {
-      return this.createDocument
-          .andThen(DocumentContent::new)
-          .apply(
-              DocumentCreationRequest.from(content.toBytes())
-                  .contentType(contentResponse.getDeserializedHeaders().getContentType())
-                  .fileName(downloadBlob.fileName())
-                  .build());
-    } else {
-      return new DownloadResponse.StringContent(content.toString());
+    return new DownloadResponse.StringContent(content.toString());
+  }
+
+  private DownloadResponse downloadAsDocument(
+      BlobClient blobClient, DownloadBlob downloadBlob, DownloadRetryOptions retryOptions) {
+    Path file = null;
+    try {
+      file = Files.createTempFile("azure-blob-", ".tmp");
+      BlobDownloadToFileOptions options =
+          new BlobDownloadToFileOptions(file.toString())
+              .setParallelTransferOptions(
+                  new ParallelTransferOptions()
+                      .setBlockSizeLong(DOWNLOAD_BLOCK_SIZE)
+                      .setMaxConcurrency(DOWNLOAD_MAX_CONCURRENCY))
+              .setDownloadRetryOptions(retryOptions)
+              .setOpenOptions(
+                  Set.of(
+                      StandardOpenOption.WRITE,
+                      StandardOpenOption.TRUNCATE_EXISTING,
+                      StandardOpenOption.READ));
+      Response<BlobProperties> response =
+          blobClient.downloadToFileWithResponse(options, null, Context.NONE);
+
+      log.debug(
+          "Download of file {} from container {} finished with status code: {}",
+          blobClient.getBlobName(),
+          blobClient.getContainerName(),
+          response.getStatusCode());
+
+      try (InputStream content = Files.newInputStream(file)) {
+        return this.createDocument
+            .andThen(DocumentContent::new)
+            .apply(
+                DocumentCreationRequest.from(content)
+                    .contentType(response.getValue().getContentType())
+                    .fileName(downloadBlob.fileName())
+                    .build());
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(
+          "Failed to download file " + downloadBlob.fileName() + " to a temporary file", e);
+    } finally {
+      deleteTempFile(file);
+    }
+  }
+
+  private static void deleteTempFile(Path file) {
+    if (file == null) {
+      return;
+    }
+    try {
+      Files.deleteIfExists(file);
+    } catch (IOException e) {
+      log.warn("Failed to delete temporary file {}", file, e);
+    }
+  }
+
+  private static BlobContainerClient getClient(Authentication authentication, String container) {
+    return CLIENTS.get(
+        new ClientKey(fingerprint(authentication), container),
+        () -> buildClient(authentication, container));
+  }
+
+  private static String fingerprint(Authentication authentication) {
+    return switch (authentication) {
+      case SASAuthentication sas ->
+          fingerprint(SASAuthentication.TYPE, sas.SASUrl(), sas.SASToken());
+      case OAuthAuthentication oAuth ->
+          fingerprint(
+              OAuthAuthentication.TYPE,
+              oAuth.accountUrl(),
+              oAuth.tenantId(),
+              oAuth.clientId(),
+              oAuth.clientSecret());
+    };
+  }
+
+  private static String fingerprint(String... values) {
+    var hasher = Hashing.sha256().newHasher();
+    for (String value : values) {
+      hasher.putString(Objects.toString(value, ""), StandardCharsets.UTF_8).putByte((byte) 0);
     }
+    return hasher.hash().toString();
   }
 
-  private BlobContainerClient getClient(String container) {
+  private static BlobContainerClient buildClient(Authentication authentication, String container) {
     return switch (authentication) {
       case SASAuthentication sasAuthentication ->
           new BlobContainerClientBuilder()
@@ -10,6 +10,7 @@ import io.camunda.connector.api.document.Document;
 import io.camunda.connector.generator.java.annotation.FeelMode;
 import io.camunda.connector.generator.java.annotation.TemplateProperty;
 import io.camunda.connector.generator.java.annotation.TemplateSubType;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -55,5 +56,29 @@ public record UploadBlob(
             binding = @TemplateProperty.PropertyBinding(name = "operation.timeout"))
         @Min(1)
         @NotNull
-        Integer timeout)
+        Integer timeout,
+    @TemplateProperty(
+            label = "Block size (in MiB)",
+            group = "additionalProperties",
+            id = "uploadOperationBlockSize",
+            tooltip =
+                "Size of the blocks the document is uploaded in. Larger blocks need fewer requests"
+                    + " but more memory.",
+            type = TemplateProperty.PropertyType.Number,
+            optional = true,
+            binding = @TemplateProperty.PropertyBinding(name = "operation.blockSize"))
+        @Min(1)
+        @Max(100)
+        Integer blockSize,
+    @TemplateProperty(
+            label = "Max concurrency",
+            group = "additionalProperties",
+            id = "uploadOperationMaxConcurrency",
+            tooltip = "Maximum number of blocks uploaded in parallel.",
+            type = TemplateProperty.PropertyType.Number,
+            optional = true,
+            binding = @TemplateProperty.PropertyBinding(name = "operation.maxConcurrency"))
+        @Min(1)
+        @Max(8)
+        Integer maxConcurrency)
     implements BlobStorageOperation {}
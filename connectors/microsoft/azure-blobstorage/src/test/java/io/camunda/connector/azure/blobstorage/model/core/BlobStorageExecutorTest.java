@@ -0,0 +1,176 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. Licensed under a proprietary license.
+ * See the License.txt file for more information. You may not use this file
+ * except in compliance with the proprietary license.
+ */
+package io.camunda.connector.azure.blobstorage.model.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.azure.core.http.rest.Response;
+import com.azure.storage.blob.BlobClient;
+import com.azure.storage.blob.BlobContainerClient;
+import com.azure.storage.blob.models.BlobProperties;
+import com.azure.storage.blob.models.BlockBlobItem;
+import com.azure.storage.blob.models.ParallelTransferOptions;
+import com.azure.storage.blob.options.BlobDownloadToFileOptions;
+import com.azure.storage.blob.options.BlobParallelUploadOptions;
+import io.camunda.connector.api.document.Document;
+import io.camunda.connector.api.document.DocumentCreationRequest;
+import io.camunda.connector.azure.blobstorage.model.request.DownloadBlob;
+import io.camunda.connector.azure.blobstorage.model.request.UploadBlob;
+import io.camunda.connector.azure.blobstorage.model.response.DownloadResponse;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class BlobStorageExecutorTest {
+
+  private static final long MIB = 1024L * 1024L;
+
+  private final BlobContainerClient containerClient = mock(BlobContainerClient.class);
+  private final BlobClient blobClient = mock(BlobClient.class);
+
+  @BeforeEach
+  void setUp() {
+    when(containerClient.getBlobClient(any())).thenReturn(blobClient);
+  }
+
+  @Test
+  void uploadMapsBlockSizeAndConcurrencyToTransferOptions() {
+    // given
+    var executor = new BlobStorageExecutor(container -> containerClient, request -> null);
+    var options = ArgumentCaptor.forClass(BlobParallelUploadOptions.class);
+    when(blobClient.uploadWithResponse(options.capture(), any(), any()))
+        .thenReturn(blockBlobResponse());
+
+    // when
+    executor.execute(new UploadBlob("container", document(), "file.txt", 30, 4, 3));
+
+    // then
+    ParallelTransferOptions transferOptions = options.getValue().getParallelTransferOptions();
+    assertThat(transferOptions.getBlockSizeLong()).isEqualTo(4 * MIB);
+    assertThat(transferOptions.getMaxConcurrency()).isEqualTo(3);
+  }
+
+  @Test
+  void uploadKeepsSdkDefaultsWithoutBlockSizeAndConcurrency() {
+    // given
+    var executor = new BlobStorageExecutor(container -> containerClient, request -> null);
+    var options = ArgumentCaptor.forClass(BlobParallelUploadOptions.class);
+    var timeout = ArgumentCaptor.forClass(Duration.class);
+    when(blobClient.uploadWithResponse(options.capture(), timeout.capture(), any()))
+        .thenReturn(blockBlobResponse());
+
+    // when
+    executor.execute(new UploadBlob("container", document(), null, 30, null, null));
+
+    // then
+    ParallelTransferOptions transferOptions = options.getValue().getParallelTransferOptions();
+    assertThat(transferOptions.getBlockSizeLong()).isNull();
+    assertThat(transferOptions.getMaxConcurrency()).isNull();
+    assertThat(timeout.getValue()).isEqualTo(Duration.ofSeconds(30));
+  }
+
+  @Test
+  void downloadAsDocumentUsesParallelTransferAndDeletesTempFile() {
+    // given
+    var content = new AtomicReference<String>();
+    var document = mock(Document.class);
+    var executor =
+        new BlobStorageExecutor(
+            container -> containerClient,
+            request -> {
+              content.set(read(request));
+              return document;
+            });
+    var options = ArgumentCaptor.forClass(BlobDownloadToFileOptions.class);
+    when(blobClient.downloadToFileWithResponse(options.capture(), isNull(), any()))
+        .thenAnswer(
+            invocation -> {
+              write(options.getValue(), "blob content");
+              return blobPropertiesResponse();
+            });
+
+    // when
+    var response = executor.execute(new DownloadBlob("container", "file.txt", true));
+
+    // then
+    assertThat(response).isEqualTo(new DownloadResponse.DocumentContent(document));
+    assertThat(content.get()).isEqualTo("blob content");
+    ParallelTransferOptions transferOptions = options.getValue().getParallelTransferOptions();
+    assertThat(transferOptions.getBlockSizeLong()).isEqualTo(8 * MIB);
+    assertThat(transferOptions.getMaxConcurrency()).isEqualTo(4);
+    assertThat(Path.of(options.getValue().getFilePath())).doesNotExist();
+  }
+
+  @Test
+  void downloadAsDocumentDeletesTempFileWhenDownloadFails() {
+    // given
+    var executor = new BlobStorageExecutor(container -> containerClient, request -> null);
+    var options = ArgumentCaptor.forClass(BlobDownloadToFileOptions.class);
+    when(blobClient.downloadToFileWithResponse(options.capture(), isNull(), any()))
+        .thenAnswer(
+            invocation -> {
+              write(options.getValue(), "partial");
+              throw new IllegalStateException("Connection reset");
+            });
+
+    // when
+    assertThatThrownBy(() -> executor.execute(new DownloadBlob("container", "file.txt", true)))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("Connection reset");
+
+    // then
+    assertThat(Path.of(options.getValue().getFilePath())).doesNotExist();
+  }
+
+  private static Document document() {
+    var document = mock(Document.class, RETURNS_DEEP_STUBS);
+    when(document.metadata().getContentType()).thenReturn("text/plain");
+    when(document.asInputStream())
+        .thenReturn(new ByteArrayInputStream("content".getBytes(StandardCharsets.UTF_8)));
+    return document;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Response<BlockBlobItem> blockBlobResponse() {
+    return mock(Response.class);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Response<BlobProperties> blobPropertiesResponse() {
+    Response<BlobProperties> response = mock(Response.class);
+    var properties = mock(BlobProperties.class);
+    when(properties.getContentType()).thenReturn("text/plain");
+    when(response.getValue()).thenReturn(properties);
+    return response;
+  }
+
+  private static void write(BlobDownloadToFileOptions options, String content) throws IOException {
+    Files.writeString(Path.of(options.getFilePath()), content);
+  }
+
+  private static String read(DocumentCreationRequest request) {
+    try {
+      return new String(request.content().readAllBytes(), StandardCharsets.UTF_8);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
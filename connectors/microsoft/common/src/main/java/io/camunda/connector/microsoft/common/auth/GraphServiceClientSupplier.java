@@ -14,10 +14,21 @@ import com.azure.identity.ClientSecretCredentialBuilder;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.microsoft.graph.core.requests.GraphClientFactory;
 import com.microsoft.graph.serviceclient.GraphServiceClient;
+import com.microsoft.kiota.authentication.AzureIdentityAuthenticationProvider;
 import io.camunda.connector.jackson.ConnectorsObjectMapperSupplier;
+import io.camunda.connector.util.cache.ClientCache;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.OffsetDateTime;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
 import okhttp3.FormBody;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
@@ -29,6 +40,11 @@ import reactor.core.publisher.Mono;
  * Builds {@link GraphServiceClient} instances for different Microsoft authentication types. This
  * class is shared between Microsoft connectors (Teams, Email Inbound, etc.) to avoid duplicating
  * OAuth token exchange logic.
+ *
+ * <p>Clients for client credentials and refresh token authentication are cached per tenant, client
+ * ID, credential fingerprint and token HTTP client, so jobs using the same credentials share one
+ * client and its access token. All clients send their requests through a single Graph HTTP
+ * pipeline.
  */
 public class GraphServiceClientSupplier {
 
@@ -41,14 +57,35 @@ public class GraphServiceClientSupplier {
   private static final String X_WWW_FORM_URLENCODED = "application/x-www-form-urlencoded";
   private static final String SCOPE = "scope";
   private static final String ACCESS_TOKEN = "access_token";
+  private static final String EXPIRES_IN = "expires_in";
   private static final String DEFAULT_SCOPE = "https://graph.microsoft.com/.default";
 
+  // Access tokens are renewed this long before they expire, to not send an expired token
+  private static final Duration TOKEN_EXPIRY_MARGIN = Duration.ofMinutes(1);
+  // Access tokens expiring within this window are renewed in the background
+  private static final Duration TOKEN_REFRESH_MARGIN = Duration.ofMinutes(5);
+  private static final Duration CLIENT_EXPIRY = Duration.ofHours(1);
+  private static final int MAX_CLIENTS = 100;
+
   private static final ObjectMapper OBJECT_MAPPER = ConnectorsObjectMapperSupplier.getCopy();
 
+  private static final OkHttpClient TOKEN_HTTP_CLIENT = new OkHttpClient();
+  private static final OkHttpClient GRAPH_HTTP_CLIENT = GraphClientFactory.create().build();
+
+  private static final ClientCache<ClientKey, GraphServiceClient> CLIENTS =
+      ClientCache.create(MAX_CLIENTS, CLIENT_EXPIRY);
+
+  private static final Executor TOKEN_REFRESH_EXECUTOR =
+      Executors.newSingleThreadExecutor(
+          new ThreadFactoryBuilder()
+              .setDaemon(true)
+              .setNameFormat("microsoft-token-refresh-%d")
+              .build());
+
   private final OkHttpClient okHttpClient;
 
   public GraphServiceClientSupplier() {
-    this.okHttpClient = new OkHttpClient();
+    this.okHttpClient = TOKEN_HTTP_CLIENT;
   }
 
   public GraphServiceClientSupplier(final OkHttpClient okHttpClient) {
@@ -58,31 +95,65 @@ public class GraphServiceClientSupplier {
   public GraphServiceClient buildAndGetGraphServiceClient(
       final MicrosoftAuthentication authentication) {
     return switch (authentication) {
-      case ClientCredentialsAuthentication clientCreds -> {
-        ClientSecretCredential credential =
-            new ClientSecretCredentialBuilder()
-                .tenantId(clientCreds.tenantId())
-                .clientId(clientCreds.clientId())
-                .clientSecret(clientCreds.clientSecret())
-                .build();
-        yield new GraphServiceClient(credential, DEFAULT_SCOPE);
-      }
+      case ClientCredentialsAuthentication clientCreds ->
+          CLIENTS.get(
+              new ClientKey(
+                  clientCreds.tenantId(),
+                  clientCreds.clientId(),
+                  fingerprint(clientCreds.clientSecret()),
+                  okHttpClient),
+              () -> {
+                // the credential caches the access token and renews it before it expires
+                ClientSecretCredential credential =
+                    new ClientSecretCredentialBuilder()
+                        .tenantId(clientCreds.tenantId())
+                        .clientId(clientCreds.clientId())
+                        .clientSecret(clientCreds.clientSecret())
+                        .build();
+                return buildGraphServiceClient(credential);
+              });
       case RefreshTokenAuthentication refreshToken ->
-          buildAndGetGraphServiceClient(getAccessToken(buildRequest(refreshToken)));
+          CLIENTS.get(
+              new ClientKey(
+                  refreshToken.tenantId(),
+                  refreshToken.clientId(),
+                  fingerprint(refreshToken.clientSecret(), refreshToken.token()),
+                  okHttpClient),
+              () -> {
+                var credential = new RefreshTokenCredential(refreshToken, okHttpClient);
+                // exchange the refresh token up front, invalid credentials are not cached
+                credential.getTokenSync(new TokenRequestContext().addScopes(DEFAULT_SCOPE));
+                return buildGraphServiceClient(credential);
+              });
       case BearerAuthentication bearer -> buildAndGetGraphServiceClient(bearer.token());
     };
   }
 
   public GraphServiceClient buildAndGetGraphServiceClient(final String token) {
-    return new GraphServiceClient(new DelegateAuthenticationProvider(token), DEFAULT_SCOPE);
+    return buildGraphServiceClient(new DelegateAuthenticationProvider(token));
+  }
+
+  private static GraphServiceClient buildGraphServiceClient(final TokenCredential credential) {
+    return new GraphServiceClient(
+        new AzureIdentityAuthenticationProvider(credential, new String[] {}, DEFAULT_SCOPE),
+        GRAPH_HTTP_CLIENT);
+  }
+
+  private static String fingerprint(final String... secrets) {
+    var hasher = Hashing.sha256().newHasher();
+    for (String secret : secrets) {
+      hasher.putString(Objects.toString(secret, ""), StandardCharsets.UTF_8).putByte((byte) 0);
+    }
+    return hasher.hash().toString();
   }
 
-  private Request buildRequest(final RefreshTokenAuthentication authentication) {
+  private static Request buildRequest(
+      final RefreshTokenAuthentication authentication, final String refreshToken) {
     FormBody.Builder formBodyBuilder =
         new FormBody.Builder()
             .add(CLIENT_ID, authentication.clientId())
             .add(GRANT_TYPE, REFRESH_TOKEN)
-            .add(REFRESH_TOKEN, authentication.token())
+            .add(REFRESH_TOKEN, refreshToken)
             .add(SCOPE, DEFAULT_SCOPE);
     if (StringUtils.isNoneBlank(authentication.clientSecret())) {
       formBodyBuilder.add(CLIENT_SECRET, authentication.clientSecret());
@@ -94,12 +165,12 @@ public class GraphServiceClientSupplier {
         .build();
   }
 
-  private String getAccessToken(final Request request) {
+  private static JsonNode requestToken(final OkHttpClient okHttpClient, final Request request) {
     try (Response response = okHttpClient.newCall(request).execute()) {
       if (response.isSuccessful() && response.body() != null) {
         JsonNode jsonNode = OBJECT_MAPPER.readTree(response.body().string());
         if (jsonNode.has(ACCESS_TOKEN)) {
-          return jsonNode.get(ACCESS_TOKEN).asText();
+          return jsonNode;
         } else {
           throw new RuntimeException("Access token not found in the response");
         }
@@ -107,8 +178,8 @@ public class GraphServiceClientSupplier {
         String responseBody =
             response.body() != null ? response.body().string() : "no response body";
         throw new RuntimeException(
-            "Failed to fetch access token. Verify authentication details. "
-                + "Note: Client secret is optional, depending on the client's privacy status. Status code: "
+            "Failed to fetch access token. Verify authentication details. Note: Client secret is"
+                + " optional, depending on the client's privacy status. Status code: "
                 + response.code()
                 + ", response: "
                 + responseBody);
@@ -120,9 +191,87 @@ public class GraphServiceClientSupplier {
     }
   }
 
+  /**
+   * Identifies cached clients, secrets are only kept as a hash. The token HTTP client is compared
+   * by identity, clients built by suppliers with a different transport are not shared.
+   */
+  private record ClientKey(
+      String tenantId,
+      String clientId,
+      String credentialFingerprint,
+      OkHttpClient tokenHttpClient) {}
+
+  /**
+   * A {@link TokenCredential} that exchanges the refresh token for an access token on first use.
+   * The access token is renewed in the background once it gets close to its expiry, and
+   * synchronously if it is about to expire.
+   */
+  static class RefreshTokenCredential implements TokenCredential {
+    private final RefreshTokenAuthentication authentication;
+    private final OkHttpClient okHttpClient;
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private String refreshToken;
+    private volatile AccessToken accessToken;
+
+    RefreshTokenCredential(
+        final RefreshTokenAuthentication authentication, final OkHttpClient okHttpClient) {
+      this.authentication = authentication;
+      this.okHttpClient = okHttpClient;
+      this.refreshToken = authentication.token();
+    }
+
+    @Override
+    public Mono<AccessToken> getToken(final TokenRequestContext tokenRequestContext) {
+      return Mono.fromCallable(() -> getTokenSync(tokenRequestContext));
+    }
+
+    @Override
+    public AccessToken getTokenSync(final TokenRequestContext request) {
+      AccessToken current = accessToken;
+      if (current == null || expiresWithin(current, TOKEN_EXPIRY_MARGIN)) {
+        return refresh(current);
+      }
+      if (expiresWithin(current, TOKEN_REFRESH_MARGIN) && refreshing.compareAndSet(false, true)) {
+        TOKEN_REFRESH_EXECUTOR.execute(
+            () -> {
+              try {
+                refresh(current);
+              } catch (RuntimeException e) {
+                // the current token is still valid, the next request after the expiry margin
+                // retries synchronously and reports the failure
+              } finally {
+                refreshing.set(false);
+              }
+            });
+      }
+      return current;
+    }
+
+    private synchronized AccessToken refresh(final AccessToken stale) {
+      // concurrent callers that saw the same stale token share a single token request
+      if (accessToken == stale) {
+        JsonNode response = requestToken(okHttpClient, buildRequest(authentication, refreshToken));
+        // providers may rotate the refresh token, the previous one may no longer be accepted
+        if (response.hasNonNull(REFRESH_TOKEN)) {
+          refreshToken = response.get(REFRESH_TOKEN).asText();
+        }
+        OffsetDateTime expiresAt =
+            response.hasNonNull(EXPIRES_IN)
+                ? OffsetDateTime.now().plusSeconds(response.get(EXPIRES_IN).asLong())
+                : OffsetDateTime.now().plus(TOKEN_EXPIRY_MARGIN.multipliedBy(2));
+        accessToken = new AccessToken(response.get(ACCESS_TOKEN).asText(), expiresAt);
+      }
+      return accessToken;
+    }
+
+    private static boolean expiresWithin(final AccessToken token, final Duration margin) {
+      return token.getExpiresAt().minus(margin).isBefore(OffsetDateTime.now());
+    }
+  }
+
   /**
    * A {@link TokenCredential} implementation that wraps a pre-obtained access token. Used for
-   * Bearer token and Refresh token authentication types where the token is obtained externally.
+   * Bearer token authentication where the token is obtained externally.
    */
   public static class DelegateAuthenticationProvider implements TokenCredential {
     private final String token;
@@ -10,20 +10,41 @@ package io.camunda.connector.microsoft.email;
 import static io.camunda.connector.microsoft.email.MsEmailInboundConstants.SHUTDOWN_TIMEOUT;
 
 import io.camunda.connector.api.inbound.*;
+import io.camunda.connector.microsoft.email.model.config.FilterCriteria;
 import io.camunda.connector.microsoft.email.model.config.MsInboundEmailProperties;
 import io.camunda.connector.microsoft.email.util.MailClient;
 import io.camunda.connector.microsoft.email.util.MicrosoftMailClient;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Polls one mailbox. Each poll runs on its own virtual thread, so that slow mailboxes do not delay
+ * others regardless of how many mailboxes are polled. The workers of all mailboxes share a single
+ * scheduler thread that only triggers the polls.
+ */
 public class EmailPollingWorker implements Runnable {
+  private static final ScheduledExecutorService SCHEDULER =
+      Executors.newSingleThreadScheduledExecutor(
+          Thread.ofPlatform().name("ms-email-scheduler").daemon().factory());
+  private static final ExecutorService POLLERS =
+      Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("ms-email-poller-", 0).factory());
+
   private final InboundConnectorContext context;
-  private final ScheduledExecutorService scheduler;
+  private final Duration pollingInterval;
+  private volatile ScheduledFuture<?> schedule;
   private final MailClient.OpaqueMessageFetcher fetcher;
   private final MessageProcessor messageProcessor;
+  // Held while polling, the fetcher must not be accessed concurrently
+  private final ReentrantLock pollLock = new ReentrantLock();
+  private volatile Thread pollingThread;
+  private volatile boolean closed;
   private static final Logger LOGGER = LoggerFactory.getLogger(EmailPollingWorker.class);
 
   public EmailPollingWorker(InboundConnectorContext context) {
@@ -33,17 +54,31 @@ public class EmailPollingWorker implements Runnable {
         new MicrosoftMailClient(properties.authentication(), properties.pollingConfig().userId());
     messageProcessor = new MessageProcessor(properties.operation(), mailClient, context);
     // Doing this here to establish connection/access rights
+    var pollingConfig = properties.pollingConfig();
     this.fetcher =
-        mailClient.constructMessageFetcher(
-            properties.pollingConfig().folder(), properties.pollingConfig().getFilter());
-    this.scheduler = Executors.newSingleThreadScheduledExecutor();
-    var pollingInterval = properties.pollingConfig().pollingInterval();
-    scheduler.scheduleWithFixedDelay(this, 0, pollingInterval.toMillis(), TimeUnit.MILLISECONDS);
+        pollingConfig.filterCriteria() instanceof FilterCriteria.SimpleConfiguration simple
+                && simple.incrementalSync()
+            ? mailClient.constructDeltaMessageFetcher(pollingConfig.folder(), simple)
+            : mailClient.constructMessageFetcher(pollingConfig.folder(), pollingConfig.getFilter());
+    this.pollingInterval = pollingConfig.pollingInterval();
+    scheduleNextPoll(Duration.ZERO);
+  }
+
+  private void scheduleNextPoll(Duration delay) {
+    if (!closed) {
+      schedule =
+          SCHEDULER.schedule(() -> POLLERS.execute(this), delay.toMillis(), TimeUnit.MILLISECONDS);
+    }
   }
 
   @Override
   public void run() {
+    pollLock.lock();
     try {
+      if (closed) {
+        return;
+      }
+      pollingThread = Thread.currentThread();
       fetcher.poll(messageProcessor::handleMessage);
       context.reportHealth(Health.up());
     } catch (Exception e) {
@@ -55,20 +90,30 @@ public class EmailPollingWorker implements Runnable {
                   .withTag("polling-error")
                   .withMessage("Error polling emails", e));
       context.reportHealth(Health.down(e));
+    } finally {
+      pollingThread = null;
+      pollLock.unlock();
     }
+    scheduleNextPoll(pollingInterval);
   }
 
   public void close() {
-    scheduler.shutdown();
+    closed = true;
+    schedule.cancel(false);
+    // Wait for a poll in progress, the shared executors themselves keep running
     try {
-      if (!scheduler.awaitTermination(SHUTDOWN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
-        LOGGER.debug("Worker did not terminate gracefully, forcing shutdown");
-        scheduler.shutdownNow();
+      if (pollLock.tryLock(SHUTDOWN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+        pollLock.unlock();
+      } else {
+        LOGGER.debug("Worker did not terminate gracefully, interrupting the poll in progress");
+        var thread = pollingThread;
+        if (thread != null) {
+          thread.interrupt();
+        }
       }
     } catch (InterruptedException e) {
-      LOGGER.debug("Interrupted while waiting for worker to terminate, forcing shutdown");
+      LOGGER.debug("Interrupted while waiting for worker to terminate");
       Thread.currentThread().interrupt();
-      scheduler.shutdownNow();
     }
   }
 }
@@ -25,7 +25,10 @@ public class MessageProcessor {
     this.context = context;
   }
 
-  public void handleMessage(EmailMessage message) {
+  /**
+   * @return false if the message could not be processed, e.g. because its correlation failed
+   */
+  public boolean handleMessage(EmailMessage message) {
     context.log(
         activity ->
             activity
@@ -65,12 +68,13 @@ public class MessageProcessor {
                         .withTag("TooManyMatchingElements")
                         .withMessage(
                             "Too many matching activation conditions. Email: " + message.id()));
-            yield ShouldPostprocess.NO;
+            yield ShouldPostprocess.FAILED;
           }
         };
     if (shouldPostprocess == ShouldPostprocess.YES) {
       postprocess(message);
     }
+    return shouldPostprocess != ShouldPostprocess.FAILED;
   }
 
   private void postprocess(EmailMessage message) {
@@ -111,7 +115,7 @@ public class MessageProcessor {
                                 + message.id()
                                 + ", message: "
                                 + f.message()));
-            yield ShouldPostprocess.NO;
+            yield ShouldPostprocess.FAILED;
           }
           case CorrelationFailureHandlingStrategy.Ignore ignore -> {
             context.log(
@@ -132,6 +136,8 @@ public class MessageProcessor {
 
   private enum ShouldPostprocess {
     YES,
-    NO
+    NO,
+    // not postprocessed, and the message should be processed again
+    FAILED
   }
 }
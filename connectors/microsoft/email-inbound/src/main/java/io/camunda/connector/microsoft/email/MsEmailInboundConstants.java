@@ -32,4 +32,5 @@ public final class MsEmailInboundConstants {
 
   // Pagination
   public static final int PAGE_SIZE = 10;
+  public static final String PREFER_PAGE_SIZE = "odata.maxpagesize=" + PAGE_SIZE;
 }
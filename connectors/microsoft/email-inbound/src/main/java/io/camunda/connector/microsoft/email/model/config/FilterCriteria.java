@@ -16,6 +16,7 @@ import io.camunda.connector.generator.java.annotation.TemplateSubType;
 import jakarta.validation.constraints.NotBlank;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 
 @JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "filterSpecification")
 @JsonSubTypes({
@@ -58,11 +59,25 @@ public sealed interface FilterCriteria {
                   "Only fetch emails from this sender address (exact match, e.g. 'invoice@vendor.com')",
               optional = true,
               feel = FeelMode.optional)
-          String fromAddress)
+          String fromAddress,
+      @TemplateProperty(
+              label = "Only Fetch Changes",
+              tooltip =
+                  "Use Graph delta queries so that each poll only fetches new and changed emails."
+                      + " Emails that could not be processed are fetched again by the next poll.",
+              optional = true,
+              defaultValue = "false",
+              defaultValueType = TemplateProperty.DefaultValueType.Boolean)
+          @FEEL
+          boolean incrementalSync)
       implements FilterCriteria {
     @TemplateProperty(ignore = true)
     public static final String TYPE = "simple";
 
+    public SimpleConfiguration(boolean onlyUnread, String subjectContains, String fromAddress) {
+      this(onlyUnread, subjectContains, fromAddress, false);
+    }
+
     @Override
     public String getFilterString() {
       List<String> filters = new ArrayList<>();
@@ -79,6 +94,28 @@ public sealed interface FilterCriteria {
       return String.join(" and ", filters);
     }
 
+    /**
+     * Evaluates this filter locally, for queries that do not support the OData filter (e.g. Graph
+     * delta queries). Mirrors the semantics of {@link #getFilterString()}, including the case
+     * insensitive {@code contains} of Graph.
+     */
+    public boolean matches(Boolean isRead, String subject, String senderAddress) {
+      if (onlyUnread && Boolean.TRUE.equals(isRead)) {
+        return false;
+      }
+      if (subjectContains != null
+          && !subjectContains.isBlank()
+          && (subject == null
+              || !subject
+                  .toLowerCase(Locale.ROOT)
+                  .contains(subjectContains.toLowerCase(Locale.ROOT)))) {
+        return false;
+      }
+      return fromAddress == null
+          || fromAddress.isBlank()
+          || fromAddress.equalsIgnoreCase(senderAddress);
+    }
+
     /**
      * Escapes a string value for use in an OData filter expression.
      *
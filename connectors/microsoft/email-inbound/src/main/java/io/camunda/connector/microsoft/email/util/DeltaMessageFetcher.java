@@ -0,0 +1,130 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. Licensed under a proprietary license.
+ * See the License.txt file for more information. You may not use this file
+ * except in compliance with the proprietary license.
+ */
+package io.camunda.connector.microsoft.email.util;
+
+import com.microsoft.graph.models.Message;
+import com.microsoft.graph.users.item.mailfolders.item.messages.delta.DeltaGetResponse;
+import io.camunda.connector.microsoft.email.model.config.FilterCriteria;
+import io.camunda.connector.microsoft.email.model.output.EmailMessage;
+import io.camunda.connector.microsoft.email.model.output.GraphApiMapper;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Fetches changes of a folder with Graph delta queries. The first poll returns all messages of the
+ * folder, subsequent polls continue from the delta link of the previous one. Messages this fetcher
+ * already processed are skipped when they show up again as changed, e.g. after they were marked as
+ * read by the postprocessing.
+ *
+ * <p>The delta link always advances to the end of the round. Messages that could not be processed
+ * are remembered by their ID and fetched again at the start of the next poll, until they are
+ * processed, no longer match the filter or are gone.
+ */
+class DeltaMessageFetcher implements MailClient.OpaqueMessageFetcher {
+
+  // Number of message IDs the fetcher remembers, as handled or to be retried
+  static final int MESSAGE_IDS_CAPACITY = 10_000;
+  private static final String REMOVED_ANNOTATION = "@removed";
+
+  private final FilterCriteria.SimpleConfiguration filter;
+  private final Function<String, DeltaGetResponse> pageFetcher;
+  private final Function<String, Message> messageFetcher;
+  private final Set<String> handledMessageIds = boundedSet();
+  private final Set<String> failedMessageIds = boundedSet();
+  private String deltaLink;
+
+  /**
+   * @param pageFetcher fetches the page behind a next or delta link, or the first page for {@code
+   *     null}
+   * @param messageFetcher fetches a message by its ID, returns {@code null} if it no longer exists
+   */
+  DeltaMessageFetcher(
+      FilterCriteria.SimpleConfiguration filter,
+      Function<String, DeltaGetResponse> pageFetcher,
+      Function<String, Message> messageFetcher) {
+    this.filter = filter;
+    this.pageFetcher = pageFetcher;
+    this.messageFetcher = messageFetcher;
+  }
+
+  @Override
+  public void poll(Predicate<EmailMessage> handler) {
+    Set<String> retried = retryFailed(handler);
+    DeltaGetResponse page = pageFetcher.apply(deltaLink);
+    while (page != null) {
+      for (Message msg : Objects.requireNonNullElse(page.getValue(), List.<Message>of())) {
+        if (isRemoved(msg)) {
+          failedMessageIds.remove(msg.getId());
+        } else if (isNew(msg) && !retried.contains(msg.getId())) {
+          handle(msg, handler);
+        }
+      }
+      if (page.getOdataNextLink() != null) {
+        page = pageFetcher.apply(page.getOdataNextLink());
+      } else {
+        deltaLink = page.getOdataDeltaLink();
+        page = null;
+      }
+    }
+  }
+
+  Set<String> getFailedMessageIds() {
+    return Collections.unmodifiableSet(failedMessageIds);
+  }
+
+  private Set<String> retryFailed(Predicate<EmailMessage> handler) {
+    Set<String> retried = new HashSet<>();
+    for (String messageId : List.copyOf(failedMessageIds)) {
+      Message msg = messageFetcher.apply(messageId);
+      if (msg == null || !isNew(msg)) {
+        failedMessageIds.remove(messageId);
+      } else {
+        retried.add(messageId);
+        handle(msg, handler);
+      }
+    }
+    return retried;
+  }
+
+  private void handle(Message msg, Predicate<EmailMessage> handler) {
+    if (handler.test(GraphApiMapper.toEmailMessage(msg, List.of()))) {
+      handledMessageIds.add(msg.getId());
+      failedMessageIds.remove(msg.getId());
+    } else {
+      failedMessageIds.add(msg.getId());
+    }
+  }
+
+  private static boolean isRemoved(Message msg) {
+    return msg.getAdditionalData() != null
+        && msg.getAdditionalData().containsKey(REMOVED_ANNOTATION);
+  }
+
+  private boolean isNew(Message msg) {
+    var from = msg.getFrom() != null ? msg.getFrom().getEmailAddress() : null;
+    return filter.matches(
+            msg.getIsRead(), msg.getSubject(), from != null ? from.getAddress() : null)
+        && !handledMessageIds.contains(msg.getId());
+  }
+
+  private static Set<String> boundedSet() {
+    return Collections.newSetFromMap(
+        new LinkedHashMap<>() {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+            return size() > MESSAGE_IDS_CAPACITY;
+          }
+        });
+  }
+}
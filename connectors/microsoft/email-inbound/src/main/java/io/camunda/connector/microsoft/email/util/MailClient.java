@@ -8,17 +8,19 @@ package io.camunda.connector.microsoft.email.util;
 
 import io.camunda.connector.api.document.Document;
 import io.camunda.connector.api.inbound.InboundConnectorContext;
+import io.camunda.connector.microsoft.email.model.config.FilterCriteria;
 import io.camunda.connector.microsoft.email.model.config.Folder;
 import io.camunda.connector.microsoft.email.model.output.EmailMessage;
 import java.util.List;
-import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 public interface MailClient {
   interface OpaqueMessageFetcher {
     /**
-     * @param handler a function to which each received message will be passed
+     * @param handler a function to which each received message will be passed, returns false if the
+     *     message could not be processed
      */
-    void poll(Consumer<EmailMessage> handler);
+    void poll(Predicate<EmailMessage> handler);
   }
 
   /**
@@ -31,6 +33,17 @@ public interface MailClient {
    */
   OpaqueMessageFetcher constructMessageFetcher(Folder folder, String filterString);
 
+  /**
+   * Construct a client that only fetches new and changed messages on each poll, using Graph delta
+   * queries. As delta queries do not support OData filters, the filter is applied locally. Like
+   * {@link #constructMessageFetcher(Folder, String)}, it must not be accessed concurrently.
+   *
+   * @param filter the filter that restricts the Messages returned
+   * @return the consuming client
+   */
+  OpaqueMessageFetcher constructDeltaMessageFetcher(
+      Folder folder, FilterCriteria.SimpleConfiguration filter);
+
   void deleteMessage(EmailMessage msg, boolean force);
 
   void markMessageRead(EmailMessage msg);
@@ -11,6 +11,7 @@ import static io.camunda.connector.microsoft.email.MsEmailInboundConstants.ODATA
 import static io.camunda.connector.microsoft.email.MsEmailInboundConstants.ODATA_TOP_PARAM;
 import static io.camunda.connector.microsoft.email.MsEmailInboundConstants.PAGE_SIZE;
 import static io.camunda.connector.microsoft.email.MsEmailInboundConstants.PREFER_HEADER;
+import static io.camunda.connector.microsoft.email.MsEmailInboundConstants.PREFER_PAGE_SIZE;
 import static io.camunda.connector.microsoft.email.MsEmailInboundConstants.PREFER_TEXT_BODY;
 
 import com.microsoft.graph.core.tasks.PageIterator;
@@ -19,66 +20,57 @@ import com.microsoft.graph.models.Message;
 import com.microsoft.graph.models.MessageCollectionResponse;
 import com.microsoft.graph.serviceclient.GraphServiceClient;
 import com.microsoft.graph.users.item.UserItemRequestBuilder;
+import com.microsoft.graph.users.item.mailfolders.item.messages.delta.DeltaGetResponse;
+import com.microsoft.graph.users.item.mailfolders.item.messages.delta.DeltaRequestBuilder;
 import com.microsoft.graph.users.item.messages.item.MessageItemRequestBuilder;
 import com.microsoft.graph.users.item.messages.item.move.MovePostRequestBody;
+import com.microsoft.kiota.ApiException;
 import io.camunda.connector.api.document.Document;
 import io.camunda.connector.api.document.DocumentCreationRequest;
 import io.camunda.connector.api.error.ConnectorException;
 import io.camunda.connector.api.inbound.InboundConnectorContext;
-import io.camunda.connector.microsoft.common.auth.BearerAuthentication;
-import io.camunda.connector.microsoft.common.auth.ClientCredentialsAuthentication;
 import io.camunda.connector.microsoft.common.auth.GraphServiceClientSupplier;
 import io.camunda.connector.microsoft.common.auth.MicrosoftAuthentication;
-import io.camunda.connector.microsoft.common.auth.RefreshTokenAuthentication;
+import io.camunda.connector.microsoft.email.model.config.FilterCriteria;
 import io.camunda.connector.microsoft.email.model.config.Folder;
 import io.camunda.connector.microsoft.email.model.output.EmailMessage;
 import io.camunda.connector.microsoft.email.model.output.GraphApiMapper;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.function.Consumer;
-import java.util.function.Supplier;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
 import org.apache.commons.lang3.StringUtils;
 
 public class MicrosoftMailClient implements MailClient {
 
-  private final Supplier<GraphServiceClient> clientSupplier;
+  // Delta queries do not filter on the server, the fields of the filter are fetched as well
+  private static final String[] DELTA_SELECT =
+      Stream.concat(Stream.of(EmailMessage.getSelect()), Stream.of("isRead", "from"))
+          .toArray(String[]::new);
+
+  private final GraphServiceClient client;
   private final String userId;
+  private final Map<String, String> folderIdsByName = new ConcurrentHashMap<>();
 
   public MicrosoftMailClient(MicrosoftAuthentication authentication, String userId) {
     this.userId = userId;
-    this.clientSupplier = createClientSupplier(authentication);
-  }
-
-  private static Supplier<GraphServiceClient> createClientSupplier(
-      MicrosoftAuthentication authentication) {
-    return switch (authentication) {
-      case ClientCredentialsAuthentication clientCreds -> {
-        // Client credentials flow: Azure SDK handles token renewal internally via
-        // ClientSecretCredential, so we create the client once and reuse it.
-        var supplier = new GraphServiceClientSupplier();
-        final GraphServiceClient client = supplier.buildAndGetGraphServiceClient(clientCreds);
-        yield () -> client;
-      }
-      case RefreshTokenAuthentication refreshToken -> {
-        // Refresh token flow: rebuild the client on each poll cycle to get a fresh access token,
-        // since refresh tokens may be rotated by the identity provider.
-        var supplier = new GraphServiceClientSupplier();
-        yield () -> supplier.buildAndGetGraphServiceClient(refreshToken);
-      }
-      case BearerAuthentication bearer -> {
-        // Bearer token: create the client once with the provided token.
-        // Note: bearer tokens are short-lived and not recommended for polling connectors.
-        var supplier = new GraphServiceClientSupplier();
-        final GraphServiceClient client = supplier.buildAndGetGraphServiceClient(bearer);
-        yield () -> client;
-      }
-    };
+    this.client = createClient(authentication);
+  }
+
+  private static GraphServiceClient createClient(MicrosoftAuthentication authentication) {
+    // Client credentials and refresh token clients are cached by the supplier and renew their
+    // access tokens before they expire, so pollers with the same credentials share one client.
+    // Note: bearer tokens are short-lived and not recommended for polling connectors.
+    return new GraphServiceClientSupplier().buildAndGetGraphServiceClient(authentication);
   }
 
   private GraphServiceClient getClient() {
-    return clientSupplier.get();
+    return client;
   }
 
   private UserItemRequestBuilder getGraphClient() {
@@ -88,10 +80,28 @@ public class MicrosoftMailClient implements MailClient {
   private String getFolderId(Folder folder) {
     return switch (folder) {
       case Folder.FolderById byId -> byId.folderId();
-      case Folder.FolderByName byName -> getFolderIdByFolderName(byName.folderName());
+      case Folder.FolderByName byName ->
+          folderIdsByName.computeIfAbsent(byName.folderName(), this::getFolderIdByFolderName);
     };
   }
 
+  /**
+   * Runs a request against the folder. Folder IDs looked up by name are cached for the lifetime of
+   * the client, if the folder no longer exists (e.g. it was deleted and created again), its ID is
+   * looked up again by the next request.
+   */
+  private <T> T inFolder(Folder folder, Function<String, T> request) {
+    String folderId = getFolderId(folder);
+    try {
+      return request.apply(folderId);
+    } catch (ApiException e) {
+      if (e.getResponseStatusCode() == 404 && folder instanceof Folder.FolderByName byName) {
+        folderIdsByName.remove(byName.folderName(), folderId);
+      }
+      throw e;
+    }
+  }
+
   private String getFolderIdByFolderName(String folderName) {
     // Escape single quotes per OData standard: single quotes in string literals must be doubled
     // to prevent injection attacks (e.g., "O'Reilly" becomes "O''Reilly")
@@ -127,7 +137,7 @@ public class MicrosoftMailClient implements MailClient {
     }
 
     @Override
-    public void poll(Consumer<EmailMessage> handler) {
+    public void poll(Predicate<EmailMessage> handler) {
       try {
         MessageCollectionResponse messageResponse = fetchMessages(folder, filterString);
         PageIterator<Message, MessageCollectionResponse> iterator =
@@ -144,9 +154,54 @@ public class MicrosoftMailClient implements MailClient {
     return new PageIteratorMessageFetcher(folder, filterString);
   }
 
+  @Override
+  public OpaqueMessageFetcher constructDeltaMessageFetcher(
+      Folder folder, FilterCriteria.SimpleConfiguration filter) {
+    return new DeltaMessageFetcher(
+        filter, link -> fetchDeltaPage(folder, link), this::fetchMessageIfExists);
+  }
+
+  private DeltaGetResponse fetchDeltaPage(Folder folder, String link) {
+    return inFolder(
+        folder,
+        folderId -> {
+          DeltaRequestBuilder delta =
+              getGraphClient().mailFolders().byMailFolderId(folderId).messages().delta();
+          if (link != null) {
+            delta = delta.withUrl(link);
+          }
+          return delta.getAsDeltaGetResponse(
+              requestConfiguration -> {
+                requestConfiguration.headers.add(PREFER_HEADER, PREFER_TEXT_BODY);
+                requestConfiguration.headers.add(PREFER_HEADER, PREFER_PAGE_SIZE);
+                if (link == null) {
+                  requestConfiguration.queryParameters.select = DELTA_SELECT;
+                }
+              });
+        });
+  }
+
+  private Message fetchMessageIfExists(String messageId) {
+    try {
+      return getGraphClient()
+          .messages()
+          .byMessageId(messageId)
+          .get(
+              requestConfiguration -> {
+                requestConfiguration.headers.add(PREFER_HEADER, PREFER_TEXT_BODY);
+                requestConfiguration.queryParameters.select = DELTA_SELECT;
+              });
+    } catch (ApiException e) {
+      if (e.getResponseStatusCode() == 404) {
+        return null;
+      }
+      throw e;
+    }
+  }
+
   private PageIterator<Message, MessageCollectionResponse> getPageIterator(
       String filterString,
-      Consumer<EmailMessage> handler,
+      Predicate<EmailMessage> handler,
       MessageCollectionResponse messageResponse)
       throws InvocationTargetException, IllegalAccessException, NoSuchMethodException {
     return new PageIterator.Builder<Message, MessageCollectionResponse>()
@@ -191,10 +246,13 @@ public class MicrosoftMailClient implements MailClient {
 
   @Override
   public void moveMessage(EmailMessage msg, Folder folder) {
-    String folderId = getFolderId(folder);
-    var body = new MovePostRequestBody();
-    body.setDestinationId(folderId);
-    constructCommonMessage(msg).move().post(body);
+    inFolder(
+        folder,
+        folderId -> {
+          var body = new MovePostRequestBody();
+          body.setDestinationId(folderId);
+          return constructCommonMessage(msg).move().post(body);
+        });
   }
 
   @Override
@@ -219,24 +277,28 @@ public class MicrosoftMailClient implements MailClient {
   }
 
   private MessageCollectionResponse fetchMessages(Folder folder, String filterString) {
-    return getGraphClient()
-        .mailFolders()
-        .byMailFolderId(getFolderId(folder))
-        .messages()
-        .get(
-            requestConfiguration -> {
-              requestConfiguration.headers.add(PREFER_HEADER, PREFER_TEXT_BODY);
-              if (StringUtils.isNotBlank(filterString)) {
-                requestConfiguration.queryParameters.filter = filterString;
-              }
-              requestConfiguration.queryParameters.select = EmailMessage.getSelect();
-              requestConfiguration.queryParameters.top = PAGE_SIZE;
-            });
+    return inFolder(
+        folder,
+        folderId ->
+            getGraphClient()
+                .mailFolders()
+                .byMailFolderId(folderId)
+                .messages()
+                .get(
+                    requestConfiguration -> {
+                      requestConfiguration.headers.add(PREFER_HEADER, PREFER_TEXT_BODY);
+                      if (StringUtils.isNotBlank(filterString)) {
+                        requestConfiguration.queryParameters.filter = filterString;
+                      }
+                      requestConfiguration.queryParameters.select = EmailMessage.getSelect();
+                      requestConfiguration.queryParameters.top = PAGE_SIZE;
+                    }));
   }
 
-  private static boolean processMessageItem(Message msg, Consumer<EmailMessage> handler) {
+  private static boolean processMessageItem(Message msg, Predicate<EmailMessage> handler) {
     var myMsg = GraphApiMapper.toEmailMessage(msg, List.of());
-    handler.accept(myMsg);
+    handler.test(myMsg);
+    // continue with the next message, failed ones are fetched again by the next poll
     return true;
   }
 }
@@ -149,7 +149,8 @@ class FilterCriteriaTest {
       // Then
       assertThat(result)
           .isEqualTo(
-              "isRead eq false and contains(subject, 'Invoice') and from/emailAddress/address eq 'billing@company.com'");
+              "isRead eq false and contains(subject, 'Invoice') and from/emailAddress/address eq"
+                  + " 'billing@company.com'");
     }
 
     @Test
@@ -228,7 +229,8 @@ class FilterCriteriaTest {
       // Then
       assertThat(result)
           .isEqualTo(
-              "isRead eq false and contains(subject, 'Bob''s order') and from/emailAddress/address eq 'o''neil@company.com'");
+              "isRead eq false and contains(subject, 'Bob''s order') and from/emailAddress/address"
+                  + " eq 'o''neil@company.com'");
     }
   }
 
@@ -250,4 +252,40 @@ class FilterCriteriaTest {
           .isEqualTo("isRead eq false and from/emailAddress/address eq 'sender@example.com'");
     }
   }
+
+  @Nested
+  class SimpleConfigurationMatching {
+
+    @Test
+    void matches_onlyUnread_rejectsReadMessages() {
+      // Given
+      var config = new FilterCriteria.SimpleConfiguration(true, null, null, true);
+
+      // When / Then
+      assertThat(config.matches(false, "Hello", "a@b.com")).isTrue();
+      assertThat(config.matches(true, "Hello", "a@b.com")).isFalse();
+    }
+
+    @Test
+    void matches_subjectContains_ignoresCase() {
+      // Given
+      var config = new FilterCriteria.SimpleConfiguration(false, "Invoice", null, true);
+
+      // When / Then
+      assertThat(config.matches(true, "Your Invoice 42", "a@b.com")).isTrue();
+      assertThat(config.matches(true, "your INVOICE 42", "a@b.com")).isTrue();
+      assertThat(config.matches(true, "Your receipt 42", "a@b.com")).isFalse();
+      assertThat(config.matches(true, null, "a@b.com")).isFalse();
+    }
+
+    @Test
+    void matches_fromAddress_ignoresCase() {
+      // Given
+      var config = new FilterCriteria.SimpleConfiguration(false, null, "invoice@vendor.com", true);
+
+      // When / Then
+      assertThat(config.matches(false, "Hello", "Invoice@Vendor.com")).isTrue();
+      assertThat(config.matches(false, "Hello", "other@vendor.com")).isFalse();
+    }
+  }
 }
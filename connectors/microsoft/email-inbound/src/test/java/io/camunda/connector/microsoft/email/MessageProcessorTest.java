@@ -6,6 +6,7 @@
  */
 package io.camunda.connector.microsoft.email;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -173,9 +174,10 @@ class MessageProcessorTest {
       var processor = new MessageProcessor(operation, spyMailClient, context);
 
       // When
-      processor.handleMessage(message);
+      var processed = processor.handleMessage(message);
 
       // Then - no postprocessing should occur
+      assertThat(processed).isFalse();
       verify(spyMailClient, never()).markMessageRead(any());
       verify(spyMailClient, never()).deleteMessage(any(), anyBoolean());
       verify(spyMailClient, never()).moveMessage(any(), any());
@@ -242,9 +244,10 @@ class MessageProcessorTest {
       var processor = new MessageProcessor(operation, spyMailClient, context);
 
       // When
-      processor.handleMessage(message);
+      var processed = processor.handleMessage(message);
 
       // Then
+      assertThat(processed).isTrue();
       verify(spyMailClient, times(1)).fetchAttachments(context, message);
       verify(spyMailClient, times(1)).deleteMessage(message, false);
     }
@@ -264,9 +267,10 @@ class MessageProcessorTest {
       var processor = new MessageProcessor(operation, spyMailClient, context);
 
       // When
-      processor.handleMessage(message);
+      var processed = processor.handleMessage(message);
 
       // Then - ForwardErrorToUpstream strategy means no postprocessing
+      assertThat(processed).isFalse();
       verify(spyMailClient, times(1)).fetchAttachments(context, message);
       verify(spyMailClient, never()).markMessageRead(any());
       verify(spyMailClient, never()).deleteMessage(any(), anyBoolean());
@@ -8,13 +8,14 @@ package io.camunda.connector.microsoft.email;
 
 import io.camunda.connector.api.document.Document;
 import io.camunda.connector.api.inbound.InboundConnectorContext;
+import io.camunda.connector.microsoft.email.model.config.FilterCriteria;
 import io.camunda.connector.microsoft.email.model.config.Folder;
 import io.camunda.connector.microsoft.email.model.output.EmailMessage;
 import io.camunda.connector.microsoft.email.util.MailClient;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.function.Consumer;
+import java.util.function.Predicate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -41,8 +42,8 @@ public class TestMailClient implements MailClient {
     }
 
     @Override
-    public void poll(Consumer<EmailMessage> handler) {
-      mailboxState.get(getFolderId(folder)).forEach(m -> handler.accept(m.msg()));
+    public void poll(Predicate<EmailMessage> handler) {
+      mailboxState.get(getFolderId(folder)).forEach(m -> handler.test(m.msg()));
     }
   }
 
@@ -62,6 +63,12 @@ public class TestMailClient implements MailClient {
     return new TestMessageFetcher(folder, filterString);
   }
 
+  @Override
+  public OpaqueMessageFetcher constructDeltaMessageFetcher(
+      Folder folder, FilterCriteria.SimpleConfiguration filter) {
+    return new TestMessageFetcher(folder, filter.getFilterString());
+  }
+
   @Override
   public void deleteMessage(EmailMessage msg, boolean force) {
     mailboxState.values().forEach(l -> l.removeIf(e -> e.msg().equals(msg)));
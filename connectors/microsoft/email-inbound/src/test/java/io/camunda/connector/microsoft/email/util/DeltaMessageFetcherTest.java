@@ -0,0 +1,176 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. Licensed under a proprietary license.
+ * See the License.txt file for more information. You may not use this file
+ * except in compliance with the proprietary license.
+ */
+package io.camunda.connector.microsoft.email.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.microsoft.graph.models.Message;
+import com.microsoft.graph.users.item.mailfolders.item.messages.delta.DeltaGetResponse;
+import io.camunda.connector.microsoft.email.model.config.FilterCriteria;
+import io.camunda.connector.microsoft.email.model.output.EmailMessage;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import org.junit.jupiter.api.Test;
+
+class DeltaMessageFetcherTest {
+
+  private final Map<String, DeltaGetResponse> pages = new HashMap<>();
+  private final Map<String, Message> messages = new HashMap<>();
+  private final List<String> requestedLinks = new ArrayList<>();
+  private final List<String> handled = new ArrayList<>();
+  private final Set<String> failing = new HashSet<>();
+
+  private final DeltaMessageFetcher fetcher =
+      new DeltaMessageFetcher(
+          new FilterCriteria.SimpleConfiguration(true, null, null),
+          link -> {
+            requestedLinks.add(link);
+            return pages.get(link);
+          },
+          messages::get);
+
+  private final Predicate<EmailMessage> handler =
+      msg -> {
+        handled.add(msg.id());
+        return !failing.contains(msg.id());
+      };
+
+  @Test
+  void poll_followsNextLinks_andContinuesFromDeltaLink() {
+    // Given
+    pages.put(null, page(null, "next-1", message("1"), message("2")));
+    pages.put("next-1", page("delta-1", null, message("3")));
+    pages.put("delta-1", page("delta-2", null, message("4")));
+
+    // When
+    fetcher.poll(handler);
+    fetcher.poll(handler);
+
+    // Then
+    assertThat(requestedLinks).containsExactly(null, "next-1", "delta-1");
+    assertThat(handled).containsExactly("1", "2", "3", "4");
+  }
+
+  @Test
+  void poll_skipsAlreadyHandledMessages_whenTheyChangeAgain() {
+    // Given
+    pages.put(null, page("delta-1", null, message("1")));
+    pages.put("delta-1", page("delta-2", null, message("1")));
+
+    // When
+    fetcher.poll(handler);
+    fetcher.poll(handler);
+
+    // Then
+    assertThat(handled).containsExactly("1");
+  }
+
+  @Test
+  void poll_skipsMessagesNotMatchingFilter() {
+    // Given
+    var read = message("1");
+    read.setIsRead(true);
+    pages.put(null, page("delta-1", null, read, message("2")));
+
+    // When
+    fetcher.poll(handler);
+
+    // Then
+    assertThat(handled).containsExactly("2");
+  }
+
+  @Test
+  void poll_advancesDeltaLink_andRetriesFailedMessage() {
+    // Given
+    pages.put(null, page("delta-1", null, message("1"), message("2")));
+    pages.put("delta-1", page("delta-2", null));
+    messages.put("2", message("2"));
+    failing.add("2");
+    fetcher.poll(handler);
+
+    // When
+    failing.clear();
+    fetcher.poll(handler);
+
+    // Then
+    assertThat(requestedLinks).containsExactly(null, "delta-1");
+    assertThat(handled).containsExactly("1", "2", "2");
+    assertThat(fetcher.getFailedMessageIds()).isEmpty();
+  }
+
+  @Test
+  void poll_keepsFailedMessage_whenRetryFailsAgain() {
+    // Given
+    pages.put(null, page("delta-1", null, message("1")));
+    pages.put("delta-1", page("delta-2", null, message("1")));
+    messages.put("1", message("1"));
+    failing.add("1");
+
+    // When
+    fetcher.poll(handler);
+    fetcher.poll(handler);
+
+    // Then
+    assertThat(handled).containsExactly("1", "1");
+    assertThat(fetcher.getFailedMessageIds()).containsExactly("1");
+  }
+
+  @Test
+  void poll_dropsFailedMessage_whenItNoLongerExists() {
+    // Given
+    pages.put(null, page("delta-1", null, message("1")));
+    pages.put("delta-1", page("delta-2", null));
+    failing.add("1");
+    fetcher.poll(handler);
+
+    // When
+    fetcher.poll(handler);
+
+    // Then
+    assertThat(handled).containsExactly("1");
+    assertThat(fetcher.getFailedMessageIds()).isEmpty();
+  }
+
+  @Test
+  void poll_dropsFailedMessage_whenRemovedFromFolder() {
+    // Given
+    var removed = message("1");
+    removed.setAdditionalData(Map.of("@removed", Map.of("reason", "deleted")));
+    pages.put(null, page("delta-1", null, message("1")));
+    pages.put("delta-1", page("delta-2", null, removed));
+    messages.put("1", message("1"));
+    failing.add("1");
+    fetcher.poll(handler);
+
+    // When
+    fetcher.poll(handler);
+
+    // Then
+    assertThat(fetcher.getFailedMessageIds()).isEmpty();
+  }
+
+  private static Message message(String id) {
+    var message = new Message();
+    message.setId(id);
+    message.setSubject("Subject " + id);
+    message.setIsRead(false);
+    return message;
+  }
+
+  private static DeltaGetResponse page(String deltaLink, String nextLink, Message... messages) {
+    var page = new DeltaGetResponse();
+    page.setValue(List.of(messages));
+    page.setOdataDeltaLink(deltaLink);
+    page.setOdataNextLink(nextLink);
+    return page;
+  }
+}
@@ -9,6 +9,8 @@ package io.camunda.connector.suppliers;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.camunda.connector.BaseTest;
@@ -105,4 +107,53 @@ class GraphServiceClientSupplierTest extends BaseTest {
             "RuntimeException was expected");
     assertThat(thrown.getMessage()).contains("Error while parsing refresh token response");
   }
+
+  @Test
+  public void buildAndGetGraphServiceClient_shouldReuseClientForSameCredentials()
+      throws IOException {
+    // Given
+    when(call.execute()).thenReturn(tokenResponse());
+
+    // When
+    var first = supplier.buildAndGetGraphServiceClient(authentication);
+    var second = supplier.buildAndGetGraphServiceClient(authentication);
+
+    // Then
+    assertThat(second).isSameAs(first);
+    verify(okHttpClient, times(1)).newCall(any(Request.class));
+  }
+
+  @Test
+  public void buildAndGetGraphServiceClient_shouldNotShareClientBetweenHttpClients(
+      @Mock OkHttpClient otherOkHttpClient, @Mock Call otherCall) throws IOException {
+    // Given
+    when(call.execute()).thenReturn(tokenResponse());
+    when(otherOkHttpClient.newCall(any(Request.class))).thenReturn(otherCall);
+    when(otherCall.execute()).thenReturn(tokenResponse());
+    var otherSupplier = new GraphServiceClientSupplier(otherOkHttpClient);
+
+    // When
+    var first = supplier.buildAndGetGraphServiceClient(authentication);
+    var second = otherSupplier.buildAndGetGraphServiceClient(authentication);
+
+    // Then
+    assertThat(second).isNotSameAs(first);
+    verify(okHttpClient, times(1)).newCall(any(Request.class));
+    verify(otherOkHttpClient, times(1)).newCall(any(Request.class));
+  }
+
+  private Response tokenResponse() {
+    return new Response.Builder()
+        .request(request)
+        .protocol(Protocol.HTTP_2)
+        .code(200)
+        .message("")
+        .body(
+            ResponseBody.create(
+                "{\"access_token\": \""
+                    + ActualValue.Authentication.BEARER_TOKEN
+                    + "\", \"expires_in\": 3600}",
+                MediaType.get("application/json; charset=utf-8")))
+        .build();
+  }
 }
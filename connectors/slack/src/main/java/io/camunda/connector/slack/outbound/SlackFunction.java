@@ -7,10 +7,12 @@
 package io.camunda.connector.slack.outbound;
 
 import com.slack.api.Slack;
+import com.slack.api.methods.MethodsClient;
 import io.camunda.connector.api.annotation.OutboundConnector;
 import io.camunda.connector.api.outbound.OutboundConnectorContext;
 import io.camunda.connector.api.outbound.OutboundConnectorFunction;
 import io.camunda.connector.generator.java.annotation.ElementTemplate;
+import io.camunda.connector.util.cache.ClientCache;
 
 @ElementTemplate(
     engineVersion = "^8.3",
@@ -59,6 +61,10 @@ public class SlackFunction implements OutboundConnectorFunction {
 
   private final Slack slack;
 
+  // One client per token, subsequent jobs reuse it along with the directory of the token (see
+  // SlackDirectory)
+  private final ClientCache<String, MethodsClient> methodsClients = ClientCache.create();
+
   public SlackFunction() {
     this(Slack.getInstance());
   }
@@ -70,6 +76,7 @@ public class SlackFunction implements OutboundConnectorFunction {
   @Override
   public Object execute(OutboundConnectorContext context) throws Exception {
     final var slackRequest = context.bindVariables(SlackRequest.class);
-    return slackRequest.invoke(slack);
+    return slackRequest.invoke(
+        methodsClients.get(slackRequest.token(), () -> slack.methods(slackRequest.token())));
   }
 }
@@ -21,6 +21,7 @@ import io.camunda.connector.slack.outbound.model.PinsAddData;
 import io.camunda.connector.slack.outbound.model.PinsRemoveData;
 import io.camunda.connector.slack.outbound.model.ReactionsAddData;
 import io.camunda.connector.slack.outbound.model.SlackRequestData;
+import io.camunda.connector.slack.outbound.utils.SlackDirectory;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -56,7 +57,11 @@ public record SlackRequest<T extends SlackRequestData>(
         @NestedProperties(addNestedPath = false)
         T data) {
   public SlackResponse invoke(final Slack slack) throws SlackApiException, IOException {
-    MethodsClient methods = slack.methods(token);
+    return invoke(slack.methods(token));
+  }
+
+  public SlackResponse invoke(final MethodsClient methods) throws SlackApiException, IOException {
+    SlackDirectory.bind(methods, token);
     return data.invoke(methods);
   }
 
@@ -8,15 +8,6 @@ package io.camunda.connector.slack.outbound.utils;
 
 import com.slack.api.methods.MethodsClient;
 import com.slack.api.methods.SlackApiException;
-import com.slack.api.methods.request.conversations.ConversationsListRequest;
-import com.slack.api.methods.request.users.UsersListRequest;
-import com.slack.api.methods.request.users.UsersLookupByEmailRequest;
-import com.slack.api.methods.response.conversations.ConversationsListResponse;
-import com.slack.api.methods.response.users.UsersListResponse;
-import com.slack.api.methods.response.users.UsersLookupByEmailResponse;
-import com.slack.api.model.Conversation;
-import com.slack.api.model.ConversationType;
-import com.slack.api.model.User;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -76,8 +67,10 @@ public class DataLookupService {
           }
         });
 
+    // duplicate recipients are resolved once, the directory caches the results across jobs
     List<String> idListByEmail =
         emails.stream()
+            .distinct()
             .map(
                 email -> {
                   try {
@@ -98,19 +91,7 @@ public class DataLookupService {
 
   public static String getUserIdByEmail(final String email, final MethodsClient methodsClient)
       throws IOException, SlackApiException {
-    UsersLookupByEmailRequest lookupByEmailRequest =
-        UsersLookupByEmailRequest.builder().email(email).build();
-
-    return Optional.ofNullable(methodsClient.usersLookupByEmail(lookupByEmailRequest))
-        .filter(UsersLookupByEmailResponse::isOk)
-        .map(UsersLookupByEmailResponse::getUser)
-        .map(User::getId)
-        .orElseThrow(
-            () ->
-                new RuntimeException(
-                    "User with email "
-                        + email
-                        + " not found; or unable 'users:read.email' permission"));
+    return SlackDirectory.of(methodsClient).getUserIdByEmail(email);
   }
 
   public static String getUserIdByUserName(String userName, MethodsClient methodsClient) {
@@ -131,81 +112,13 @@ public class DataLookupService {
     if (userNameList == null || userNameList.isEmpty()) {
       return new ArrayList<>();
     }
-    String nextCursor = null;
-    List<String> idList = new ArrayList<>();
-    do {
-      UsersListRequest request = UsersListRequest.builder().limit(1000).cursor(nextCursor).build();
-
-      try {
-        UsersListResponse response = methodsClient.usersList(request);
-        if (response.isOk()) {
-          idList.addAll(
-              response.getMembers().stream()
-                  .filter(user -> userNameList.contains(user.getRealName()))
-                  .map(User::getId)
-                  .toList());
-          nextCursor = response.getResponseMetadata().getNextCursor();
-        } else {
-          throw new RuntimeException("Unable to get users; message: " + response.getError());
-        }
-      } catch (Exception e) {
-        throw new RuntimeException("Unable to find users by name", e);
-      }
-
-    } while (idList.size() < userNameList.size() && nextCursor != null && !nextCursor.isBlank());
-    return idList;
+    return SlackDirectory.of(methodsClient).getUserIdsByRealNames(userNameList);
   }
 
   public static String getChannelIdByName(String channelName, MethodsClient methodsClient) {
-    String channelId = null;
-    String nextCursor = null;
-
-    do {
-      List<ConversationType> allChannelType =
-          Arrays.asList(
-              ConversationType.PUBLIC_CHANNEL,
-              ConversationType
-                  .PRIVATE_CHANNEL); // we don't need IMs and MPIMs since they do not have a name
-      ConversationsListRequest request =
-          ConversationsListRequest.builder()
-              .types(allChannelType)
-              .limit(1000)
-              .cursor(nextCursor)
-              .build();
-      try {
-        ConversationsListResponse response = methodsClient.conversationsList(request);
-        if (response.isOk()) {
-          channelId =
-              response.getChannels().stream()
-                  .filter(channel -> channelName.equals(channel.getName()))
-                  .map(Conversation::getId)
-                  .findFirst()
-                  .orElse(null);
-          nextCursor = response.getResponseMetadata().getNextCursor();
-        } else {
-          throw new RuntimeException(
-              "Unable to find conversation with channel name: "
-                  + channelName
-                  + "; message: "
-                  + response.getError());
-        }
-      } catch (SlackApiException slackApiException) {
-        if (Objects.equals(slackApiException.getError().getError(), "ratelimited")) {
-          throw new RuntimeException("Too many requests, rate limit reached");
-        } else {
-          throw new RuntimeException(
-              "Unable to find conversation with name: " + channelName, slackApiException);
-        }
-      } catch (Exception e) {
-        throw new RuntimeException("Unable to find conversation with name: " + channelName, e);
-      }
-
-    } while (channelId == null && nextCursor != null && !nextCursor.isBlank());
-
-    if (channelId == null) {
-      throw new RuntimeException("Unable to find conversation with name: " + channelName);
-    }
-
-    return channelId;
+    return SlackDirectory.of(methodsClient)
+        .getChannelIdByName(channelName)
+        .orElseThrow(
+            () -> new RuntimeException("Unable to find conversation with name: " + channelName));
   }
 }
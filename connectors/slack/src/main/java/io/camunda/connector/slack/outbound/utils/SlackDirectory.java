@@ -0,0 +1,352 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. Licensed under a proprietary license.
+ * See the License.txt file for more information. You may not use this file
+ * except in compliance with the proprietary license.
+ */
+package io.camunda.connector.slack.outbound.utils;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.collect.ImmutableListMultimap;
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.slack.api.methods.MethodsClient;
+import com.slack.api.methods.SlackApiException;
+import com.slack.api.methods.request.conversations.ConversationsListRequest;
+import com.slack.api.methods.request.users.UsersListRequest;
+import com.slack.api.methods.request.users.UsersLookupByEmailRequest;
+import com.slack.api.methods.response.conversations.ConversationsListResponse;
+import com.slack.api.methods.response.users.UsersListResponse;
+import com.slack.api.methods.response.users.UsersLookupByEmailResponse;
+import com.slack.api.model.Conversation;
+import com.slack.api.model.ConversationType;
+import com.slack.api.model.User;
+import io.camunda.connector.util.cache.ClientCache;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+/**
+ * Cached user and channel directory of a Slack workspace.
+ *
+ * <p>The user and channel lists are paged through once and shared by all jobs using the same token,
+ * see {@link #bind(MethodsClient, String)}. Stale directories are refreshed in the background while
+ * the previous snapshot keeps being served; concurrent jobs requesting a directory that is not
+ * loaded yet wait for a single load. A name that is missing from a snapshot older than {@link
+ * #MIN_RELOAD_INTERVAL} triggers one synchronous reload, so newly created users and channels are
+ * found without waiting for the next refresh. Names that are not found after such a reload are
+ * remembered as missing and don't trigger further reloads until the next refresh.
+ *
+ * <p>A snapshot keeps at most {@link #MAX_SNAPSHOT_ENTRIES} users or channels. In larger workspaces
+ * names that are not part of the snapshot are looked up by paging through the list again, without
+ * caching the result.
+ *
+ * <p>Email lookups use {@code users.lookupByEmail} and are cached per address, unless the user
+ * directory is already loaded and contains the address.
+ */
+public class SlackDirectory {
+
+  static final Duration REFRESH_INTERVAL = Duration.ofMinutes(5);
+  static final Duration MIN_RELOAD_INTERVAL = Duration.ofSeconds(30);
+  private static final Duration EXPIRY = Duration.ofHours(1);
+  private static final int MAX_WORKSPACES = 100;
+  private static final int MAX_EMAILS_PER_WORKSPACE = 10_000;
+  static final int MAX_SNAPSHOT_ENTRIES = 50_000;
+
+  private static final Executor REFRESH_EXECUTOR =
+      Executors.newFixedThreadPool(
+          2,
+          new ThreadFactoryBuilder()
+              .setDaemon(true)
+              .setNameFormat("slack-directory-refresh-%d")
+              .build());
+
+  // Keyed by the SHA-256 hash of the token, clients are mapped to it by #bind. Clients that were
+  // never bound get a key of their own.
+  private static final ClientCache<String, SlackDirectory> DIRECTORIES =
+      ClientCache.create(MAX_WORKSPACES, EXPIRY);
+  private static final Cache<MethodsClient, String> DIRECTORY_KEYS =
+      CacheBuilder.newBuilder().weakKeys().build();
+
+  private enum Kind {
+    USERS,
+    CHANNELS
+  }
+
+  /**
+   * @param complete whether the snapshot holds the whole list, or stopped at {@link
+   *     #MAX_SNAPSHOT_ENTRIES}
+   */
+  private record Snapshot(
+      ImmutableListMultimap<String, String> idsByName,
+      Map<String, String> idsByEmail,
+      boolean complete,
+      Set<String> missingNames,
+      long loadedAt) {
+
+    Snapshot(
+        ImmutableListMultimap<String, String> idsByName,
+        Map<String, String> idsByEmail,
+        boolean complete) {
+      this(idsByName, idsByEmail, complete, ConcurrentHashMap.newKeySet(), System.nanoTime());
+    }
+
+    boolean isOlderThan(Duration age) {
+      return System.nanoTime() - loadedAt > age.toNanos();
+    }
+
+    /** Returns whether any of the names is neither listed nor known to be missing. */
+    boolean lacksAny(Collection<String> names) {
+      return names.stream()
+          .anyMatch(name -> !idsByName.containsKey(name) && !missingNames.contains(name));
+    }
+
+    void recordMissing(Collection<String> names) {
+      names.stream().filter(name -> !idsByName.containsKey(name)).forEach(missingNames::add);
+    }
+  }
+
+  // the latest client of the token, the directory is shared by all of them
+  private volatile MethodsClient methodsClient;
+  private final Duration minReloadInterval;
+  private final int maxSnapshotEntries;
+  private final LoadingCache<Kind, Snapshot> snapshots;
+  private final LoadingCache<String, String> userIdsByEmail;
+
+  SlackDirectory(MethodsClient methodsClient) {
+    this(methodsClient, MIN_RELOAD_INTERVAL, MAX_SNAPSHOT_ENTRIES);
+  }
+
+  SlackDirectory(MethodsClient methodsClient, Duration minReloadInterval, int maxSnapshotEntries) {
+    this.methodsClient = methodsClient;
+    this.minReloadInterval = minReloadInterval;
+    this.maxSnapshotEntries = maxSnapshotEntries;
+    this.snapshots =
+        CacheBuilder.newBuilder()
+            .refreshAfterWrite(REFRESH_INTERVAL)
+            .expireAfterWrite(EXPIRY)
+            .build(
+                CacheLoader.asyncReloading(
+                    CacheLoader.from(
+                        kind ->
+                            switch (kind) {
+                              case USERS -> loadUsers(null);
+                              case CHANNELS -> loadChannels(null);
+                            }),
+                    REFRESH_EXECUTOR));
+    this.userIdsByEmail =
+        CacheBuilder.newBuilder()
+            .maximumSize(MAX_EMAILS_PER_WORKSPACE)
+            .expireAfterWrite(EXPIRY)
+            .build(CacheLoader.from(this::lookupUserIdByEmail));
+  }
+
+  /**
+   * Shares the directory of the token with the given client. Clients are created per request, so
+   * they are mapped to the token they were created for rather than used as the key themselves.
+   */
+  public static void bind(MethodsClient methodsClient, String token) {
+    DIRECTORY_KEYS.put(methodsClient, Hashing.sha256().hashString(token, UTF_8).toString());
+  }
+
+  /** Returns the shared directory of the token the given client was bound to. */
+  public static SlackDirectory of(MethodsClient methodsClient) {
+    try {
+      var key = DIRECTORY_KEYS.get(methodsClient, () -> UUID.randomUUID().toString());
+      var directory = DIRECTORIES.get(key, () -> new SlackDirectory(methodsClient));
+      directory.methodsClient = methodsClient;
+      return directory;
+    } catch (ExecutionException e) {
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+
+  /**
+   * Resolves the IDs of the users with the given real names with a single directory lookup. All
+   * users sharing a real name are returned, names without a matching user are skipped.
+   */
+  public List<String> getUserIdsByRealNames(Collection<String> realNames) {
+    var snapshot = resolve(Kind.USERS, realNames);
+    return realNames.stream().flatMap(name -> snapshot.idsByName().get(name).stream()).toList();
+  }
+
+  public String getUserIdByEmail(String email) throws IOException, SlackApiException {
+    var directory = snapshots.getIfPresent(Kind.USERS);
+    if (directory != null && directory.idsByEmail().containsKey(email)) {
+      return directory.idsByEmail().get(email);
+    }
+    try {
+      return userIdsByEmail.getUnchecked(email);
+    } catch (UncheckedExecutionException e) {
+      if (e.getCause() instanceof LookupException lookupException) {
+        switch (lookupException.getCause()) {
+          case IOException ioException -> throw ioException;
+          case SlackApiException slackApiException -> throw slackApiException;
+          default -> throw lookupException;
+        }
+      }
+      throw unwrap(e);
+    }
+  }
+
+  public Optional<String> getChannelIdByName(String channelName) {
+    return resolve(Kind.CHANNELS, List.of(channelName)).idsByName().get(channelName).stream()
+        .findFirst();
+  }
+
+  private Snapshot resolve(Kind kind, Collection<String> names) {
+    try {
+      var snapshot = snapshots.getUnchecked(kind);
+      if (!snapshot.complete() && snapshot.lacksAny(names)) {
+        // the list is larger than a snapshot, page through it for the requested names only
+        var requested = Set.copyOf(names);
+        return switch (kind) {
+          case USERS -> loadUsers(requested);
+          case CHANNELS -> loadChannels(requested);
+        };
+      }
+      if (snapshot.lacksAny(names) && snapshot.isOlderThan(minReloadInterval)) {
+        // concurrent jobs missing a name in the same snapshot share a single reload
+        snapshots.asMap().remove(kind, snapshot);
+        snapshot = snapshots.getUnchecked(kind);
+        snapshot.recordMissing(names);
+      }
+      return snapshot;
+    } catch (UncheckedExecutionException e) {
+      throw unwrap(e);
+    }
+  }
+
+  /**
+   * Pages through the users of the workspace, keeping up to {@link #maxSnapshotEntries} of them, or
+   * only the ones with the given real names.
+   */
+  private Snapshot loadUsers(Set<String> realNames) {
+    ImmutableListMultimap.Builder<String, String> idsByName = ImmutableListMultimap.builder();
+    Map<String, String> idsByEmail = new HashMap<>();
+    int entries = 0;
+    String nextCursor = null;
+    do {
+      UsersListRequest request = UsersListRequest.builder().limit(1000).cursor(nextCursor).build();
+      try {
+        UsersListResponse response = methodsClient.usersList(request);
+        if (!response.isOk()) {
+          throw new RuntimeException("Unable to get users; message: " + response.getError());
+        }
+        for (User user : response.getMembers()) {
+          if (realNames != null
+              && (user.getRealName() == null || !realNames.contains(user.getRealName()))) {
+            continue;
+          }
+          if (realNames == null && ++entries > maxSnapshotEntries) {
+            return new Snapshot(idsByName.build(), idsByEmail, false);
+          }
+          if (user.getRealName() != null) {
+            idsByName.put(user.getRealName(), user.getId());
+          }
+          if (user.getProfile() != null && user.getProfile().getEmail() != null) {
+            idsByEmail.putIfAbsent(user.getProfile().getEmail(), user.getId());
+          }
+        }
+        nextCursor = response.getResponseMetadata().getNextCursor();
+      } catch (Exception e) {
+        throw new RuntimeException("Unable to find users by name", e);
+      }
+    } while (nextCursor != null && !nextCursor.isBlank());
+    return new Snapshot(idsByName.build(), idsByEmail, true);
+  }
+
+  /**
+   * Pages through the channels of the workspace, keeping up to {@link #maxSnapshotEntries} of them,
+   * or only the ones with the given names.
+   */
+  private Snapshot loadChannels(Set<String> channelNames) {
+    ImmutableListMultimap.Builder<String, String> idsByName = ImmutableListMultimap.builder();
+    int entries = 0;
+    String nextCursor = null;
+    do {
+      // we don't need IMs and MPIMs since they do not have a name
+      ConversationsListRequest request =
+          ConversationsListRequest.builder()
+              .types(List.of(ConversationType.PUBLIC_CHANNEL, ConversationType.PRIVATE_CHANNEL))
+              .limit(1000)
+              .cursor(nextCursor)
+              .build();
+      try {
+        ConversationsListResponse response = methodsClient.conversationsList(request);
+        if (!response.isOk()) {
+          throw new RuntimeException(
+              "Unable to list conversations; message: " + response.getError());
+        }
+        for (Conversation channel : response.getChannels()) {
+          if (channelNames != null
+              && (channel.getName() == null || !channelNames.contains(channel.getName()))) {
+            continue;
+          }
+          if (channelNames == null && ++entries > maxSnapshotEntries) {
+            return new Snapshot(idsByName.build(), Map.of(), false);
+          }
+          if (channel.getName() != null) {
+            idsByName.put(channel.getName(), channel.getId());
+          }
+        }
+        nextCursor = response.getResponseMetadata().getNextCursor();
+      } catch (SlackApiException slackApiException) {
+        if (Objects.equals(slackApiException.getError().getError(), "ratelimited")) {
+          throw new RuntimeException("Too many requests, rate limit reached");
+        }
+        throw new RuntimeException("Unable to list conversations", slackApiException);
+      } catch (IOException e) {
+        throw new RuntimeException("Unable to list conversations", e);
+      }
+    } while (nextCursor != null && !nextCursor.isBlank());
+    return new Snapshot(idsByName.build(), Map.of(), true);
+  }
+
+  private String lookupUserIdByEmail(String email) {
+    UsersLookupByEmailRequest lookupByEmailRequest =
+        UsersLookupByEmailRequest.builder().email(email).build();
+    try {
+      return Optional.ofNullable(methodsClient.usersLookupByEmail(lookupByEmailRequest))
+          .filter(UsersLookupByEmailResponse::isOk)
+          .map(UsersLookupByEmailResponse::getUser)
+          .map(User::getId)
+          .orElseThrow(
+              () ->
+                  new RuntimeException(
+                      "User with email "
+                          + email
+                          + " not found; or unable 'users:read.email' permission"));
+    } catch (IOException | SlackApiException e) {
+      throw new LookupException(e);
+    }
+  }
+
+  private static RuntimeException unwrap(UncheckedExecutionException e) {
+    return e.getCause() instanceof RuntimeException cause ? cause : e;
+  }
+
+  /** Carries checked Slack client exceptions through the cache loader. */
+  private static final class LookupException extends RuntimeException {
+    LookupException(Exception cause) {
+      super(cause);
+    }
+  }
+}
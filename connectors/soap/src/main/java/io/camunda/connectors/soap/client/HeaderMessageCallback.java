@@ -10,28 +10,31 @@ import io.camunda.connectors.soap.xml.XmlUtilities;
 import java.util.Map;
 import javax.xml.transform.Source;
 import javax.xml.transform.dom.DOMSource;
-import org.springframework.ws.client.WebServiceClientException;
-import org.springframework.ws.client.support.interceptor.ClientInterceptorAdapter;
-import org.springframework.ws.context.MessageContext;
+import org.springframework.ws.WebServiceMessage;
+import org.springframework.ws.client.core.WebServiceMessageCallback;
 import org.springframework.ws.soap.SoapMessage;
 
-public class HeaderClientInterceptor extends ClientInterceptorAdapter {
+/**
+ * Appends the SOAP header of a single request. Applied as request callback rather than as
+ * interceptor so that the configured client can be shared between requests with different headers;
+ * the callback runs before the interceptors, so the header is still covered by WS-Security.
+ */
+public class HeaderMessageCallback implements WebServiceMessageCallback {
   private final String soapHeader;
   private final Map<String, String> namespaces;
 
-  public HeaderClientInterceptor(String soapHeader, Map<String, String> namespaces) {
+  public HeaderMessageCallback(String soapHeader, Map<String, String> namespaces) {
     this.soapHeader = soapHeader;
     this.namespaces = namespaces;
   }
 
   @Override
-  public boolean handleRequest(MessageContext messageContext) throws WebServiceClientException {
-    if (messageContext.getRequest() instanceof SoapMessage soapMessage) {
+  public void doWithMessage(WebServiceMessage message) {
+    if (message instanceof SoapMessage soapMessage) {
       Source source = soapMessage.getSoapHeader().getSource();
       if (source instanceof DOMSource domSource) {
         XmlUtilities.appendXmlStringToNode(soapHeader, namespaces, domSource.getNode());
       }
     }
-    return true;
   }
 }
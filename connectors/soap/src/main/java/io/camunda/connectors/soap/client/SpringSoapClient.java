@@ -6,10 +6,9 @@
  */
 package io.camunda.connectors.soap.client;
 
-import static java.util.Optional.empty;
-import static java.util.Optional.of;
 import static java.util.Optional.ofNullable;
 
+import io.camunda.connector.util.cache.ClientCache;
 import io.camunda.connectors.soap.SoapConnectorInput.Authentication;
 import io.camunda.connectors.soap.SoapConnectorInput.Authentication.None;
 import io.camunda.connectors.soap.SoapConnectorInput.Authentication.Signature;
@@ -23,6 +22,7 @@ import io.camunda.connectors.soap.SoapConnectorInput.YesNo;
 import io.camunda.connectors.soap.xml.XmlUtilities;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.StringReader;
 import java.security.KeyStore;
 import java.security.KeyStoreException;
@@ -32,10 +32,12 @@ import java.security.PrivateKey;
 import java.security.cert.Certificate;
 import java.security.cert.CertificateFactory;
 import java.security.cert.X509Certificate;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import javax.xml.transform.Result;
@@ -58,6 +60,7 @@ import org.springframework.oxm.Marshaller;
 import org.springframework.oxm.Unmarshaller;
 import org.springframework.oxm.XmlMappingException;
 import org.springframework.ws.WebServiceMessageFactory;
+import org.springframework.ws.client.core.WebServiceMessageCallback;
 import org.springframework.ws.client.core.support.WebServiceGatewaySupport;
 import org.springframework.ws.client.support.interceptor.ClientInterceptor;
 import org.springframework.ws.soap.SoapVersion;
@@ -69,11 +72,30 @@ import org.springframework.ws.transport.WebServiceMessageSender;
 import org.springframework.ws.transport.http.ClientHttpRequestMessageSender;
 import org.w3c.dom.Node;
 
+/**
+ * {@link SoapClient} based on Spring WS.
+ *
+ * <p>Configured clients are cached per endpoint, SOAP version, namespaces, timeout and
+ * authentication, so the SAAJ message factory, the WS-Security interceptors (including PEM and
+ * keystore parsing) and the HTTP transport are only set up once. The SOAP header and action are
+ * applied per request. A keystore referenced by its location is part of the key by the digest of
+ * its content, so that a replaced keystore is loaded again.
+ */
 public class SpringSoapClient implements SoapClient {
   private static final String SINGLE_CERTIFICATE_ALIAS = "user";
   private static final String SINGLE_CERTIFICATE_PASSWORD = "pw";
+  private static final int MAX_CACHED_CLIENTS = 100;
+  private static final Duration CACHE_EXPIRY = Duration.ofHours(1);
+
+  // SAAJ message factories are expensive to initialize and thread-safe once configured
+  private static final Map<SoapVersion, WebServiceMessageFactory> MESSAGE_FACTORIES =
+      new ConcurrentHashMap<>();
+  private static final ClientCache<Credentials, List<Wss4jSecurityInterceptor>>
+      SECURITY_INTERCEPTORS = ClientCache.create(MAX_CACHED_CLIENTS, CACHE_EXPIRY);
 
   private final Supplier<WebServiceClient> webServiceClientFactory;
+  private final ClientCache<ClientKey, WebServiceClient> clients =
+      ClientCache.create(MAX_CACHED_CLIENTS, CACHE_EXPIRY);
 
   public SpringSoapClient() {
     this(WebServiceClient::new);
@@ -93,21 +115,37 @@ public class SpringSoapClient implements SoapClient {
       Integer connectionTimeoutInSeconds,
       Map<String, String> namespaces)
       throws Exception {
-    final var requestFactory = buildRequestFactory(connectionTimeoutInSeconds);
+    final var key =
+        new ClientKey(
+            serviceUrl,
+            toSoapVersion(soapVersion),
+            Credentials.of(authentication),
+            normalizeTimeout(connectionTimeoutInSeconds),
+            namespaces);
+    final var wsClient = getClient(key);
+    return wsClient.sendSoapRequestFromFactory(soapBody, soapVersion, soapHeader, namespaces);
+  }
+
+  private WebServiceClient getClient(ClientKey key) throws Exception {
+    return clients.get(key, () -> buildClient(key));
+  }
+
+  private WebServiceClient buildClient(ClientKey key) throws Exception {
+    final var requestFactory = buildRequestFactory(key.connectionTimeoutInSeconds());
     final var messageSender = buildMessageSender(requestFactory);
-    final var messageFactory = buildMessageFactory(soapVersion);
-    final var marshaller = buildMarshaller(namespaces);
-    final var unmarshaller = buildUnmarshaller(namespaces);
-    ClientInterceptor[] interceptors = buildInterceptors(soapHeader, authentication, namespaces);
+    final var messageFactory = getMessageFactory(key.soapVersion());
+    final var marshaller = buildMarshaller(key.namespaces());
+    final var unmarshaller = buildUnmarshaller(key.namespaces());
+    ClientInterceptor[] interceptors = buildInterceptors(key.credentials());
     WebServiceClient wsClient = webServiceClientFactory.get();
-    wsClient.setDefaultUri(serviceUrl);
+    wsClient.setDefaultUri(key.serviceUrl());
     wsClient.setMessageSender(messageSender);
     wsClient.setInterceptors(interceptors);
     wsClient.setMessageFactory(messageFactory);
     wsClient.setMarshaller(marshaller);
     wsClient.setUnmarshaller(unmarshaller);
     wsClient.afterPropertiesSet();
-    return wsClient.sendSoapRequestFromFactory(soapBody, soapVersion);
+    return wsClient;
   }
 
   private Marshaller buildMarshaller(Map<String, String> namespaces) {
@@ -118,16 +156,19 @@ public class SpringSoapClient implements SoapClient {
     return new StringBodyMarshaller(namespaces);
   }
 
-  private WebServiceMessageFactory buildMessageFactory(Version soapVersion) {
-    final var messageFactory = new SaajSoapMessageFactory();
-    if (soapVersion instanceof _1_1) {
-      messageFactory.setSoapVersion(SoapVersion.SOAP_11);
-    }
-    if (soapVersion instanceof _1_2) {
-      messageFactory.setSoapVersion(SoapVersion.SOAP_12);
-    }
-    messageFactory.afterPropertiesSet();
-    return messageFactory;
+  private static SoapVersion toSoapVersion(Version soapVersion) {
+    return soapVersion instanceof _1_2 ? SoapVersion.SOAP_12 : SoapVersion.SOAP_11;
+  }
+
+  private WebServiceMessageFactory getMessageFactory(SoapVersion soapVersion) {
+    return MESSAGE_FACTORIES.computeIfAbsent(
+        soapVersion,
+        version -> {
+          final var messageFactory = new SaajSoapMessageFactory();
+          messageFactory.setSoapVersion(version);
+          messageFactory.afterPropertiesSet();
+          return messageFactory;
+        });
   }
 
   private WebServiceMessageSender buildMessageSender(ClientHttpRequestFactory requestFactory) {
@@ -136,30 +177,30 @@ public class SpringSoapClient implements SoapClient {
     return messageSender;
   }
 
-  private ClientHttpRequestFactory buildRequestFactory(Integer connectionTimeoutInSeconds) {
+  private static int normalizeTimeout(Integer connectionTimeoutInSeconds) {
+    return connectionTimeoutInSeconds != null && connectionTimeoutInSeconds > 0
+        ? connectionTimeoutInSeconds
+        : 0;
+  }
+
+  private ClientHttpRequestFactory buildRequestFactory(int connectionTimeoutInSeconds) {
     final var requestFactory = new SimpleClientHttpRequestFactory();
-    if (connectionTimeoutInSeconds != null && connectionTimeoutInSeconds > 0) {
+    if (connectionTimeoutInSeconds > 0) {
       requestFactory.setConnectTimeout(connectionTimeoutInSeconds * 1000);
       requestFactory.setReadTimeout(connectionTimeoutInSeconds * 1000);
     }
     return requestFactory;
   }
 
-  private ClientInterceptor[] buildInterceptors(
-      String soapHeader, Authentication authentication, Map<String, String> namespaces) {
-    List<ClientInterceptor> interceptorList = new ArrayList<>();
-    handleSoapHeader(soapHeader, namespaces).ifPresent(interceptorList::add);
-    interceptorList.addAll(handleAuthentication(authentication));
+  private ClientInterceptor[] buildInterceptors(Credentials credentials) {
+    List<ClientInterceptor> interceptorList = new ArrayList<>(getSecurityInterceptors(credentials));
     interceptorList.add(new LoggingInterceptor());
     return interceptorList.toArray(new ClientInterceptor[0]);
   }
 
-  private Optional<ClientInterceptor> handleSoapHeader(
-      String soapHeader, Map<String, String> namespaces) {
-    if (StringUtils.isEmpty(soapHeader)) {
-      return empty();
-    }
-    return of(new HeaderClientInterceptor(soapHeader, namespaces));
+  private List<Wss4jSecurityInterceptor> getSecurityInterceptors(Credentials credentials) {
+    return SECURITY_INTERCEPTORS.get(
+        credentials, () -> handleAuthentication(credentials.authentication()));
   }
 
   private List<Wss4jSecurityInterceptor> handleAuthentication(Authentication authentication) {
@@ -169,7 +210,7 @@ public class SpringSoapClient implements SoapClient {
       case Signature signature -> interceptors.add(handleSignature(signature));
       case None ignored -> {}
     }
-    return interceptors;
+    return List.copyOf(interceptors);
   }
 
   private Wss4jSecurityInterceptor handleUsernameToken(UsernameToken usernameToken) {
@@ -328,13 +369,59 @@ public class SpringSoapClient implements SoapClient {
 
   public static class WebServiceClient extends WebServiceGatewaySupport {
 
-    public String sendSoapRequestFromFactory(String requestBody, Version soapVersion) {
+    public String sendSoapRequestFromFactory(
+        String requestBody,
+        Version soapVersion,
+        String soapHeader,
+        Map<String, String> namespaces) {
+      final List<WebServiceMessageCallback> callbacks = new ArrayList<>();
       if (soapVersion instanceof _1_1 _1_1) {
-        return getWebServiceTemplate()
-            .marshalSendAndReceive((Object) requestBody, new SoapActionCallback(_1_1.soapAction()))
-            .toString();
+        callbacks.add(new SoapActionCallback(_1_1.soapAction()));
+      }
+      if (StringUtils.isNotEmpty(soapHeader)) {
+        callbacks.add(new HeaderMessageCallback(soapHeader, namespaces));
+      }
+      return getWebServiceTemplate()
+          .marshalSendAndReceive(
+              (Object) requestBody,
+              message -> {
+                for (WebServiceMessageCallback callback : callbacks) {
+                  callback.doWithMessage(message);
+                }
+              })
+          .toString();
+    }
+  }
+
+  private record ClientKey(
+      String serviceUrl,
+      SoapVersion soapVersion,
+      Credentials credentials,
+      int connectionTimeoutInSeconds,
+      Map<String, String> namespaces) {}
+
+  /**
+   * The authentication together with the SHA-256 digest of the keystore it references, if any. The
+   * keystore location alone does not change when the keystore is replaced, e.g. on rotation.
+   */
+  private record Credentials(Authentication authentication, String keystoreDigest) {
+
+    static Credentials of(Authentication authentication) {
+      if (authentication instanceof Signature signature
+          && signature.certificate() instanceof KeystoreCertificate keystoreCertificate) {
+        return new Credentials(authentication, digest(keystoreCertificate.keystoreLocation()));
+      }
+      return new Credentials(authentication, null);
+    }
+
+    private static String digest(String keystoreLocation) {
+      try (InputStream keystore =
+          new DefaultResourceLoader().getResource(keystoreLocation).getInputStream()) {
+        return HexFormat.of()
+            .formatHex(MessageDigest.getInstance("SHA-256").digest(keystore.readAllBytes()));
+      } catch (IOException | NoSuchAlgorithmException e) {
+        throw new RuntimeException("Error while loading keystore", e);
       }
-      return getWebServiceTemplate().marshalSendAndReceive(requestBody).toString();
     }
   }
 
@@ -0,0 +1,219 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. Licensed under a proprietary license.
+ * See the License.txt file for more information. You may not use this file
+ * except in compliance with the proprietary license.
+ */
+package io.camunda.connectors.soap.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.junit5.WireMockRuntimeInfo;
+import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+import io.camunda.connectors.soap.CertificateUtil;
+import io.camunda.connectors.soap.SoapConnectorInput.Authentication;
+import io.camunda.connectors.soap.SoapConnectorInput.Authentication.None;
+import io.camunda.connectors.soap.SoapConnectorInput.Authentication.Signature;
+import io.camunda.connectors.soap.SoapConnectorInput.Authentication.Signature.Certificate.KeystoreCertificate;
+import io.camunda.connectors.soap.SoapConnectorInput.Authentication.UsernameToken;
+import io.camunda.connectors.soap.SoapConnectorInput.Version;
+import io.camunda.connectors.soap.SoapConnectorInput.Version._1_1;
+import io.camunda.connectors.soap.SoapConnectorInput.Version._1_2;
+import io.camunda.connectors.soap.SoapConnectorInput.YesNo;
+import io.camunda.connectors.soap.client.SpringSoapClient.WebServiceClient;
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyStore;
+import java.security.PrivateKey;
+import java.security.cert.Certificate;
+import java.security.cert.CertificateFactory;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.bouncycastle.openssl.PEMKeyPair;
+import org.bouncycastle.openssl.PEMParser;
+import org.bouncycastle.openssl.jcajce.JcaPEMKeyConverter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@WireMockTest
+public class SpringSoapClientTest {
+
+  private static final String SOAP_11_RESPONSE =
+      """
+      <soap:Envelope xmlns:soap="http://schemas.xmlsoap.org/soap/envelope/">
+        <soap:Body><result>ok</result></soap:Body>
+      </soap:Envelope>
+      """;
+
+  private static final String SOAP_12_RESPONSE =
+      """
+      <soap:Envelope xmlns:soap="http://www.w3.org/2003/05/soap-envelope">
+        <soap:Body><result>ok</result></soap:Body>
+      </soap:Envelope>
+      """;
+
+  private static final String BODY = "<request>value</request>";
+
+  private final AtomicInteger createdClients = new AtomicInteger();
+  private final SpringSoapClient client =
+      new SpringSoapClient(
+          () -> {
+            createdClients.incrementAndGet();
+            return new WebServiceClient();
+          });
+
+  @BeforeEach
+  void setUp() {
+    WireMock.stubFor(
+        WireMock.post(WireMock.urlPathMatching("/service.*"))
+            .withHeader("Content-Type", WireMock.containing("text/xml"))
+            .willReturn(
+                WireMock.ok(SOAP_11_RESPONSE)
+                    .withHeader("Content-Type", "text/xml; charset=utf-8")));
+    WireMock.stubFor(
+        WireMock.post(WireMock.urlPathMatching("/service.*"))
+            .withHeader("Content-Type", WireMock.containing("application/soap+xml"))
+            .willReturn(
+                WireMock.ok(SOAP_12_RESPONSE)
+                    .withHeader("Content-Type", "application/soap+xml; charset=utf-8")));
+  }
+
+  @Test
+  void shouldReuseClientForSameConfiguration(WireMockRuntimeInfo wmRuntimeInfo) throws Exception {
+    // given
+    var url = wmRuntimeInfo.getHttpBaseUrl() + "/service";
+
+    // when
+    var first = send(url, new _1_1("first"), null, new None(), 10);
+    var second = send(url, new _1_1("second"), "<header>value</header>", new None(), 10);
+
+    // then
+    assertThat(first).contains("<result>ok</result>");
+    assertThat(second).contains("<result>ok</result>");
+    assertThat(createdClients).hasValue(1);
+    WireMock.verify(2, WireMock.postRequestedFor(WireMock.urlEqualTo("/service")));
+  }
+
+  @Test
+  void shouldApplySoapActionAndHeaderPerRequest(WireMockRuntimeInfo wmRuntimeInfo)
+      throws Exception {
+    // given
+    var url = wmRuntimeInfo.getHttpBaseUrl() + "/service";
+
+    // when
+    send(url, new _1_1("first"), "<header>value</header>", new None(), 10);
+    send(url, new _1_1("second"), null, new None(), 10);
+
+    // then
+    assertThat(createdClients).hasValue(1);
+    WireMock.verify(
+        WireMock.postRequestedFor(WireMock.urlEqualTo("/service"))
+            .withHeader("SOAPAction", WireMock.equalTo("\"first\""))
+            .withRequestBody(WireMock.containing("<header>value</header>")));
+    WireMock.verify(
+        WireMock.postRequestedFor(WireMock.urlEqualTo("/service"))
+            .withHeader("SOAPAction", WireMock.equalTo("\"second\""))
+            .withRequestBody(WireMock.notContaining("<header>value</header>")));
+  }
+
+  @Test
+  void shouldCreateClientPerConfiguration(WireMockRuntimeInfo wmRuntimeInfo) throws Exception {
+    // given
+    var url = wmRuntimeInfo.getHttpBaseUrl() + "/service";
+    var usernameToken = new UsernameToken("user", "secret", YesNo.No);
+
+    // when
+    send(url, new _1_1("action"), null, new None(), 10);
+    send(url + "/other", new _1_1("action"), null, new None(), 10);
+    send(url, new _1_2(), null, new None(), 10);
+    send(url, new _1_1("action"), null, usernameToken, 10);
+    send(url, new _1_1("action"), null, new None(), 20);
+    send(url, new _1_1("action"), null, new UsernameToken("user", "secret", YesNo.No), 10);
+
+    // then
+    assertThat(createdClients).hasValue(5);
+    WireMock.verify(6, WireMock.postRequestedFor(WireMock.urlPathMatching("/service.*")));
+    WireMock.verify(
+        2,
+        WireMock.postRequestedFor(WireMock.urlEqualTo("/service"))
+            .withRequestBody(WireMock.containing("UsernameToken")));
+  }
+
+  @Test
+  void shouldNotShareClientsBetweenInstances(WireMockRuntimeInfo wmRuntimeInfo) throws Exception {
+    // given
+    var url = wmRuntimeInfo.getHttpBaseUrl() + "/service";
+    var otherClient =
+        new SpringSoapClient(
+            () -> {
+              createdClients.incrementAndGet();
+              return new WebServiceClient();
+            });
+
+    // when
+    send(url, new _1_1("action"), null, new None(), 10);
+    otherClient.sendSoapRequest(url, new _1_1("action"), null, BODY, new None(), 10, Map.of());
+
+    // then
+    assertThat(createdClients).hasValue(2);
+  }
+
+  @Test
+  void shouldCreateClient_whenKeystoreIsReplaced(
+      WireMockRuntimeInfo wmRuntimeInfo, @TempDir Path tempDir) throws Exception {
+    // given
+    var url = wmRuntimeInfo.getHttpBaseUrl() + "/service";
+    var keystore = tempDir.resolve("keystore.p12");
+    var authentication =
+        new Signature(
+            new KeystoreCertificate(keystore.toUri().toString(), "secret", "key", "secret"),
+            null,
+            null,
+            null,
+            null);
+    writeKeystore(keystore);
+    send(url, new _1_1("action"), null, authentication, 10);
+    send(url, new _1_1("action"), null, authentication, 10);
+
+    // when
+    writeKeystore(keystore);
+    send(url, new _1_1("action"), null, authentication, 10);
+
+    // then
+    assertThat(createdClients).hasValue(2);
+  }
+
+  private static void writeKeystore(Path path) throws Exception {
+    var generated = CertificateUtil.generateSelfSignedCertificate();
+    var certificate =
+        CertificateFactory.getInstance("X.509")
+            .generateCertificate(new ByteArrayInputStream(generated.certificate().getBytes()));
+    PrivateKey privateKey;
+    try (var parser = new PEMParser(new StringReader(generated.privateKey()))) {
+      privateKey =
+          new JcaPEMKeyConverter().getKeyPair((PEMKeyPair) parser.readObject()).getPrivate();
+    }
+    var keyStore = KeyStore.getInstance("PKCS12");
+    keyStore.load(null, null);
+    keyStore.setKeyEntry(
+        "key", privateKey, "secret".toCharArray(), new Certificate[] {certificate});
+    try (var out = Files.newOutputStream(path)) {
+      keyStore.store(out, "secret".toCharArray());
+    }
+  }
+
+  private String send(
+      String url,
+      Version version,
+      String header,
+      Authentication authentication,
+      int connectionTimeoutInSeconds)
+      throws Exception {
+    return client.sendSoapRequest(
+        url, version, header, BODY, authentication, connectionTimeoutInSeconds, Map.of());
+  }
+}
@@ -142,10 +142,7 @@ public class HttpWebhookExecutable implements WebhookConnectorExecutable {
 
   private static MappedHttpRequest mapRequest(WebhookProcessingPayload payload) {
     return new MappedHttpRequest(
-        HttpWebhookUtil.transformRawBodyToObject(
-            payload.rawBody(), HttpWebhookUtil.extractContentType(payload.headers())),
-        payload.headers(),
-        payload.params());
+        HttpWebhookUtil.parseBody(payload), payload.headers(), payload.params());
   }
 
   @Nullable
@@ -184,9 +181,7 @@ public class HttpWebhookExecutable implements WebhookConnectorExecutable {
                       "request",
                       Map.of(
                           "body",
-                          HttpWebhookUtil.transformRawBodyToObject(
-                              payload.rawBody(),
-                              HttpWebhookUtil.extractContentType(payload.headers())),
+                          HttpWebhookUtil.parseBody(payload),
                           "headers",
                           payload.headers(),
                           "params",
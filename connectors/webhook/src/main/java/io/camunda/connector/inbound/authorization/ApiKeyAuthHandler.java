@@ -32,10 +32,7 @@ final class ApiKeyAuthHandler extends WebhookAuthorizationHandler<ApiKeyAuth> {
       WebhookTriggerResultContext result =
           new WebhookTriggerResultContext(
               new MappedHttpRequest(
-                  HttpWebhookUtil.transformRawBodyToObject(
-                      payload.rawBody(), HttpWebhookUtil.extractContentType(payload.headers())),
-                  payload.headers(),
-                  payload.params()),
+                  HttpWebhookUtil.parseBody(payload), payload.headers(), payload.params()),
               Map.of());
 
       String apiKeyValue = expectedAuthorization.apiKeyLocator().apply(result);
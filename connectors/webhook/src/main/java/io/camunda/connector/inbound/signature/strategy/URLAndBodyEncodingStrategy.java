@@ -64,7 +64,7 @@ public final class URLAndBodyEncodingStrategy implements HMACEncodingStrategy {
 
   private String mapObjectToString(Object o) {
     try {
-      return ConnectorsObjectMapperSupplier.getCopy().writeValueAsString(o);
+      return ConnectorsObjectMapperSupplier.getWriter().writeValueAsString(o);
     } catch (JsonProcessingException e) {
       throw new RuntimeException(e);
     }
@@ -72,7 +72,7 @@ public final class URLAndBodyEncodingStrategy implements HMACEncodingStrategy {
 
   private Object mapBytesToObject(byte[] rawBody) {
     try {
-      return ConnectorsObjectMapperSupplier.getCopy().readValue(rawBody, Object.class);
+      return ConnectorsObjectMapperSupplier.getReader(Object.class).readValue(rawBody);
     } catch (IOException e) {
       throw new RuntimeException(e);
     }
@@ -6,6 +6,7 @@
  */
 package io.camunda.connector.inbound.utils;
 
+import io.camunda.connector.api.inbound.webhook.WebhookProcessingPayload;
 import io.camunda.connector.jackson.ConnectorsObjectMapperSupplier;
 import java.io.IOException;
 import java.net.URLDecoder;
@@ -14,7 +15,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Objects;
-import java.util.TreeMap;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 public class HttpWebhookUtil {
@@ -23,10 +24,30 @@ public class HttpWebhookUtil {
   public static final String HEADER_CONTENT_TYPE = "Content-Type";
   public static final String HEADER_AUTHORIZATION = "Authorization";
 
+  /**
+   * Parses the request body according to its content type. Used as a key for {@link
+   * WebhookProcessingPayload#parsedBody(Function)}, so that the body is parsed only once per
+   * request.
+   */
+  private static final Function<WebhookProcessingPayload, Object> BODY_PARSER =
+      payload -> transformRawBodyToObject(payload.rawBody(), extractContentType(payload.headers()));
+
   public static String extractContentType(Map<String, String> headers) {
-    var caseInsensitiveMap = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
-    caseInsensitiveMap.putAll(headers);
-    return caseInsensitiveMap.getOrDefault(HEADER_CONTENT_TYPE, "").toString();
+    for (var header : headers.entrySet()) {
+      if (HEADER_CONTENT_TYPE.equalsIgnoreCase(header.getKey())) {
+        return header.getValue() != null ? header.getValue() : "";
+      }
+    }
+    return "";
+  }
+
+  /**
+   * Returns the request body parsed according to its content type, see {@link
+   * #transformRawBodyToObject(byte[], String)}. The result is shared by all callers handling the
+   * same payload.
+   */
+  public static Object parseBody(WebhookProcessingPayload payload) {
+    return payload.parsedBody(BODY_PARSER);
   }
 
   public static Object transformRawBodyToObject(byte[] rawBody, String contentTypeHeader) {
@@ -45,7 +66,7 @@ public class HttpWebhookUtil {
     } else {
       // Do our best to parse to JSON (throws exception otherwise)
       try {
-        return ConnectorsObjectMapperSupplier.getCopy().readValue(rawBody, Object.class);
+        return ConnectorsObjectMapperSupplier.getReader(Object.class).readValue(rawBody);
       } catch (IOException e) {
         throw new RuntimeException(e);
       }
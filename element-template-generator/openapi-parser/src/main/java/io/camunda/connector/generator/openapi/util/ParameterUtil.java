@@ -144,8 +144,8 @@ public class ParameterUtil {
       return data.toString();
     }
     try {
-      return ConnectorsObjectMapperSupplier.getCopy()
-          .writerWithDefaultPrettyPrinter()
+      return ConnectorsObjectMapperSupplier.getWriter()
+          .withDefaultPrettyPrinter()
           .writeValueAsString(data);
     } catch (JsonProcessingException e) {
       throw new RuntimeException(e);
@@ -18,16 +18,27 @@ package io.camunda.connector.secret.providers;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.camunda.connector.api.error.ConnectorException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import org.slf4j.Logger;
 import software.amazon.awssdk.regions.providers.DefaultAwsRegionProviderChain;
 import software.amazon.awssdk.services.secretsmanager.SecretsManagerClient;
+import software.amazon.awssdk.services.secretsmanager.model.APIErrorType;
+import software.amazon.awssdk.services.secretsmanager.model.BatchGetSecretValueRequest;
+import software.amazon.awssdk.services.secretsmanager.model.BatchGetSecretValueResponse;
 import software.amazon.awssdk.services.secretsmanager.model.GetSecretValueRequest;
 import software.amazon.awssdk.services.secretsmanager.model.GetSecretValueResponse;
 import software.amazon.awssdk.services.secretsmanager.model.SecretsManagerException;
 
 public class AwsSecretProvider extends AbstractSecretProvider implements AutoCloseable {
 
+  /** Maximum number of secret IDs accepted by a single BatchGetSecretValue request */
+  private static final int MAX_BATCH_SIZE = 20;
+
+  private static final String RESOURCE_NOT_FOUND = "ResourceNotFoundException";
+
   private final SecretsManagerClient secretsClient =
       SecretsManagerClient.builder()
           .region(new DefaultAwsRegionProviderChain().getRegion())
@@ -65,6 +76,39 @@ public class AwsSecretProvider extends AbstractSecretProvider implements AutoClo
     }
   }
 
+  @Override
+  protected Map<String, String> loadSecretValues(
+      String secretsProjectId, List<String> secretIds, Logger logger) {
+    logger.debug("Fetching {} secret(s) from aws secret manager", secretIds.size());
+    final Map<String, String> values = new HashMap<>();
+    try {
+      for (int i = 0; i < secretIds.size(); i += MAX_BATCH_SIZE) {
+        BatchGetSecretValueRequest valueRequest =
+            BatchGetSecretValueRequest.builder()
+                .secretIdList(secretIds.subList(i, Math.min(i + MAX_BATCH_SIZE, secretIds.size())))
+                .build();
+        BatchGetSecretValueResponse valueResponse = secretsClient.batchGetSecretValue(valueRequest);
+        valueResponse
+            .secretValues()
+            .forEach(secretValue -> values.put(secretValue.name(), secretValue.secretString()));
+        // Secrets that do not exist are omitted, any other error fails the lookup
+        for (APIErrorType error : valueResponse.errors()) {
+          if (!RESOURCE_NOT_FOUND.equals(error.errorCode())) {
+            logger.error("Error loading secret {} from aws: {}", error.secretId(), error.message());
+            throw new ConnectorException(
+                "Failed to load secret from AWS Secrets Manager: " + error.message());
+          }
+        }
+      }
+      return values;
+    } catch (final SecretsManagerException e) {
+      logger.error("Error loading secrets from aws: {}", e.awsErrorDetails().errorMessage());
+      throw new ConnectorException(
+          "Failed to load secrets from AWS Secrets Manager: " + e.awsErrorDetails().errorMessage(),
+          e);
+    }
+  }
+
   @Override
   public void close() {
     if (secretsClient != null) {
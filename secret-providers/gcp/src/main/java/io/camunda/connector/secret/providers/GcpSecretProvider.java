@@ -17,9 +17,13 @@
 package io.camunda.connector.secret.providers;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.api.gax.rpc.NotFoundException;
 import com.google.cloud.secretmanager.v1.AccessSecretVersionResponse;
 import com.google.cloud.secretmanager.v1.SecretManagerServiceClient;
 import com.google.cloud.secretmanager.v1.SecretVersionName;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import org.slf4j.Logger;
 
@@ -73,6 +77,28 @@ public class GcpSecretProvider extends AbstractSecretProvider {
     }
   }
 
+  @Override
+  protected Map<String, String> loadSecretValues(
+      String secretsProjectId, List<String> secretIds, Logger logger) {
+    logger.debug("Fetching {} secret(s) from gcp secret manager", secretIds.size());
+    // Secret Manager has no batch access, secrets are accessed one by one
+    final Map<String, String> values = new HashMap<>();
+    for (String secretId : secretIds) {
+      try {
+        final AccessSecretVersionResponse response =
+            secretsClient.accessSecretVersion(
+                SecretVersionName.of(secretsProjectId, secretId, "latest"));
+        values.put(secretId, response.getPayload().getData().toStringUtf8());
+      } catch (final NotFoundException e) {
+        logger.trace("Secret {} not found in gcp secret manager", secretId);
+      } catch (final Exception e) {
+        logger.trace("Failed to load secret from secret manager", e);
+        throw new RuntimeException("Failed to load secret from secret manager", e);
+      }
+    }
+    return values;
+  }
+
   @Override
   public void close() {
     if (secretsClient != null) {
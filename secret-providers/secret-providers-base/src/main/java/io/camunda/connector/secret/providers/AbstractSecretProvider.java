@@ -25,13 +25,22 @@ import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import io.camunda.connector.api.error.ConnectorException;
 import io.camunda.connector.api.secret.SecretContext;
 import io.camunda.connector.api.secret.SecretProvider;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -45,6 +54,9 @@ public abstract class AbstractSecretProvider implements SecretProvider, AutoClos
   public static final String CLUSTER_ID_ENV_NAME = "CAMUNDA_CLUSTER_ID";
   public static final String SECRETS_CACHE_MILLIS_ENV_NAME =
       "CAMUNDA_CONNECTOR_SECRETS_CACHE_MILLIS";
+  public static final String SECRETS_FETCH_MODE_ENV_NAME = "CAMUNDA_CONNECTOR_SECRETS_FETCH_MODE";
+  public static final String SECRETS_KEY_CACHE_MILLIS_ENV_NAME =
+      "CAMUNDA_CONNECTOR_SECRETS_KEY_CACHE_MILLIS";
 
   private static final Logger logger = LoggerFactory.getLogger(AbstractSecretProvider.class);
   private static final ObjectMapper DEFAULT_MAPPER =
@@ -54,10 +66,17 @@ public abstract class AbstractSecretProvider implements SecretProvider, AutoClos
           .disable(SerializationFeature.FAIL_ON_EMPTY_BEANS)
           .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
   private static final String CACHE_KEY = "SECRETS";
+  private static final Duration UNUSED_SECRET_EXPIRY = Duration.ofHours(1);
+  private static final Executor REFRESH_EXECUTOR =
+      Executors.newFixedThreadPool(
+          2,
+          new ThreadFactoryBuilder().setDaemon(true).setNameFormat("secrets-refresh-%d").build());
   private final String clusterId;
   private final String secretsProjectId;
   private final String secretsNamePrefix;
+  private final SecretsFetchMode fetchMode;
   LoadingCache<String, Map<String, String>> secretsCache;
+  LoadingCache<String, Optional<String>> secretCache;
   private ObjectMapper mapper;
 
   public AbstractSecretProvider() {
@@ -74,7 +93,22 @@ public abstract class AbstractSecretProvider implements SecretProvider, AutoClos
 
   public AbstractSecretProvider(
       ObjectMapper mapper, String clusterId, String secretsProjectId, String secretsNamePrefix) {
+    this(
+        mapper,
+        clusterId,
+        secretsProjectId,
+        secretsNamePrefix,
+        parseFetchMode(System.getenv(SECRETS_FETCH_MODE_ENV_NAME)));
+  }
+
+  AbstractSecretProvider(
+      ObjectMapper mapper,
+      String clusterId,
+      String secretsProjectId,
+      String secretsNamePrefix,
+      SecretsFetchMode fetchMode) {
     this.mapper = mapper;
+    this.fetchMode = fetchMode;
 
     this.clusterId = clusterId;
     this.secretsProjectId = secretsProjectId;
@@ -101,6 +135,67 @@ public abstract class AbstractSecretProvider implements SecretProvider, AutoClos
                 .orElseGet(() -> "5000"));
     secretsCache =
         CacheBuilder.newBuilder().refreshAfterWrite(millis, TimeUnit.MILLISECONDS).build(loader);
+
+    if (fetchMode == SecretsFetchMode.PER_SECRET) {
+      setupSecretCache();
+    }
+  }
+
+  static SecretsFetchMode parseFetchMode(String value) {
+    if (value == null || value.isBlank()) {
+      return SecretsFetchMode.BUNDLE;
+    }
+    try {
+      return SecretsFetchMode.valueOf(value.trim());
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Invalid value '%s' for %s, allowed values are %s",
+              value, SECRETS_FETCH_MODE_ENV_NAME, Arrays.toString(SecretsFetchMode.values())),
+          e);
+    }
+  }
+
+  private void setupSecretCache() {
+    // Missing secrets are cached as empty values, so they are not looked up on every access
+    CacheLoader<String, Optional<String>> loader =
+        new CacheLoader<>() {
+          @Override
+          public Optional<String> load(String name) {
+            return loadAll(List.of(name)).get(name);
+          }
+
+          @Override
+          public Map<String, Optional<String>> loadAll(Iterable<? extends String> names) {
+            return loadSecretsByName(names);
+          }
+        };
+    long millis =
+        Long.parseLong(
+            Optional.ofNullable(System.getenv(SECRETS_KEY_CACHE_MILLIS_ENV_NAME))
+                .orElseGet(() -> "60000"));
+    // Stale secrets are served while being refreshed in the background; secrets that are not
+    // accessed anymore are not refreshed and expire eventually
+    secretCache =
+        CacheBuilder.newBuilder()
+            .refreshAfterWrite(millis, TimeUnit.MILLISECONDS)
+            .expireAfterAccess(UNUSED_SECRET_EXPIRY)
+            .build(CacheLoader.asyncReloading(loader, REFRESH_EXECUTOR));
+  }
+
+  private Map<String, Optional<String>> loadSecretsByName(Iterable<? extends String> names) {
+    Objects.requireNonNull(clusterId, "You need to specify the clusterId to load secrets for");
+    Map<String, String> secretIdsByName = new LinkedHashMap<>();
+    names.forEach(
+        name ->
+            secretIdsByName.put(
+                name, String.format("%s-%s-%s", secretsNamePrefix, clusterId, name)));
+    Map<String, String> valuesBySecretId =
+        loadSecretValues(secretsProjectId, List.copyOf(secretIdsByName.values()), logger);
+    Map<String, Optional<String>> secrets = new HashMap<>();
+    secretIdsByName.forEach(
+        (name, secretId) -> secrets.put(name, Optional.ofNullable(valuesBySecretId.get(secretId))));
+    return secrets;
   }
 
   protected Map<String, String> unwrapSecrets(final String secretsAsJson)
@@ -111,11 +206,51 @@ public abstract class AbstractSecretProvider implements SecretProvider, AutoClos
   protected abstract String loadSecrets(
       String clusterId, String secretsProjectId, String secretsNamePrefix, Logger logger);
 
+  /**
+   * Loads the secrets with the given IDs, each stored as a separate secret. Used in {@link
+   * SecretsFetchMode#PER_SECRET} mode only.
+   *
+   * <p>Providers that cannot load single secrets do not need to override this method. By default,
+   * the secrets are looked up by name in the bundle returned by {@link #loadSecrets}.
+   *
+   * @return the secret values by secret ID, secrets that do not exist are omitted
+   */
+  protected Map<String, String> loadSecretValues(
+      String secretsProjectId, List<String> secretIds, Logger logger) {
+    String secretIdPrefix = String.format("%s-%s-", secretsNamePrefix, clusterId);
+    Map<String, String> bundle = secretsCache.getUnchecked(CACHE_KEY);
+    Map<String, String> values = new HashMap<>();
+    for (String secretId : secretIds) {
+      String value = bundle.get(secretId.substring(secretIdPrefix.length()));
+      if (value != null) {
+        values.put(secretId, value);
+      }
+    }
+    return values;
+  }
+
   @Override
   public String getSecret(String name, SecretContext context) {
     try {
+      if (fetchMode == SecretsFetchMode.PER_SECRET) {
+        return secretCache.get(name).orElse(null);
+      }
       return secretsCache.get(CACHE_KEY).get(name);
-    } catch (ExecutionException e) {
+    } catch (ExecutionException | UncheckedExecutionException e) {
+      throw new ConnectorException("Could not resolve secrets: " + e.getMessage(), e);
+    }
+  }
+
+  @Override
+  public List<String> fetchAll(List<String> keys, SecretContext context) {
+    if (fetchMode != SecretsFetchMode.PER_SECRET) {
+      return SecretProvider.super.fetchAll(keys, context);
+    }
+    try {
+      // Secrets that are not cached yet are loaded at once
+      Map<String, Optional<String>> secrets = secretCache.getAll(keys);
+      return keys.stream().map(secrets::get).flatMap(Optional::stream).toList();
+    } catch (ExecutionException | UncheckedExecutionException e) {
       throw new ConnectorException("Could not resolve secrets: " + e.getMessage(), e);
     }
   }
@@ -0,0 +1,33 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.secret.providers;
+
+/** Defines how an {@link AbstractSecretProvider} retrieves secrets from the secret store. */
+public enum SecretsFetchMode {
+
+  /**
+   * All secrets of a cluster are stored as a single JSON object named {@code <prefix>-<clusterId>},
+   * which is loaded and refreshed as a whole.
+   */
+  BUNDLE,
+
+  /**
+   * Each secret is stored separately, named {@code <prefix>-<clusterId>-<secretName>}. Secrets are
+   * loaded on first use and only secrets that are still in use are refreshed.
+   */
+  PER_SECRET
+}
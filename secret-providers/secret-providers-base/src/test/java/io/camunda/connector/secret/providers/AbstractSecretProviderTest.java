@@ -0,0 +1,185 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.secret.providers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+
+class AbstractSecretProviderTest {
+
+  private static final String PREFIX = "connector-secrets";
+  private static final String CLUSTER_ID = "cluster";
+
+  @Test
+  void shouldCacheMissingSecretsAsEmpty() {
+    // given
+    var provider = new TestSecretProvider(secretIds -> Map.of());
+
+    // when
+    var first = provider.getSecret("missing", null);
+    var second = provider.getSecret("missing", null);
+
+    // then
+    assertThat(first).isNull();
+    assertThat(second).isNull();
+    assertThat(provider.requests).containsExactly(List.of(secretId("missing")));
+  }
+
+  @Test
+  void shouldFetchUncachedSecretsWithSingleCall() {
+    // given
+    var provider =
+        new TestSecretProvider(
+            secretIds ->
+                Map.of(
+                    secretId("a"), "value-a", secretId("b"), "value-b", secretId("c"), "value-c"));
+    provider.getSecret("a", null);
+
+    // when
+    var values = provider.fetchAll(List.of("a", "b", "c", "missing"), null);
+
+    // then
+    assertThat(values).containsExactly("value-a", "value-b", "value-c");
+    assertThat(provider.requests)
+        .containsExactly(
+            List.of(secretId("a")), List.of(secretId("b"), secretId("c"), secretId("missing")));
+  }
+
+  @Test
+  void shouldServePreviousValueWhileRefreshing() throws InterruptedException {
+    // given
+    var provider = new TestSecretProvider(secretIds -> Map.of(secretId("a"), "initial"));
+    assertThat(provider.getSecret("a", null)).isEqualTo("initial");
+    var refreshing = new CountDownLatch(1);
+    var releaseRefresh = new CountDownLatch(1);
+    provider.loader =
+        secretIds -> {
+          refreshing.countDown();
+          awaitLatch(releaseRefresh);
+          return Map.of(secretId("a"), "refreshed");
+        };
+
+    // when
+    provider.secretCache.refresh("a");
+    assertThat(refreshing.await(5, TimeUnit.SECONDS)).isTrue();
+
+    // then
+    assertThat(provider.getSecret("a", null)).isEqualTo("initial");
+    releaseRefresh.countDown();
+    await()
+        .atMost(Duration.ofSeconds(5))
+        .untilAsserted(() -> assertThat(provider.getSecret("a", null)).isEqualTo("refreshed"));
+  }
+
+  @Test
+  void shouldLookUpSecretsInBundle_whenProviderCannotLoadSingleSecrets() {
+    // given
+    var provider = new BundleSecretProvider("{\"a\": \"value-a\"}");
+
+    // when
+    var values = provider.fetchAll(List.of("a", "missing"), null);
+
+    // then
+    assertThat(values).containsExactly("value-a");
+    assertThat(provider.getSecret("a", null)).isEqualTo("value-a");
+  }
+
+  @Test
+  void shouldReportAllowedValuesForInvalidFetchMode() {
+    assertThatThrownBy(() -> AbstractSecretProvider.parseFetchMode("per-secret"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining(AbstractSecretProvider.SECRETS_FETCH_MODE_ENV_NAME)
+        .hasMessageContaining("[BUNDLE, PER_SECRET]");
+  }
+
+  @Test
+  void shouldDefaultToBundleFetchMode() {
+    assertThat(AbstractSecretProvider.parseFetchMode(null)).isEqualTo(SecretsFetchMode.BUNDLE);
+    assertThat(AbstractSecretProvider.parseFetchMode("PER_SECRET"))
+        .isEqualTo(SecretsFetchMode.PER_SECRET);
+  }
+
+  private static String secretId(String name) {
+    return PREFIX + "-" + CLUSTER_ID + "-" + name;
+  }
+
+  private static void awaitLatch(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static class TestSecretProvider extends AbstractSecretProvider {
+
+    private final List<List<String>> requests = new CopyOnWriteArrayList<>();
+    private volatile Function<List<String>, Map<String, String>> loader;
+
+    TestSecretProvider(Function<List<String>, Map<String, String>> loader) {
+      super(new ObjectMapper(), CLUSTER_ID, "project", PREFIX, SecretsFetchMode.PER_SECRET);
+      this.loader = loader;
+    }
+
+    @Override
+    protected String loadSecrets(
+        String clusterId, String secretsProjectId, String secretsNamePrefix, Logger logger) {
+      return "{}";
+    }
+
+    @Override
+    protected Map<String, String> loadSecretValues(
+        String secretsProjectId, List<String> secretIds, Logger logger) {
+      requests.add(secretIds);
+      return loader.apply(secretIds);
+    }
+
+    @Override
+    public void close() {}
+  }
+
+  private static class BundleSecretProvider extends AbstractSecretProvider {
+
+    private final String secretsAsJson;
+
+    BundleSecretProvider(String secretsAsJson) {
+      super(new ObjectMapper(), CLUSTER_ID, "project", PREFIX, SecretsFetchMode.PER_SECRET);
+      this.secretsAsJson = secretsAsJson;
+    }
+
+    @Override
+    protected String loadSecrets(
+        String clusterId, String secretsProjectId, String secretsNamePrefix, Logger logger) {
+      return secretsAsJson;
+    }
+
+    @Override
+    public void close() {}
+  }
+}